@@ -689,6 +689,83 @@ class Convert {
     }
   }
 
+  /** Returns the dartHeatmapId of the interpreted heatmap. */
+  static String interpretHeatmapOptions(Object o, HeatmapOptionsSink sink) {
+    final Map<?, ?> data = toMap(o);
+    final Object points = data.get("points");
+    if (points != null) {
+      sink.setWeightedPoints(toWeightedPoints(points));
+    }
+    final Object radius = data.get("radius");
+    if (radius != null) {
+      sink.setRadius(toInt(radius));
+    }
+    final Object gradient = data.get("gradient");
+    if (gradient != null) {
+      final Map<?, ?> gradientData = toMap(gradient);
+      final List<?> colors = toList(gradientData.get("colors"));
+      final List<?> startPoints = toList(gradientData.get("startPoints"));
+      final int[] gradientColors = new int[colors.size()];
+      final float[] gradientStartPoints = new float[startPoints.size()];
+      for (int i = 0; i < gradientColors.length; i++) {
+        gradientColors[i] = toInt(colors.get(i));
+      }
+      for (int i = 0; i < gradientStartPoints.length; i++) {
+        gradientStartPoints[i] = toFloat(startPoints.get(i));
+      }
+      sink.setGradient(gradientColors, gradientStartPoints);
+    }
+    final Object maxIntensity = data.get("maxIntensity");
+    if (maxIntensity != null) {
+      sink.setMaxIntensity(toDouble(maxIntensity));
+    }
+    final Object opacity = data.get("opacity");
+    if (opacity != null) {
+      sink.setOpacity(toFloat(opacity));
+    }
+    final Object fadeIn = data.get("fadeIn");
+    if (fadeIn != null) {
+      sink.setFadeIn(toBoolean(fadeIn));
+    }
+    final Object zIndex = data.get("zIndex");
+    if (zIndex != null) {
+      sink.setZIndex(toFloat(zIndex));
+    }
+    final Object visible = data.get("visible");
+    if (visible != null) {
+      sink.setVisible(toBoolean(visible));
+    }
+    final String heatmapId = (String) data.get("heatmapId");
+    if (heatmapId == null) {
+      throw new IllegalArgumentException("heatmapId was null");
+    } else {
+      return heatmapId;
+    }
+  }
+
+  /**
+   * Converts packed latitude, longitude, weight triples, sent either as a Float64List or as a flat
+   * list of numbers.
+   */
+  static double[] toWeightedPoints(Object o) {
+    if (o instanceof double[]) {
+      final double[] packed = (double[]) o;
+      if (packed.length % 3 != 0) {
+        throw new IllegalArgumentException("Weighted points must be latitude, longitude, weight");
+      }
+      return packed;
+    }
+    final List<?> data = toList(o);
+    if (data.size() % 3 != 0) {
+      throw new IllegalArgumentException("Weighted points must be latitude, longitude, weight");
+    }
+    final double[] packed = new double[data.size()];
+    for (int i = 0; i < packed.length; i++) {
+      packed[i] = toDouble(data.get(i));
+    }
+    return packed;
+  }
+
   static Tile interpretTile(Map<String, ?> data) {
     int width = toInt(data.get("width"));
     int height = toInt(data.get("height"));
@@ -26,6 +26,7 @@ class GoogleMapBuilder implements GoogleMapOptionsSink {
   private Object initialPolylines;
   private Object initialCircles;
   private List<Map<String, ?>> initialTileOverlays;
+  private Object initialHeatmaps;
   private Rect padding = new Rect(0, 0, 0, 0);
 
   GoogleMapController build(
@@ -48,6 +49,7 @@ class GoogleMapBuilder implements GoogleMapOptionsSink {
     controller.setInitialCircles(initialCircles);
     controller.setPadding(padding.top, padding.left, padding.bottom, padding.right);
     controller.setInitialTileOverlays(initialTileOverlays);
+    controller.setInitialHeatmaps(initialHeatmaps);
     return controller;
   }
 
@@ -178,4 +180,9 @@ class GoogleMapBuilder implements GoogleMapOptionsSink {
   public void setInitialTileOverlays(List<Map<String, ?>> initialTileOverlays) {
     this.initialTileOverlays = initialTileOverlays;
   }
+
+  @Override
+  public void setInitialHeatmaps(Object initialHeatmaps) {
+    this.initialHeatmaps = initialHeatmaps;
+  }
 }
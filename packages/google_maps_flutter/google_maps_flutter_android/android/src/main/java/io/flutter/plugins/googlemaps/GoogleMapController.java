@@ -45,6 +45,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /** Controller of a single GoogleMaps MapView instance. */
 final class GoogleMapController
@@ -79,11 +81,20 @@ final class GoogleMapController
   private final PolylinesController polylinesController;
   private final CirclesController circlesController;
   private final TileOverlaysController tileOverlaysController;
+  private final HeatmapsController heatmapsController;
+  // Diffs object updates and encodes snapshots off the platform thread.
+  private final ExecutorService objectUpdateExecutor;
+  private final ObjectUpdatePipeline markerUpdates;
+  private final ObjectUpdatePipeline polygonUpdates;
+  private final ObjectUpdatePipeline polylineUpdates;
+  private final ObjectUpdatePipeline circleUpdates;
+  private final SnapshotEncoder snapshotEncoder;
   private List<Object> initialMarkers;
   private List<Object> initialPolygons;
   private List<Object> initialPolylines;
   private List<Object> initialCircles;
   private List<Map<String, ?>> initialTileOverlays;
+  private List<Object> initialHeatmaps;
   @VisibleForTesting List<Float> initialPadding;
 
   GoogleMapController(
@@ -106,6 +117,37 @@ final class GoogleMapController
     this.polylinesController = new PolylinesController(methodChannel, density);
     this.circlesController = new CirclesController(methodChannel, density);
     this.tileOverlaysController = new TileOverlaysController(methodChannel);
+    this.heatmapsController = new HeatmapsController();
+    this.objectUpdateExecutor = Executors.newSingleThreadExecutor();
+    this.markerUpdates =
+        new ObjectUpdatePipeline(
+            "markerId",
+            markersController::addMarkers,
+            markersController::changeMarkers,
+            markersController::removeMarkers,
+            objectUpdateExecutor);
+    this.polygonUpdates =
+        new ObjectUpdatePipeline(
+            "polygonId",
+            polygonsController::addPolygons,
+            polygonsController::changePolygons,
+            polygonsController::removePolygons,
+            objectUpdateExecutor);
+    this.polylineUpdates =
+        new ObjectUpdatePipeline(
+            "polylineId",
+            polylinesController::addPolylines,
+            polylinesController::changePolylines,
+            polylinesController::removePolylines,
+            objectUpdateExecutor);
+    this.circleUpdates =
+        new ObjectUpdatePipeline(
+            "circleId",
+            circlesController::addCircles,
+            circlesController::changeCircles,
+            circlesController::removeCircles,
+            objectUpdateExecutor);
+    this.snapshotEncoder = new SnapshotEncoder(objectUpdateExecutor);
   }
 
   @Override
@@ -202,11 +244,13 @@ final class GoogleMapController
     polylinesController.setGoogleMap(googleMap);
     circlesController.setGoogleMap(googleMap);
     tileOverlaysController.setGoogleMap(googleMap);
+    heatmapsController.setGoogleMap(googleMap);
     updateInitialMarkers();
     updateInitialPolygons();
     updateInitialPolylines();
     updateInitialCircles();
     updateInitialTileOverlays();
+    updateInitialHeatmaps();
     if (initialPadding != null && initialPadding.size() == 4) {
       setPadding(
           initialPadding.get(0),
@@ -291,6 +335,32 @@ final class GoogleMapController
           }
           break;
         }
+      case "map#takeSnapshotWithOptions":
+        {
+          if (googleMap == null) {
+            result.error("GoogleMap uninitialized", "takeSnapshotWithOptions", null);
+            break;
+          }
+          final SnapshotEncoder.Options snapshotOptions;
+          try {
+            snapshotOptions = SnapshotEncoder.Options.fromJson(call.arguments);
+          } catch (RuntimeException e) {
+            result.error("Invalid snapshot options", e.getMessage(), null);
+            break;
+          }
+          googleMap.snapshot(
+              bitmap -> {
+                if (disposed) {
+                  return;
+                }
+                if (bitmap == null) {
+                  result.error("Snapshot failed", "takeSnapshotWithOptions", null);
+                  return;
+                }
+                snapshotEncoder.encode(bitmap, snapshotOptions, result);
+              });
+          break;
+        }
       case "camera#move":
         {
           final CameraUpdate cameraUpdate =
@@ -311,66 +381,57 @@ final class GoogleMapController
         {
           invalidateMapIfNeeded();
           List<Object> markersToAdd = call.argument("markersToAdd");
-          markersController.addMarkers(markersToAdd);
           List<Object> markersToChange = call.argument("markersToChange");
-          markersController.changeMarkers(markersToChange);
           List<Object> markerIdsToRemove = call.argument("markerIdsToRemove");
-          markersController.removeMarkers(markerIdsToRemove);
-          result.success(null);
+          markerUpdates.update(markersToAdd, markersToChange, markerIdsToRemove, result);
           break;
         }
       case "markers#showInfoWindow":
         {
           Object markerId = call.argument("markerId");
-          markersController.showMarkerInfoWindow((String) markerId, result);
+          markerUpdates.runAfterPendingUpdates(
+              () -> markersController.showMarkerInfoWindow((String) markerId, result), result);
           break;
         }
       case "markers#hideInfoWindow":
         {
           Object markerId = call.argument("markerId");
-          markersController.hideMarkerInfoWindow((String) markerId, result);
+          markerUpdates.runAfterPendingUpdates(
+              () -> markersController.hideMarkerInfoWindow((String) markerId, result), result);
           break;
         }
       case "markers#isInfoWindowShown":
         {
           Object markerId = call.argument("markerId");
-          markersController.isInfoWindowShown((String) markerId, result);
+          markerUpdates.runAfterPendingUpdates(
+              () -> markersController.isInfoWindowShown((String) markerId, result), result);
           break;
         }
       case "polygons#update":
         {
           invalidateMapIfNeeded();
           List<Object> polygonsToAdd = call.argument("polygonsToAdd");
-          polygonsController.addPolygons(polygonsToAdd);
           List<Object> polygonsToChange = call.argument("polygonsToChange");
-          polygonsController.changePolygons(polygonsToChange);
           List<Object> polygonIdsToRemove = call.argument("polygonIdsToRemove");
-          polygonsController.removePolygons(polygonIdsToRemove);
-          result.success(null);
+          polygonUpdates.update(polygonsToAdd, polygonsToChange, polygonIdsToRemove, result);
           break;
         }
       case "polylines#update":
         {
           invalidateMapIfNeeded();
           List<Object> polylinesToAdd = call.argument("polylinesToAdd");
-          polylinesController.addPolylines(polylinesToAdd);
           List<Object> polylinesToChange = call.argument("polylinesToChange");
-          polylinesController.changePolylines(polylinesToChange);
           List<Object> polylineIdsToRemove = call.argument("polylineIdsToRemove");
-          polylinesController.removePolylines(polylineIdsToRemove);
-          result.success(null);
+          polylineUpdates.update(polylinesToAdd, polylinesToChange, polylineIdsToRemove, result);
           break;
         }
       case "circles#update":
         {
           invalidateMapIfNeeded();
           List<Object> circlesToAdd = call.argument("circlesToAdd");
-          circlesController.addCircles(circlesToAdd);
           List<Object> circlesToChange = call.argument("circlesToChange");
-          circlesController.changeCircles(circlesToChange);
           List<Object> circleIdsToRemove = call.argument("circleIdsToRemove");
-          circlesController.removeCircles(circleIdsToRemove);
-          result.success(null);
+          circleUpdates.update(circlesToAdd, circlesToChange, circleIdsToRemove, result);
           break;
         }
       case "map#isCompassEnabled":
@@ -484,6 +545,36 @@ final class GoogleMapController
           result.success(null);
           break;
         }
+      case "heatmaps#update":
+        {
+          invalidateMapIfNeeded();
+          try {
+            List<Object> heatmapsToAdd = call.argument("heatmapsToAdd");
+            heatmapsController.addHeatmaps(heatmapsToAdd);
+            List<Object> heatmapsToChange = call.argument("heatmapsToChange");
+            heatmapsController.changeHeatmaps(heatmapsToChange);
+            List<Object> heatmapIdsToRemove = call.argument("heatmapIdsToRemove");
+            heatmapsController.removeHeatmaps(heatmapIdsToRemove);
+          } catch (RuntimeException e) {
+            result.error("Invalid heatmap", e.getMessage(), null);
+            break;
+          }
+          result.success(null);
+          break;
+        }
+      case "heatmaps#appendPoints":
+        {
+          invalidateMapIfNeeded();
+          try {
+            String heatmapId = call.argument("heatmapId");
+            heatmapsController.appendPoints(heatmapId, call.argument("points"));
+          } catch (RuntimeException e) {
+            result.error("Invalid heatmap", e.getMessage(), null);
+            break;
+          }
+          result.success(null);
+          break;
+        }
       case "map#getTileOverlayInfo":
         {
           String tileOverlayId = call.argument("tileOverlayId");
@@ -579,6 +670,11 @@ final class GoogleMapController
     }
     disposed = true;
     methodChannel.setMethodCallHandler(null);
+    markerUpdates.dispose();
+    polygonUpdates.dispose();
+    polylineUpdates.dispose();
+    circleUpdates.dispose();
+    objectUpdateExecutor.shutdown();
     setGoogleMapListener(null);
     destroyMapViewIfNecessary();
     Lifecycle lifecycle = lifecycleProvider.getLifecycle();
@@ -804,7 +900,7 @@ final class GoogleMapController
   }
 
   private void updateInitialMarkers() {
-    markersController.addMarkers(initialMarkers);
+    markerUpdates.update(initialMarkers, null, null, null);
   }
 
   @Override
@@ -817,7 +913,7 @@ final class GoogleMapController
   }
 
   private void updateInitialPolygons() {
-    polygonsController.addPolygons(initialPolygons);
+    polygonUpdates.update(initialPolygons, null, null, null);
   }
 
   @Override
@@ -830,7 +926,7 @@ final class GoogleMapController
   }
 
   private void updateInitialPolylines() {
-    polylinesController.addPolylines(initialPolylines);
+    polylineUpdates.update(initialPolylines, null, null, null);
   }
 
   @Override
@@ -843,7 +939,7 @@ final class GoogleMapController
   }
 
   private void updateInitialCircles() {
-    circlesController.addCircles(initialCircles);
+    circleUpdates.update(initialCircles, null, null, null);
   }
 
   @Override
@@ -858,6 +954,23 @@ final class GoogleMapController
     tileOverlaysController.addTileOverlays(initialTileOverlays);
   }
 
+  @Override
+  public void setInitialHeatmaps(Object initialHeatmaps) {
+    ArrayList<?> heatmaps = (ArrayList<?>) initialHeatmaps;
+    this.initialHeatmaps = heatmaps != null ? new ArrayList<>(heatmaps) : null;
+    if (googleMap != null) {
+      updateInitialHeatmaps();
+    }
+  }
+
+  private void updateInitialHeatmaps() {
+    try {
+      heatmapsController.addHeatmaps(initialHeatmaps);
+    } catch (RuntimeException e) {
+      Log.e(TAG, "Unable to add initial heatmaps", e);
+    }
+  }
+
   @SuppressLint("MissingPermission")
   private void updateMyLocationSettings() {
     if (hasLocationPermission()) {
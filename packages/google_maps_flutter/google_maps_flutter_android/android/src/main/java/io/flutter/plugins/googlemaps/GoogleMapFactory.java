@@ -58,6 +58,9 @@ public class GoogleMapFactory extends PlatformViewFactory {
     if (params.containsKey("tileOverlaysToAdd")) {
       builder.setInitialTileOverlays((List<Map<String, ?>>) params.get("tileOverlaysToAdd"));
     }
+    if (params.containsKey("heatmapsToAdd")) {
+      builder.setInitialHeatmaps(params.get("heatmapsToAdd"));
+    }
     final Object cloudMapId = ((Map<?, ?>) options).get("cloudMapId");
     if (cloudMapId != null) {
       builder.setMapId((String) cloudMapId);
@@ -0,0 +1,83 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import com.google.android.gms.maps.model.TileOverlay;
+
+/** Controller of a single Heatmap on the map. */
+class HeatmapController implements HeatmapOptionsSink {
+
+  private final TileOverlay tileOverlay;
+  private final HeatmapTileProvider tileProvider;
+  private boolean tilesDirty = false;
+
+  HeatmapController(TileOverlay tileOverlay, HeatmapTileProvider tileProvider) {
+    this.tileOverlay = tileOverlay;
+    this.tileProvider = tileProvider;
+  }
+
+  void remove() {
+    tileOverlay.remove();
+  }
+
+  void appendWeightedPoints(double[] packedPoints) {
+    tileProvider.appendWeightedPoints(packedPoints);
+    tilesDirty = true;
+    invalidateTilesIfNeeded();
+  }
+
+  /** Drops the rendered tiles if any option affecting their content has changed. */
+  void invalidateTilesIfNeeded() {
+    if (tilesDirty) {
+      tilesDirty = false;
+      tileOverlay.clearTileCache();
+    }
+  }
+
+  @Override
+  public void setWeightedPoints(double[] packedPoints) {
+    tileProvider.setWeightedPoints(packedPoints);
+    tilesDirty = true;
+  }
+
+  @Override
+  public void setRadius(int radius) {
+    tileProvider.setRadius(radius);
+    tilesDirty = true;
+  }
+
+  @Override
+  public void setGradient(int[] colors, float[] startPoints) {
+    tileProvider.setGradient(colors, startPoints);
+    tilesDirty = true;
+  }
+
+  @Override
+  public void setMaxIntensity(double maxIntensity) {
+    tileProvider.setMaxIntensity(maxIntensity);
+    tilesDirty = true;
+  }
+
+  @Override
+  public void setOpacity(float opacity) {
+    tileProvider.setOpacity(opacity);
+    tilesDirty = true;
+  }
+
+  @Override
+  public void setFadeIn(boolean fadeIn) {
+    tileOverlay.setFadeIn(fadeIn);
+  }
+
+  @Override
+  public void setZIndex(float zIndex) {
+    tileOverlay.setZIndex(zIndex);
+  }
+
+  @Override
+  public void setVisible(boolean visible) {
+    tileOverlay.setVisible(visible);
+  }
+}
@@ -0,0 +1,486 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.graphics.Bitmap;
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.gms.maps.model.Tile;
+import com.google.android.gms.maps.model.TileProvider;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Renders heatmap tiles natively from a set of weighted points.
+ *
+ * <p>Points are projected once and kept sorted by the Morton code of their position, which makes
+ * the points of any tile a contiguous range at every zoom level. Each tile only visits the points
+ * of itself and its neighbors at its own zoom level, which keeps dense heatmaps cheap when zoomed
+ * in. Tiles are rasterized on the Maps SDK tile threads using a cached kernel and color map;
+ * appending points merges them into the sorted points.
+ */
+class HeatmapTileProvider implements TileProvider {
+
+  static final int TILE_SIZE = 256;
+  static final int DEFAULT_RADIUS = 20;
+  static final int[] DEFAULT_GRADIENT_COLORS = {0xFF66E100, 0xFFFF0000};
+  static final float[] DEFAULT_GRADIENT_START_POINTS = {0.2f, 1f};
+
+  /** The largest radius, in pixels, so that only the neighbors of a tile can affect it. */
+  static final int MAX_RADIUS = TILE_SIZE;
+
+  /**
+   * The zoom level of the Morton codes. The points of a tile at a higher zoom level are found in
+   * the range of its ancestor at this level.
+   */
+  @VisibleForTesting static final int INDEX_ZOOM = 20;
+
+  // Morton codes take 2 * INDEX_ZOOM bits, leaving the low bits to sort points by code.
+  private static final int ORDER_BITS = 63 - 2 * INDEX_ZOOM;
+  private static final int MAX_SORTED_POINTS = 1 << ORDER_BITS;
+
+  private static final int COLOR_MAP_SIZE = 256;
+
+  /** Immutable rendering parameters, swapped as a whole so tile threads see a consistent set. */
+  private static final class Style {
+    final int radius;
+    final float[] kernel;
+    final int[] colorMap;
+    final double maxIntensity;
+
+    Style(int radius, float[] kernel, int[] colorMap, double maxIntensity) {
+      this.radius = radius;
+      this.kernel = kernel;
+      this.colorMap = colorMap;
+      this.maxIntensity = maxIntensity;
+    }
+  }
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  // Guarded by lock. Sorted by Morton code; projected coordinates are normalized to [0, 1).
+  private long[] codes = new long[0];
+  private double[] xs = new double[0];
+  private double[] ys = new double[0];
+  private double[] weights = new double[0];
+  private int pointCount = 0;
+
+  private final Map<Integer, Double> estimatedMaxIntensityByZoom = new ConcurrentHashMap<>();
+
+  // Guarded by this.
+  private int radius = DEFAULT_RADIUS;
+  private int[] gradientColors = DEFAULT_GRADIENT_COLORS;
+  private float[] gradientStartPoints = DEFAULT_GRADIENT_START_POINTS;
+  private float opacity = 0.7f;
+  private double maxIntensity = 0;
+
+  private volatile Style style;
+
+  HeatmapTileProvider() {
+    rebuildStyle(true, true);
+  }
+
+  /** Replaces all points. {@code packed} holds latitude, longitude, weight triples. */
+  void setWeightedPoints(@NonNull double[] packed) {
+    lock.writeLock().lock();
+    try {
+      pointCount = 0;
+      appendLocked(packed);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** Adds points to the index. {@code packed} holds latitude, longitude, weight triples. */
+  void appendWeightedPoints(@NonNull double[] packed) {
+    lock.writeLock().lock();
+    try {
+      appendLocked(packed);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  int getPointCount() {
+    lock.readLock().lock();
+    try {
+      return pointCount;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  synchronized void setRadius(int radius) {
+    if (radius < 1 || radius > MAX_RADIUS) {
+      throw new IllegalArgumentException(
+          "Heatmap radius must be between 1 and " + MAX_RADIUS + ", got " + radius);
+    }
+    this.radius = radius;
+    rebuildStyle(true, false);
+  }
+
+  synchronized void setGradient(@NonNull int[] colors, @NonNull float[] startPoints) {
+    if (colors.length == 0 || colors.length != startPoints.length) {
+      throw new IllegalArgumentException("Heatmap gradient colors and start points must match");
+    }
+    for (int i = 0; i < startPoints.length; i++) {
+      if (startPoints[i] < 0
+          || startPoints[i] > 1
+          || (i > 0 && startPoints[i] < startPoints[i - 1])) {
+        throw new IllegalArgumentException(
+            "Heatmap gradient start points must be ascending and between 0 and 1");
+      }
+    }
+    this.gradientColors = colors;
+    this.gradientStartPoints = startPoints;
+    rebuildStyle(false, true);
+  }
+
+  synchronized void setOpacity(float opacity) {
+    this.opacity = opacity;
+    rebuildStyle(false, true);
+  }
+
+  /** Sets the intensity mapped to the last gradient color, or 0 to estimate it per zoom level. */
+  synchronized void setMaxIntensity(double maxIntensity) {
+    this.maxIntensity = maxIntensity;
+    rebuildStyle(false, false);
+  }
+
+  private void rebuildStyle(boolean kernelChanged, boolean colorMapChanged) {
+    final Style current = style;
+    final float[] kernel =
+        kernelChanged || current == null ? buildKernel(radius) : current.kernel;
+    final int[] colorMap =
+        colorMapChanged || current == null
+            ? buildColorMap(gradientColors, gradientStartPoints, opacity, COLOR_MAP_SIZE)
+            : current.colorMap;
+    if (kernelChanged) {
+      estimatedMaxIntensityByZoom.clear();
+    }
+    style = new Style(radius, kernel, colorMap, maxIntensity);
+  }
+
+  private void appendLocked(double[] packed) {
+    final int added = packed.length / 3;
+    for (int start = 0; start < added; start += MAX_SORTED_POINTS) {
+      mergeLocked(packed, start, Math.min(added, start + MAX_SORTED_POINTS));
+    }
+    estimatedMaxIntensityByZoom.clear();
+  }
+
+  /** Sorts the points from {@code start} to {@code end} in {@code packed} into the points. */
+  private void mergeLocked(double[] packed, int start, int end) {
+    final int added = end - start;
+    final double[] addedXs = new double[added];
+    final double[] addedYs = new double[added];
+    // The Morton code of each added point, followed by its position in the added points.
+    final long[] order = new long[added];
+    for (int i = 0; i < added; i++) {
+      final int point = 3 * (start + i);
+      addedXs[i] = projectX(packed[point + 1]);
+      addedYs[i] = projectY(packed[point]);
+      order[i] = (mortonCode(addedXs[i], addedYs[i]) << ORDER_BITS) | i;
+    }
+    Arrays.sort(order);
+
+    final int count = pointCount + added;
+    final long[] mergedCodes = new long[count];
+    final double[] mergedXs = new double[count];
+    final double[] mergedYs = new double[count];
+    final double[] mergedWeights = new double[count];
+    int existing = 0;
+    int next = 0;
+    for (int merged = 0; merged < count; merged++) {
+      final long nextCode = next < added ? order[next] >>> ORDER_BITS : Long.MAX_VALUE;
+      if (existing < pointCount && codes[existing] <= nextCode) {
+        mergedCodes[merged] = codes[existing];
+        mergedXs[merged] = xs[existing];
+        mergedYs[merged] = ys[existing];
+        mergedWeights[merged] = weights[existing];
+        existing++;
+      } else {
+        final int i = (int) (order[next] & (MAX_SORTED_POINTS - 1));
+        mergedCodes[merged] = nextCode;
+        mergedXs[merged] = addedXs[i];
+        mergedYs[merged] = addedYs[i];
+        mergedWeights[merged] = packed[3 * (start + i) + 2];
+        next++;
+      }
+    }
+    codes = mergedCodes;
+    xs = mergedXs;
+    ys = mergedYs;
+    weights = mergedWeights;
+    pointCount = count;
+  }
+
+  @Override
+  public Tile getTile(int x, int y, int zoom) {
+    final Style style = this.style;
+    final int r = style.radius;
+    final int kernelSize = 2 * r + 1;
+    final double worldSize = (double) TILE_SIZE * (1L << zoom);
+    final double originX = (double) x * TILE_SIZE;
+    final double originY = (double) y * TILE_SIZE;
+    final float[] intensity = new float[TILE_SIZE * TILE_SIZE];
+    boolean painted = false;
+
+    lock.readLock().lock();
+    try {
+      final int[] ranges = candidateRanges(x, y, zoom, r);
+      for (int range = 0; range < ranges.length; range += 3) {
+        final int wrap = ranges[range + 2];
+        for (int i = ranges[range]; i < ranges[range + 1]; i++) {
+          final int px = (int) Math.round((xs[i] + wrap) * worldSize - originX);
+          final int py = (int) Math.round(ys[i] * worldSize - originY);
+          if (px < -r || px >= TILE_SIZE + r || py < -r || py >= TILE_SIZE + r) {
+            continue;
+          }
+          final float weight = (float) weights[i];
+          for (int ky = Math.max(-r, -py); ky <= Math.min(r, TILE_SIZE - 1 - py); ky++) {
+            final int row = (py + ky) * TILE_SIZE;
+            final int kernelRow = (ky + r) * kernelSize + r;
+            for (int kx = Math.max(-r, -px); kx <= Math.min(r, TILE_SIZE - 1 - px); kx++) {
+              intensity[row + px + kx] += weight * style.kernel[kernelRow + kx];
+            }
+          }
+          painted = true;
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    if (!painted) {
+      return NO_TILE;
+    }
+
+    final double max =
+        style.maxIntensity > 0 ? style.maxIntensity : estimateMaxIntensity(zoom, r);
+    final int[] colorMap = style.colorMap;
+    final double scale = (colorMap.length - 1) / max;
+    final int[] pixels = new int[TILE_SIZE * TILE_SIZE];
+    for (int i = 0; i < pixels.length; i++) {
+      if (intensity[i] > 0) {
+        pixels[i] = colorMap[(int) Math.min(colorMap.length - 1, intensity[i] * scale)];
+      }
+    }
+    final Bitmap bitmap =
+        Bitmap.createBitmap(pixels, TILE_SIZE, TILE_SIZE, Bitmap.Config.ARGB_8888);
+    final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    bitmap.compress(Bitmap.CompressFormat.PNG, 100, stream);
+    bitmap.recycle();
+    return new Tile(TILE_SIZE, TILE_SIZE, stream.toByteArray());
+  }
+
+  /**
+   * Returns the ranges of points that can affect the tile, as start, end and wrap triples. Wrap is
+   * the number of worlds to add to the points' x coordinates, since points near the antimeridian
+   * can affect tiles on the other side of the world.
+   *
+   * <p>The ranges are the tile and its neighbors at the tile's zoom level, or at {@link
+   * #INDEX_ZOOM} when zoomed in further. Must be called with the read lock held.
+   */
+  private int[] candidateRanges(int x, int y, int zoom, int radius) {
+    final int level = Math.min(zoom, INDEX_ZOOM);
+    final int cells = 1 << level;
+    final double worldSize = (double) TILE_SIZE * (1L << zoom);
+    final double minY = Math.max(0, ((double) y * TILE_SIZE - radius) / worldSize);
+    final double maxY = Math.min(1, ((double) (y + 1) * TILE_SIZE + radius) / worldSize);
+    if (minY >= maxY) {
+      return new int[0];
+    }
+    final int shift = 2 * (INDEX_ZOOM - level);
+    int[] ranges = new int[27];
+    int rangeCount = 0;
+    for (int wrap = -1; wrap <= 1; wrap++) {
+      final double minX = Math.max(0, ((double) x * TILE_SIZE - radius) / worldSize - wrap);
+      final double maxX = Math.min(1, ((double) (x + 1) * TILE_SIZE + radius) / worldSize - wrap);
+      if (minX >= maxX) {
+        continue;
+      }
+      for (int cy = cellOf(minY, cells); cy <= cellOf(maxY, cells); cy++) {
+        for (int cx = cellOf(minX, cells); cx <= cellOf(maxX, cells); cx++) {
+          final long first = interleave(cx, cy) << shift;
+          final int start = lowerBound(first);
+          final int end = lowerBound(first + (1L << shift));
+          if (start == end) {
+            continue;
+          }
+          if (rangeCount == ranges.length) {
+            ranges = Arrays.copyOf(ranges, ranges.length * 2);
+          }
+          ranges[rangeCount++] = start;
+          ranges[rangeCount++] = end;
+          ranges[rangeCount++] = wrap;
+        }
+      }
+    }
+    return Arrays.copyOf(ranges, rangeCount);
+  }
+
+  /** Returns the number of points the tile visits to render itself. */
+  @VisibleForTesting
+  int getCandidateCount(int x, int y, int zoom) {
+    final int radius = style.radius;
+    lock.readLock().lock();
+    try {
+      final int[] ranges = candidateRanges(x, y, zoom, radius);
+      int count = 0;
+      for (int range = 0; range < ranges.length; range += 3) {
+        count += ranges[range + 1] - ranges[range];
+      }
+      return count;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** Returns the index of the first point whose Morton code is at least {@code code}. */
+  private int lowerBound(long code) {
+    int low = 0;
+    int high = pointCount;
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (codes[middle] < code) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /** Returns the Morton code of a normalized position at {@link #INDEX_ZOOM}. */
+  private static long mortonCode(double x, double y) {
+    final int cells = 1 << INDEX_ZOOM;
+    return interleave(cellOf(x, cells), cellOf(y, cells));
+  }
+
+  /** Interleaves the bits of {@code x} and {@code y}, with the bits of x in the even positions. */
+  @VisibleForTesting
+  static long interleave(int x, int y) {
+    return spreadBits(x) | (spreadBits(y) << 1);
+  }
+
+  private static long spreadBits(int value) {
+    long bits = value & 0xFFFFFFFFL;
+    bits = (bits | (bits << 16)) & 0x0000FFFF0000FFFFL;
+    bits = (bits | (bits << 8)) & 0x00FF00FF00FF00FFL;
+    bits = (bits | (bits << 4)) & 0x0F0F0F0F0F0F0F0FL;
+    bits = (bits | (bits << 2)) & 0x3333333333333333L;
+    bits = (bits | (bits << 1)) & 0x5555555555555555L;
+    return bits;
+  }
+
+  /**
+   * Estimates the intensity to map to the last gradient color at {@code zoom} as the largest total
+   * weight falling into a single radius-sized bucket.
+   */
+  private double estimateMaxIntensity(int zoom, int radius) {
+    final Double cached = estimatedMaxIntensityByZoom.get(zoom);
+    if (cached != null) {
+      return cached;
+    }
+    final double bucketsPerWorld = (double) TILE_SIZE * (1L << zoom) / radius;
+    final Map<Long, Double> buckets = new HashMap<>();
+    double max = 0;
+    lock.readLock().lock();
+    try {
+      for (int i = 0; i < pointCount; i++) {
+        final long key =
+            ((long) (xs[i] * bucketsPerWorld) << 32) | (long) (ys[i] * bucketsPerWorld);
+        final Double previous = buckets.get(key);
+        final double sum = (previous == null ? 0 : previous) + weights[i];
+        buckets.put(key, sum);
+        max = Math.max(max, sum);
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    max = Math.max(max, 1);
+    estimatedMaxIntensityByZoom.put(zoom, max);
+    return max;
+  }
+
+  private static int cellOf(double normalized, int cells) {
+    return Math.min(cells - 1, Math.max(0, (int) (normalized * cells)));
+  }
+
+  @VisibleForTesting
+  static double projectX(double longitude) {
+    final double x = (longitude + 180) / 360;
+    return x - Math.floor(x);
+  }
+
+  @VisibleForTesting
+  static double projectY(double latitude) {
+    final double sin = Math.max(-0.9999, Math.min(0.9999, Math.sin(Math.toRadians(latitude))));
+    return 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+  }
+
+  /** Returns a Gaussian kernel of (2 * radius + 1)^2 weights, cut off at {@code radius}. */
+  @VisibleForTesting
+  static float[] buildKernel(int radius) {
+    final int size = 2 * radius + 1;
+    final float[] kernel = new float[size * size];
+    final double sigma = radius / 3.0;
+    for (int dy = -radius; dy <= radius; dy++) {
+      for (int dx = -radius; dx <= radius; dx++) {
+        final int distanceSquared = dx * dx + dy * dy;
+        if (distanceSquared <= radius * radius) {
+          kernel[(dy + radius) * size + dx + radius] =
+              (float) Math.exp(-distanceSquared / (2 * sigma * sigma));
+        }
+      }
+    }
+    return kernel;
+  }
+
+  /**
+   * Returns {@code size} ARGB colors interpolated along the gradient. Intensities below the first
+   * start point fade in from transparent; {@code opacity} scales every alpha.
+   */
+  @VisibleForTesting
+  static int[] buildColorMap(int[] colors, float[] startPoints, float opacity, int size) {
+    final int[] colorMap = new int[size];
+    for (int i = 0; i < size; i++) {
+      final float fraction = (float) i / (size - 1);
+      int color;
+      if (fraction <= startPoints[0]) {
+        final float t = startPoints[0] == 0 ? 1 : fraction / startPoints[0];
+        color = interpolate(colors[0] & 0x00FFFFFF, colors[0], t);
+      } else {
+        int stop = 1;
+        while (stop < startPoints.length && startPoints[stop] < fraction) {
+          stop++;
+        }
+        if (stop == startPoints.length) {
+          color = colors[colors.length - 1];
+        } else {
+          final float span = startPoints[stop] - startPoints[stop - 1];
+          final float t = span == 0 ? 1 : (fraction - startPoints[stop - 1]) / span;
+          color = interpolate(colors[stop - 1], colors[stop], t);
+        }
+      }
+      final int alpha = Math.round((color >>> 24) * opacity);
+      colorMap[i] = (alpha << 24) | (color & 0x00FFFFFF);
+    }
+    return colorMap;
+  }
+
+  private static int interpolate(int from, int to, float t) {
+    int result = 0;
+    for (int shift = 0; shift <= 24; shift += 8) {
+      final int a = (from >>> shift) & 0xFF;
+      final int b = (to >>> shift) & 0xFF;
+      result |= Math.round(a + (b - a) * t) << shift;
+    }
+    return result;
+  }
+}
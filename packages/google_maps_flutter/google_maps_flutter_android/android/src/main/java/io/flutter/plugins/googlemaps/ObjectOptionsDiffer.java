@@ -0,0 +1,137 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import androidx.annotation.Nullable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tracks the last options applied to each map object of one type and reduces incoming options to
+ * the properties that actually changed.
+ *
+ * <p>Not thread-safe; all calls are expected to come from the same (background) thread.
+ */
+class ObjectOptionsDiffer {
+
+  private final String idKey;
+  private final Map<String, Map<?, ?>> appliedOptions = new HashMap<>();
+
+  ObjectOptionsDiffer(String idKey) {
+    this.idKey = idKey;
+  }
+
+  /** Records the full options of a newly added object. */
+  void recordAdded(Object options) {
+    final Map<?, ?> data = (Map<?, ?>) options;
+    final String id = (String) data.get(idKey);
+    if (id != null) {
+      appliedOptions.put(id, data);
+    }
+  }
+
+  /**
+   * Returns the subset of {@code options} that differs from the last recorded options of the same
+   * object, always including the object id, or null if nothing changed.
+   *
+   * <p>Options of objects that were never recorded are returned unchanged.
+   */
+  @Nullable
+  Map<String, Object> diff(Object options) {
+    final Map<?, ?> data = (Map<?, ?>) options;
+    final String id = (String) data.get(idKey);
+    final Map<?, ?> previous = id == null ? null : appliedOptions.get(id);
+    final Map<String, Object> changed = new HashMap<>();
+    for (Map.Entry<?, ?> entry : data.entrySet()) {
+      final Object key = entry.getKey();
+      if (previous == null || !deepEquals(previous.get(key), entry.getValue())) {
+        changed.put((String) key, entry.getValue());
+      }
+    }
+    if (id != null) {
+      final Map<String, Object> merged = new HashMap<>();
+      if (previous != null) {
+        for (Map.Entry<?, ?> entry : previous.entrySet()) {
+          merged.put((String) entry.getKey(), entry.getValue());
+        }
+      }
+      merged.putAll(changed);
+      appliedOptions.put(id, merged);
+    }
+    changed.remove(idKey);
+    if (changed.isEmpty()) {
+      return null;
+    }
+    changed.put(idKey, id);
+    return changed;
+  }
+
+  /** Forgets the options of a removed object. */
+  void recordRemoved(Object id) {
+    if (id != null) {
+      appliedOptions.remove(id);
+    }
+  }
+
+  /** Forgets all recorded options. */
+  void clear() {
+    appliedOptions.clear();
+  }
+
+  /** Compares values decoded by the standard message codec structurally. */
+  static boolean deepEquals(@Nullable Object a, @Nullable Object b) {
+    if (a == b) {
+      return true;
+    }
+    if (a == null || b == null) {
+      return false;
+    }
+    if (a instanceof List && b instanceof List) {
+      final List<?> listA = (List<?>) a;
+      final List<?> listB = (List<?>) b;
+      if (listA.size() != listB.size()) {
+        return false;
+      }
+      for (int i = 0; i < listA.size(); i++) {
+        if (!deepEquals(listA.get(i), listB.get(i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+    if (a instanceof Map && b instanceof Map) {
+      final Map<?, ?> mapA = (Map<?, ?>) a;
+      final Map<?, ?> mapB = (Map<?, ?>) b;
+      if (mapA.size() != mapB.size()) {
+        return false;
+      }
+      for (Map.Entry<?, ?> entry : mapA.entrySet()) {
+        if (!mapB.containsKey(entry.getKey())
+            || !deepEquals(entry.getValue(), mapB.get(entry.getKey()))) {
+          return false;
+        }
+      }
+      return true;
+    }
+    if (a instanceof byte[] && b instanceof byte[]) {
+      return Arrays.equals((byte[]) a, (byte[]) b);
+    }
+    if (a instanceof int[] && b instanceof int[]) {
+      return Arrays.equals((int[]) a, (int[]) b);
+    }
+    if (a instanceof long[] && b instanceof long[]) {
+      return Arrays.equals((long[]) a, (long[]) b);
+    }
+    if (a instanceof float[] && b instanceof float[]) {
+      return Arrays.equals((float[]) a, (float[]) b);
+    }
+    if (a instanceof double[] && b instanceof double[]) {
+      return Arrays.equals((double[]) a, (double[]) b);
+    }
+    return a.equals(b);
+  }
+}
@@ -0,0 +1,365 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+import android.view.Choreographer;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import io.flutter.plugin.common.MethodChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * Applies the `*#update` calls of one kind of map object (markers, polylines, ...).
+ *
+ * <p>The incoming options are diffed against the last applied options on a background executor, so
+ * that changed objects only have the setters of their changed properties invoked. The resulting
+ * mutations are then applied on the platform thread in order, a frame budget at a time, and the
+ * method call is answered once all of its mutations have been applied.
+ *
+ * <p>Consecutive mutations of the same kind are applied in slices, one call to the controllers per
+ * slice. The slice size adapts to the measured cost of applying an object, so that a slice takes
+ * about half of the frame budget.
+ *
+ * <p>If applying a slice fails, the objects of the slice and of the rest of its update are
+ * forgotten by the differ, so their next change is applied with all of its options.
+ *
+ * <p>Calls that read or act on the objects, such as showing a marker's info window, are run with
+ * {@link #runAfterPendingUpdates} so that they see the objects of the updates called before them.
+ */
+class ObjectUpdatePipeline {
+
+  private static final String TAG = "ObjectUpdatePipeline";
+
+  /** Maximum time spent applying mutations per frame. */
+  @VisibleForTesting static final long FRAME_BUDGET_MS = 8;
+
+  /** Number of objects in the first slice, before the cost of applying an object is known. */
+  @VisibleForTesting static final int INITIAL_SLICE_SIZE = 16;
+
+  /** Maximum number of objects passed to the controllers in one call. */
+  @VisibleForTesting static final int MAX_SLICE_SIZE = 1024;
+
+  /** Applies one kind of mutation to the map, called on the platform thread. */
+  interface ObjectsOperation {
+    void apply(List<Object> objects);
+  }
+
+  private static final int ADD = 0;
+  private static final int CHANGE = 1;
+  private static final int REMOVE = 2;
+
+  private static final class Mutation {
+    final int kind;
+    final Object id;
+    final Object payload;
+
+    Mutation(int kind, Object id, Object payload) {
+      this.kind = kind;
+      this.id = id;
+      this.payload = payload;
+    }
+  }
+
+  private static final class Batch {
+    final List<Mutation> mutations;
+    @Nullable final MethodChannel.Result result;
+    // Run instead of completing result once the batches before it have been applied.
+    @Nullable final Runnable action;
+    int next = 0;
+
+    Batch(
+        List<Mutation> mutations,
+        @Nullable MethodChannel.Result result,
+        @Nullable Runnable action) {
+      this.mutations = mutations;
+      this.result = result;
+      this.action = action;
+    }
+  }
+
+  private final String idKey;
+  private final ObjectOptionsDiffer differ;
+  private final ObjectsOperation addObjects;
+  private final ObjectsOperation changeObjects;
+  private final ObjectsOperation removeObjects;
+  private final Executor backgroundExecutor;
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+  // Only accessed on the platform thread.
+  private final ArrayDeque<Batch> pendingBatches = new ArrayDeque<>();
+  private boolean frameScheduled = false;
+  private int sliceSize = INITIAL_SLICE_SIZE;
+  private volatile boolean disposed = false;
+
+  ObjectUpdatePipeline(
+      String idKey,
+      ObjectsOperation addObjects,
+      ObjectsOperation changeObjects,
+      ObjectsOperation removeObjects,
+      Executor backgroundExecutor) {
+    this.idKey = idKey;
+    this.differ = new ObjectOptionsDiffer(idKey);
+    this.addObjects = addObjects;
+    this.changeObjects = changeObjects;
+    this.removeObjects = removeObjects;
+    this.backgroundExecutor = backgroundExecutor;
+  }
+
+  /**
+   * Schedules an update. {@code result}, if non-null, is completed on the platform thread once the
+   * update has been applied.
+   */
+  void update(
+      @Nullable List<Object> objectsToAdd,
+      @Nullable List<Object> objectsToChange,
+      @Nullable List<Object> objectIdsToRemove,
+      @Nullable MethodChannel.Result result) {
+    if (isEmpty(objectsToAdd) && isEmpty(objectsToChange) && isEmpty(objectIdsToRemove)) {
+      if (result != null) {
+        result.success(null);
+      }
+      return;
+    }
+    backgroundExecutor.execute(
+        () -> {
+          if (disposed) {
+            failDisposed(result);
+            return;
+          }
+          final List<Mutation> mutations;
+          try {
+            mutations = computeMutations(objectsToAdd, objectsToChange, objectIdsToRemove);
+          } catch (RuntimeException e) {
+            Log.e(TAG, "Unable to interpret object update", e);
+            if (result != null) {
+              mainHandler.post(() -> result.error("Invalid update", e.getMessage(), null));
+            }
+            return;
+          }
+          mainHandler.post(() -> enqueue(new Batch(mutations, result, null)));
+        });
+  }
+
+  /**
+   * Runs {@code action} on the platform thread once all previously scheduled updates have been
+   * applied. {@code action} is responsible for completing {@code result}, which is completed with
+   * an error instead if the pipeline is disposed first.
+   */
+  void runAfterPendingUpdates(@NonNull Runnable action, @NonNull MethodChannel.Result result) {
+    // Goes through the background executor too, so that it is queued after updates that are
+    // still being diffed.
+    backgroundExecutor.execute(
+        () -> {
+          if (disposed) {
+            failDisposed(result);
+            return;
+          }
+          final Batch batch = new Batch(Collections.emptyList(), result, action);
+          mainHandler.post(() -> enqueue(batch));
+        });
+  }
+
+  /** Drops all pending work, completing the results of pending calls with an error. */
+  void dispose() {
+    disposed = true;
+    mainHandler.post(this::failPendingBatches);
+  }
+
+  private void failPendingBatches() {
+    while (!pendingBatches.isEmpty()) {
+      failDisposed(pendingBatches.poll().result);
+    }
+  }
+
+  private void failDisposed(@Nullable MethodChannel.Result result) {
+    if (result != null) {
+      mainHandler.post(
+          () -> result.error("GoogleMap disposed", "The map was disposed before the call", null));
+    }
+  }
+
+  private List<Mutation> computeMutations(
+      @Nullable List<Object> objectsToAdd,
+      @Nullable List<Object> objectsToChange,
+      @Nullable List<Object> objectIdsToRemove) {
+    final List<Mutation> mutations = new ArrayList<>();
+    if (objectsToAdd != null) {
+      for (Object objectToAdd : objectsToAdd) {
+        if (objectToAdd == null) {
+          continue;
+        }
+        differ.recordAdded(objectToAdd);
+        mutations.add(new Mutation(ADD, idOf(objectToAdd), objectToAdd));
+      }
+    }
+    if (objectsToChange != null) {
+      for (Object objectToChange : objectsToChange) {
+        if (objectToChange == null) {
+          continue;
+        }
+        final Map<String, Object> changed = differ.diff(objectToChange);
+        if (changed != null) {
+          mutations.add(new Mutation(CHANGE, changed.get(idKey), changed));
+        }
+      }
+    }
+    if (objectIdsToRemove != null) {
+      for (Object objectId : objectIdsToRemove) {
+        if (objectId == null) {
+          continue;
+        }
+        differ.recordRemoved(objectId);
+        mutations.add(new Mutation(REMOVE, objectId, objectId));
+      }
+    }
+    return mutations;
+  }
+
+  private void enqueue(@NonNull Batch batch) {
+    if (disposed) {
+      failDisposed(batch.result);
+      return;
+    }
+    pendingBatches.add(batch);
+    scheduleFrame();
+  }
+
+  private void scheduleFrame() {
+    if (frameScheduled) {
+      return;
+    }
+    frameScheduled = true;
+    Choreographer.getInstance().postFrameCallback(frameTimeNanos -> applyPendingMutations());
+  }
+
+  @VisibleForTesting
+  void applyPendingMutations() {
+    frameScheduled = false;
+    if (disposed) {
+      failPendingBatches();
+      return;
+    }
+    final long deadline = SystemClock.uptimeMillis() + FRAME_BUDGET_MS;
+    while (!pendingBatches.isEmpty()) {
+      final Batch batch = pendingBatches.peek();
+      RuntimeException error = null;
+      while (batch.next < batch.mutations.size()) {
+        final long sliceStart = SystemClock.uptimeMillis();
+        if (sliceStart >= deadline) {
+          scheduleFrame();
+          return;
+        }
+        final int sliceEnd = sliceEnd(batch);
+        try {
+          applySlice(batch.mutations.subList(batch.next, sliceEnd));
+        } catch (RuntimeException e) {
+          Log.e(TAG, "Unable to apply object update", e);
+          forgetUnapplied(batch);
+          error = e;
+          break;
+        }
+        updateSliceSize(sliceEnd - batch.next, SystemClock.uptimeMillis() - sliceStart);
+        batch.next = sliceEnd;
+      }
+      pendingBatches.poll();
+      if (batch.action != null) {
+        batch.action.run();
+      } else if (batch.result != null) {
+        if (error != null) {
+          batch.result.error("Invalid update", error.getMessage(), null);
+        } else {
+          batch.result.success(null);
+        }
+      }
+    }
+  }
+
+  /** Returns the end of the next slice of {@code batch}: mutations of the same kind. */
+  private int sliceEnd(Batch batch) {
+    final int kind = batch.mutations.get(batch.next).kind;
+    final int limit = Math.min(batch.mutations.size(), batch.next + sliceSize);
+    int end = batch.next + 1;
+    while (end < limit && batch.mutations.get(end).kind == kind) {
+      end++;
+    }
+    return end;
+  }
+
+  private void applySlice(List<Mutation> slice) {
+    final List<Object> payloads = new ArrayList<>(slice.size());
+    for (Mutation mutation : slice) {
+      payloads.add(mutation.payload);
+    }
+    final int kind = slice.get(0).kind;
+    switch (kind) {
+      case ADD:
+        addObjects.apply(payloads);
+        break;
+      case CHANGE:
+        changeObjects.apply(payloads);
+        break;
+      case REMOVE:
+        removeObjects.apply(payloads);
+        break;
+      default:
+        throw new IllegalStateException("Unknown mutation kind " + kind);
+    }
+  }
+
+  /** Sizes the next slice so that it takes about half of the frame budget. */
+  private void updateSliceSize(int appliedObjects, long elapsedMs) {
+    if (appliedObjects < sliceSize) {
+      // The slice was cut short by a change of kind or the end of the update, so it says little
+      // about the cost of an object.
+      return;
+    }
+    if (elapsedMs <= 0) {
+      sliceSize = Math.min(MAX_SLICE_SIZE, sliceSize * 2);
+    } else {
+      final long size = appliedObjects * (FRAME_BUDGET_MS / 2) / elapsedMs;
+      sliceSize = (int) Math.max(1, Math.min(MAX_SLICE_SIZE, size));
+    }
+  }
+
+  /**
+   * Makes the differ forget the objects of {@code batch} that may not have been applied, starting
+   * with the failed slice, so that the differ doesn't assume the map has options it doesn't have.
+   */
+  private void forgetUnapplied(Batch batch) {
+    if (disposed) {
+      return;
+    }
+    final List<Object> ids = new ArrayList<>();
+    for (Mutation mutation : batch.mutations.subList(batch.next, batch.mutations.size())) {
+      if (mutation.id != null) {
+        ids.add(mutation.id);
+      }
+    }
+    backgroundExecutor.execute(
+        () -> {
+          for (Object id : ids) {
+            differ.recordRemoved(id);
+          }
+        });
+  }
+
+  @Nullable
+  private Object idOf(Object options) {
+    return ((Map<?, ?>) options).get(idKey);
+  }
+
+  private static boolean isEmpty(@Nullable List<?> list) {
+    return list == null || list.isEmpty();
+  }
+}
@@ -0,0 +1,210 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.graphics.Bitmap;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import io.flutter.plugin.common.MethodChannel;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/** Scales and encodes map snapshots on a background executor. */
+class SnapshotEncoder {
+
+  private static final String TAG = "SnapshotEncoder";
+
+  static final String FORMAT_PNG = "png";
+  static final String FORMAT_JPEG = "jpeg";
+  static final String FORMAT_WEBP = "webp";
+  static final String FORMAT_RGBA = "rgba";
+
+  /** Options of a `map#takeSnapshotWithOptions` call. */
+  static final class Options {
+    /** Target width in pixels, or 0 to derive it from the height and the aspect ratio. */
+    final int width;
+    /** Target height in pixels, or 0 to derive it from the width and the aspect ratio. */
+    final int height;
+
+    @NonNull final String format;
+    /**
+     * Compression quality from 0 to 100, ignored by PNG and RGBA.
+     *
+     * <p>For WebP, 100 produces a lossless image on Android 10 and newer, as it does for {@link
+     * Bitmap.CompressFormat#WEBP}, and any other value a lossy one.
+     */
+    final int quality;
+    /** When non-null, the encoded snapshot is written to this path instead of being returned. */
+    @Nullable final String filePath;
+
+    Options(int width, int height, @NonNull String format, int quality, @Nullable String filePath) {
+      this.width = width;
+      this.height = height;
+      this.format = format;
+      this.quality = quality;
+      this.filePath = filePath;
+    }
+
+    static Options fromJson(@Nullable Object o) {
+      final Map<?, ?> data = o == null ? new HashMap<>() : (Map<?, ?>) o;
+      final Object width = data.get("width");
+      final Object height = data.get("height");
+      final Object format = data.get("format");
+      final Object quality = data.get("quality");
+      final Options options =
+          new Options(
+              width == null ? 0 : ((Number) width).intValue(),
+              height == null ? 0 : ((Number) height).intValue(),
+              format == null ? FORMAT_PNG : (String) format,
+              quality == null ? 100 : ((Number) quality).intValue(),
+              (String) data.get("filePath"));
+      if (options.width < 0 || options.height < 0) {
+        throw new IllegalArgumentException("Snapshot size must not be negative");
+      }
+      if (options.quality < 0 || options.quality > 100) {
+        throw new IllegalArgumentException("Snapshot quality must be between 0 and 100");
+      }
+      switch (options.format) {
+        case FORMAT_PNG:
+        case FORMAT_JPEG:
+        case FORMAT_WEBP:
+        case FORMAT_RGBA:
+          return options;
+        default:
+          throw new IllegalArgumentException("Unknown snapshot format: " + options.format);
+      }
+    }
+  }
+
+  private final Executor executor;
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+  SnapshotEncoder(Executor executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Scales and encodes {@code bitmap} on the executor, recycling it afterwards, and completes
+   * {@code result} on the platform thread.
+   *
+   * <p>The reply is a map with the `width`, `height` and `format` of the encoded image, plus either
+   * the encoded `bytes` or the `filePath` it was written to.
+   */
+  void encode(
+      @NonNull Bitmap bitmap, @NonNull Options options, @NonNull MethodChannel.Result result) {
+    executor.execute(
+        () -> {
+          try {
+            final Map<String, Object> encoded = encode(bitmap, options);
+            mainHandler.post(() -> result.success(encoded));
+          } catch (IOException | RuntimeException e) {
+            Log.e(TAG, "Unable to encode snapshot", e);
+            mainHandler.post(() -> result.error("Snapshot encoding failed", e.getMessage(), null));
+          }
+        });
+  }
+
+  private static Map<String, Object> encode(Bitmap source, Options options) throws IOException {
+    final Bitmap bitmap = scale(source, options.width, options.height);
+    try {
+      final Map<String, Object> reply = new HashMap<>();
+      reply.put("width", bitmap.getWidth());
+      reply.put("height", bitmap.getHeight());
+      reply.put("format", options.format);
+      if (options.filePath != null) {
+        try (OutputStream stream =
+            new BufferedOutputStream(new FileOutputStream(options.filePath))) {
+          write(bitmap, options, stream);
+        }
+        reply.put("filePath", options.filePath);
+      } else if (FORMAT_RGBA.equals(options.format)) {
+        reply.put("bytes", toRgba(bitmap));
+      } else {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        write(bitmap, options, stream);
+        reply.put("bytes", stream.toByteArray());
+      }
+      return reply;
+    } finally {
+      if (bitmap != source) {
+        bitmap.recycle();
+      }
+      source.recycle();
+    }
+  }
+
+  private static void write(Bitmap bitmap, Options options, OutputStream stream)
+      throws IOException {
+    if (FORMAT_RGBA.equals(options.format)) {
+      stream.write(toRgba(bitmap));
+    } else if (!bitmap.compress(toCompressFormat(options), options.quality, stream)) {
+      throw new IOException("Bitmap.compress failed for format " + options.format);
+    }
+  }
+
+  @VisibleForTesting
+  static int[] targetSize(int sourceWidth, int sourceHeight, int width, int height) {
+    if (width == 0 && height == 0) {
+      return new int[] {sourceWidth, sourceHeight};
+    }
+    if (width == 0) {
+      width = Math.max(1, Math.round((float) sourceWidth * height / sourceHeight));
+    } else if (height == 0) {
+      height = Math.max(1, Math.round((float) sourceHeight * width / sourceWidth));
+    }
+    return new int[] {width, height};
+  }
+
+  private static Bitmap scale(Bitmap bitmap, int width, int height) {
+    final int[] size = targetSize(bitmap.getWidth(), bitmap.getHeight(), width, height);
+    if (size[0] == bitmap.getWidth() && size[1] == bitmap.getHeight()) {
+      return bitmap;
+    }
+    return Bitmap.createScaledBitmap(bitmap, size[0], size[1], true);
+  }
+
+  private static byte[] toRgba(Bitmap bitmap) {
+    Bitmap argb = bitmap;
+    if (bitmap.getConfig() != Bitmap.Config.ARGB_8888) {
+      argb = bitmap.copy(Bitmap.Config.ARGB_8888, false);
+    }
+    // ARGB_8888 pixels are stored in memory as R, G, B, A bytes.
+    final ByteBuffer buffer = ByteBuffer.allocate(argb.getByteCount());
+    argb.copyPixelsToBuffer(buffer);
+    if (argb != bitmap) {
+      argb.recycle();
+    }
+    return buffer.array();
+  }
+
+  @SuppressWarnings("deprecation")
+  private static Bitmap.CompressFormat toCompressFormat(Options options) {
+    switch (options.format) {
+      case FORMAT_JPEG:
+        return Bitmap.CompressFormat.JPEG;
+      case FORMAT_WEBP:
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.R) {
+          return options.quality == 100
+              ? Bitmap.CompressFormat.WEBP_LOSSLESS
+              : Bitmap.CompressFormat.WEBP_LOSSY;
+        }
+        return Bitmap.CompressFormat.WEBP;
+      default:
+        return Bitmap.CompressFormat.PNG;
+    }
+  }
+}
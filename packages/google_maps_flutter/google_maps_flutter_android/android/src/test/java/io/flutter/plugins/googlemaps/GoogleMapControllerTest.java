@@ -7,6 +7,10 @@ package io.flutter.plugins.googlemaps;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -22,6 +26,9 @@ import com.google.android.gms.maps.MapView;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import org.junit.After;
 import org.junit.Assert;
@@ -167,6 +174,39 @@ public class GoogleMapControllerTest {
     verify(mapView, never()).invalidate();
   }
 
+  @Test
+  public void AppendHeatmapPointsToUnknownHeatmapReturnsError() {
+    googleMapController.onMapReady(mockGoogleMap);
+    MethodChannel.Result result = mock(MethodChannel.Result.class);
+    HashMap<String, Object> arguments = new HashMap<>();
+    arguments.put("heatmapId", "unknown");
+    arguments.put("points", new double[] {1, 2, 1});
+
+    googleMapController.onMethodCall(new MethodCall("heatmaps#appendPoints", arguments), result);
+
+    verify(result).error(eq("Invalid heatmap"), anyString(), isNull());
+    verify(result, never()).success(any());
+  }
+
+  @Test
+  public void UpdateHeatmapsWithMalformedGradientReturnsError() {
+    googleMapController.onMapReady(mockGoogleMap);
+    MethodChannel.Result result = mock(MethodChannel.Result.class);
+    HashMap<String, Object> gradient = new HashMap<>();
+    gradient.put("colors", Arrays.asList(0xFF00FF00, 0xFFFF0000));
+    gradient.put("startPoints", Collections.singletonList(0.5));
+    HashMap<String, Object> heatmap = new HashMap<>();
+    heatmap.put("heatmapId", "heatmap");
+    heatmap.put("gradient", gradient);
+    HashMap<String, Object> arguments = new HashMap<>();
+    arguments.put("heatmapsToAdd", new ArrayList<>(Collections.singletonList(heatmap)));
+
+    googleMapController.onMethodCall(new MethodCall("heatmaps#update", arguments), result);
+
+    verify(result).error(eq("Invalid heatmap"), anyString(), isNull());
+    verify(result, never()).success(any());
+  }
+
   @Test
   public void OnMapReadySetsPaddingIfInitialPaddingIsThere() {
     float padding = 10f;
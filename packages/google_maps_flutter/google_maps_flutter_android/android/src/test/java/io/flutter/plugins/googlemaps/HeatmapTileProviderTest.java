@@ -0,0 +1,134 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class HeatmapTileProviderTest {
+
+  @Test
+  public void projection_MapsOriginToWorldCenter() {
+    assertEquals(0.5, HeatmapTileProvider.projectX(0), 1e-9);
+    assertEquals(0.5, HeatmapTileProvider.projectY(0), 1e-9);
+    assertEquals(0.0, HeatmapTileProvider.projectX(180), 1e-9);
+  }
+
+  @Test
+  public void buildColorMap_FadesInBelowFirstStartPoint() {
+    final int[] colorMap =
+        HeatmapTileProvider.buildColorMap(
+            new int[] {0xFF00FF00, 0xFFFF0000}, new float[] {0.5f, 1f}, 1f, 3);
+
+    assertEquals(0x0000FF00, colorMap[0]);
+    assertEquals(0xFF00FF00, colorMap[1]);
+    assertEquals(0xFFFF0000, colorMap[2]);
+  }
+
+  @Test
+  public void buildColorMap_AppliesOpacity() {
+    final int[] colorMap =
+        HeatmapTileProvider.buildColorMap(new int[] {0xFFFF0000}, new float[] {0f}, 0.5f, 2);
+
+    assertEquals(0x80FF0000, colorMap[1]);
+  }
+
+  @Test
+  public void buildKernel_PeaksAtCenter() {
+    final float[] kernel = HeatmapTileProvider.buildKernel(2);
+
+    assertEquals(25, kernel.length);
+    assertEquals(1f, kernel[12], 1e-6);
+    assertEquals(0f, kernel[0], 1e-6);
+  }
+
+  @Test
+  public void appendWeightedPoints_ExtendsExistingPoints() {
+    final HeatmapTileProvider provider = new HeatmapTileProvider();
+    provider.setWeightedPoints(new double[] {1, 2, 1, 3, 4, 2});
+    provider.appendWeightedPoints(new double[] {5, 6, 1});
+
+    assertEquals(3, provider.getPointCount());
+
+    provider.setWeightedPoints(new double[] {1, 2, 1});
+
+    assertEquals(1, provider.getPointCount());
+  }
+
+  @Test
+  public void appendWeightedPoints_KeepsPointsFromBothCalls() {
+    final HeatmapTileProvider provider = new HeatmapTileProvider();
+    provider.setWeightedPoints(new double[] {0, 0, 1});
+    provider.appendWeightedPoints(new double[] {0, 0, 1, 0, 0, 1});
+
+    // Every point is in the single tile at zoom 0.
+    assertEquals(3, provider.getCandidateCount(0, 0, 0));
+  }
+
+  @Test
+  public void getCandidateCount_NarrowsWithZoom() {
+    // A dense cluster in a city and a single point on another continent.
+    final int clusterSize = 1000;
+    final double[] packed = new double[3 * (clusterSize + 1)];
+    for (int i = 0; i < clusterSize; i++) {
+      packed[3 * i] = 37.70 + 0.1 * i / clusterSize;
+      packed[3 * i + 1] = -122.50 + 0.1 * i / clusterSize;
+      packed[3 * i + 2] = 1;
+    }
+    packed[3 * clusterSize] = 48.85;
+    packed[3 * clusterSize + 1] = 2.35;
+    packed[3 * clusterSize + 2] = 1;
+    final HeatmapTileProvider provider = new HeatmapTileProvider();
+    provider.setWeightedPoints(packed);
+
+    assertEquals(clusterSize + 1, provider.getCandidateCount(0, 0, 0));
+
+    // At zoom 16, a tile near the start of the cluster only visits a few of its points.
+    final int zoom = 16;
+    final double worldTiles = 1 << zoom;
+    final int x = (int) (HeatmapTileProvider.projectX(-122.50) * worldTiles);
+    final int y = (int) (HeatmapTileProvider.projectY(37.70) * worldTiles);
+    final int candidates = provider.getCandidateCount(x, y, zoom);
+    assertTrue(candidates > 0);
+    assertTrue(candidates < clusterSize / 4);
+  }
+
+  @Test
+  public void getCandidateCount_IncludesPointsAcrossTheAntimeridian() {
+    final HeatmapTileProvider provider = new HeatmapTileProvider();
+    provider.setWeightedPoints(new double[] {0, 179.99, 1});
+
+    // The point is on the last tile of the world, next to the first one.
+    assertEquals(1, provider.getCandidateCount(0, 2, 2));
+  }
+
+  @Test
+  public void interleave_AlternatesBits() {
+    assertEquals(0b01, HeatmapTileProvider.interleave(1, 0));
+    assertEquals(0b10, HeatmapTileProvider.interleave(0, 1));
+    assertEquals(0b1011, HeatmapTileProvider.interleave(0b11, 0b01));
+  }
+
+  @Test
+  public void setGradient_RejectsUnsortedStartPoints() {
+    final HeatmapTileProvider provider = new HeatmapTileProvider();
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> provider.setGradient(new int[] {0xFF00FF00, 0xFFFF0000}, new float[] {1f, 0.5f}));
+  }
+
+  @Test
+  public void setRadius_RejectsRadiusLargerThanATile() {
+    final HeatmapTileProvider provider = new HeatmapTileProvider();
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> provider.setRadius(HeatmapTileProvider.MAX_RADIUS + 1));
+  }
+}
@@ -0,0 +1,73 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public class ObjectOptionsDifferTest {
+
+  private static Map<String, Object> marker(String id, double lat, double lng, float alpha) {
+    final Map<String, Object> options = new HashMap<>();
+    options.put("markerId", id);
+    options.put("position", Arrays.asList(lat, lng));
+    options.put("alpha", alpha);
+    options.put("icon", Arrays.<Object>asList("fromBytes", new byte[] {1, 2, 3}));
+    return options;
+  }
+
+  @Test
+  public void diff_ReturnsNullWhenNothingChanged() {
+    final ObjectOptionsDiffer differ = new ObjectOptionsDiffer("markerId");
+    differ.recordAdded(marker("m1", 1.0, 2.0, 1.0f));
+
+    assertNull(differ.diff(marker("m1", 1.0, 2.0, 1.0f)));
+  }
+
+  @Test
+  public void diff_ReturnsOnlyChangedProperties() {
+    final ObjectOptionsDiffer differ = new ObjectOptionsDiffer("markerId");
+    differ.recordAdded(marker("m1", 1.0, 2.0, 1.0f));
+
+    final Map<String, Object> changed = differ.diff(marker("m1", 1.0, 3.0, 1.0f));
+
+    assertEquals(2, changed.size());
+    assertEquals("m1", changed.get("markerId"));
+    assertEquals(Arrays.asList(1.0, 3.0), changed.get("position"));
+  }
+
+  @Test
+  public void diff_ComparesAgainstLastChange() {
+    final ObjectOptionsDiffer differ = new ObjectOptionsDiffer("markerId");
+    differ.recordAdded(marker("m1", 1.0, 2.0, 1.0f));
+    differ.diff(marker("m1", 1.0, 2.0, 0.5f));
+
+    assertNull(differ.diff(marker("m1", 1.0, 2.0, 0.5f)));
+  }
+
+  @Test
+  public void diff_ReturnsAllPropertiesForUnknownObject() {
+    final ObjectOptionsDiffer differ = new ObjectOptionsDiffer("markerId");
+    differ.recordAdded(marker("m1", 1.0, 2.0, 1.0f));
+    differ.recordRemoved("m1");
+
+    final Map<String, Object> changed = differ.diff(marker("m1", 1.0, 2.0, 1.0f));
+
+    assertEquals(4, changed.size());
+  }
+
+  @Test
+  public void deepEquals_ComparesByteArraysByContent() {
+    assertTrue(ObjectOptionsDiffer.deepEquals(new byte[] {1, 2}, new byte[] {1, 2}));
+    assertFalse(ObjectOptionsDiffer.deepEquals(new byte[] {1, 2}, new byte[] {2, 1}));
+  }
+}
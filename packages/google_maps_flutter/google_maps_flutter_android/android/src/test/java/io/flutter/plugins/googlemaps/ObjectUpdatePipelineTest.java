@@ -0,0 +1,217 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import android.os.Build;
+import android.os.Looper;
+import io.flutter.plugin.common.MethodChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.Shadows;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowSystemClock;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = Build.VERSION_CODES.P)
+public class ObjectUpdatePipelineTest {
+
+  private final List<List<Object>> addCalls = new ArrayList<>();
+  private final List<List<Object>> changeCalls = new ArrayList<>();
+  private final List<List<Object>> removeCalls = new ArrayList<>();
+  private long addCostPerObjectMs = 0;
+  private boolean failChanges = false;
+  private ObjectUpdatePipeline pipeline;
+
+  @Before
+  public void setUp() {
+    pipeline =
+        new ObjectUpdatePipeline(
+            "markerId",
+            objects -> {
+              addCalls.add(new ArrayList<>(objects));
+              ShadowSystemClock.advanceBy(Duration.ofMillis(addCostPerObjectMs * objects.size()));
+            },
+            objects -> {
+              if (failChanges) {
+                throw new IllegalArgumentException("Unknown option");
+              }
+              changeCalls.add(new ArrayList<>(objects));
+            },
+            objects -> removeCalls.add(new ArrayList<>(objects)),
+            Runnable::run);
+  }
+
+  private static Map<String, Object> marker(String id, float alpha) {
+    final Map<String, Object> options = new HashMap<>();
+    options.put("markerId", id);
+    options.put("alpha", alpha);
+    return options;
+  }
+
+  private static List<Object> markers(int count) {
+    final List<Object> markers = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      markers.add(marker("m" + i, 1.0f));
+    }
+    return markers;
+  }
+
+  private static void runFrames() {
+    Shadows.shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(100));
+  }
+
+  @Test
+  public void update_CompletesResultAfterTheFrameAppliedIt() {
+    final MethodChannel.Result result = mock(MethodChannel.Result.class);
+
+    pipeline.update(markers(3), null, Collections.singletonList("m9"), result);
+    Shadows.shadowOf(Looper.getMainLooper()).idle();
+
+    assertTrue(addCalls.isEmpty());
+    verify(result, never()).success(any());
+
+    runFrames();
+
+    assertEquals(1, addCalls.size());
+    assertEquals(3, addCalls.get(0).size());
+    assertEquals(Collections.singletonList(Collections.singletonList("m9")), removeCalls);
+    verify(result).success(null);
+  }
+
+  @Test
+  public void update_WithoutObjects_CompletesImmediately() {
+    final MethodChannel.Result result = mock(MethodChannel.Result.class);
+
+    pipeline.update(null, Collections.emptyList(), null, result);
+
+    verify(result).success(null);
+  }
+
+  @Test
+  public void applyPendingMutations_StopsAtFrameBudget() {
+    final MethodChannel.Result result = mock(MethodChannel.Result.class);
+    addCostPerObjectMs = 1;
+    pipeline.update(markers(40), null, null, result);
+    Shadows.shadowOf(Looper.getMainLooper()).idle();
+
+    pipeline.applyPendingMutations();
+
+    assertEquals(1, addCalls.size());
+    assertEquals(ObjectUpdatePipeline.INITIAL_SLICE_SIZE, addCalls.get(0).size());
+    verify(result, never()).success(any());
+
+    runFrames();
+
+    // The first slice took twice the budget, so the following slices take half of it.
+    final int sliceSize = (int) ObjectUpdatePipeline.FRAME_BUDGET_MS / 2;
+    int applied = addCalls.get(0).size();
+    for (List<Object> call : addCalls.subList(1, addCalls.size())) {
+      assertEquals(sliceSize, call.size());
+      applied += call.size();
+    }
+    assertEquals(40, applied);
+    verify(result).success(null);
+  }
+
+  @Test
+  public void update_WhenApplyFails_ReportsErrorAndResendsAllOptions() {
+    pipeline.update(Collections.singletonList(marker("m1", 1.0f)), null, null, null);
+    runFrames();
+
+    final MethodChannel.Result failed = mock(MethodChannel.Result.class);
+    failChanges = true;
+    pipeline.update(null, Collections.singletonList(marker("m1", 0.5f)), null, failed);
+    runFrames();
+
+    verify(failed).error(eq("Invalid update"), eq("Unknown option"), any());
+
+    final MethodChannel.Result retried = mock(MethodChannel.Result.class);
+    failChanges = false;
+    pipeline.update(null, Collections.singletonList(marker("m1", 0.5f)), null, retried);
+    runFrames();
+
+    // The failed change was never applied, so the same options are applied again in full.
+    assertEquals(
+        Collections.singletonList(Collections.singletonList(marker("m1", 0.5f))), changeCalls);
+    verify(retried).success(null);
+  }
+
+  @Test
+  public void update_SkipsUnchangedObjects() {
+    pipeline.update(Collections.singletonList(marker("m1", 1.0f)), null, null, null);
+    runFrames();
+    final MethodChannel.Result result = mock(MethodChannel.Result.class);
+
+    pipeline.update(null, Collections.singletonList(marker("m1", 1.0f)), null, result);
+    runFrames();
+
+    assertTrue(changeCalls.isEmpty());
+    verify(result).success(null);
+  }
+
+  @Test
+  public void runAfterPendingUpdates_RunsAfterEarlierUpdatesWereApplied() {
+    final List<Integer> addCallsSeen = new ArrayList<>();
+    final MethodChannel.Result result = mock(MethodChannel.Result.class);
+
+    pipeline.update(Collections.singletonList(marker("m1", 1.0f)), null, null, null);
+    pipeline.runAfterPendingUpdates(() -> addCallsSeen.add(addCalls.size()), result);
+    Shadows.shadowOf(Looper.getMainLooper()).idle();
+
+    assertTrue(addCallsSeen.isEmpty());
+
+    runFrames();
+
+    assertEquals(Collections.singletonList(1), addCallsSeen);
+    // The action completes the result itself.
+    verify(result, never()).success(any());
+  }
+
+  @Test
+  public void dispose_CompletesPendingResultsWithAnError() {
+    final MethodChannel.Result update = mock(MethodChannel.Result.class);
+    final MethodChannel.Result action = mock(MethodChannel.Result.class);
+    final List<Object> ran = new ArrayList<>();
+    pipeline.update(markers(3), null, null, update);
+    pipeline.runAfterPendingUpdates(() -> ran.add("action"), action);
+    Shadows.shadowOf(Looper.getMainLooper()).idle();
+
+    pipeline.dispose();
+    runFrames();
+
+    assertTrue(addCalls.isEmpty());
+    assertTrue(ran.isEmpty());
+    verify(update).error(eq("GoogleMap disposed"), any(), any());
+    verify(action).error(eq("GoogleMap disposed"), any(), any());
+  }
+
+  @Test
+  public void update_AfterDispose_CompletesResultWithAnError() {
+    final MethodChannel.Result result = mock(MethodChannel.Result.class);
+    pipeline.dispose();
+
+    pipeline.update(markers(1), null, null, result);
+    runFrames();
+
+    assertTrue(addCalls.isEmpty());
+    verify(result).error(eq("GoogleMap disposed"), any(), any());
+  }
+}
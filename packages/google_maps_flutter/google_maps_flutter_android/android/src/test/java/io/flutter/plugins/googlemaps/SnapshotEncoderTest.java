@@ -0,0 +1,66 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public class SnapshotEncoderTest {
+
+  @Test
+  public void targetSize_KeepsSourceSizeWhenUnset() {
+    assertArrayEquals(new int[] {400, 300}, SnapshotEncoder.targetSize(400, 300, 0, 0));
+  }
+
+  @Test
+  public void targetSize_PreservesAspectRatioFromWidth() {
+    assertArrayEquals(new int[] {200, 150}, SnapshotEncoder.targetSize(400, 300, 200, 0));
+  }
+
+  @Test
+  public void targetSize_PreservesAspectRatioFromHeight() {
+    assertArrayEquals(new int[] {100, 75}, SnapshotEncoder.targetSize(400, 300, 0, 75));
+  }
+
+  @Test
+  public void options_DefaultToFullSizePng() {
+    final SnapshotEncoder.Options options = SnapshotEncoder.Options.fromJson(null);
+    assertEquals(0, options.width);
+    assertEquals(0, options.height);
+    assertEquals(SnapshotEncoder.FORMAT_PNG, options.format);
+    assertEquals(100, options.quality);
+    assertNull(options.filePath);
+  }
+
+  @Test
+  public void options_ParsesAllFields() {
+    final Map<String, Object> data = new HashMap<>();
+    data.put("width", 120);
+    data.put("height", 80);
+    data.put("format", "jpeg");
+    data.put("quality", 70);
+    data.put("filePath", "/tmp/snapshot.jpg");
+
+    final SnapshotEncoder.Options options = SnapshotEncoder.Options.fromJson(data);
+
+    assertEquals(120, options.width);
+    assertEquals(80, options.height);
+    assertEquals(SnapshotEncoder.FORMAT_JPEG, options.format);
+    assertEquals(70, options.quality);
+    assertEquals("/tmp/snapshot.jpg", options.filePath);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void options_RejectsUnknownFormat() {
+    final Map<String, Object> data = new HashMap<>();
+    data.put("format", "gif");
+    SnapshotEncoder.Options.fromJson(data);
+  }
+}
@@ -13,6 +13,7 @@ import 'package:google_maps_flutter_platform_interface/google_maps_flutter_platf
 import 'package:stream_transform/stream_transform.dart';
 
 import 'google_map_inspector_android.dart';
+import 'heatmap.dart';
 
 // TODO(stuartmorgan): Remove the dependency on platform interface toJson
 // methods. Channel serialization details should all be package-internal.
@@ -51,6 +52,50 @@ enum AndroidMapRenderer {
   platformDefault,
 }
 
+/// The encodings of [GoogleMapsFlutterAndroid.takeSnapshotWithOptions].
+enum AndroidSnapshotFormat {
+  /// PNG, lossless.
+  png,
+
+  /// JPEG, lossy.
+  jpeg,
+
+  /// WebP, lossy, or lossless for a quality of 100 on Android 10 and newer.
+  webp,
+
+  /// Raw pixels, four bytes per pixel in R, G, B, A order, row by row.
+  rgba,
+}
+
+/// A snapshot taken by [GoogleMapsFlutterAndroid.takeSnapshotWithOptions].
+@immutable
+class AndroidMapSnapshot {
+  /// Creates a snapshot of the given size and format.
+  const AndroidMapSnapshot({
+    required this.width,
+    required this.height,
+    required this.format,
+    this.bytes,
+    this.filePath,
+  });
+
+  /// The width of the snapshot in pixels.
+  final int width;
+
+  /// The height of the snapshot in pixels.
+  final int height;
+
+  /// The encoding of the snapshot.
+  final AndroidSnapshotFormat format;
+
+  /// The encoded snapshot, or null if it was written to [filePath].
+  final Uint8List? bytes;
+
+  /// The file the snapshot was written to, or null if it was returned in
+  /// [bytes].
+  final String? filePath;
+}
+
 /// An implementation of [GoogleMapsFlutterPlatform] for Android.
 class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
   /// Registers the Android implementation of GoogleMapsFlutterPlatform.
@@ -66,6 +111,17 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
   // Every method call passes the int mapId
   final Map<int, MethodChannel> _channels = <int, MethodChannel>{};
 
+  // The heatmaps to add when each map is created, by mapId.
+  final Map<int, Set<AndroidHeatmap>> _initialHeatmaps =
+      <int, Set<AndroidHeatmap>>{};
+
+  // The points last sent for each heatmap, by mapId. Changes that keep these
+  // points don't send them again, so points added with appendHeatmapPoints
+  // aren't replaced.
+  final Map<int, Map<AndroidHeatmapId, List<AndroidWeightedLatLng>>>
+      _heatmapPoints =
+      <int, Map<AndroidHeatmapId, List<AndroidWeightedLatLng>>>{};
+
   /// Accesses the MethodChannel associated to the passed mapId.
   MethodChannel _channel(int mapId) {
     final MethodChannel? channel = _channels[mapId];
@@ -100,7 +156,8 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
 
   @override
   void dispose({required int mapId}) {
-    // Noop!
+    _initialHeatmaps.remove(mapId);
+    _heatmapPoints.remove(mapId);
   }
 
   // The controller we need to broadcast the different events coming
@@ -356,6 +413,84 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
     );
   }
 
+  /// Sets the heatmaps that the map with the given [mapId] starts with.
+  ///
+  /// Must be called before the map is created, that is before its view is
+  /// built. Use [updateHeatmaps] for later changes.
+  void setInitialHeatmaps(
+    Set<AndroidHeatmap> heatmaps, {
+    required int mapId,
+  }) {
+    _initialHeatmaps[mapId] = heatmaps;
+    _heatmapPoints[mapId] = <AndroidHeatmapId, List<AndroidWeightedLatLng>>{
+      for (final AndroidHeatmap heatmap in heatmaps)
+        heatmap.heatmapId: heatmap.points,
+    };
+  }
+
+  /// Adds, changes, and removes heatmaps on the map with the given [mapId].
+  ///
+  /// The updates can be computed with [MapsObjectUpdates.from], using
+  /// `'heatmap'` as the `objectName`. A changed heatmap whose points are the
+  /// same as when they were last sent keeps the points added with
+  /// [appendHeatmapPoints] since.
+  Future<void> updateHeatmaps(
+    MapsObjectUpdates<AndroidHeatmap> heatmapUpdates, {
+    required int mapId,
+  }) {
+    assert(heatmapUpdates.objectName == 'heatmap');
+    final Map<AndroidHeatmapId, List<AndroidWeightedLatLng>> sentPoints =
+        _heatmapPoints.putIfAbsent(
+            mapId, () => <AndroidHeatmapId, List<AndroidWeightedLatLng>>{});
+    final Map<String, Object?> json = <String, Object?>{
+      ...heatmapUpdates.toJson() as Map<String, Object?>,
+      'heatmapsToChange': heatmapUpdates.objectsToChange
+          .map((AndroidHeatmap heatmap) {
+        final Map<String, Object> heatmapJson =
+            heatmap.toJson() as Map<String, Object>;
+        if (listEquals(sentPoints[heatmap.heatmapId], heatmap.points)) {
+          heatmapJson.remove('points');
+        }
+        return heatmapJson;
+      }).toList(),
+    };
+
+    for (final AndroidHeatmapId heatmapId
+        in heatmapUpdates.objectIdsToRemove) {
+      sentPoints.remove(heatmapId);
+    }
+    for (final AndroidHeatmap heatmap in <AndroidHeatmap>[
+      ...heatmapUpdates.objectsToAdd,
+      ...heatmapUpdates.objectsToChange,
+    ]) {
+      sentPoints[heatmap.heatmapId] = heatmap.points;
+    }
+
+    return _channel(mapId).invokeMethod<void>('heatmaps#update', json);
+  }
+
+  /// Adds [points] to an existing heatmap without sending its current points
+  /// again.
+  ///
+  /// The points are kept when the heatmap is changed with [updateHeatmaps],
+  /// unless the change sets different [AndroidHeatmap.points].
+  ///
+  /// Throws a [PlatformException] if the map has no heatmap with the given
+  /// [heatmapId].
+  Future<void> appendHeatmapPoints(
+    AndroidHeatmapId heatmapId,
+    List<AndroidWeightedLatLng> points, {
+    required int mapId,
+  }) {
+    return _channel(mapId).invokeMethod<void>(
+      'heatmaps#appendPoints',
+      <String, Object>{
+        'heatmapId': heatmapId.value,
+        'points': packWeightedPoints(points),
+      },
+    );
+  }
+
   @override
   Future<void> updateTileOverlays({
     required Set<TileOverlay> newTileOverlays,
@@ -497,6 +632,48 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
     return _channel(mapId).invokeMethod<Uint8List>('map#takeSnapshot');
   }
 
+  /// Takes a snapshot of the map, scaled and encoded off the platform thread.
+  ///
+  /// When only one of [width] and [height] is given, the other one is derived
+  /// from the aspect ratio of the map. When neither is given, the snapshot has
+  /// the size of the map.
+  ///
+  /// [quality] ranges from 0 to 100 and is ignored by
+  /// [AndroidSnapshotFormat.png] and [AndroidSnapshotFormat.rgba]. For
+  /// [AndroidSnapshotFormat.webp], a quality of 100 produces a lossless image
+  /// on Android 10 and newer.
+  ///
+  /// When [filePath] is given, the snapshot is written to that file and the
+  /// returned [AndroidMapSnapshot] has no bytes.
+  Future<AndroidMapSnapshot> takeSnapshotWithOptions({
+    required int mapId,
+    int? width,
+    int? height,
+    AndroidSnapshotFormat format = AndroidSnapshotFormat.png,
+    int quality = 100,
+    String? filePath,
+  }) async {
+    assert(width == null || width > 0);
+    assert(height == null || height > 0);
+    assert(quality >= 0 && quality <= 100);
+    final Map<String, Object?> snapshot = (await _channel(mapId)
+        .invokeMapMethod<String, Object?>(
+            'map#takeSnapshotWithOptions', <String, Object?>{
+      if (width != null) 'width': width,
+      if (height != null) 'height': height,
+      'format': format.name,
+      'quality': quality,
+      if (filePath != null) 'filePath': filePath,
+    }))!;
+    return AndroidMapSnapshot(
+      width: snapshot['width']! as int,
+      height: snapshot['height']! as int,
+      format: format,
+      bytes: snapshot['bytes'] as Uint8List?,
+      filePath: snapshot['filePath'] as String?,
+    );
+  }
+
   /// Set [GoogleMapsFlutterPlatform] to use [AndroidViewSurface] to build the
   /// Google Maps widget.
   ///
@@ -568,6 +745,9 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
       'polylinesToAdd': serializePolylineSet(mapObjects.polylines),
       'circlesToAdd': serializeCircleSet(mapObjects.circles),
       'tileOverlaysToAdd': serializeTileOverlaySet(mapObjects.tileOverlays),
+      'heatmapsToAdd': (_initialHeatmaps[creationId] ?? <AndroidHeatmap>{})
+          .map((AndroidHeatmap heatmap) => heatmap.toJson())
+          .toList(),
     };
 
     const String viewType = 'plugins.flutter.dev/google_maps_android';
@@ -0,0 +1,218 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:typed_data';
+
+import 'package:flutter/foundation.dart' show immutable, listEquals;
+import 'package:flutter/material.dart' show Color;
+import 'package:google_maps_flutter_platform_interface/google_maps_flutter_platform_interface.dart';
+
+/// Uniquely identifies an [AndroidHeatmap] among the heatmaps of a map.
+///
+/// This does not have to be globally unique, only unique among the list.
+@immutable
+class AndroidHeatmapId extends MapsObjectId<AndroidHeatmap> {
+  /// Creates an immutable identifier for an [AndroidHeatmap].
+  const AndroidHeatmapId(super.value);
+}
+
+/// A point of an [AndroidHeatmap] and its weight.
+@immutable
+class AndroidWeightedLatLng {
+  /// Creates a point with the given [weight].
+  const AndroidWeightedLatLng(this.point, {this.weight = 1.0});
+
+  /// The location of the point.
+  final LatLng point;
+
+  /// The intensity the point adds to the heatmap.
+  final double weight;
+
+  @override
+  bool operator ==(Object other) {
+    return other is AndroidWeightedLatLng &&
+        point == other.point &&
+        weight == other.weight;
+  }
+
+  @override
+  int get hashCode => Object.hash(point, weight);
+}
+
+/// The colors of an [AndroidHeatmap].
+@immutable
+class AndroidHeatmapGradient {
+  /// Creates a gradient where each of [colors] starts at the fraction of the
+  /// maximum intensity at the same index in [startPoints].
+  ///
+  /// [startPoints] must be ascending and between 0 and 1. Intensities below
+  /// the first start point fade in from transparent.
+  AndroidHeatmapGradient({required this.colors, required this.startPoints})
+      : assert(colors.isNotEmpty),
+        assert(colors.length == startPoints.length);
+
+  /// The colors of the gradient, from the lowest to the highest intensity.
+  final List<Color> colors;
+
+  /// The fraction of the maximum intensity at which each color starts.
+  final List<double> startPoints;
+
+  /// Converts this object to something serializable in JSON.
+  Object toJson() => <String, Object>{
+        'colors': colors.map((Color color) => color.value).toList(),
+        'startPoints': startPoints,
+      };
+
+  @override
+  bool operator ==(Object other) {
+    return other is AndroidHeatmapGradient &&
+        listEquals(colors, other.colors) &&
+        listEquals(startPoints, other.startPoints);
+  }
+
+  @override
+  int get hashCode =>
+      Object.hash(Object.hashAll(colors), Object.hashAll(startPoints));
+}
+
+/// A heatmap of weighted points, rendered natively as a tile overlay.
+@immutable
+class AndroidHeatmap implements MapsObject<AndroidHeatmap> {
+  /// Creates an immutable representation of a heatmap to draw on a map.
+  const AndroidHeatmap({
+    required this.heatmapId,
+    this.points = const <AndroidWeightedLatLng>[],
+    this.radius = 20,
+    this.gradient,
+    this.maxIntensity = 0,
+    this.opacity = 0.7,
+    this.fadeIn = true,
+    this.zIndex = 0,
+    this.visible = true,
+  }) : assert(radius >= 1 && radius <= 256);
+
+  /// Uniquely identifies an [AndroidHeatmap].
+  final AndroidHeatmapId heatmapId;
+
+  @override
+  AndroidHeatmapId get mapsId => heatmapId;
+
+  /// The points of the heatmap.
+  ///
+  /// To add points to a large heatmap without sending the existing ones again,
+  /// use [GoogleMapsFlutterAndroid.appendHeatmapPoints].
+  final List<AndroidWeightedLatLng> points;
+
+  /// The radius of the blur around each point, in pixels, from 1 to 256.
+  final int radius;
+
+  /// The colors of the heatmap, or null for green fading into red.
+  final AndroidHeatmapGradient? gradient;
+
+  /// The intensity mapped to the last color of the gradient, or 0 to estimate
+  /// it from the points at each zoom level.
+  final double maxIntensity;
+
+  /// The opacity of the heatmap, from 0 to 1.
+  final double opacity;
+
+  /// True if the tiles of the heatmap fade in.
+  final bool fadeIn;
+
+  /// The z-index of the heatmap, used to determine relative drawing order of
+  /// map overlays.
+  final double zIndex;
+
+  /// True if the heatmap is visible.
+  final bool visible;
+
+  /// Creates a new [AndroidHeatmap] object whose values are the same as this
+  /// instance, unless overwritten by the specified parameters.
+  AndroidHeatmap copyWith({
+    List<AndroidWeightedLatLng>? pointsParam,
+    int? radiusParam,
+    AndroidHeatmapGradient? gradientParam,
+    double? maxIntensityParam,
+    double? opacityParam,
+    bool? fadeInParam,
+    double? zIndexParam,
+    bool? visibleParam,
+  }) {
+    return AndroidHeatmap(
+      heatmapId: heatmapId,
+      points: pointsParam ?? points,
+      radius: radiusParam ?? radius,
+      gradient: gradientParam ?? gradient,
+      maxIntensity: maxIntensityParam ?? maxIntensity,
+      opacity: opacityParam ?? opacity,
+      fadeIn: fadeInParam ?? fadeIn,
+      zIndex: zIndexParam ?? zIndex,
+      visible: visibleParam ?? visible,
+    );
+  }
+
+  /// Creates a new [AndroidHeatmap] object whose values are the same as this
+  /// instance.
+  @override
+  AndroidHeatmap clone() => copyWith();
+
+  /// Converts this object to something serializable in JSON.
+  @override
+  Object toJson() {
+    final Map<String, Object> json = <String, Object>{};
+
+    void addIfPresent(String fieldName, Object? value) {
+      if (value != null) {
+        json[fieldName] = value;
+      }
+    }
+
+    addIfPresent('heatmapId', heatmapId.value);
+    addIfPresent('points', packWeightedPoints(points));
+    addIfPresent('radius', radius);
+    addIfPresent('gradient', gradient?.toJson());
+    addIfPresent('maxIntensity', maxIntensity);
+    addIfPresent('opacity', opacity);
+    addIfPresent('fadeIn', fadeIn);
+    addIfPresent('zIndex', zIndex);
+    addIfPresent('visible', visible);
+
+    return json;
+  }
+
+  @override
+  bool operator ==(Object other) {
+    if (identical(this, other)) {
+      return true;
+    }
+    if (other.runtimeType != runtimeType) {
+      return false;
+    }
+    return other is AndroidHeatmap &&
+        heatmapId == other.heatmapId &&
+        listEquals(points, other.points) &&
+        radius == other.radius &&
+        gradient == other.gradient &&
+        maxIntensity == other.maxIntensity &&
+        opacity == other.opacity &&
+        fadeIn == other.fadeIn &&
+        zIndex == other.zIndex &&
+        visible == other.visible;
+  }
+
+  @override
+  int get hashCode => heatmapId.hashCode;
+}
+
+/// Packs [points] into latitude, longitude, weight triples, the format in
+/// which heatmap points are sent to the platform.
+Float64List packWeightedPoints(List<AndroidWeightedLatLng> points) {
+  final Float64List packed = Float64List(points.length * 3);
+  for (int i = 0; i < points.length; i++) {
+    packed[3 * i] = points[i].point.latitude;
+    packed[3 * i + 1] = points[i].point.longitude;
+    packed[3 * i + 2] = points[i].weight;
+  }
+  return packed;
+}
@@ -2,6 +2,7 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 import 'dart:async';
+import 'dart:typed_data';
 
 import 'package:async/async.dart';
 import 'package:flutter/services.dart';
@@ -88,6 +89,234 @@ void main() {
     ]);
   });
 
+  test('takeSnapshotWithOptions sends options and parses the reply', () async {
+    const int mapId = 0;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    Object? arguments;
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      arguments = methodCall.arguments;
+      return <String, Object?>{
+        'width': 200,
+        'height': 100,
+        'format': 'webp',
+        'bytes': Uint8List.fromList(<int>[1, 2, 3]),
+      };
+    });
+
+    final AndroidMapSnapshot snapshot = await maps.takeSnapshotWithOptions(
+        mapId: mapId, width: 200, format: AndroidSnapshotFormat.webp);
+
+    expect(log, <String>['map#takeSnapshotWithOptions']);
+    expect(arguments, <String, Object?>{
+      'width': 200,
+      'format': 'webp',
+      'quality': 100,
+    });
+    expect(snapshot.width, 200);
+    expect(snapshot.height, 100);
+    expect(snapshot.format, AndroidSnapshotFormat.webp);
+    expect(snapshot.bytes, <int>[1, 2, 3]);
+    expect(snapshot.filePath, isNull);
+  });
+
+  test('takeSnapshotWithOptions can write to a file', () async {
+    const int mapId = 0;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    Object? arguments;
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      arguments = methodCall.arguments;
+      return <String, Object?>{
+        'width': 400,
+        'height': 300,
+        'format': 'jpeg',
+        'filePath': '/tmp/snapshot.jpg',
+      };
+    });
+
+    final AndroidMapSnapshot snapshot = await maps.takeSnapshotWithOptions(
+        mapId: mapId,
+        format: AndroidSnapshotFormat.jpeg,
+        quality: 80,
+        filePath: '/tmp/snapshot.jpg');
+
+    expect(arguments, <String, Object?>{
+      'format': 'jpeg',
+      'quality': 80,
+      'filePath': '/tmp/snapshot.jpg',
+    });
+    expect(snapshot.bytes, isNull);
+    expect(snapshot.filePath, '/tmp/snapshot.jpg');
+  });
+
+  test('updateHeatmaps sends added, changed, and removed heatmaps', () async {
+    const int mapId = 0;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    Map<Object?, Object?>? arguments;
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      arguments = methodCall.arguments as Map<Object?, Object?>;
+      return null;
+    });
+    const AndroidHeatmap kept = AndroidHeatmap(
+        heatmapId: AndroidHeatmapId('kept'),
+        points: <AndroidWeightedLatLng>[
+          AndroidWeightedLatLng(LatLng(1, 2), weight: 3),
+        ]);
+    const AndroidHeatmap removed =
+        AndroidHeatmap(heatmapId: AndroidHeatmapId('removed'));
+    const AndroidHeatmap added =
+        AndroidHeatmap(heatmapId: AndroidHeatmapId('added'));
+
+    await maps.updateHeatmaps(
+        MapsObjectUpdates<AndroidHeatmap>.from(
+          <AndroidHeatmap>{kept, removed},
+          <AndroidHeatmap>{kept.copyWith(radiusParam: 30), added},
+          objectName: 'heatmap',
+        ),
+        mapId: mapId);
+
+    expect(log, <String>['heatmaps#update']);
+    final List<Object?> heatmapsToAdd =
+        arguments!['heatmapsToAdd']! as List<Object?>;
+    final List<Object?> heatmapsToChange =
+        arguments!['heatmapsToChange']! as List<Object?>;
+    expect(heatmapsToAdd, hasLength(1));
+    expect((heatmapsToAdd[0]! as Map<Object?, Object?>)['heatmapId'], 'added');
+    final Map<Object?, Object?> changed =
+        heatmapsToChange[0]! as Map<Object?, Object?>;
+    expect(changed['heatmapId'], 'kept');
+    expect(changed['radius'], 30);
+    expect(changed['points'], <double>[1, 2, 3]);
+    expect(arguments!['heatmapIdsToRemove'], <String>['removed']);
+  });
+
+  test('appendHeatmapPoints sends packed points', () async {
+    const int mapId = 0;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    Map<Object?, Object?>? arguments;
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      arguments = methodCall.arguments as Map<Object?, Object?>;
+      return null;
+    });
+
+    await maps.appendHeatmapPoints(
+        const AndroidHeatmapId('heatmap'),
+        const <AndroidWeightedLatLng>[
+          AndroidWeightedLatLng(LatLng(1, 2)),
+          AndroidWeightedLatLng(LatLng(3, 4), weight: 5),
+        ],
+        mapId: mapId);
+
+    expect(log, <String>['heatmaps#appendPoints']);
+    expect(arguments!['heatmapId'], 'heatmap');
+    expect(arguments!['points'], isA<Float64List>());
+    expect(arguments!['points'], <double>[1, 2, 1, 3, 4, 5]);
+  });
+
+  test('updateHeatmaps keeps appended points when other properties change',
+      () async {
+    const int mapId = 0;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    final List<Map<Object?, Object?>> arguments = <Map<Object?, Object?>>[];
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      arguments.add(methodCall.arguments as Map<Object?, Object?>);
+      return null;
+    });
+    const AndroidHeatmap heatmap = AndroidHeatmap(
+        heatmapId: AndroidHeatmapId('heatmap'),
+        points: <AndroidWeightedLatLng>[
+          AndroidWeightedLatLng(LatLng(1, 2)),
+        ]);
+
+    await maps.updateHeatmaps(
+        MapsObjectUpdates<AndroidHeatmap>.from(
+          <AndroidHeatmap>{},
+          <AndroidHeatmap>{heatmap},
+          objectName: 'heatmap',
+        ),
+        mapId: mapId);
+    await maps.appendHeatmapPoints(
+        const AndroidHeatmapId('heatmap'),
+        const <AndroidWeightedLatLng>[AndroidWeightedLatLng(LatLng(3, 4))],
+        mapId: mapId);
+    await maps.updateHeatmaps(
+        MapsObjectUpdates<AndroidHeatmap>.from(
+          <AndroidHeatmap>{heatmap},
+          <AndroidHeatmap>{heatmap.copyWith(opacityParam: 0.5)},
+          objectName: 'heatmap',
+        ),
+        mapId: mapId);
+
+    expect(log, <String>[
+      'heatmaps#update',
+      'heatmaps#appendPoints',
+      'heatmaps#update',
+    ]);
+    final Map<Object?, Object?> changed =
+        (arguments[2]['heatmapsToChange']! as List<Object?>)[0]!
+            as Map<Object?, Object?>;
+    expect(changed['heatmapId'], 'heatmap');
+    expect(changed['opacity'], 0.5);
+    expect(changed.containsKey('points'), isFalse);
+  });
+
+  test('updateHeatmaps sends points that changed', () async {
+    const int mapId = 0;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    Map<Object?, Object?>? arguments;
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      arguments = methodCall.arguments as Map<Object?, Object?>;
+      return null;
+    });
+    const AndroidHeatmap heatmap =
+        AndroidHeatmap(heatmapId: AndroidHeatmapId('heatmap'));
+    maps.setInitialHeatmaps(<AndroidHeatmap>{heatmap}, mapId: mapId);
+
+    await maps.updateHeatmaps(
+        MapsObjectUpdates<AndroidHeatmap>.from(
+          <AndroidHeatmap>{heatmap},
+          <AndroidHeatmap>{
+            heatmap.copyWith(pointsParam: const <AndroidWeightedLatLng>[
+              AndroidWeightedLatLng(LatLng(1, 2)),
+            ]),
+          },
+          objectName: 'heatmap',
+        ),
+        mapId: mapId);
+
+    final Map<Object?, Object?> changed =
+        (arguments!['heatmapsToChange']! as List<Object?>)[0]!
+            as Map<Object?, Object?>;
+    expect(changed['points'], <double>[1, 2, 1]);
+  });
+
+  test('initial heatmaps are passed on map creation', () async {
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    maps.useAndroidViewSurface = false;
+    maps.setInitialHeatmaps(<AndroidHeatmap>{
+      const AndroidHeatmap(heatmapId: AndroidHeatmapId('heatmap')),
+    }, mapId: 1);
+
+    final Widget widget = maps.buildViewWithConfiguration(1, (int _) {},
+        widgetConfiguration: const MapWidgetConfiguration(
+            initialCameraPosition:
+                CameraPosition(target: LatLng(0, 0), zoom: 1),
+            textDirection: TextDirection.ltr));
+
+    final Map<String, dynamic> creationParams =
+        (widget as AndroidView).creationParams as Map<String, dynamic>;
+    final List<Object?> heatmapsToAdd =
+        creationParams['heatmapsToAdd'] as List<Object?>;
+    expect(heatmapsToAdd, hasLength(1));
+    expect(
+        (heatmapsToAdd[0]! as Map<String, Object>)['heatmapId'], 'heatmap');
+  });
+
   test('markers send drag event to correct streams', () async {
     const int mapId = 1;
     final Map<dynamic, dynamic> jsonMarkerDragStartEvent = <dynamic, dynamic>{
@@ -5,39 +5,74 @@
 package io.flutter.plugins.imagepicker;
 
 import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import androidx.exifinterface.media.ExifInterface;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 class ExifDataCopier {
-  void copyExif(String filePathOri, String filePathDest) {
+  // The attributes that are preserved in resized images.
+  private static final List<String> ATTRIBUTES =
+      Arrays.asList(
+          "FNumber",
+          "ExposureTime",
+          "ISOSpeedRatings",
+          "GPSAltitude",
+          "GPSAltitudeRef",
+          "FocalLength",
+          "GPSDateStamp",
+          "WhiteBalance",
+          "GPSProcessingMethod",
+          "GPSTimeStamp",
+          "DateTime",
+          "Flash",
+          "GPSLatitude",
+          "GPSLatitudeRef",
+          "GPSLongitude",
+          "GPSLongitudeRef",
+          "Make",
+          "Model",
+          "Orientation");
+
+  private static final Charset ASCII = Charset.forName("US-ASCII");
+  private static final Charset LATIN1 = Charset.forName("ISO-8859-1");
+
+  private static final int TIFF_HEADER_SIZE = 8;
+
+  private static final int TYPE_BYTE = 1;
+  private static final int TYPE_ASCII = 2;
+  private static final int TYPE_SHORT = 3;
+  private static final int TYPE_LONG = 4;
+  private static final int TYPE_RATIONAL = 5;
+  private static final int TYPE_UNDEFINED = 7;
+
+  /**
+   * Copies the Exif data of an image that was already read, for example from the stream of its
+   * content provider, to the image at filePathDest.
+   *
+   * <p>This rewrites the whole image at filePathDest; JPEG images should be written through {@link
+   * #injectExif} instead.
+   */
+  void copyExif(ExifInterface oldExif, String filePathDest, boolean keepOrientation) {
     try {
-      ExifInterface oldExif = new ExifInterface(filePathOri);
       ExifInterface newExif = new ExifInterface(filePathDest);
-
-      List<String> attributes =
-          Arrays.asList(
-              "FNumber",
-              "ExposureTime",
-              "ISOSpeedRatings",
-              "GPSAltitude",
-              "GPSAltitudeRef",
-              "FocalLength",
-              "GPSDateStamp",
-              "WhiteBalance",
-              "GPSProcessingMethod",
-              "GPSTimeStamp",
-              "DateTime",
-              "Flash",
-              "GPSLatitude",
-              "GPSLatitudeRef",
-              "GPSLongitude",
-              "GPSLongitudeRef",
-              "Make",
-              "Model",
-              "Orientation");
-      for (String attribute : attributes) {
-        setIfNotNull(oldExif, newExif, attribute);
+      for (String attribute : ATTRIBUTES) {
+        if (!keepOrientation && attribute.equals(ExifInterface.TAG_ORIENTATION)) {
+          continue;
+        }
+        String value = oldExif.getAttribute(attribute);
+        if (value != null) {
+          newExif.setAttribute(attribute, value);
+        }
       }
 
       newExif.saveAttributes();
@@ -47,9 +82,329 @@ class ExifDataCopier {
     }
   }
 
-  private static void setIfNotNull(ExifInterface oldExif, ExifInterface newExif, String property) {
-    if (oldExif.getAttribute(property) != null) {
-      newExif.setAttribute(property, oldExif.getAttribute(property));
+  /**
+   * Returns a stream that writes a JPEG image to jpegStream with the Exif data of oldExif, so the
+   * image doesn't have to be rewritten to add it.
+   *
+   * <p>The Exif data is written as an APP1 segment right after the start of image marker. Streams
+   * that don't start with that marker are written unchanged.
+   */
+  @NonNull
+  OutputStream injectExif(
+      @NonNull OutputStream jpegStream, @NonNull ExifInterface oldExif, boolean keepOrientation) {
+    byte[] segment = createExifSegment(oldExif, keepOrientation);
+    if (segment == null) {
+      return jpegStream;
+    }
+    return new ExifInjectingOutputStream(jpegStream, segment);
+  }
+
+  /**
+   * Returns an APP1 segment with the preserved attributes of oldExif, or null if it has none.
+   *
+   * <p>Attributes whose values can't be parsed are left out.
+   */
+  @VisibleForTesting
+  @Nullable
+  static byte[] createExifSegment(@NonNull ExifInterface oldExif, boolean keepOrientation) {
+    Ifd ifd0 = new Ifd();
+    Ifd exifIfd = new Ifd();
+    Ifd gpsIfd = new Ifd();
+    for (String attribute : ATTRIBUTES) {
+      if (!keepOrientation && attribute.equals(ExifInterface.TAG_ORIENTATION)) {
+        continue;
+      }
+      String value = oldExif.getAttribute(attribute);
+      if (value == null) {
+        continue;
+      }
+      try {
+        addEntry(attribute, value, ifd0, exifIfd, gpsIfd);
+      } catch (NumberFormatException e) {
+        Log.w("ExifDataCopier", "Cannot preserve " + attribute + " = " + value);
+      }
+    }
+    if (ifd0.entries.isEmpty() && exifIfd.entries.isEmpty() && gpsIfd.entries.isEmpty()) {
+      return null;
+    }
+
+    // The sub-IFDs follow IFD0, whose size doesn't depend on the values of their pointers.
+    Entry exifPointer = exifIfd.entries.isEmpty() ? null : ifd0.add(0x8769, TYPE_LONG, 1, 4);
+    Entry gpsPointer = gpsIfd.entries.isEmpty() ? null : ifd0.add(0x8825, TYPE_LONG, 1, 4);
+    int exifOffset = TIFF_HEADER_SIZE + ifd0.size();
+    int gpsOffset = exifPointer == null ? exifOffset : exifOffset + exifIfd.size();
+    if (exifPointer != null) {
+      exifPointer.setLong(exifOffset);
+    }
+    if (gpsPointer != null) {
+      gpsPointer.setLong(gpsOffset);
+    }
+
+    ByteArrayOutputStream tiff = new ByteArrayOutputStream();
+    // Big endian byte order, the TIFF magic number and the offset of IFD0.
+    writeBytes(tiff, new byte[] {'M', 'M', 0, 42, 0, 0, 0, TIFF_HEADER_SIZE});
+    ifd0.write(tiff, TIFF_HEADER_SIZE);
+    if (exifPointer != null) {
+      exifIfd.write(tiff, exifOffset);
+    }
+    if (gpsPointer != null) {
+      gpsIfd.write(tiff, gpsOffset);
+    }
+
+    byte[] identifier = {'E', 'x', 'i', 'f', 0, 0};
+    int length = 2 + identifier.length + tiff.size();
+    ByteArrayOutputStream segment = new ByteArrayOutputStream(2 + length);
+    segment.write(0xFF);
+    segment.write(0xE1);
+    segment.write(length >> 8);
+    segment.write(length);
+    writeBytes(segment, identifier);
+    writeBytes(segment, tiff.toByteArray());
+    return segment.toByteArray();
+  }
+
+  private static void addEntry(String attribute, String value, Ifd ifd0, Ifd exifIfd, Ifd gpsIfd) {
+    switch (attribute) {
+      case ExifInterface.TAG_MAKE:
+        ifd0.addAscii(0x010F, value);
+        break;
+      case ExifInterface.TAG_MODEL:
+        ifd0.addAscii(0x0110, value);
+        break;
+      case ExifInterface.TAG_ORIENTATION:
+        ifd0.addShorts(0x0112, value);
+        break;
+      case ExifInterface.TAG_DATETIME:
+        ifd0.addAscii(0x0132, value);
+        break;
+      case ExifInterface.TAG_EXPOSURE_TIME:
+        exifIfd.addRationals(0x829A, value);
+        break;
+      case ExifInterface.TAG_F_NUMBER:
+        exifIfd.addRationals(0x829D, value);
+        break;
+      case "ISOSpeedRatings":
+        exifIfd.addShorts(0x8827, value);
+        break;
+      case ExifInterface.TAG_FLASH:
+        exifIfd.addShorts(0x9209, value);
+        break;
+      case ExifInterface.TAG_FOCAL_LENGTH:
+        exifIfd.addRationals(0x920A, value);
+        break;
+      case ExifInterface.TAG_WHITE_BALANCE:
+        exifIfd.addShorts(0xA403, value);
+        break;
+      case ExifInterface.TAG_GPS_LATITUDE_REF:
+        gpsIfd.addAscii(0x0001, value);
+        break;
+      case ExifInterface.TAG_GPS_LATITUDE:
+        gpsIfd.addRationals(0x0002, value);
+        break;
+      case ExifInterface.TAG_GPS_LONGITUDE_REF:
+        gpsIfd.addAscii(0x0003, value);
+        break;
+      case ExifInterface.TAG_GPS_LONGITUDE:
+        gpsIfd.addRationals(0x0004, value);
+        break;
+      case ExifInterface.TAG_GPS_ALTITUDE_REF:
+        gpsIfd.addBytes(0x0005, TYPE_BYTE, parseBytes(value));
+        break;
+      case ExifInterface.TAG_GPS_ALTITUDE:
+        gpsIfd.addRationals(0x0006, value);
+        break;
+      case ExifInterface.TAG_GPS_TIMESTAMP:
+        // Reported as hh:mm:ss rather than as rationals.
+        gpsIfd.addRationals(0x0007, value.replace(':', ','));
+        break;
+      case ExifInterface.TAG_GPS_PROCESSING_METHOD:
+        gpsIfd.addBytes(0x001B, TYPE_UNDEFINED, value.getBytes(LATIN1));
+        break;
+      case ExifInterface.TAG_GPS_DATESTAMP:
+        gpsIfd.addAscii(0x001D, value);
+        break;
+      default:
+        break;
+    }
+  }
+
+  private static byte[] parseBytes(String value) {
+    String[] parts = value.split(",");
+    byte[] bytes = new byte[parts.length];
+    for (int i = 0; i < parts.length; i++) {
+      bytes[i] = (byte) Integer.parseInt(parts[i].trim());
+    }
+    return bytes;
+  }
+
+  private static void writeBytes(ByteArrayOutputStream stream, byte[] bytes) {
+    stream.write(bytes, 0, bytes.length);
+  }
+
+  /** An image file directory: a list of tagged values. */
+  private static final class Ifd {
+    final List<Entry> entries = new ArrayList<>();
+
+    Entry add(int tag, int type, int count, int valueSize) {
+      Entry entry = new Entry(tag, type, count, new byte[valueSize]);
+      entries.add(entry);
+      return entry;
+    }
+
+    void addAscii(int tag, String value) {
+      byte[] text = value.getBytes(ASCII);
+      // ASCII values end with a NUL character.
+      addBytes(tag, TYPE_ASCII, Arrays.copyOf(text, text.length + 1));
+    }
+
+    void addBytes(int tag, int type, byte[] value) {
+      entries.add(new Entry(tag, type, value.length, value));
+    }
+
+    void addShorts(int tag, String value) {
+      String[] parts = value.split(",");
+      byte[] shorts = new byte[parts.length * 2];
+      for (int i = 0; i < parts.length; i++) {
+        int number = Integer.parseInt(parts[i].trim());
+        shorts[i * 2] = (byte) (number >> 8);
+        shorts[i * 2 + 1] = (byte) number;
+      }
+      entries.add(new Entry(tag, TYPE_SHORT, parts.length, shorts));
+    }
+
+    /**
+     * Adds rationals written as "numerator/denominator" or, as ExifInterface reports some of them,
+     * as decimals, separated by commas.
+     */
+    void addRationals(int tag, String value) {
+      String[] parts = value.split(",");
+      byte[] rationals = new byte[parts.length * 8];
+      for (int i = 0; i < parts.length; i++) {
+        String part = parts[i].trim();
+        long numerator;
+        long denominator;
+        int slash = part.indexOf('/');
+        if (slash >= 0) {
+          numerator = Long.parseLong(part.substring(0, slash));
+          denominator = Long.parseLong(part.substring(slash + 1));
+        } else {
+          // The same precision as ExifInterface#setAttribute.
+          numerator = (long) (Double.parseDouble(part) * 10000);
+          denominator = 10000;
+        }
+        putInt(rationals, i * 8, numerator);
+        putInt(rationals, i * 8 + 4, denominator);
+      }
+      entries.add(new Entry(tag, TYPE_RATIONAL, parts.length, rationals));
+    }
+
+    /** The size of the directory and of the values that don't fit in its entries. */
+    int size() {
+      int size = 2 + entries.size() * 12 + 4;
+      for (Entry entry : entries) {
+        size += entry.dataSize();
+      }
+      return size;
+    }
+
+    /** Writes the directory, which starts at `offset` in the TIFF data. */
+    void write(ByteArrayOutputStream stream, int offset) {
+      Collections.sort(entries, (a, b) -> Integer.compare(a.tag, b.tag));
+      int dataOffset = offset + 2 + entries.size() * 12 + 4;
+      byte[] field = new byte[12];
+      writeBytes(stream, new byte[] {(byte) (entries.size() >> 8), (byte) entries.size()});
+      for (Entry entry : entries) {
+        Arrays.fill(field, (byte) 0);
+        field[0] = (byte) (entry.tag >> 8);
+        field[1] = (byte) entry.tag;
+        field[3] = (byte) entry.type;
+        putInt(field, 4, entry.count);
+        if (entry.dataSize() == 0) {
+          System.arraycopy(entry.value, 0, field, 8, entry.value.length);
+        } else {
+          putInt(field, 8, dataOffset);
+          dataOffset += entry.dataSize();
+        }
+        writeBytes(stream, field);
+      }
+      // There is no next directory.
+      writeBytes(stream, new byte[4]);
+      for (Entry entry : entries) {
+        if (entry.dataSize() > 0) {
+          writeBytes(stream, Arrays.copyOf(entry.value, entry.dataSize()));
+        }
+      }
+    }
+  }
+
+  private static final class Entry {
+    final int tag;
+    final int type;
+    final int count;
+    final byte[] value;
+
+    Entry(int tag, int type, int count, byte[] value) {
+      this.tag = tag;
+      this.type = type;
+      this.count = count;
+      this.value = value;
+    }
+
+    void setLong(long number) {
+      putInt(value, 0, number);
+    }
+
+    /** The size of the value if it doesn't fit in the entry, padded to an even size, or 0. */
+    int dataSize() {
+      if (value.length <= 4) {
+        return 0;
+      }
+      return value.length + (value.length % 2);
+    }
+  }
+
+  private static void putInt(byte[] bytes, int offset, long number) {
+    bytes[offset] = (byte) (number >> 24);
+    bytes[offset + 1] = (byte) (number >> 16);
+    bytes[offset + 2] = (byte) (number >> 8);
+    bytes[offset + 3] = (byte) number;
+  }
+
+  /** Writes an APP1 segment right after the start of image marker of a JPEG image. */
+  private static final class ExifInjectingOutputStream extends FilterOutputStream {
+    private final byte[] segment;
+    private final byte[] marker = new byte[2];
+    private int markerLength = 0;
+
+    ExifInjectingOutputStream(OutputStream out, byte[] segment) {
+      super(out);
+      this.segment = segment;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      if (markerLength == marker.length) {
+        out.write(b);
+        return;
+      }
+      marker[markerLength++] = (byte) b;
+      if (markerLength == marker.length) {
+        out.write(marker);
+        if ((marker[0] & 0xFF) == 0xFF && (marker[1] & 0xFF) == 0xD8) {
+          out.write(segment);
+        }
+      }
+    }
+
+    @Override
+    public void write(@NonNull byte[] b, int off, int len) throws IOException {
+      while (markerLength < marker.length && len > 0) {
+        write(b[off++]);
+        len--;
+      }
+      if (len > 0) {
+        out.write(b, off, len);
+      }
     }
   }
 }
@@ -27,23 +27,23 @@ import android.content.ContentResolver;
 import android.content.Context;
 import android.database.Cursor;
 import android.net.Uri;
+import android.provider.DocumentsContract;
 import android.provider.MediaStore;
+import android.provider.OpenableColumns;
 import android.webkit.MimeTypeMap;
 import io.flutter.Log;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
-import java.util.UUID;
 
 class FileUtils {
   /**
-   * Copies the file from the given content URI to a temporary directory, retaining the original
+   * Copies the file from the given content URI to the picked media cache, retaining the original
    * file name if possible.
    *
-   * <p>Each file is placed in its own directory to avoid conflicts according to the following
-   * scheme: {cacheDir}/{randomUuid}/{fileName}
+   * <p>Files whose size and last modification time are known are keyed by those and their URI, so
+   * picking the same file again returns the same copy, unless the copy was changed since; see
+   * {@link PickedMediaCache}. Other files get a new copy each time.
    *
    * <p>File extension is changed to match MIME type of the file, if known. Otherwise, the extension
    * is left unchanged.
@@ -52,27 +52,23 @@ class FileUtils {
    * file extension is deduced from the mime type (with fallback to ".jpg" in case of failure).
    */
   String getPathFromUri(final Context context, final Uri uri) {
-    try (InputStream inputStream = context.getContentResolver().openInputStream(uri)) {
-      String uuid = UUID.randomUUID().toString();
-      File targetDirectory = new File(context.getCacheDir(), uuid);
-      targetDirectory.mkdir();
-      // TODO(SynSzakala) according to the docs, `deleteOnExit` does not work reliably on Android; we should preferably
-      //  just clear the picked files after the app startup.
-      targetDirectory.deleteOnExit();
-      String fileName = getImageName(context, uri);
-      String extension = getImageExtension(context, uri);
-
-      if (fileName == null) {
-        Log.w("FileUtils", "Cannot get file name for " + uri);
-        if (extension == null) extension = ".jpg";
-        fileName = "image_picker" + extension;
-      } else if (extension != null) {
-        fileName = getBaseName(fileName) + extension;
+    PickedMediaCache cache = new PickedMediaCache(context.getCacheDir());
+    try {
+      PickedMediaCache.Key key = getCacheKey(context, uri);
+      if (key != null) {
+        File cachedFile = cache.get(key);
+        if (cachedFile != null) {
+          return cachedFile.getPath();
+        }
+      } else {
+        key = PickedMediaCache.uniqueKey();
       }
-      File file = new File(targetDirectory, fileName);
-      try (OutputStream outputStream = new FileOutputStream(file)) {
-        copy(inputStream, outputStream);
-        return file.getPath();
+
+      try (InputStream inputStream = context.getContentResolver().openInputStream(uri)) {
+        if (inputStream == null) {
+          return null;
+        }
+        return cache.put(key, getFileName(context, uri), inputStream).getPath();
       }
     } catch (IOException e) {
       // If closing the output stream fails, we cannot be sure that the
@@ -89,6 +85,58 @@ class FileUtils {
     }
   }
 
+  /**
+   * Returns the key of the file at the given content URI in the picked media cache, or null if the
+   * provider doesn't report its size and last modification time.
+   */
+  private static PickedMediaCache.Key getCacheKey(Context context, Uri uri) {
+    try (Cursor cursor = context.getContentResolver().query(uri, null, null, null, null)) {
+      if (cursor == null || !cursor.moveToFirst()) {
+        return null;
+      }
+      int sizeIndex = cursor.getColumnIndex(OpenableColumns.SIZE);
+      if (sizeIndex < 0 || cursor.isNull(sizeIndex)) {
+        return null;
+      }
+      long lastModified;
+      int lastModifiedIndex =
+          cursor.getColumnIndex(DocumentsContract.Document.COLUMN_LAST_MODIFIED);
+      int dateModifiedIndex = cursor.getColumnIndex(MediaStore.MediaColumns.DATE_MODIFIED);
+      if (lastModifiedIndex >= 0 && !cursor.isNull(lastModifiedIndex)) {
+        lastModified = cursor.getLong(lastModifiedIndex);
+      } else if (dateModifiedIndex >= 0 && !cursor.isNull(dateModifiedIndex)) {
+        // MediaStore reports seconds.
+        lastModified = cursor.getLong(dateModifiedIndex) * 1000;
+      } else {
+        return null;
+      }
+      return PickedMediaCache.keyFor(uri, cursor.getLong(sizeIndex), lastModified);
+    } catch (RuntimeException e) {
+      // Some providers throw instead of returning a cursor.
+      Log.w("FileUtils", "Cannot query " + uri + ": " + e);
+      return null;
+    }
+  }
+
+  /**
+   * Returns the name to give to a local copy of the file at the given content URI.
+   *
+   * <p>See {@link #getPathFromUri} for how the name and its extension are chosen.
+   */
+  static String getFileName(final Context context, final Uri uri) {
+    String fileName = getImageName(context, uri);
+    String extension = getImageExtension(context, uri);
+
+    if (fileName == null) {
+      Log.w("FileUtils", "Cannot get file name for " + uri);
+      if (extension == null) extension = ".jpg";
+      fileName = "image_picker" + extension;
+    } else if (extension != null) {
+      fileName = getBaseName(fileName) + extension;
+    }
+    return fileName;
+  }
+
   /** @return extension of image with dot, or null if it's empty. */
   private static String getImageExtension(Context context, Uri uriImage) {
     String extension;
@@ -127,15 +175,6 @@ class FileUtils {
         .query(uriImage, new String[] {MediaStore.MediaColumns.DISPLAY_NAME}, null, null, null);
   }
 
-  private static void copy(InputStream in, OutputStream out) throws IOException {
-    final byte[] buffer = new byte[4 * 1024];
-    int bytesRead;
-    while ((bytesRead = in.read(buffer)) != -1) {
-      out.write(buffer, 0, bytesRead);
-    }
-    out.flush();
-  }
-
   private static String getBaseName(String fileName) {
     int lastDotIndex = fileName.lastIndexOf('.');
     if (lastDotIndex < 0) {
@@ -10,6 +10,7 @@ import android.content.ActivityNotFoundException;
 import android.content.Intent;
 import android.content.pm.PackageManager;
 import android.content.pm.ResolveInfo;
+import android.graphics.Bitmap;
 import android.hardware.camera2.CameraCharacteristics;
 import android.media.MediaScannerConnection;
 import android.net.Uri;
@@ -24,6 +25,7 @@ import androidx.core.app.ActivityCompat;
 import androidx.core.content.FileProvider;
 import io.flutter.plugin.common.PluginRegistry;
 import io.flutter.plugins.imagepicker.Messages.FlutterError;
+import io.flutter.plugins.imagepicker.Messages.ImageOutputFormat;
 import io.flutter.plugins.imagepicker.Messages.ImageSelectionOptions;
 import io.flutter.plugins.imagepicker.Messages.VideoSelectionOptions;
 import java.io.File;
@@ -115,6 +117,8 @@ public class ImagePickerDelegate
   private final FileUriResolver fileUriResolver;
   private final FileUtils fileUtils;
   private final ExecutorService executor;
+  private final MediaProcessor mediaProcessor;
+  private @Nullable volatile MediaProcessor.ProgressListener progressListener;
   private CameraDevice cameraDevice;
 
   interface PermissionManager {
@@ -183,7 +187,8 @@ public class ImagePickerDelegate
           }
         },
         new FileUtils(),
-        Executors.newSingleThreadExecutor());
+        Executors.newSingleThreadExecutor(),
+        new MediaProcessor(activity));
   }
 
   /**
@@ -201,7 +206,8 @@ public class ImagePickerDelegate
       final PermissionManager permissionManager,
       final FileUriResolver fileUriResolver,
       final FileUtils fileUtils,
-      final ExecutorService executor) {
+      final ExecutorService executor,
+      final MediaProcessor mediaProcessor) {
     this.activity = activity;
     this.imageResizer = imageResizer;
     this.fileProviderName = activity.getPackageName() + ".flutter.image_provider";
@@ -214,12 +220,39 @@ public class ImagePickerDelegate
     this.fileUtils = fileUtils;
     this.cache = cache;
     this.executor = executor;
+    this.mediaProcessor = mediaProcessor;
   }
 
   void setCameraDevice(CameraDevice device) {
     cameraDevice = device;
   }
 
+  /** See {@link ImageResizer#setDecodeOptions}. */
+  void setResizeDecodeOptions(@NonNull Bitmap.Config bitmapConfig, long maxMemoryBytes) {
+    imageResizer.setDecodeOptions(bitmapConfig, maxMemoryBytes);
+  }
+
+  /** See {@link ImageResizer#setOutputOptions}. */
+  void setResizeOutputOptions(@NonNull ImageOutputFormat outputFormat, boolean applyOrientation) {
+    imageResizer.setOutputOptions(outputFormat, applyOrientation);
+  }
+
+  /** See {@link ImageResizer#takePeakMemoryBytes}. */
+  @Nullable
+  Long takeResizePeakMemoryBytes() {
+    return imageResizer.takePeakMemoryBytes();
+  }
+
+  /**
+   * Sets the listener notified each time one item of a multi-selection has been processed, or
+   * null to stop notifying.
+   *
+   * <p>The listener is called on the background threads processing the items.
+   */
+  void setProgressListener(@Nullable MediaProcessor.ProgressListener progressListener) {
+    this.progressListener = progressListener;
+  }
+
   // Save the state of the image picker so it can be retrieved with `retrieveLostImage`.
   void saveStateBeforeResult() {
     ImageSelectionOptions localImageOptions;
@@ -630,8 +663,7 @@ public class ImagePickerDelegate
 
   private void handleChooseImageResult(int resultCode, Intent data) {
     if (resultCode == Activity.RESULT_OK && data != null) {
-      String path = fileUtils.getPathFromUri(activity, data.getData());
-      handleImageResult(path, false);
+      finishWithSuccess(getPathForPickedImage(data.getData(), getPendingImageOptions()));
       return;
     }
 
@@ -639,38 +671,30 @@ public class ImagePickerDelegate
     finishWithSuccess(null);
   }
 
-  public class MediaPath {
-    public MediaPath(@NonNull String path, @Nullable String mimeType) {
-      this.path = path;
-      this.mimeType = mimeType;
-    }
-
-    final String path;
-    final String mimeType;
+  /** A picked item that hasn't been copied out of its content provider yet. */
+  private static class PickedMedia {
+    final Uri uri;
+    final @Nullable String mimeType;
 
-    public @NonNull String getPath() {
-      return path;
-    }
-
-    public @Nullable String getMimeType() {
-      return mimeType;
+    PickedMedia(Uri uri, @Nullable String mimeType) {
+      this.uri = uri;
+      this.mimeType = mimeType;
     }
   }
 
   private void handleChooseMediaResult(int resultCode, Intent intent) {
     if (resultCode == Activity.RESULT_OK && intent != null) {
-      ArrayList<MediaPath> paths = new ArrayList<>();
+      ArrayList<PickedMedia> pickedMedia = new ArrayList<>();
       if (intent.getClipData() != null) {
         for (int i = 0; i < intent.getClipData().getItemCount(); i++) {
           Uri uri = intent.getClipData().getItemAt(i).getUri();
-          String path = fileUtils.getPathFromUri(activity, uri);
           String mimeType = activity.getContentResolver().getType(uri);
-          paths.add(new MediaPath(path, mimeType));
+          pickedMedia.add(new PickedMedia(uri, mimeType));
         }
       } else {
-        paths.add(new MediaPath(fileUtils.getPathFromUri(activity, intent.getData()), null));
+        pickedMedia.add(new PickedMedia(intent.getData(), null));
       }
-      handleMediaResult(paths);
+      handleMediaResult(pickedMedia);
       return;
     }
 
@@ -680,18 +704,15 @@ public class ImagePickerDelegate
 
   private void handleChooseMultiImageResult(int resultCode, Intent intent) {
     if (resultCode == Activity.RESULT_OK && intent != null) {
-      ArrayList<MediaPath> paths = new ArrayList<>();
+      ArrayList<PickedMedia> pickedMedia = new ArrayList<>();
       if (intent.getClipData() != null) {
         for (int i = 0; i < intent.getClipData().getItemCount(); i++) {
-          paths.add(
-              new MediaPath(
-                  fileUtils.getPathFromUri(activity, intent.getClipData().getItemAt(i).getUri()),
-                  null));
+          pickedMedia.add(new PickedMedia(intent.getClipData().getItemAt(i).getUri(), null));
         }
       } else {
-        paths.add(new MediaPath(fileUtils.getPathFromUri(activity, intent.getData()), null));
+        pickedMedia.add(new PickedMedia(intent.getData(), null));
       }
-      handleMediaResult(paths);
+      handleMediaResult(pickedMedia);
       return;
     }
 
@@ -761,6 +782,35 @@ public class ImagePickerDelegate
     }
   }
 
+  // Resizes a picked image straight from its content provider if possible, so that the original
+  // doesn't have to be copied first. Otherwise copies the original and resizes the copy if needed.
+  private @Nullable String getPathForPickedImage(
+      Uri uri, @Nullable ImageSelectionOptions outputOptions) {
+    if (outputOptions != null) {
+      String scaledPath =
+          imageResizer.resizeImageIfNeeded(
+              uri,
+              outputOptions.getMaxWidth(),
+              outputOptions.getMaxHeight(),
+              outputOptions.getQuality().intValue());
+      if (scaledPath != null) {
+        return scaledPath;
+      }
+    }
+
+    String path = fileUtils.getPathFromUri(activity, uri);
+    if (path == null || outputOptions == null) {
+      return path;
+    }
+    return getResizedImagePath(path, outputOptions);
+  }
+
+  private @Nullable ImageSelectionOptions getPendingImageOptions() {
+    synchronized (pendingCallStateLock) {
+      return pendingCallState != null ? pendingCallState.imageOptions : null;
+    }
+  }
+
   private String getResizedImagePath(String path, @NonNull ImageSelectionOptions outputOptions) {
     return imageResizer.resizeImageIfNeeded(
         path,
@@ -769,31 +819,22 @@ public class ImagePickerDelegate
         outputOptions.getQuality().intValue());
   }
 
-  private void handleMediaResult(@NonNull ArrayList<MediaPath> paths) {
-    ImageSelectionOptions localImageOptions = null;
-    synchronized (pendingCallStateLock) {
-      if (pendingCallState != null) {
-        localImageOptions = pendingCallState.imageOptions;
-      }
-    }
-
-    ArrayList<String> finalPaths = new ArrayList<>();
-    if (localImageOptions != null) {
-      for (int i = 0; i < paths.size(); i++) {
-        MediaPath path = paths.get(i);
-        String finalPath = path.path;
-        if (path.mimeType == null || !path.mimeType.startsWith("video/")) {
-          finalPath = getResizedImagePath(path.path, localImageOptions);
-        }
-        finalPaths.add(finalPath);
-      }
-      finishWithListSuccess(finalPaths);
-    } else {
-      for (int i = 0; i < paths.size(); i++) {
-        finalPaths.add(paths.get(i).path);
-      }
-      finishWithListSuccess(finalPaths);
-    }
+  // Copies and, if needed, resizes all items in parallel, then finishes with their paths in the
+  // order they were picked.
+  private void handleMediaResult(@NonNull ArrayList<PickedMedia> pickedMedia) {
+    final ImageSelectionOptions imageOptions = getPendingImageOptions();
+    ArrayList<String> finalPaths =
+        mediaProcessor.process(
+            pickedMedia.size(),
+            index -> {
+              PickedMedia media = pickedMedia.get(index);
+              if (media.mimeType != null && media.mimeType.startsWith("video/")) {
+                return fileUtils.getPathFromUri(activity, media.uri);
+              }
+              return getPathForPickedImage(media.uri, imageOptions);
+            },
+            progressListener);
+    finishWithListSuccess(finalPaths);
   }
 
   private void handleVideoResult(String path) {
@@ -6,7 +6,11 @@ package io.flutter.plugins.imagepicker;
 
 import android.app.Activity;
 import android.app.Application;
+import android.graphics.Bitmap;
+import android.os.Build;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
@@ -18,21 +22,28 @@ import io.flutter.embedding.engine.plugins.activity.ActivityAware;
 import io.flutter.embedding.engine.plugins.activity.ActivityPluginBinding;
 import io.flutter.embedding.engine.plugins.lifecycle.FlutterLifecycleAdapter;
 import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugin.common.PluginRegistry;
+import io.flutter.plugins.imagepicker.Messages.BitmapConfig;
 import io.flutter.plugins.imagepicker.Messages.CacheRetrievalResult;
 import io.flutter.plugins.imagepicker.Messages.FlutterError;
 import io.flutter.plugins.imagepicker.Messages.GeneralOptions;
+import io.flutter.plugins.imagepicker.Messages.ImageOutputFormat;
 import io.flutter.plugins.imagepicker.Messages.ImagePickerApi;
 import io.flutter.plugins.imagepicker.Messages.ImageSelectionOptions;
 import io.flutter.plugins.imagepicker.Messages.MediaSelectionOptions;
+import io.flutter.plugins.imagepicker.Messages.ResizeOptions;
 import io.flutter.plugins.imagepicker.Messages.Result;
 import io.flutter.plugins.imagepicker.Messages.SourceCamera;
 import io.flutter.plugins.imagepicker.Messages.SourceSpecification;
 import io.flutter.plugins.imagepicker.Messages.VideoSelectionOptions;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @SuppressWarnings("deprecation")
 public class ImagePickerPlugin implements FlutterPlugin, ActivityAware, ImagePickerApi {
+  private static final String PROGRESS_CHANNEL = "plugins.flutter.io/image_picker_android/progress";
 
   private class LifeCycleObserver
       implements Application.ActivityLifecycleCallbacks, DefaultLifecycleObserver {
@@ -107,6 +118,7 @@ public class ImagePickerPlugin implements FlutterPlugin, ActivityAware, ImagePic
     private LifeCycleObserver observer;
     private ActivityPluginBinding activityBinding;
     private BinaryMessenger messenger;
+    private EventChannel progressChannel;
 
     // This is null when not using v2 embedding;
     private Lifecycle lifecycle;
@@ -126,6 +138,8 @@ public class ImagePickerPlugin implements FlutterPlugin, ActivityAware, ImagePic
 
       delegate = constructDelegate(activity);
       ImagePickerApi.setup(messenger, handler);
+      progressChannel = new EventChannel(messenger, PROGRESS_CHANNEL);
+      progressChannel.setStreamHandler(new ProgressStreamHandler(delegate));
       observer = new LifeCycleObserver(activity);
       if (registrar != null) {
         // V1 embedding setup for activity listeners.
@@ -161,6 +175,14 @@ public class ImagePickerPlugin implements FlutterPlugin, ActivityAware, ImagePic
 
       ImagePickerApi.setup(messenger, null);
 
+      if (progressChannel != null) {
+        progressChannel.setStreamHandler(null);
+        progressChannel = null;
+      }
+      if (delegate != null) {
+        delegate.setProgressListener(null);
+      }
+
       if (application != null) {
         application.unregisterActivityLifecycleCallbacks(observer);
         application = null;
@@ -180,9 +202,56 @@ public class ImagePickerPlugin implements FlutterPlugin, ActivityAware, ImagePic
     }
   }
 
+  /**
+   * Sends an event to Dart each time an item of a multi-selection has been processed, while Dart
+   * listens to the progress channel.
+   */
+  private static class ProgressStreamHandler
+      implements EventChannel.StreamHandler, MediaProcessor.ProgressListener {
+    private final ImagePickerDelegate delegate;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private @Nullable EventChannel.EventSink events;
+
+    ProgressStreamHandler(ImagePickerDelegate delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void onListen(Object arguments, EventChannel.EventSink events) {
+      this.events = events;
+      delegate.setProgressListener(this);
+    }
+
+    @Override
+    public void onCancel(Object arguments) {
+      delegate.setProgressListener(null);
+      events = null;
+    }
+
+    @Override
+    public void onItemProcessed(int index, int count, @Nullable String path) {
+      final Map<String, Object> event = new HashMap<>();
+      event.put("index", index);
+      event.put("count", count);
+      event.put("path", path);
+      mainHandler.post(
+          () -> {
+            if (events != null) {
+              events.success(event);
+            }
+          });
+    }
+  }
+
   private FlutterPluginBinding pluginBinding;
   ActivityState activityState;
 
+  // Kept here so that they also apply to delegates of later activities.
+  private Bitmap.Config resizeBitmapConfig = Bitmap.Config.ARGB_8888;
+  private long resizeMaxMemoryBytes = -1;
+  private ImageOutputFormat resizeOutputFormat = ImageOutputFormat.AUTOMATIC;
+  private boolean resizeApplyOrientation = false;
+
   @SuppressWarnings("deprecation")
   public static void registerWith(
       @NonNull io.flutter.plugin.common.PluginRegistry.Registrar registrar) {
@@ -193,6 +262,7 @@ public class ImagePickerPlugin implements FlutterPlugin, ActivityAware, ImagePic
     }
     Activity activity = registrar.activity();
     Application application = (Application) (registrar.context().getApplicationContext());
+    PickedMediaCache.trimInBackground(application);
     ImagePickerPlugin plugin = new ImagePickerPlugin();
     plugin.setup(registrar.messenger(), application, activity, registrar, null);
   }
@@ -218,6 +288,7 @@ public class ImagePickerPlugin implements FlutterPlugin, ActivityAware, ImagePic
   @Override
   public void onAttachedToEngine(@NonNull FlutterPluginBinding binding) {
     pluginBinding = binding;
+    PickedMediaCache.trimInBackground(binding.getApplicationContext());
   }
 
   @Override
@@ -273,6 +344,8 @@ public class ImagePickerPlugin implements FlutterPlugin, ActivityAware, ImagePic
 
     final ExifDataCopier exifDataCopier = new ExifDataCopier();
     final ImageResizer imageResizer = new ImageResizer(setupActivity, exifDataCopier);
+    imageResizer.setDecodeOptions(resizeBitmapConfig, resizeMaxMemoryBytes);
+    imageResizer.setOutputOptions(resizeOutputFormat, resizeApplyOrientation);
     return new ImagePickerDelegate(setupActivity, imageResizer, cache);
   }
 
@@ -384,4 +457,45 @@ public class ImagePickerPlugin implements FlutterPlugin, ActivityAware, ImagePic
     }
     return delegate.retrieveLostImage();
   }
+
+  @Override
+  public void setResizeOptions(@NonNull ResizeOptions options) {
+    resizeBitmapConfig = toBitmapConfig(options.getBitmapConfig());
+    Long maxMemoryBytes = options.getMaxMemoryBytes();
+    resizeMaxMemoryBytes = maxMemoryBytes == null ? -1 : maxMemoryBytes;
+    resizeOutputFormat = options.getOutputFormat();
+    resizeApplyOrientation = options.getApplyOrientation();
+
+    ImagePickerDelegate delegate = getImagePickerDelegate();
+    if (delegate != null) {
+      delegate.setResizeDecodeOptions(resizeBitmapConfig, resizeMaxMemoryBytes);
+      delegate.setResizeOutputOptions(resizeOutputFormat, resizeApplyOrientation);
+    }
+  }
+
+  @Nullable
+  @Override
+  public Long getResizePeakMemoryBytes() {
+    ImagePickerDelegate delegate = getImagePickerDelegate();
+    if (delegate == null) {
+      return null;
+    }
+    return delegate.takeResizePeakMemoryBytes();
+  }
+
+  private static Bitmap.Config toBitmapConfig(@NonNull BitmapConfig config) {
+    switch (config) {
+      case RGB565:
+        return Bitmap.Config.RGB_565;
+      case HARDWARE:
+        // Hardware bitmaps don't exist before Android O.
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+          return Bitmap.Config.HARDWARE;
+        }
+        return Bitmap.Config.ARGB_8888;
+      case ARGB8888:
+      default:
+        return Bitmap.Config.ARGB_8888;
+    }
+  }
 }
@@ -4,27 +4,93 @@
 
 package io.flutter.plugins.imagepicker;
 
+import android.content.ContentResolver;
 import android.content.Context;
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
+import android.graphics.Matrix;
+import android.net.Uri;
+import android.os.Build;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+import androidx.annotation.VisibleForTesting;
 import androidx.core.util.SizeFCompat;
-import java.io.ByteArrayOutputStream;
+import androidx.exifinterface.media.ExifInterface;
+import androidx.heifwriter.HeifWriter;
+import io.flutter.plugins.imagepicker.Messages.ImageOutputFormat;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.UUID;
 
 class ImageResizer {
+  // How long to wait for the HEVC encoder to write a HEIF image.
+  private static final long HEIF_TIMEOUT_MS = 5000;
+
   private final Context context;
   private final ExifDataCopier exifDataCopier;
 
+  // Decodes a picked image with the given options, from wherever it is read.
+  private interface BitmapDecoder {
+    @Nullable
+    Bitmap decode(BitmapFactory.Options options) throws IOException;
+  }
+
+  private volatile Bitmap.Config bitmapConfig = Bitmap.Config.ARGB_8888;
+  private volatile long maxMemoryBytes = -1;
+  private volatile ImageOutputFormat outputFormat = ImageOutputFormat.AUTOMATIC;
+  private volatile boolean applyOrientation = false;
+
+  // The largest peak memory of a single resize since the last takePeakMemoryBytes(), or -1.
+  private long peakMemoryBytes = -1;
+
   ImageResizer(final @NonNull Context context, final @NonNull ExifDataCopier exifDataCopier) {
     this.context = context;
     this.exifDataCopier = exifDataCopier;
   }
 
+  /**
+   * Sets the pixel format that images are decoded in and, if positive, the most bitmap memory that
+   * resizing a single image may use.
+   *
+   * <p>To stay under the limit, images are decoded at a lower resolution and scaled up to the
+   * target size, which loses detail. {@link Bitmap.Config#RGB_565} halves the memory of opaque
+   * images and {@link Bitmap.Config#HARDWARE} keeps the pixels out of the Java heap.
+   */
+  void setDecodeOptions(@NonNull Bitmap.Config bitmapConfig, long maxMemoryBytes) {
+    this.bitmapConfig = bitmapConfig;
+    this.maxMemoryBytes = maxMemoryBytes;
+  }
+
+  /**
+   * Sets the format that resized images are encoded in, and whether their Exif orientation is
+   * applied to the pixels rather than kept as a tag.
+   *
+   * <p>Unless the format is {@link ImageOutputFormat#AUTOMATIC}, every image is re-encoded, even if
+   * it doesn't need to be scaled. HEIF needs Android 9 and an HEVC encoder; without them images are
+   * encoded as JPEG.
+   */
+  void setOutputOptions(@NonNull ImageOutputFormat outputFormat, boolean applyOrientation) {
+    this.outputFormat = outputFormat;
+    this.applyOrientation = applyOrientation;
+  }
+
+  /**
+   * Returns the largest amount of bitmap memory that resizing a single image has used since the
+   * last call, in bytes, or null if no image was resized.
+   */
+  @Nullable
+  synchronized Long takePeakMemoryBytes() {
+    long peak = peakMemoryBytes;
+    peakMemoryBytes = -1;
+    return peak == -1 ? null : peak;
+  }
+
   /**
    * If necessary, resizes the image located in imagePath and then returns the path for the scaled
    * image.
@@ -37,7 +103,11 @@ class ImageResizer {
     if (originalSize.getWidth() == -1 || originalSize.getHeight() == -1) {
       return imagePath;
     }
-    boolean shouldScale = maxWidth != null || maxHeight != null || imageQuality < 100;
+    boolean shouldScale =
+        maxWidth != null
+            || maxHeight != null
+            || imageQuality < 100
+            || outputFormat != ImageOutputFormat.AUTOMATIC;
     if (!shouldScale) {
       return imagePath;
     }
@@ -50,10 +120,12 @@ class ImageResizer {
               (double) originalSize.getHeight(),
               maxWidth,
               maxHeight);
-      BitmapFactory.Options options = new BitmapFactory.Options();
-      options.inSampleSize =
-          calculateSampleSize(options, (int) targetSize.getWidth(), (int) targetSize.getHeight());
-      Bitmap bmp = decodeFile(imagePath, options);
+      Bitmap bmp =
+          decodeAtTargetSize(
+              options -> decodeFile(imagePath, options),
+              (int) originalSize.getWidth(),
+              (int) originalSize.getHeight(),
+              targetSize);
       if (bmp == null) {
         return imagePath;
       }
@@ -63,20 +135,122 @@ class ImageResizer {
               (double) targetSize.getWidth(),
               (double) targetSize.getHeight(),
               imageQuality,
-              imageName);
-      copyExif(imagePath, file.getPath());
+              "/scaled_" + imageName,
+              readExif(imagePath));
       return file.getPath();
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
   }
 
+  /**
+   * If necessary, resizes the image at the given content URI and returns the path for the scaled
+   * image, without copying the original first.
+   *
+   * <p>The original is read straight from its content provider three times: once for its
+   * dimensions, once to decode it with a sample size close to the target size, and once for its
+   * Exif data, which only reads up to the Exif segment. Only the scaled image is written, in its
+   * own directory under the cache directory.
+   *
+   * <p>Returns null if no resizing is needed or if the image can't be read this way, in which case
+   * the caller should copy the original and use {@link #resizeImageIfNeeded(String, Double, Double,
+   * int)}.
+   */
+  @Nullable
+  String resizeImageIfNeeded(
+      @NonNull Uri uri, @Nullable Double maxWidth, @Nullable Double maxHeight, int imageQuality) {
+    boolean shouldScale =
+        maxWidth != null
+            || maxHeight != null
+            || imageQuality < 100
+            || outputFormat != ImageOutputFormat.AUTOMATIC;
+    if (!shouldScale) {
+      return null;
+    }
+    ContentResolver contentResolver = context.getContentResolver();
+    try {
+      BitmapFactory.Options options = new BitmapFactory.Options();
+      options.inJustDecodeBounds = true;
+      try (InputStream inputStream = contentResolver.openInputStream(uri)) {
+        if (inputStream == null) {
+          return null;
+        }
+        BitmapFactory.decodeStream(inputStream, null, options);
+      }
+      if (options.outWidth == -1 || options.outHeight == -1) {
+        return null;
+      }
+
+      SizeFCompat targetSize =
+          calculateTargetSize(
+              (double) options.outWidth, (double) options.outHeight, maxWidth, maxHeight);
+      Bitmap bmp =
+          decodeAtTargetSize(
+              decodeOptions -> {
+                try (InputStream inputStream = contentResolver.openInputStream(uri)) {
+                  return inputStream == null
+                      ? null
+                      : BitmapFactory.decodeStream(inputStream, null, decodeOptions);
+                }
+              },
+              options.outWidth,
+              options.outHeight,
+              targetSize);
+      if (bmp == null) {
+        return null;
+      }
+
+      ExifInterface exif = null;
+      try (InputStream inputStream = contentResolver.openInputStream(uri)) {
+        if (inputStream != null) {
+          exif = new ExifInterface(inputStream);
+        }
+      }
+
+      String imagePath =
+          "/" + UUID.randomUUID() + "/scaled_" + FileUtils.getFileName(context, uri);
+      File file =
+          resizedImage(
+              bmp,
+              (double) targetSize.getWidth(),
+              (double) targetSize.getHeight(),
+              imageQuality,
+              imagePath,
+              exif);
+      return file.getPath();
+    } catch (IOException | SecurityException e) {
+      Log.w("ImageResizer", "Cannot resize " + uri + " from its content provider: " + e);
+      return null;
+    }
+  }
+
+  /**
+   * Scales the decoded image to the target size and writes it with the preserved Exif data of the
+   * original, if any.
+   */
   private File resizedImage(
-      Bitmap bmp, Double width, Double height, int imageQuality, String outputImageName)
+      Bitmap bmp,
+      Double width,
+      Double height,
+      int imageQuality,
+      String outputImagePath,
+      @Nullable ExifInterface exif)
       throws IOException {
-    Bitmap scaledBmp = createScaledBitmap(bmp, width.intValue(), height.intValue(), false);
+    Bitmap scaledBmp = bmp;
+    // The decoder already scaled the image, but its rounding may be a pixel off. Hardware bitmaps
+    // can't be scaled in software, so they keep the decoder's size.
+    if ((bmp.getWidth() != width.intValue() || bmp.getHeight() != height.intValue())
+        && !isHardwareBitmap(bmp)) {
+      scaledBmp = createScaledBitmap(bmp, width.intValue(), height.intValue(), true);
+    }
+    boolean keepOrientation = true;
+    if (applyOrientation && exif != null) {
+      scaledBmp = applyOrientation(scaledBmp, exif);
+      keepOrientation = false;
+    }
     File file =
-        createImageOnExternalDirectory("/scaled_" + outputImageName, scaledBmp, imageQuality);
+        createImageOnExternalDirectory(
+            outputImagePath, scaledBmp, imageQuality, exif, keepOrientation);
     return file;
   }
 
@@ -136,8 +310,29 @@ class ImageResizer {
     return new FileOutputStream(imageFile);
   }
 
-  private void copyExif(String filePathOri, String filePathDest) {
-    exifDataCopier.copyExif(filePathOri, filePathDest);
+  @Nullable
+  private static ExifInterface readExif(String imagePath) {
+    try {
+      return new ExifInterface(imagePath);
+    } catch (IOException e) {
+      Log.e("ImageResizer", "Error preserving Exif data on selected image: " + e);
+      return null;
+    }
+  }
+
+  /** Rotates and flips the bitmap as its Exif orientation says it should be displayed. */
+  private static Bitmap applyOrientation(Bitmap bitmap, ExifInterface exif) {
+    int rotationDegrees = exif.getRotationDegrees();
+    boolean flipped = exif.isFlipped();
+    if (rotationDegrees == 0 && !flipped) {
+      return bitmap;
+    }
+    Matrix matrix = new Matrix();
+    matrix.setRotate(rotationDegrees);
+    if (flipped) {
+      matrix.postScale(-1, 1);
+    }
+    return Bitmap.createBitmap(bitmap, 0, 0, bitmap.getWidth(), bitmap.getHeight(), matrix, true);
   }
 
   private SizeFCompat readFileDimensions(String path) {
@@ -155,6 +350,100 @@ class ImageResizer {
     return Bitmap.createScaledBitmap(bmp, width, height, filter);
   }
 
+  /**
+   * Decodes an image of the given size directly at the target size.
+   *
+   * <p>The decoder first subsamples the image by a power of two, then scales it to the target size
+   * with filtering, through {@link BitmapFactory.Options#inDensity} and {@link
+   * BitmapFactory.Options#inTargetDensity}. So the full size image is never allocated, and the
+   * peak memory is the subsampled image plus the scaled one.
+   */
+  @Nullable
+  private Bitmap decodeAtTargetSize(
+      BitmapDecoder decoder, int width, int height, SizeFCompat targetSize) throws IOException {
+    final int targetWidth = Math.max(1, (int) targetSize.getWidth());
+    final int targetHeight = Math.max(1, (int) targetSize.getHeight());
+    BitmapFactory.Options options =
+        createDecodeOptions(width, height, targetWidth, targetHeight, bitmapConfig, maxMemoryBytes);
+    Bitmap bmp = decoder.decode(options);
+    if (bmp == null) {
+      return null;
+    }
+
+    final int sampledWidth = width / options.inSampleSize;
+    final int sampledHeight = height / options.inSampleSize;
+    long peak = bmp.getByteCount();
+    if (options.inScaled) {
+      peak += (long) sampledWidth * sampledHeight * bytesPerPixel(options.inPreferredConfig);
+    }
+    if (bmp.getWidth() != targetWidth || bmp.getHeight() != targetHeight) {
+      // See resizedImage(), which scales the image again.
+      peak = Math.max(peak, (long) bmp.getByteCount() + (long) targetWidth * targetHeight * 4);
+    }
+    recordPeakMemoryBytes(peak);
+    return bmp;
+  }
+
+  /**
+   * Returns the options to decode an image of the given size at the target size.
+   *
+   * <p>If maxMemoryBytes is positive, the image is subsampled more, at the cost of detail, until
+   * the estimated peak memory of the decode fits in it.
+   */
+  @VisibleForTesting
+  static BitmapFactory.Options createDecodeOptions(
+      int width,
+      int height,
+      int targetWidth,
+      int targetHeight,
+      @NonNull Bitmap.Config config,
+      long maxMemoryBytes) {
+    final int bytesPerPixel = bytesPerPixel(config);
+    int sampleSize = calculateSampleSize(width, height, targetWidth, targetHeight);
+    if (maxMemoryBytes > 0) {
+      while (width / (sampleSize * 2) > 0
+          && height / (sampleSize * 2) > 0
+          && estimatePeakMemoryBytes(
+                  width / sampleSize, height / sampleSize, targetWidth, targetHeight, bytesPerPixel)
+              > maxMemoryBytes) {
+        sampleSize *= 2;
+      }
+    }
+
+    final int sampledWidth = width / sampleSize;
+    BitmapFactory.Options options = new BitmapFactory.Options();
+    options.inSampleSize = sampleSize;
+    options.inPreferredConfig = config;
+    options.inScaled = sampledWidth != targetWidth;
+    if (options.inScaled) {
+      options.inDensity = sampledWidth;
+      options.inTargetDensity = targetWidth;
+    }
+    return options;
+  }
+
+  private static int bytesPerPixel(Bitmap.Config config) {
+    return config == Bitmap.Config.RGB_565 ? 2 : 4;
+  }
+
+  private static long estimatePeakMemoryBytes(
+      int sampledWidth, int sampledHeight, int targetWidth, int targetHeight, int bytesPerPixel) {
+    long sampledBytes = (long) sampledWidth * sampledHeight * bytesPerPixel;
+    if (sampledWidth == targetWidth) {
+      return sampledBytes;
+    }
+    return sampledBytes + (long) targetWidth * targetHeight * bytesPerPixel;
+  }
+
+  private synchronized void recordPeakMemoryBytes(long bytes) {
+    peakMemoryBytes = Math.max(peakMemoryBytes, bytes);
+  }
+
+  private static boolean isHardwareBitmap(Bitmap bitmap) {
+    return Build.VERSION.SDK_INT >= Build.VERSION_CODES.O
+        && bitmap.getConfig() == Bitmap.Config.HARDWARE;
+  }
+
   /**
    * Calculates the largest sample size value that is a power of two based on a target width and
    * height.
@@ -166,10 +455,7 @@ class ImageResizer {
    *     href="https://developer.android.com/topic/performance/graphics/load-bitmap#load-bitmap">
    *     Loading Large Bitmaps Efficiently</a>
    */
-  private int calculateSampleSize(
-      BitmapFactory.Options options, int targetWidth, int targetHeight) {
-    final int height = options.outHeight;
-    final int width = options.outWidth;
+  private static int calculateSampleSize(int width, int height, int targetWidth, int targetHeight) {
     int sampleSize = 1;
     if (height > targetHeight || width > targetWidth) {
       final int halfHeight = height / 2;
@@ -181,25 +467,135 @@ class ImageResizer {
     return sampleSize;
   }
 
-  private File createImageOnExternalDirectory(String name, Bitmap bitmap, int imageQuality)
+  /**
+   * Encodes the bitmap straight into a file under the cache directory, named after `name` with the
+   * extension of the output format, with the preserved attributes of `exif`.
+   *
+   * <p>JPEG images get their Exif data as they are written. HEIF images can't hold Exif data, so
+   * only the orientation is kept, as the rotation of the HEIF container. Other formats get their
+   * Exif data once they are written.
+   */
+  private File createImageOnExternalDirectory(
+      String name,
+      Bitmap bitmap,
+      int imageQuality,
+      @Nullable ExifInterface exif,
+      boolean keepOrientation)
       throws IOException {
-    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-    boolean saveAsPNG = bitmap.hasAlpha();
-    if (saveAsPNG) {
-      Log.d(
-          "ImageResizer",
-          "image_picker: compressing is not supported for type PNG. Returning the image with original quality");
-    }
-    bitmap.compress(
-        saveAsPNG ? Bitmap.CompressFormat.PNG : Bitmap.CompressFormat.JPEG,
-        imageQuality,
-        outputStream);
-
     File cacheDirectory = context.getCacheDir();
+    ImageOutputFormat format = outputFormat;
+    if (format == ImageOutputFormat.HEIF) {
+      if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.P) {
+        File imageFile = createFile(cacheDirectory, replaceExtension(name, ".heic"));
+        int rotationDegrees = keepOrientation && exif != null ? exif.getRotationDegrees() : 0;
+        if (writeHeif(imageFile, bitmap, imageQuality, rotationDegrees)) {
+          return imageFile;
+        }
+      }
+      Log.w("ImageResizer", "image_picker: HEIF encoding is not available. Encoding as JPEG.");
+      format = ImageOutputFormat.JPEG;
+    }
+
+    Bitmap.CompressFormat compressFormat;
+    if (format == ImageOutputFormat.AUTOMATIC) {
+      boolean saveAsPNG = bitmap.hasAlpha();
+      if (saveAsPNG) {
+        Log.d(
+            "ImageResizer",
+            "image_picker: compressing is not supported for type PNG. Returning the image with original quality");
+      }
+      compressFormat = saveAsPNG ? Bitmap.CompressFormat.PNG : Bitmap.CompressFormat.JPEG;
+    } else {
+      compressFormat = toCompressFormat(format);
+      name = replaceExtension(name, extensionOf(format));
+      if (format == ImageOutputFormat.WEBP_LOSSLESS && Build.VERSION.SDK_INT < 30) {
+        // The deprecated WEBP format is only lossless at the highest quality.
+        imageQuality = 100;
+      }
+    }
+
     File imageFile = createFile(cacheDirectory, name);
-    FileOutputStream fileOutput = createOutputStream(imageFile);
-    fileOutput.write(outputStream.toByteArray());
-    fileOutput.close();
+    boolean isJpeg = compressFormat == Bitmap.CompressFormat.JPEG;
+    OutputStream outputStream = new BufferedOutputStream(createOutputStream(imageFile));
+    if (isJpeg && exif != null) {
+      outputStream = exifDataCopier.injectExif(outputStream, exif, keepOrientation);
+    }
+    try {
+      bitmap.compress(compressFormat, imageQuality, outputStream);
+    } finally {
+      outputStream.close();
+    }
+    if (!isJpeg && exif != null) {
+      exifDataCopier.copyExif(exif, imageFile.getPath(), keepOrientation);
+    }
     return imageFile;
   }
+
+  @SuppressWarnings("deprecation")
+  private static Bitmap.CompressFormat toCompressFormat(ImageOutputFormat format) {
+    switch (format) {
+      case PNG:
+        return Bitmap.CompressFormat.PNG;
+      case WEBP_LOSSY:
+        if (Build.VERSION.SDK_INT >= 30) {
+          return Bitmap.CompressFormat.WEBP_LOSSY;
+        }
+        return Bitmap.CompressFormat.WEBP;
+      case WEBP_LOSSLESS:
+        if (Build.VERSION.SDK_INT >= 30) {
+          return Bitmap.CompressFormat.WEBP_LOSSLESS;
+        }
+        return Bitmap.CompressFormat.WEBP;
+      case JPEG:
+      default:
+        return Bitmap.CompressFormat.JPEG;
+    }
+  }
+
+  private static String extensionOf(ImageOutputFormat format) {
+    switch (format) {
+      case PNG:
+        return ".png";
+      case WEBP_LOSSY:
+      case WEBP_LOSSLESS:
+        return ".webp";
+      case HEIF:
+        return ".heic";
+      case JPEG:
+      default:
+        return ".jpg";
+    }
+  }
+
+  @VisibleForTesting
+  static String replaceExtension(String path, String extension) {
+    int dot = path.lastIndexOf('.');
+    if (dot <= path.lastIndexOf('/') + 1) {
+      return path + extension;
+    }
+    return path.substring(0, dot) + extension;
+  }
+
+  /** Writes the bitmap as a HEIF image, and returns false if the device can't encode it. */
+  @RequiresApi(Build.VERSION_CODES.P)
+  private static boolean writeHeif(File file, Bitmap bitmap, int quality, int rotationDegrees) {
+    // The encoder draws the bitmap in software.
+    Bitmap source = isHardwareBitmap(bitmap) ? bitmap.copy(Bitmap.Config.ARGB_8888, false) : bitmap;
+    try (HeifWriter writer =
+        new HeifWriter.Builder(
+                file.getPath(), source.getWidth(), source.getHeight(), HeifWriter.INPUT_MODE_BITMAP)
+            .setQuality(quality)
+            .setMaxImages(1)
+            .setRotation(rotationDegrees)
+            .build()) {
+      writer.start();
+      writer.addBitmap(source);
+      writer.stop(HEIF_TIMEOUT_MS);
+      return true;
+    } catch (Exception e) {
+      Log.w("ImageResizer", "image_picker: cannot encode HEIF: " + e);
+      file.delete();
+      return false;
+    }
+  }
 }
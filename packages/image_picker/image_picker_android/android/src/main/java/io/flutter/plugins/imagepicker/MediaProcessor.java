@@ -0,0 +1,173 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.imagepicker;
+
+import android.app.ActivityManager;
+import android.content.Context;
+import android.os.Process;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.core.app.ActivityManagerCompat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Processes the items of a multi-selection (copy, decode, scale, encode and EXIF) in parallel.
+ *
+ * <p>The number of items in flight is bounded by the number of cores and by the heap available to
+ * the app, since every item decodes a full bitmap. Results are returned in the order of the items,
+ * whatever order they finish in.
+ */
+class MediaProcessor {
+  private static final String TAG = "ImagePickerProcessor";
+
+  // A rough upper bound of the memory needed to decode and scale one photo, in megabytes.
+  @VisibleForTesting static final int MEMORY_PER_ITEM_MB = 64;
+
+  /** Processes the item at `index` and returns its path, or null if it couldn't be read. */
+  interface Task {
+    @Nullable
+    String process(int index);
+  }
+
+  /** Receives each item as soon as it is processed, in completion order. */
+  interface ProgressListener {
+    void onItemProcessed(int index, int count, @Nullable String path);
+  }
+
+  private final ExecutorService executor;
+  private final int parallelism;
+
+  MediaProcessor(@NonNull Context context) {
+    this(calculateParallelism(context));
+  }
+
+  private MediaProcessor(int parallelism) {
+    this(createExecutor(parallelism), parallelism);
+  }
+
+  @VisibleForTesting
+  MediaProcessor(@NonNull ExecutorService executor, int parallelism) {
+    this.executor = executor;
+    this.parallelism = parallelism;
+  }
+
+  int getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * Runs `task` for every index in [0, count) and returns the results in index order.
+   *
+   * <p>Blocks until all items are processed. A single item is processed on the calling thread.
+   *
+   * @throws RuntimeException the first exception thrown by `task`, in index order.
+   */
+  @NonNull
+  ArrayList<String> process(
+      int count, @NonNull Task task, @Nullable ProgressListener progressListener) {
+    ArrayList<String> results = new ArrayList<>(count);
+    if (count == 1 || parallelism == 1) {
+      for (int i = 0; i < count; i++) {
+        String path = task.process(i);
+        results.add(path);
+        if (progressListener != null) {
+          progressListener.onItemProcessed(i, count, path);
+        }
+      }
+      return results;
+    }
+
+    List<Future<String>> futures = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      final int index = i;
+      futures.add(
+          executor.submit(
+              () -> {
+                String path = task.process(index);
+                if (progressListener != null) {
+                  progressListener.onItemProcessed(index, count, path);
+                }
+                return path;
+              }));
+    }
+
+    try {
+      for (Future<String> future : futures) {
+        results.add(future.get());
+      }
+    } catch (ExecutionException e) {
+      cancelAll(futures);
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new RuntimeException(cause);
+    } catch (InterruptedException e) {
+      cancelAll(futures);
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+    return results;
+  }
+
+  private static void cancelAll(List<Future<String>> futures) {
+    for (Future<String> future : futures) {
+      future.cancel(true);
+    }
+  }
+
+  private static int calculateParallelism(Context context) {
+    ActivityManager activityManager =
+        (ActivityManager) context.getSystemService(Context.ACTIVITY_SERVICE);
+    if (activityManager == null) {
+      return 1;
+    }
+    return calculateParallelism(
+        Runtime.getRuntime().availableProcessors(),
+        activityManager.getMemoryClass(),
+        ActivityManagerCompat.isLowRamDevice(activityManager));
+  }
+
+  /**
+   * Returns how many items can be processed at once with `processors` cores and a heap of
+   * `memoryClassMb` megabytes, leaving half of the heap to the rest of the app.
+   */
+  @VisibleForTesting
+  static int calculateParallelism(int processors, int memoryClassMb, boolean isLowRamDevice) {
+    if (isLowRamDevice) {
+      return 1;
+    }
+    int memoryBound = memoryClassMb / 2 / MEMORY_PER_ITEM_MB;
+    return Math.max(1, Math.min(processors, memoryBound));
+  }
+
+  private static ExecutorService createExecutor(int parallelism) {
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            parallelism,
+            parallelism,
+            30,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable ->
+                new Thread(
+                    () -> {
+                      Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                      runnable.run();
+                    },
+                    TAG));
+    // Don't keep threads around between selections.
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+}
@@ -88,6 +88,33 @@ public class Messages {
     }
   }
 
+  public enum BitmapConfig {
+    ARGB8888(0),
+    RGB565(1),
+    HARDWARE(2);
+
+    final int index;
+
+    private BitmapConfig(final int index) {
+      this.index = index;
+    }
+  }
+
+  public enum ImageOutputFormat {
+    AUTOMATIC(0),
+    JPEG(1),
+    PNG(2),
+    WEBP_LOSSY(3),
+    WEBP_LOSSLESS(4),
+    HEIF(5);
+
+    final int index;
+
+    private ImageOutputFormat(final int index) {
+      this.index = index;
+    }
+  }
+
   /** Generated class from Pigeon that represents data sent in messages. */
   public static final class GeneralOptions {
     private @NonNull Boolean allowMultiple;
@@ -628,6 +655,142 @@ public class Messages {
     }
   }
 
+  /**
+   * Options for decoding images that are resized.
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class ResizeOptions {
+    /** The pixel format that images are decoded in. */
+    private @NonNull BitmapConfig bitmapConfig;
+
+    public @NonNull BitmapConfig getBitmapConfig() {
+      return bitmapConfig;
+    }
+
+    public void setBitmapConfig(@NonNull BitmapConfig setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"bitmapConfig\" is null.");
+      }
+      this.bitmapConfig = setterArg;
+    }
+
+    /** If set, the most bitmap memory that resizing a single image may use, in bytes. */
+    private @Nullable Long maxMemoryBytes;
+
+    public @Nullable Long getMaxMemoryBytes() {
+      return maxMemoryBytes;
+    }
+
+    public void setMaxMemoryBytes(@Nullable Long setterArg) {
+      this.maxMemoryBytes = setterArg;
+    }
+
+    /** The format that resized images are encoded in. */
+    private @NonNull ImageOutputFormat outputFormat;
+
+    public @NonNull ImageOutputFormat getOutputFormat() {
+      return outputFormat;
+    }
+
+    public void setOutputFormat(@NonNull ImageOutputFormat setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"outputFormat\" is null.");
+      }
+      this.outputFormat = setterArg;
+    }
+
+    /**
+     * Whether the Exif orientation is applied to the pixels of resized images instead of being kept
+     * as a tag.
+     */
+    private @NonNull Boolean applyOrientation;
+
+    public @NonNull Boolean getApplyOrientation() {
+      return applyOrientation;
+    }
+
+    public void setApplyOrientation(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"applyOrientation\" is null.");
+      }
+      this.applyOrientation = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    ResizeOptions() {}
+
+    public static final class Builder {
+
+      private @Nullable BitmapConfig bitmapConfig;
+
+      public @NonNull Builder setBitmapConfig(@NonNull BitmapConfig setterArg) {
+        this.bitmapConfig = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxMemoryBytes;
+
+      public @NonNull Builder setMaxMemoryBytes(@Nullable Long setterArg) {
+        this.maxMemoryBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable ImageOutputFormat outputFormat;
+
+      public @NonNull Builder setOutputFormat(@NonNull ImageOutputFormat setterArg) {
+        this.outputFormat = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean applyOrientation;
+
+      public @NonNull Builder setApplyOrientation(@NonNull Boolean setterArg) {
+        this.applyOrientation = setterArg;
+        return this;
+      }
+
+      public @NonNull ResizeOptions build() {
+        ResizeOptions pigeonReturn = new ResizeOptions();
+        pigeonReturn.setBitmapConfig(bitmapConfig);
+        pigeonReturn.setMaxMemoryBytes(maxMemoryBytes);
+        pigeonReturn.setOutputFormat(outputFormat);
+        pigeonReturn.setApplyOrientation(applyOrientation);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(4);
+      toListResult.add(bitmapConfig == null ? null : bitmapConfig.index);
+      toListResult.add(maxMemoryBytes);
+      toListResult.add(outputFormat == null ? null : outputFormat.index);
+      toListResult.add(applyOrientation);
+      return toListResult;
+    }
+
+    static @NonNull ResizeOptions fromList(@NonNull ArrayList<Object> list) {
+      ResizeOptions pigeonResult = new ResizeOptions();
+      Object bitmapConfig = list.get(0);
+      pigeonResult.setBitmapConfig(
+          bitmapConfig == null ? null : BitmapConfig.values()[(int) bitmapConfig]);
+      Object maxMemoryBytes = list.get(1);
+      pigeonResult.setMaxMemoryBytes(
+          (maxMemoryBytes == null)
+              ? null
+              : ((maxMemoryBytes instanceof Integer)
+                  ? (Integer) maxMemoryBytes
+                  : (Long) maxMemoryBytes));
+      Object outputFormat = list.get(2);
+      pigeonResult.setOutputFormat(
+          outputFormat == null ? null : ImageOutputFormat.values()[(int) outputFormat]);
+      Object applyOrientation = list.get(3);
+      pigeonResult.setApplyOrientation((Boolean) applyOrientation);
+      return pigeonResult;
+    }
+  }
+
   public interface Result<T> {
     @SuppressWarnings("UnknownNullness")
     void success(T result);
@@ -654,8 +817,10 @@ public class Messages {
         case (byte) 132:
           return MediaSelectionOptions.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 133:
-          return SourceSpecification.fromList((ArrayList<Object>) readValue(buffer));
+          return ResizeOptions.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 134:
+          return SourceSpecification.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 135:
           return VideoSelectionOptions.fromList((ArrayList<Object>) readValue(buffer));
         default:
           return super.readValueOfType(type, buffer);
@@ -679,11 +844,14 @@ public class Messages {
       } else if (value instanceof MediaSelectionOptions) {
         stream.write(132);
         writeValue(stream, ((MediaSelectionOptions) value).toList());
-      } else if (value instanceof SourceSpecification) {
+      } else if (value instanceof ResizeOptions) {
         stream.write(133);
+        writeValue(stream, ((ResizeOptions) value).toList());
+      } else if (value instanceof SourceSpecification) {
+        stream.write(134);
         writeValue(stream, ((SourceSpecification) value).toList());
       } else if (value instanceof VideoSelectionOptions) {
-        stream.write(134);
+        stream.write(135);
         writeValue(stream, ((VideoSelectionOptions) value).toList());
       } else {
         super.writeValue(stream, value);
@@ -728,6 +896,14 @@ public class Messages {
     /** Returns results from a previous app session, if any. */
     @Nullable
     CacheRetrievalResult retrieveLostResults();
+    /** Sets how images are decoded when they are resized. */
+    void setResizeOptions(@NonNull ResizeOptions options);
+    /**
+     * Returns the largest amount of bitmap memory that resizing a single image has used since the
+     * last call, in bytes, or null if no image was resized.
+     */
+    @Nullable
+    Long getResizePeakMemoryBytes();
 
     /** The codec used by ImagePickerApi. */
     static @NonNull MessageCodec<Object> getCodec() {
@@ -861,6 +1037,52 @@ public class Messages {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.ImagePickerApi.setResizeOptions", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                ResizeOptions optionsArg = (ResizeOptions) args.get(0);
+                try {
+                  api.setResizeOptions(optionsArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.ImagePickerApi.getResizePeakMemoryBytes",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                try {
+                  Long output = api.getResizePeakMemoryBytes();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 }
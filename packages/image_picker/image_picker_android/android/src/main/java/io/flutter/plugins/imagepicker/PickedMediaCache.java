@@ -0,0 +1,235 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.imagepicker;
+
+import android.content.Context;
+import android.net.Uri;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Local copies of picked media, so that picking the same file again doesn't copy it again.
+ *
+ * <p>Each copy is placed in its own directory, named after a key of its source, according to the
+ * following scheme: {cacheDir}/image_picker_media/{key}/{fileName}. The last modification time of
+ * an entry's directory is its last use, and {@link #trim} removes the least recently used entries.
+ *
+ * <p>Entries are written to a temporary directory first and then renamed, so a partially written
+ * file is never served. A copy is only served again if its size and modification time are still
+ * those of its source, so a copy that was changed after it was returned is copied again.
+ */
+class PickedMediaCache {
+  private static final String TAG = "ImagePickerMediaCache";
+  private static final String DIRECTORY_NAME = "image_picker_media";
+  private static final String TEMPORARY_PREFIX = "tmp-";
+  // Temporary entries older than this are left over from copies that didn't finish.
+  @VisibleForTesting static final long ABANDONED_ENTRY_AGE_MILLIS = 60 * 60 * 1000;
+
+  // The size of the cache that trim() enforces at plugin attach, in bytes.
+  @VisibleForTesting static final long MAX_SIZE_BYTES = 100 * 1024 * 1024;
+
+  /** Identifies an entry and the size and modification time of the content it is a copy of. */
+  static final class Key {
+    final String name;
+    // -1 if the content can't be identified.
+    final long size;
+    final long lastModified;
+
+    private Key(String name, long size, long lastModified) {
+      this.name = name;
+      this.size = size;
+      this.lastModified = lastModified;
+    }
+  }
+
+  private final File directory;
+
+  PickedMediaCache(@NonNull File cacheDirectory) {
+    this.directory = new File(cacheDirectory, DIRECTORY_NAME);
+  }
+
+  /**
+   * Returns the key of the content at `uri` with the given size and last modification time.
+   *
+   * <p>A provider that changes the content at a URI is expected to change its size or modification
+   * time, so the key changes too.
+   */
+  @NonNull
+  static Key keyFor(@NonNull Uri uri, long size, long lastModified) {
+    String source = uri + "\n" + size + "\n" + lastModified;
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      byte[] hash = digest.digest(source.getBytes(Charset.forName("UTF-8")));
+      StringBuilder key = new StringBuilder(hash.length * 2);
+      for (byte b : hash) {
+        key.append(String.format("%02x", b));
+      }
+      return new Key(key.toString(), size, lastModified);
+    } catch (NoSuchAlgorithmException e) {
+      // Every Android device provides SHA-256.
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /** Returns a key that no other entry has, for content that can't be identified. */
+  @NonNull
+  static Key uniqueKey() {
+    return new Key(UUID.randomUUID().toString(), -1, 0);
+  }
+
+  /**
+   * Returns the file of the entry with the given key and marks it as used, or null if there is no
+   * such entry or its file no longer has the size and modification time of the key.
+   */
+  @Nullable
+  File get(@NonNull Key key) {
+    File entry = new File(directory, key.name);
+    File[] files = entry.listFiles();
+    if (files == null || files.length != 1) {
+      return null;
+    }
+    File file = files[0];
+    if (key.size < 0 || file.length() != key.size || file.lastModified() != key.lastModified) {
+      return null;
+    }
+    entry.setLastModified(System.currentTimeMillis());
+    return file;
+  }
+
+  /**
+   * Copies `inputStream` into the entry with the given key, and returns the copy.
+   *
+   * <p>The copy is given the modification time of the key, so {@link #get} can tell whether it
+   * was changed since. If another thread added the same entry meanwhile, its copy is returned
+   * instead.
+   */
+  @NonNull
+  File put(@NonNull Key key, @NonNull String fileName, @NonNull InputStream inputStream)
+      throws IOException {
+    File temporaryEntry = new File(directory, TEMPORARY_PREFIX + UUID.randomUUID());
+    if (!temporaryEntry.mkdirs()) {
+      throw new IOException("Cannot create " + temporaryEntry);
+    }
+    try {
+      File temporaryFile = new File(temporaryEntry, fileName);
+      try (OutputStream outputStream = new FileOutputStream(temporaryFile)) {
+        copy(inputStream, outputStream);
+      }
+      if (key.size >= 0 && !temporaryFile.setLastModified(key.lastModified)) {
+        Log.w(TAG, "Cannot set the modification time of " + temporaryFile);
+      }
+
+      File entry = new File(directory, key.name);
+      if (!temporaryEntry.renameTo(entry)) {
+        File existing = get(key);
+        if (existing != null) {
+          return existing;
+        }
+        // The copy of an earlier pick was deleted or changed, for instance by the app.
+        deleteRecursively(entry);
+        if (!temporaryEntry.renameTo(entry)) {
+          throw new IOException("Cannot create " + entry);
+        }
+      }
+      return new File(entry, fileName);
+    } finally {
+      deleteRecursively(temporaryEntry);
+    }
+  }
+
+  /**
+   * Removes the least recently used entries until the cache takes at most `maxSizeBytes`, and any
+   * entry left partially written more than {@link #ABANDONED_ENTRY_AGE_MILLIS} ago.
+   *
+   * <p>Entries that are still being written, e.g. by a pick that is in progress, are kept.
+   */
+  void trim(long maxSizeBytes) {
+    File[] entries = directory.listFiles();
+    if (entries == null) {
+      return;
+    }
+
+    List<File> completeEntries = new ArrayList<>();
+    long totalSize = 0;
+    long now = System.currentTimeMillis();
+    for (File entry : entries) {
+      if (entry.getName().startsWith(TEMPORARY_PREFIX)) {
+        if (now - entry.lastModified() > ABANDONED_ENTRY_AGE_MILLIS) {
+          deleteRecursively(entry);
+        }
+      } else if (!entry.isDirectory()) {
+        deleteRecursively(entry);
+      } else {
+        completeEntries.add(entry);
+        totalSize += sizeOf(entry);
+      }
+    }
+
+    Collections.sort(completeEntries, (a, b) -> Long.compare(a.lastModified(), b.lastModified()));
+    for (File entry : completeEntries) {
+      if (totalSize <= maxSizeBytes) {
+        break;
+      }
+      totalSize -= sizeOf(entry);
+      deleteRecursively(entry);
+    }
+  }
+
+  /** Trims the cache of the given context to {@link #MAX_SIZE_BYTES} on a background thread. */
+  static void trimInBackground(@NonNull Context context) {
+    File cacheDirectory = context.getCacheDir();
+    if (cacheDirectory == null) {
+      return;
+    }
+    new Thread(() -> new PickedMediaCache(cacheDirectory).trim(MAX_SIZE_BYTES), TAG).start();
+  }
+
+  private static long sizeOf(File file) {
+    File[] children = file.listFiles();
+    if (children == null) {
+      return file.length();
+    }
+    long size = 0;
+    for (File child : children) {
+      size += sizeOf(child);
+    }
+    return size;
+  }
+
+  private static void deleteRecursively(File file) {
+    File[] children = file.listFiles();
+    if (children != null) {
+      for (File child : children) {
+        deleteRecursively(child);
+      }
+    }
+    if (file.exists() && !file.delete()) {
+      Log.w(TAG, "Cannot delete " + file);
+    }
+  }
+
+  private static void copy(InputStream in, OutputStream out) throws IOException {
+    final byte[] buffer = new byte[4 * 1024];
+    int bytesRead;
+    while ((bytesRead = in.read(buffer)) != -1) {
+      out.write(buffer, 0, bytesRead);
+    }
+    out.flush();
+  }
+}
@@ -0,0 +1,116 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.imagepicker;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import androidx.exifinterface.media.ExifInterface;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class ExifDataCopierTest {
+  private static final byte[] START_OF_IMAGE = {(byte) 0xFF, (byte) 0xD8};
+  private static final byte[] END_OF_IMAGE = {(byte) 0xFF, (byte) 0xD9};
+
+  @Test
+  public void createExifSegment_preservesAttributes() throws IOException {
+    Map<String, String> attributes = new HashMap<>();
+    attributes.put("Make", "Flutter");
+    attributes.put("Orientation", "6");
+    attributes.put("FNumber", "2.8");
+    attributes.put("ISOSpeedRatings", "100");
+    attributes.put("GPSLatitude", "37/1,46/1,2948/100");
+    attributes.put("GPSLatitudeRef", "N");
+    attributes.put("GPSTimeStamp", "10:20:30");
+
+    ExifInterface newExif =
+        readSegment(ExifDataCopier.createExifSegment(mockExif(attributes), true));
+
+    assertEquals("Flutter", newExif.getAttribute("Make"));
+    assertEquals("6", newExif.getAttribute("Orientation"));
+    assertEquals("2.8", newExif.getAttribute("FNumber"));
+    assertEquals("100", newExif.getAttribute("ISOSpeedRatings"));
+    assertEquals("37/1,46/1,2948/100", newExif.getAttribute("GPSLatitude"));
+    assertEquals("N", newExif.getAttribute("GPSLatitudeRef"));
+    assertEquals("10:20:30", newExif.getAttribute("GPSTimeStamp"));
+  }
+
+  @Test
+  public void createExifSegment_whenOrientationIsApplied_dropsOrientation() throws IOException {
+    Map<String, String> attributes = new HashMap<>();
+    attributes.put("Make", "Flutter");
+    attributes.put("Orientation", "6");
+
+    ExifInterface newExif =
+        readSegment(ExifDataCopier.createExifSegment(mockExif(attributes), false));
+
+    assertEquals("Flutter", newExif.getAttribute("Make"));
+    assertNull(newExif.getAttribute("Orientation"));
+  }
+
+  @Test
+  public void createExifSegment_withoutAttributes_returnsNull() {
+    assertNull(ExifDataCopier.createExifSegment(mockExif(new HashMap<>()), true));
+  }
+
+  @Test
+  public void injectExif_writesSegmentAfterStartOfImage() throws IOException {
+    Map<String, String> attributes = new HashMap<>();
+    attributes.put("Make", "Flutter");
+    ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+
+    try (OutputStream outputStream =
+        new ExifDataCopier().injectExif(jpeg, mockExif(attributes), true)) {
+      outputStream.write(START_OF_IMAGE[0]);
+      outputStream.write(new byte[] {START_OF_IMAGE[1], END_OF_IMAGE[0], END_OF_IMAGE[1]});
+    }
+
+    ExifInterface newExif = new ExifInterface(new ByteArrayInputStream(jpeg.toByteArray()));
+    assertEquals("Flutter", newExif.getAttribute("Make"));
+  }
+
+  @Test
+  public void injectExif_whenStreamIsNotJpeg_writesItUnchanged() throws IOException {
+    Map<String, String> attributes = new HashMap<>();
+    attributes.put("Make", "Flutter");
+    ByteArrayOutputStream png = new ByteArrayOutputStream();
+    byte[] content = {(byte) 0x89, 'P', 'N', 'G'};
+
+    try (OutputStream outputStream =
+        new ExifDataCopier().injectExif(png, mockExif(attributes), true)) {
+      outputStream.write(content);
+    }
+
+    assertArrayEquals(content, png.toByteArray());
+  }
+
+  private static ExifInterface mockExif(Map<String, String> attributes) {
+    ExifInterface exif = mock(ExifInterface.class);
+    when(exif.getAttribute(anyString()))
+        .thenAnswer(invocation -> attributes.get(invocation.<String>getArgument(0)));
+    return exif;
+  }
+
+  private static ExifInterface readSegment(byte[] segment) throws IOException {
+    ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+    jpeg.write(START_OF_IMAGE);
+    jpeg.write(segment);
+    jpeg.write(END_OF_IMAGE);
+    return new ExifInterface(new ByteArrayInputStream(jpeg.toByteArray()));
+  }
+}
@@ -6,6 +6,7 @@ package io.flutter.plugins.imagepicker;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -20,7 +21,9 @@ import android.content.Context;
 import android.database.Cursor;
 import android.database.MatrixCursor;
 import android.net.Uri;
+import android.provider.DocumentsContract;
 import android.provider.MediaStore;
+import android.provider.OpenableColumns;
 import android.webkit.MimeTypeMap;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -29,6 +32,7 @@ import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import org.junit.Before;
 import org.junit.Test;
@@ -139,11 +143,74 @@ public class FileUtilTest {
     assertTrue(path.endsWith("e.f.g"));
   }
 
+  @Test
+  public void FileUtil_getPathFromUri_whenPickedAgain_returnsTheSameCopy() throws IOException {
+    Uri uri = MockContentProvider.CACHEABLE_URI;
+    Robolectric.buildContentProvider(MockContentProvider.class).create("dummy");
+    shadowContentResolver.registerInputStreamSupplier(
+        uri, () -> new ByteArrayInputStream("imageStream".getBytes(UTF_8)));
+    MockContentProvider.lastModified = 1000;
+
+    String path = fileUtils.getPathFromUri(context, uri);
+    String pathOfSecondPick = fileUtils.getPathFromUri(context, uri);
+
+    assertEquals(path, pathOfSecondPick);
+    assertTrue(path.endsWith("h.png"));
+  }
+
+  @Test
+  public void FileUtil_getPathFromUri_whenCopyWasModified_copiesItAgain() throws IOException {
+    Uri uri = MockContentProvider.CACHEABLE_URI;
+    Robolectric.buildContentProvider(MockContentProvider.class).create("dummy");
+    shadowContentResolver.registerInputStreamSupplier(
+        uri, () -> new ByteArrayInputStream("imageStream".getBytes(UTF_8)));
+    MockContentProvider.lastModified = 1000;
+
+    String path = fileUtils.getPathFromUri(context, uri);
+    try (FileOutputStream outputStream = new FileOutputStream(path)) {
+      outputStream.write("edited".getBytes(UTF_8));
+    }
+    String pathOfSecondPick = fileUtils.getPathFromUri(context, uri);
+
+    assertEquals("imageStream".length(), new File(pathOfSecondPick).length());
+  }
+
+  @Test
+  public void FileUtil_getPathFromUri_whenFileChanged_copiesItAgain() throws IOException {
+    Uri uri = MockContentProvider.CACHEABLE_URI;
+    Robolectric.buildContentProvider(MockContentProvider.class).create("dummy");
+    shadowContentResolver.registerInputStreamSupplier(
+        uri, () -> new ByteArrayInputStream("imageStream".getBytes(UTF_8)));
+
+    MockContentProvider.lastModified = 1000;
+    String path = fileUtils.getPathFromUri(context, uri);
+    MockContentProvider.lastModified = 2000;
+    String pathAfterChange = fileUtils.getPathFromUri(context, uri);
+
+    assertNotEquals(path, pathAfterChange);
+    assertTrue(new File(path).exists());
+    assertTrue(new File(pathAfterChange).exists());
+  }
+
+  @Test
+  public void FileUtil_getPathFromUri_whenFileCannotBeIdentified_copiesItEachTime()
+      throws IOException {
+    Uri uri = MockContentProvider.PNG_URI;
+    Robolectric.buildContentProvider(MockContentProvider.class).create("dummy");
+    shadowContentResolver.registerInputStreamSupplier(
+        uri, () -> new ByteArrayInputStream("imageStream".getBytes(UTF_8)));
+
+    assertNotEquals(fileUtils.getPathFromUri(context, uri), fileUtils.getPathFromUri(context, uri));
+  }
+
   private static class MockContentProvider extends ContentProvider {
     public static final Uri PNG_URI = Uri.parse("content://dummy/a.b.png");
     public static final Uri WEBP_URI = Uri.parse("content://dummy/c.d.png");
     public static final Uri UNKNOWN_URI = Uri.parse("content://dummy/e.f.g");
     public static final Uri NO_EXTENSION_URI = Uri.parse("content://dummy/abc");
+    public static final Uri CACHEABLE_URI = Uri.parse("content://dummy/h.png");
+
+    static long lastModified;
 
     @Override
     public boolean onCreate() {
@@ -158,6 +225,17 @@ public class FileUtilTest {
         @Nullable String selection,
         @Nullable String[] selectionArgs,
         @Nullable String sortOrder) {
+      if (uri.equals(CACHEABLE_URI)) {
+        MatrixCursor cursor =
+            new MatrixCursor(
+                new String[] {
+                  MediaStore.MediaColumns.DISPLAY_NAME,
+                  OpenableColumns.SIZE,
+                  DocumentsContract.Document.COLUMN_LAST_MODIFIED
+                });
+        cursor.addRow(new Object[] {uri.getLastPathSegment(), 11L, lastModified});
+        return cursor;
+      }
       MatrixCursor cursor = new MatrixCursor(new String[] {MediaStore.MediaColumns.DISPLAY_NAME});
       cursor.addRow(new Object[] {uri.getLastPathSegment()});
       return cursor;
@@ -169,6 +247,7 @@ public class FileUtilTest {
       if (uri.equals(PNG_URI)) return "image/png";
       if (uri.equals(WEBP_URI)) return "image/webp";
       if (uri.equals(NO_EXTENSION_URI)) return "image/png";
+      if (uri.equals(CACHEABLE_URI)) return "image/png";
       return null;
     }
 
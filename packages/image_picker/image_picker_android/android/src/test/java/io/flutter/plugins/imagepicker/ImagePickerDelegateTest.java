@@ -23,6 +23,7 @@ import static org.mockito.Mockito.when;
 import android.Manifest;
 import android.app.Activity;
 import android.content.ActivityNotFoundException;
+import android.content.ClipData;
 import android.content.Context;
 import android.content.Intent;
 import android.content.pm.PackageManager;
@@ -36,6 +37,7 @@ import io.flutter.plugins.imagepicker.Messages.VideoSelectionOptions;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import org.junit.After;
@@ -480,6 +482,32 @@ public class ImagePickerDelegateTest {
     verifyNoMoreInteractions(mockResult);
   }
 
+  @Test
+  public void
+      onActivityResult_whenImagePickedFromGallery_andResizedFromUri_doesNotCopyTheOriginal() {
+    Mockito.doAnswer(
+            invocation -> {
+              ((Runnable) invocation.getArgument(0)).run();
+              return null;
+            })
+        .when(mockExecutor)
+        .execute(any(Runnable.class));
+    when(mockImageResizer.resizeImageIfNeeded(any(Uri.class), eq(WIDTH), eq(null), eq(100)))
+        .thenReturn("scaledFromUriPath");
+    ImagePickerDelegate delegate =
+        createDelegateWithPendingResultAndOptions(RESIZE_TRIGGERING_IMAGE_OPTIONS, null);
+
+    delegate.onActivityResult(
+        ImagePickerDelegate.REQUEST_CODE_CHOOSE_IMAGE_FROM_GALLERY, Activity.RESULT_OK, mockIntent);
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<String>> pathListCapture = ArgumentCaptor.forClass(List.class);
+    verify(mockResult).success(pathListCapture.capture());
+    assertEquals("scaledFromUriPath", pathListCapture.getValue().get(0));
+    verify(mockFileUtils, never()).getPathFromUri(any(Context.class), any(Uri.class));
+    verifyNoMoreInteractions(mockResult);
+  }
+
   @Test
   public void
       onActivityResult_whenVideoPickedFromGallery_andResizeParametersSupplied_finishesWithFilePath() {
@@ -621,6 +649,44 @@ public class ImagePickerDelegateTest {
     verifyNoMoreInteractions(mockResult);
   }
 
+  @Test
+  public void
+      onActivityResult_whenMultipleImagesPickedFromGallery_finishesWithPathsInOrderAndReportsProgress() {
+    Mockito.doAnswer(
+            invocation -> {
+              ((Runnable) invocation.getArgument(0)).run();
+              return null;
+            })
+        .when(mockExecutor)
+        .execute(any(Runnable.class));
+    Uri firstUri = Uri.parse("content://media/1");
+    Uri secondUri = Uri.parse("content://media/2");
+    ClipData clipData = ClipData.newRawUri(null, firstUri);
+    clipData.addItem(new ClipData.Item(secondUri));
+    when(mockIntent.getClipData()).thenReturn(clipData);
+    when(mockFileUtils.getPathFromUri(any(Context.class), eq(firstUri))).thenReturn("first");
+    when(mockFileUtils.getPathFromUri(any(Context.class), eq(secondUri))).thenReturn("second");
+    when(mockImageResizer.resizeImageIfNeeded("first", WIDTH, null, 100)).thenReturn("scaledFirst");
+    when(mockImageResizer.resizeImageIfNeeded("second", WIDTH, null, 100))
+        .thenReturn("scaledSecond");
+    ImagePickerDelegate delegate =
+        createDelegateWithPendingResultAndOptions(RESIZE_TRIGGERING_IMAGE_OPTIONS, null);
+    List<String> progress = new ArrayList<>();
+    delegate.setProgressListener((index, count, path) -> progress.add(index + "/" + count + path));
+
+    delegate.onActivityResult(
+        ImagePickerDelegate.REQUEST_CODE_CHOOSE_MULTI_IMAGE_FROM_GALLERY,
+        Activity.RESULT_OK,
+        mockIntent);
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<String>> pathListCapture = ArgumentCaptor.forClass(List.class);
+    verify(mockResult).success(pathListCapture.capture());
+    assertEquals(Arrays.asList("scaledFirst", "scaledSecond"), pathListCapture.getValue());
+    assertEquals(Arrays.asList("0/2scaledFirst", "1/2scaledSecond"), progress);
+    verifyNoMoreInteractions(mockResult);
+  }
+
   @Test
   public void onActivityResult_whenImagePickedFromGallery_returnsTrue() {
     ImagePickerDelegate delegate = createDelegate();
@@ -719,7 +785,8 @@ public class ImagePickerDelegateTest {
         mockPermissionManager,
         mockFileUriResolver,
         mockFileUtils,
-        mockExecutor);
+        mockExecutor,
+        new MediaProcessor(mockExecutor, 1));
   }
 
   private ImagePickerDelegate createDelegateWithPendingResultAndOptions(
@@ -734,7 +801,8 @@ public class ImagePickerDelegateTest {
         mockPermissionManager,
         mockFileUriResolver,
         mockFileUtils,
-        mockExecutor);
+        mockExecutor,
+        new MediaProcessor(mockExecutor, 1));
   }
 
   private void verifyFinishedWithAlreadyActiveError() {
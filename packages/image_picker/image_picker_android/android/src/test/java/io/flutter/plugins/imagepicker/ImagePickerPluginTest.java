@@ -18,6 +18,7 @@ import static org.mockito.Mockito.when;
 
 import android.app.Activity;
 import android.app.Application;
+import android.graphics.Bitmap;
 import androidx.lifecycle.Lifecycle;
 import io.flutter.embedding.engine.plugins.FlutterPlugin.FlutterPluginBinding;
 import io.flutter.embedding.engine.plugins.activity.ActivityPluginBinding;
@@ -27,6 +28,7 @@ import io.flutter.plugins.imagepicker.Messages.FlutterError;
 import io.flutter.plugins.imagepicker.Messages.GeneralOptions;
 import io.flutter.plugins.imagepicker.Messages.ImageSelectionOptions;
 import io.flutter.plugins.imagepicker.Messages.MediaSelectionOptions;
+import io.flutter.plugins.imagepicker.Messages.ResizeOptions;
 import io.flutter.plugins.imagepicker.Messages.SourceSpecification;
 import io.flutter.plugins.imagepicker.Messages.VideoSelectionOptions;
 import java.util.List;
@@ -275,6 +277,40 @@ public class ImagePickerPluginTest {
         "No exception thrown when ImagePickerPlugin.registerWith ran with activity = null", true);
   }
 
+  @Test
+  public void setResizeOptions_passesDecodeOptionsToDelegate() {
+    plugin.setResizeOptions(
+        new ResizeOptions.Builder()
+            .setBitmapConfig(Messages.BitmapConfig.RGB565)
+            .setMaxMemoryBytes(4000000L)
+            .setOutputFormat(Messages.ImageOutputFormat.WEBP_LOSSY)
+            .setApplyOrientation(true)
+            .build());
+
+    verify(mockImagePickerDelegate).setResizeDecodeOptions(Bitmap.Config.RGB_565, 4000000L);
+    verify(mockImagePickerDelegate)
+        .setResizeOutputOptions(Messages.ImageOutputFormat.WEBP_LOSSY, true);
+  }
+
+  @Test
+  public void setResizeOptions_withoutMemoryLimit_passesNoLimit() {
+    plugin.setResizeOptions(
+        new ResizeOptions.Builder()
+            .setBitmapConfig(Messages.BitmapConfig.ARGB8888)
+            .setOutputFormat(Messages.ImageOutputFormat.AUTOMATIC)
+            .setApplyOrientation(false)
+            .build());
+
+    verify(mockImagePickerDelegate).setResizeDecodeOptions(Bitmap.Config.ARGB_8888, -1);
+  }
+
+  @Test
+  public void getResizePeakMemoryBytes_returnsPeakOfDelegate() {
+    when(mockImagePickerDelegate.takeResizePeakMemoryBytes()).thenReturn(1234L);
+
+    assertEquals(Long.valueOf(1234L), plugin.getResizePeakMemoryBytes());
+  }
+
   @Test
   public void onConstructor_whenContextTypeIsActivity_shouldNotCrash() {
     new ImagePickerPlugin(mockImagePickerDelegate, mockActivity);
@@ -6,19 +6,26 @@ package io.flutter.plugins.imagepicker;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
+import static org.robolectric.Shadows.shadowOf;
 
 import android.content.Context;
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
+import android.net.Uri;
+import androidx.test.core.app.ApplicationProvider;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.List;
 import org.junit.After;
@@ -56,6 +63,8 @@ public class ImageResizerTest {
     externalDirectory = temporaryFolder.newFolder("image_picker_testing_path");
     mockContext = mock(Context.class);
     when(mockContext.getCacheDir()).thenReturn(externalDirectory);
+    when(mockContext.getContentResolver())
+        .thenReturn(ApplicationProvider.getApplicationContext().getContentResolver());
     resizer = new ImageResizer(mockContext, new ExifDataCopier());
   }
 
@@ -134,4 +143,140 @@ public class ImageResizerTest {
       assertFalse(capturedOptions.get(1).inJustDecodeBounds);
     }
   }
+
+  @Test
+  public void createDecodeOptions_subsamplesByPowerOfTwoAndScalesToTargetWidth() {
+    BitmapFactory.Options options =
+        ImageResizer.createDecodeOptions(4000, 3000, 600, 450, Bitmap.Config.ARGB_8888, -1);
+
+    assertEquals(4, options.inSampleSize);
+    assertTrue(options.inScaled);
+    assertEquals(1000, options.inDensity);
+    assertEquals(600, options.inTargetDensity);
+    assertEquals(Bitmap.Config.ARGB_8888, options.inPreferredConfig);
+  }
+
+  @Test
+  public void createDecodeOptions_whenSampledSizeIsTargetSize_doesNotScale() {
+    BitmapFactory.Options options =
+        ImageResizer.createDecodeOptions(4000, 3000, 500, 375, Bitmap.Config.ARGB_8888, -1);
+
+    assertEquals(8, options.inSampleSize);
+    assertFalse(options.inScaled);
+  }
+
+  @Test
+  public void createDecodeOptions_subsamplesMoreToStayUnderMemoryLimit() {
+    // 1000x750 + 600x450 ARGB_8888 pixels need 4 080 000 bytes.
+    BitmapFactory.Options options =
+        ImageResizer.createDecodeOptions(4000, 3000, 600, 450, Bitmap.Config.ARGB_8888, 2000000);
+
+    assertEquals(8, options.inSampleSize);
+    assertEquals(500, options.inDensity);
+    assertEquals(600, options.inTargetDensity);
+  }
+
+  @Test
+  public void createDecodeOptions_countsTwoBytesPerPixelForRgb565() {
+    BitmapFactory.Options options =
+        ImageResizer.createDecodeOptions(4000, 3000, 600, 450, Bitmap.Config.RGB_565, 2100000);
+
+    assertEquals(4, options.inSampleSize);
+    assertEquals(Bitmap.Config.RGB_565, options.inPreferredConfig);
+  }
+
+  @Test
+  public void onResizeImageIfNeeded_recordsPeakMemoryUntilTaken() {
+    assertNull(resizer.takePeakMemoryBytes());
+
+    resizer.resizeImageIfNeeded(imageFile.getPath(), 50.0, 50.0, 100);
+
+    Long peakMemoryBytes = resizer.takePeakMemoryBytes();
+    assertNotNull(peakMemoryBytes);
+    assertTrue(peakMemoryBytes > 0);
+    assertNull(resizer.takePeakMemoryBytes());
+  }
+
+  @Test
+  public void onResizeImageIfNeeded_decodesWithConfiguredBitmapConfig() {
+    resizer.setDecodeOptions(Bitmap.Config.RGB_565, -1);
+
+    try (MockedStatic<BitmapFactory> mockBitmapFactory =
+        mockStatic(BitmapFactory.class, Mockito.CALLS_REAL_METHODS)) {
+      resizer.resizeImageIfNeeded(imageFile.getPath(), 50.0, 50.0, 100);
+      ArgumentCaptor<BitmapFactory.Options> argument =
+          ArgumentCaptor.forClass(BitmapFactory.Options.class);
+      mockBitmapFactory.verify(
+          () -> BitmapFactory.decodeFile(anyString(), argument.capture()), times(2));
+      assertEquals(Bitmap.Config.RGB_565, argument.getAllValues().get(1).inPreferredConfig);
+    }
+  }
+
+  @Test
+  public void onResizeImageIfNeeded_withOutputFormat_reencodesWithItsExtension() {
+    resizer.setOutputOptions(Messages.ImageOutputFormat.WEBP_LOSSY, false);
+
+    String outputFile = resizer.resizeImageIfNeeded(imageFile.getPath(), null, null, 100);
+
+    assertThat(outputFile, equalTo(externalDirectory.getPath() + "/scaled_pngImage.webp"));
+    assertTrue(new File(outputFile).exists());
+  }
+
+  @Test
+  public void replaceExtension_replacesOnlyTheExtensionOfTheFileName() {
+    assertEquals("/a/scaled_b.webp", ImageResizer.replaceExtension("/a/scaled_b.jpg", ".webp"));
+    assertEquals("/a.b/scaled_c.png", ImageResizer.replaceExtension("/a.b/scaled_c", ".png"));
+  }
+
+  @Test
+  public void onResizeImageIfNeeded_fromUri_whenResizeIsNotNecessary_returnsNull() {
+    Uri uri = registerImageUri();
+
+    assertNull(resizer.resizeImageIfNeeded(uri, null, null, 100));
+  }
+
+  @Test
+  public void onResizeImageIfNeeded_fromUri_whenResizeIsNecessary_writesOnlyTheScaledFile() {
+    Uri uri = registerImageUri();
+
+    try (MockedStatic<BitmapFactory> mockBitmapFactory =
+        mockStatic(BitmapFactory.class, Mockito.CALLS_REAL_METHODS)) {
+      String outputFile = resizer.resizeImageIfNeeded(uri, 50.0, 50.0, 100);
+
+      assertNotNull(outputFile);
+      assertTrue(outputFile.startsWith(externalDirectory.getPath()));
+      assertTrue(outputFile.endsWith("/scaled_image_picker.jpg"));
+      assertTrue(new File(outputFile).exists());
+      mockBitmapFactory.verify(
+          () -> BitmapFactory.decodeFile(anyString(), Mockito.any()), times(0));
+    }
+  }
+
+  @Test
+  public void onResizeImageIfNeeded_fromUri_whenImageCannotBeRead_returnsNull() {
+    Uri uri = Uri.parse("content://dummy/denied.png");
+    shadowOf(ApplicationProvider.getApplicationContext().getContentResolver())
+        .registerInputStreamSupplier(
+            uri,
+            () -> {
+              throw new SecurityException("Permission denied");
+            });
+
+    assertNull(resizer.resizeImageIfNeeded(uri, 50.0, 50.0, 100));
+  }
+
+  private Uri registerImageUri() {
+    Uri uri = Uri.parse("content://dummy/pngImage.png");
+    shadowOf(ApplicationProvider.getApplicationContext().getContentResolver())
+        .registerInputStreamSupplier(
+            uri,
+            () -> {
+              try {
+                return new FileInputStream(imageFile);
+              } catch (FileNotFoundException e) {
+                throw new RuntimeException(e);
+              }
+            });
+    return uri;
+  }
 }
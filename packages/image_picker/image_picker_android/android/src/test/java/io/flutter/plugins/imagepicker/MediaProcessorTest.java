@@ -0,0 +1,110 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.imagepicker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+
+public class MediaProcessorTest {
+  private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void calculateParallelism_isBoundedByCoresAndMemory() {
+    assertEquals(4, MediaProcessor.calculateParallelism(4, 512, false));
+    assertEquals(2, MediaProcessor.calculateParallelism(8, 256, false));
+    assertEquals(1, MediaProcessor.calculateParallelism(8, 64, false));
+    assertEquals(1, MediaProcessor.calculateParallelism(8, 512, true));
+  }
+
+  @Test
+  public void process_returnsResultsInItemOrder() {
+    MediaProcessor processor = new MediaProcessor(executor, 3);
+    CountDownLatch lastItemDone = new CountDownLatch(1);
+    List<Integer> completionOrder = Collections.synchronizedList(new ArrayList<>());
+
+    ArrayList<String> results =
+        processor.process(
+            3,
+            index -> {
+              // The first item only finishes after the last one.
+              if (index == 0) {
+                await(lastItemDone);
+              }
+              return "path" + index;
+            },
+            (index, count, path) -> {
+              completionOrder.add(index);
+              if (index == 2) {
+                lastItemDone.countDown();
+              }
+            });
+
+    assertEquals(Arrays.asList("path0", "path1", "path2"), results);
+    assertEquals(3, completionOrder.size());
+    assertEquals(0, (int) completionOrder.get(2));
+  }
+
+  @Test
+  public void process_rethrowsExceptionOfTask() {
+    MediaProcessor processor = new MediaProcessor(executor, 3);
+
+    try {
+      processor.process(
+          3,
+          index -> {
+            if (index == 1) {
+              throw new IllegalStateException("decode failed");
+            }
+            return "path" + index;
+          },
+          null);
+      fail("Expected an exception");
+    } catch (IllegalStateException e) {
+      assertEquals("decode failed", e.getMessage());
+    }
+  }
+
+  @Test
+  public void process_withSingleItem_runsOnCallingThread() {
+    MediaProcessor processor = new MediaProcessor(executor, 3);
+    Thread caller = Thread.currentThread();
+
+    ArrayList<String> results =
+        processor.process(
+            1,
+            index -> {
+              assertTrue(Thread.currentThread() == caller);
+              return "path";
+            },
+            null);
+
+    assertEquals(Collections.singletonList("path"), results);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      assertTrue(latch.await(5, TimeUnit.SECONDS));
+    } catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
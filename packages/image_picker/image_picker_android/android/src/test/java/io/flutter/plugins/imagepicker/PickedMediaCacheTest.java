@@ -0,0 +1,166 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.imagepicker;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import android.net.Uri;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class PickedMediaCacheTest {
+  private static final long SOURCE_LAST_MODIFIED = 1_600_000_000_000L;
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private File cacheDirectory;
+  private PickedMediaCache cache;
+
+  @Before
+  public void setUp() throws IOException {
+    cacheDirectory = temporaryFolder.newFolder("cache");
+    cache = new PickedMediaCache(cacheDirectory);
+  }
+
+  @Test
+  public void keyFor_changesWithSizeAndLastModified() {
+    Uri uri = Uri.parse("content://dummy/a.png");
+
+    assertEquals(keyName(uri, 10, 1000), keyName(uri, 10, 1000));
+    assertNotEquals(keyName(uri, 10, 1000), keyName(uri, 11, 1000));
+    assertNotEquals(keyName(uri, 10, 1000), keyName(uri, 10, 2000));
+  }
+
+  @Test
+  public void put_thenGet_returnsTheCopy() throws IOException {
+    PickedMediaCache.Key key = key("a.png", "content");
+    File file = cache.put(key, "a.png", stream("content"));
+
+    assertEquals(file, cache.get(key));
+    assertEquals("a.png", file.getName());
+    assertEquals("content".length(), file.length());
+    assertNull(cache.get(key("other.png", "content")));
+  }
+
+  @Test
+  public void get_whenCopyWasChanged_returnsNull() throws IOException {
+    PickedMediaCache.Key key = key("a.png", "content");
+    File file = cache.put(key, "a.png", stream("content"));
+
+    assertTrue(file.setLastModified(SOURCE_LAST_MODIFIED + 1000));
+
+    assertNull(cache.get(key));
+  }
+
+  @Test
+  public void get_withUniqueKey_returnsNull() throws IOException {
+    PickedMediaCache.Key key = PickedMediaCache.uniqueKey();
+    cache.put(key, "a.png", stream("content"));
+
+    assertNull(cache.get(key));
+  }
+
+  @Test
+  public void put_whenEntryExists_returnsTheExistingCopy() throws IOException {
+    PickedMediaCache.Key key = key("a.png", "content");
+    File first = cache.put(key, "a.png", stream("content"));
+    File second = cache.put(key, "a.png", stream("content"));
+
+    assertEquals(first, second);
+    assertTrue(first.exists());
+  }
+
+  @Test
+  public void put_whenCopyWasDeleted_copiesAgain() throws IOException {
+    PickedMediaCache.Key key = key("a.png", "content");
+    File first = cache.put(key, "a.png", stream("content"));
+    assertTrue(first.delete());
+
+    File second = cache.put(key, "a.png", stream("content"));
+
+    assertEquals(first, second);
+    assertTrue(second.exists());
+  }
+
+  @Test
+  public void put_whenCopyWasChanged_copiesAgain() throws IOException {
+    PickedMediaCache.Key key = key("a.png", "content");
+    File first = cache.put(key, "a.png", stream("content"));
+    assertTrue(first.setLastModified(SOURCE_LAST_MODIFIED + 1000));
+
+    File second = cache.put(key, "a.png", stream("content"));
+
+    assertEquals(first, second);
+    assertEquals(SOURCE_LAST_MODIFIED, second.lastModified());
+  }
+
+  @Test
+  public void trim_removesLeastRecentlyUsedEntries() throws IOException {
+    PickedMediaCache.Key usedKey = key("b.png", "0123456789");
+    File oldest = cache.put(key("a.png", "0123456789"), "a.png", stream("0123456789"));
+    File used = cache.put(usedKey, "b.png", stream("0123456789"));
+    File newest = cache.put(key("c.png", "0123456789"), "c.png", stream("0123456789"));
+    oldest.getParentFile().setLastModified(1000);
+    used.getParentFile().setLastModified(2000);
+    newest.getParentFile().setLastModified(3000);
+    // Using an entry makes it the most recently used.
+    cache.get(usedKey);
+
+    cache.trim(10);
+
+    assertFalse(oldest.exists());
+    assertFalse(newest.exists());
+    assertTrue(used.exists());
+  }
+
+  @Test
+  public void trim_removesPartiallyWrittenEntries() throws IOException {
+    File partial = new File(new File(cacheDirectory, "image_picker_media"), "tmp-partial");
+    assertTrue(partial.mkdirs());
+    assertTrue(
+        partial.setLastModified(
+            System.currentTimeMillis() - PickedMediaCache.ABANDONED_ENTRY_AGE_MILLIS - 1000));
+
+    cache.trim(PickedMediaCache.MAX_SIZE_BYTES);
+
+    assertFalse(partial.exists());
+  }
+
+  @Test
+  public void trim_keepsEntriesBeingWritten() throws IOException {
+    File partial = new File(new File(cacheDirectory, "image_picker_media"), "tmp-partial");
+    assertTrue(partial.mkdirs());
+
+    cache.trim(PickedMediaCache.MAX_SIZE_BYTES);
+
+    assertTrue(partial.exists());
+  }
+
+  private static PickedMediaCache.Key key(String name, String content) {
+    return PickedMediaCache.keyFor(
+        Uri.parse("content://dummy/" + name), content.length(), SOURCE_LAST_MODIFIED);
+  }
+
+  private static String keyName(Uri uri, long size, long lastModified) {
+    return PickedMediaCache.keyFor(uri, size, lastModified).name;
+  }
+
+  private static ByteArrayInputStream stream(String content) {
+    return new ByteArrayInputStream(content.getBytes(UTF_8));
+  }
+}
@@ -27,6 +27,92 @@ class ImagePickerAndroid extends ImagePickerPlatform {
     ImagePickerPlatform.instance = ImagePickerAndroid();
   }
 
+  static const EventChannel _progressChannel =
+      EventChannel('plugins.flutter.io/image_picker_android/progress');
+
+  /// Returns a stream with an event each time one item of a multi-selection
+  /// has been copied and resized.
+  ///
+  /// Items are processed in parallel, so the events arrive in completion
+  /// order; the result of the selection always lists the items in the order
+  /// they were picked. No events are sent while nothing listens.
+  Stream<AndroidMediaProgress> mediaProgress() {
+    return _progressChannel.receiveBroadcastStream().map((dynamic event) {
+      final Map<dynamic, dynamic> map = event as Map<dynamic, dynamic>;
+      return AndroidMediaProgress(
+        index: map['index']! as int,
+        count: map['count']! as int,
+        path: map['path'] as String?,
+      );
+    });
+  }
+
+  /// Sets how images are decoded when they are resized, for all later picks.
+  ///
+  /// [bitmapConfig] is the pixel format of the decoded image. With
+  /// [AndroidBitmapConfig.rgb565] decoding uses half the memory, at the cost
+  /// of color precision and transparency.
+  ///
+  /// If [maxMemoryBytes] is set, images are decoded at a coarser resolution
+  /// whenever decoding and scaling one of them would need more bitmap memory
+  /// than that; the result may then be smaller than the requested size.
+  ///
+  /// [outputFormat] is the format that resized images are encoded in, with
+  /// the `imageQuality` of the pick. Unless it is
+  /// [AndroidImageOutputFormat.automatic], every picked image is re-encoded,
+  /// even if it doesn't need to be resized.
+  ///
+  /// If [applyOrientation] is true, resized images are rotated and flipped as
+  /// their Exif orientation says, and their orientation tag is dropped, for
+  /// consumers that ignore that tag.
+  Future<void> setResizeOptions({
+    AndroidBitmapConfig bitmapConfig = AndroidBitmapConfig.argb8888,
+    int? maxMemoryBytes,
+    AndroidImageOutputFormat outputFormat = AndroidImageOutputFormat.automatic,
+    bool applyOrientation = false,
+  }) {
+    return _hostApi.setResizeOptions(ResizeOptions(
+      bitmapConfig: _bitmapConfigToPigeon(bitmapConfig),
+      maxMemoryBytes: maxMemoryBytes,
+      outputFormat: _outputFormatToPigeon(outputFormat),
+      applyOrientation: applyOrientation,
+    ));
+  }
+
+  /// Returns the most bitmap memory used to resize a single image since the
+  /// last call, in bytes, or null if no image has been resized since then.
+  Future<int?> getResizePeakMemoryBytes() {
+    return _hostApi.getResizePeakMemoryBytes();
+  }
+
+  BitmapConfig _bitmapConfigToPigeon(AndroidBitmapConfig config) {
+    switch (config) {
+      case AndroidBitmapConfig.argb8888:
+        return BitmapConfig.argb8888;
+      case AndroidBitmapConfig.rgb565:
+        return BitmapConfig.rgb565;
+      case AndroidBitmapConfig.hardware:
+        return BitmapConfig.hardware;
+    }
+  }
+
+  ImageOutputFormat _outputFormatToPigeon(AndroidImageOutputFormat format) {
+    switch (format) {
+      case AndroidImageOutputFormat.automatic:
+        return ImageOutputFormat.automatic;
+      case AndroidImageOutputFormat.jpeg:
+        return ImageOutputFormat.jpeg;
+      case AndroidImageOutputFormat.png:
+        return ImageOutputFormat.png;
+      case AndroidImageOutputFormat.webpLossy:
+        return ImageOutputFormat.webpLossy;
+      case AndroidImageOutputFormat.webpLossless:
+        return ImageOutputFormat.webpLossless;
+      case AndroidImageOutputFormat.heif:
+        return ImageOutputFormat.heif;
+    }
+  }
+
   @override
   Future<PickedFile?> pickImage({
     required ImageSource source,
@@ -369,3 +455,63 @@ class ImagePickerAndroid extends ImagePickerPlatform {
     return RetrieveType.image;
   }
 }
+
+/// The pixel format that images are decoded in when they are resized.
+enum AndroidBitmapConfig {
+  /// 32 bits per pixel, with transparency.
+  argb8888,
+
+  /// 16 bits per pixel, without transparency.
+  rgb565,
+
+  /// Stored only in graphics memory, which keeps it off the app's heap.
+  ///
+  /// Only available on Android 8.0 and above; older versions use
+  /// [argb8888] instead.
+  hardware,
+}
+
+/// The format that resized images are encoded in.
+enum AndroidImageOutputFormat {
+  /// PNG for images with transparency, JPEG otherwise.
+  automatic,
+
+  /// JPEG.
+  jpeg,
+
+  /// PNG, which ignores the image quality.
+  png,
+
+  /// Lossy WebP.
+  webpLossy,
+
+  /// Lossless WebP, where the image quality trades encoding speed for size.
+  webpLossless,
+
+  /// HEIF, which keeps the orientation of the image but not its other Exif
+  /// data.
+  ///
+  /// Only available on Android 9.0 and above, on devices with an HEVC
+  /// encoder; otherwise images are encoded as JPEG.
+  heif,
+}
+
+/// An item of a multi-selection that has been processed.
+@immutable
+class AndroidMediaProgress {
+  /// Creates a progress event for the item at [index] of [count] items.
+  const AndroidMediaProgress({
+    required this.index,
+    required this.count,
+    this.path,
+  });
+
+  /// The position of the item in the selection.
+  final int index;
+
+  /// The number of items in the selection.
+  final int count;
+
+  /// The path of the processed item, or null if it couldn't be read.
+  final String? path;
+}
@@ -26,6 +26,21 @@ enum CacheRetrievalType {
   video,
 }
 
+enum BitmapConfig {
+  argb8888,
+  rgb565,
+  hardware,
+}
+
+enum ImageOutputFormat {
+  automatic,
+  jpeg,
+  png,
+  webpLossy,
+  webpLossless,
+  heif,
+}
+
 class GeneralOptions {
   GeneralOptions({
     required this.allowMultiple,
@@ -230,6 +245,49 @@ class CacheRetrievalResult {
   }
 }
 
+/// Options for decoding images that are resized.
+class ResizeOptions {
+  ResizeOptions({
+    required this.bitmapConfig,
+    this.maxMemoryBytes,
+    required this.outputFormat,
+    required this.applyOrientation,
+  });
+
+  /// The pixel format that images are decoded in.
+  BitmapConfig bitmapConfig;
+
+  /// If set, the most bitmap memory that resizing a single image may use, in
+  /// bytes.
+  int? maxMemoryBytes;
+
+  /// The format that resized images are encoded in.
+  ImageOutputFormat outputFormat;
+
+  /// Whether the Exif orientation is applied to the pixels of resized images
+  /// instead of being kept as a tag.
+  bool applyOrientation;
+
+  Object encode() {
+    return <Object?>[
+      bitmapConfig.index,
+      maxMemoryBytes,
+      outputFormat.index,
+      applyOrientation,
+    ];
+  }
+
+  static ResizeOptions decode(Object result) {
+    result as List<Object?>;
+    return ResizeOptions(
+      bitmapConfig: BitmapConfig.values[result[0]! as int],
+      maxMemoryBytes: result[1] as int?,
+      outputFormat: ImageOutputFormat.values[result[2]! as int],
+      applyOrientation: result[3]! as bool,
+    );
+  }
+}
+
 class _ImagePickerApiCodec extends StandardMessageCodec {
   const _ImagePickerApiCodec();
   @override
@@ -249,12 +307,15 @@ class _ImagePickerApiCodec extends StandardMessageCodec {
     } else if (value is MediaSelectionOptions) {
       buffer.putUint8(132);
       writeValue(buffer, value.encode());
-    } else if (value is SourceSpecification) {
+    } else if (value is ResizeOptions) {
       buffer.putUint8(133);
       writeValue(buffer, value.encode());
-    } else if (value is VideoSelectionOptions) {
+    } else if (value is SourceSpecification) {
       buffer.putUint8(134);
       writeValue(buffer, value.encode());
+    } else if (value is VideoSelectionOptions) {
+      buffer.putUint8(135);
+      writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
     }
@@ -274,8 +335,10 @@ class _ImagePickerApiCodec extends StandardMessageCodec {
       case 132:
         return MediaSelectionOptions.decode(readValue(buffer)!);
       case 133:
-        return SourceSpecification.decode(readValue(buffer)!);
+        return ResizeOptions.decode(readValue(buffer)!);
       case 134:
+        return SourceSpecification.decode(readValue(buffer)!);
+      case 135:
         return VideoSelectionOptions.decode(readValue(buffer)!);
       default:
         return super.readValueOfType(type, buffer);
@@ -418,4 +481,50 @@ class ImagePickerApi {
       return (replyList[0] as CacheRetrievalResult?);
     }
   }
+
+  /// Sets how images are decoded when they are resized.
+  Future<void> setResizeOptions(ResizeOptions arg_options) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.ImagePickerApi.setResizeOptions', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_options]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Returns the largest amount of bitmap memory that resizing a single image
+  /// has used since the last call, in bytes, or null if no image was resized.
+  Future<int?> getResizePeakMemoryBytes() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.ImagePickerApi.getResizePeakMemoryBytes', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(null) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return (replyList[0] as int?);
+    }
+  }
 }
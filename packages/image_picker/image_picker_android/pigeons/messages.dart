@@ -94,6 +94,37 @@ class CacheRetrievalResult {
   final List<String?> paths;
 }
 
+// Corresponds to `Bitmap.Config` on Android.
+enum BitmapConfig { argb8888, rgb565, hardware }
+
+// The encoding of resized images. `automatic` uses PNG for images with
+// transparency and JPEG otherwise.
+enum ImageOutputFormat { automatic, jpeg, png, webpLossy, webpLossless, heif }
+
+/// Options for decoding and encoding images that are resized.
+class ResizeOptions {
+  ResizeOptions({
+    required this.bitmapConfig,
+    this.maxMemoryBytes,
+    required this.outputFormat,
+    required this.applyOrientation,
+  });
+
+  /// The pixel format that images are decoded in.
+  BitmapConfig bitmapConfig;
+
+  /// If set, the most bitmap memory that resizing a single image may use, in
+  /// bytes.
+  int? maxMemoryBytes;
+
+  /// The format that resized images are encoded in.
+  ImageOutputFormat outputFormat;
+
+  /// Whether the Exif orientation is applied to the pixels of resized images
+  /// instead of being kept as a tag.
+  bool applyOrientation;
+}
+
 @HostApi(dartHostTestHandler: 'TestHostImagePickerApi')
 abstract class ImagePickerApi {
   /// Selects images and returns their paths.
@@ -133,4 +164,11 @@ abstract class ImagePickerApi {
   /// Returns results from a previous app session, if any.
   @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   CacheRetrievalResult? retrieveLostResults();
+
+  /// Sets how images are decoded when they are resized.
+  void setResizeOptions(ResizeOptions options);
+
+  /// Returns the largest amount of bitmap memory that resizing a single image
+  /// has used since the last call, in bytes, or null if no image was resized.
+  int? getResizePeakMemoryBytes();
 }
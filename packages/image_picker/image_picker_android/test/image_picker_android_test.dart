@@ -2,6 +2,7 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'package:flutter/services.dart';
 import 'package:flutter_test/flutter_test.dart';
 
 import 'package:image_picker_android/image_picker_android.dart';
@@ -9,6 +10,8 @@ import 'package:image_picker_android/src/messages.g.dart';
 import 'package:image_picker_platform_interface/image_picker_platform_interface.dart';
 
 void main() {
+  TestWidgetsFlutterBinding.ensureInitialized();
+
   late ImagePickerAndroid picker;
   late _FakeImagePickerApi api;
 
@@ -290,6 +293,78 @@ void main() {
     });
   });
 
+  group('#mediaProgress', () {
+    test('decodes progress events', () async {
+      const String channel = 'plugins.flutter.io/image_picker_android/progress';
+      TestDefaultBinaryMessengerBinding.instance.defaultBinaryMessenger
+          .setMockMessageHandler(channel, (ByteData? message) async {
+        final MethodCall methodCall =
+            const StandardMethodCodec().decodeMethodCall(message);
+        if (methodCall.method == 'listen') {
+          await TestDefaultBinaryMessengerBinding
+              .instance.defaultBinaryMessenger
+              .handlePlatformMessage(
+                  channel,
+                  const StandardMethodCodec()
+                      .encodeSuccessEnvelope(<String, Object?>{
+                    'index': 1,
+                    'count': 3,
+                    'path': '/scaled.jpg',
+                  }),
+                  (ByteData? data) {});
+        }
+        return const StandardMethodCodec().encodeSuccessEnvelope(null);
+      });
+
+      final AndroidMediaProgress progress =
+          await picker.mediaProgress().first;
+
+      expect(progress.index, 1);
+      expect(progress.count, 3);
+      expect(progress.path, '/scaled.jpg');
+    });
+  });
+
+  group('#setResizeOptions', () {
+    test('passes the bitmap config and memory limit', () async {
+      await picker.setResizeOptions(
+          bitmapConfig: AndroidBitmapConfig.rgb565, maxMemoryBytes: 4000000);
+
+      expect(api.passedResizeOptions?.bitmapConfig, BitmapConfig.rgb565);
+      expect(api.passedResizeOptions?.maxMemoryBytes, 4000000);
+    });
+
+    test('defaults to argb8888 without a memory limit', () async {
+      await picker.setResizeOptions();
+
+      expect(api.passedResizeOptions?.bitmapConfig, BitmapConfig.argb8888);
+      expect(api.passedResizeOptions?.maxMemoryBytes, isNull);
+      expect(
+          api.passedResizeOptions?.outputFormat, ImageOutputFormat.automatic);
+      expect(api.passedResizeOptions?.applyOrientation, false);
+    });
+
+    test('passes the output format', () async {
+      await picker.setResizeOptions(
+          outputFormat: AndroidImageOutputFormat.webpLossy);
+
+      expect(
+          api.passedResizeOptions?.outputFormat, ImageOutputFormat.webpLossy);
+    });
+
+    test('passes whether to apply the orientation', () async {
+      await picker.setResizeOptions(applyOrientation: true);
+
+      expect(api.passedResizeOptions?.applyOrientation, true);
+    });
+
+    test('returns the peak memory', () async {
+      api.returnValue = 1234;
+
+      expect(await picker.getResizePeakMemoryBytes(), 1234);
+    });
+  });
+
   group('#retrieveLostData', () {
     test('retrieveLostData get success response', () async {
       api.returnValue = CacheRetrievalResult(
@@ -926,6 +1001,7 @@ class _FakeImagePickerApi implements ImagePickerApi {
   VideoSelectionOptions? passedVideoOptions;
   bool? passedAllowMultiple;
   bool? passedPhotoPickerFlag;
+  ResizeOptions? passedResizeOptions;
   _LastPickType? lastCall;
 
   @override
@@ -972,4 +1048,14 @@ class _FakeImagePickerApi implements ImagePickerApi {
   Future<CacheRetrievalResult?> retrieveLostResults() async {
     return returnValue as CacheRetrievalResult?;
   }
+
+  @override
+  Future<void> setResizeOptions(ResizeOptions options) async {
+    passedResizeOptions = options;
+  }
+
+  @override
+  Future<int?> getResizePeakMemoryBytes() async {
+    return returnValue as int?;
+  }
 }
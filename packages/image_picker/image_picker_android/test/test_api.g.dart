@@ -32,12 +32,15 @@ class _TestHostImagePickerApiCodec extends StandardMessageCodec {
     } else if (value is MediaSelectionOptions) {
       buffer.putUint8(132);
       writeValue(buffer, value.encode());
-    } else if (value is SourceSpecification) {
+    } else if (value is ResizeOptions) {
       buffer.putUint8(133);
       writeValue(buffer, value.encode());
-    } else if (value is VideoSelectionOptions) {
+    } else if (value is SourceSpecification) {
       buffer.putUint8(134);
       writeValue(buffer, value.encode());
+    } else if (value is VideoSelectionOptions) {
+      buffer.putUint8(135);
+      writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
     }
@@ -57,8 +60,10 @@ class _TestHostImagePickerApiCodec extends StandardMessageCodec {
       case 132:
         return MediaSelectionOptions.decode(readValue(buffer)!);
       case 133:
-        return SourceSpecification.decode(readValue(buffer)!);
+        return ResizeOptions.decode(readValue(buffer)!);
       case 134:
+        return SourceSpecification.decode(readValue(buffer)!);
+      case 135:
         return VideoSelectionOptions.decode(readValue(buffer)!);
       default:
         return super.readValueOfType(type, buffer);
@@ -95,6 +100,13 @@ abstract class TestHostImagePickerApi {
   /// Returns results from a previous app session, if any.
   CacheRetrievalResult? retrieveLostResults();
 
+  /// Sets how images are decoded when they are resized.
+  void setResizeOptions(ResizeOptions options);
+
+  /// Returns the largest amount of bitmap memory that resizing a single image
+  /// has used since the last call, in bytes, or null if no image was resized.
+  int? getResizePeakMemoryBytes();
+
   static void setup(TestHostImagePickerApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -206,5 +218,44 @@ abstract class TestHostImagePickerApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.ImagePickerApi.setResizeOptions', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.ImagePickerApi.setResizeOptions was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final ResizeOptions? arg_options = (args[0] as ResizeOptions?);
+          assert(arg_options != null,
+              'Argument for dev.flutter.pigeon.ImagePickerApi.setResizeOptions was null, expected non-null ResizeOptions.');
+          api.setResizeOptions(arg_options!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.ImagePickerApi.getResizePeakMemoryBytes', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          // ignore message
+          final int? output = api.getResizePeakMemoryBytes();
+          return <Object?>[output];
+        });
+      }
+    }
   }
 }
@@ -0,0 +1,119 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.DefaultLoadControl;
+import com.google.android.exoplayer2.LoadControl;
+import java.util.Arrays;
+
+/**
+ * How much media a player buffers ahead of and behind the playback position.
+ *
+ * <p>Smaller buffers lower the latency of live streams and the memory used by each player, at the
+ * cost of more rebuffering on slow networks.
+ */
+final class BufferingProfile {
+  /** The buffering of {@link DefaultLoadControl}. */
+  static final BufferingProfile DEFAULT =
+      new BufferingProfile(
+          DefaultLoadControl.DEFAULT_MIN_BUFFER_MS,
+          DefaultLoadControl.DEFAULT_MAX_BUFFER_MS,
+          DefaultLoadControl.DEFAULT_BUFFER_FOR_PLAYBACK_MS,
+          DefaultLoadControl.DEFAULT_BUFFER_FOR_PLAYBACK_AFTER_REBUFFER_MS,
+          DefaultLoadControl.DEFAULT_TARGET_BUFFER_BYTES,
+          DefaultLoadControl.DEFAULT_PRIORITIZE_TIME_OVER_SIZE_THRESHOLDS,
+          DefaultLoadControl.DEFAULT_BACK_BUFFER_DURATION_MS,
+          DefaultLoadControl.DEFAULT_RETAIN_BACK_BUFFER_FROM_KEYFRAME);
+
+  final int minBufferMs;
+  final int maxBufferMs;
+  final int bufferForPlaybackMs;
+  final int bufferForPlaybackAfterRebufferMs;
+  // C.LENGTH_UNSET to derive the target from the selected tracks.
+  final int targetBufferBytes;
+  final boolean prioritizeTimeOverSizeThresholds;
+  final int backBufferDurationMs;
+  final boolean retainBackBufferFromKeyframe;
+
+  /**
+   * Creates a profile with the given values, which have the same meaning as in {@link
+   * DefaultLoadControl.Builder}.
+   *
+   * @throws IllegalArgumentException if the durations are inconsistent, e.g. `minBufferMs` is
+   *     greater than `maxBufferMs`.
+   */
+  BufferingProfile(
+      int minBufferMs,
+      int maxBufferMs,
+      int bufferForPlaybackMs,
+      int bufferForPlaybackAfterRebufferMs,
+      int targetBufferBytes,
+      boolean prioritizeTimeOverSizeThresholds,
+      int backBufferDurationMs,
+      boolean retainBackBufferFromKeyframe) {
+    this.minBufferMs = minBufferMs;
+    this.maxBufferMs = maxBufferMs;
+    this.bufferForPlaybackMs = bufferForPlaybackMs;
+    this.bufferForPlaybackAfterRebufferMs = bufferForPlaybackAfterRebufferMs;
+    this.targetBufferBytes = targetBufferBytes;
+    this.prioritizeTimeOverSizeThresholds = prioritizeTimeOverSizeThresholds;
+    this.backBufferDurationMs = backBufferDurationMs;
+    this.retainBackBufferFromKeyframe = retainBackBufferFromKeyframe;
+
+    // Fail here rather than when a player is built later.
+    newLoadControlBuilder();
+  }
+
+  /** Returns a new load control for a single player. */
+  @NonNull
+  LoadControl buildLoadControl() {
+    return newLoadControlBuilder().build();
+  }
+
+  private DefaultLoadControl.Builder newLoadControlBuilder() {
+    return new DefaultLoadControl.Builder()
+        .setBufferDurationsMs(
+            minBufferMs, maxBufferMs, bufferForPlaybackMs, bufferForPlaybackAfterRebufferMs)
+        .setTargetBufferBytes(targetBufferBytes)
+        .setPrioritizeTimeOverSizeThresholds(prioritizeTimeOverSizeThresholds)
+        .setBackBuffer(backBufferDurationMs, retainBackBufferFromKeyframe);
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof BufferingProfile)) {
+      return false;
+    }
+    final BufferingProfile other = (BufferingProfile) o;
+    return minBufferMs == other.minBufferMs
+        && maxBufferMs == other.maxBufferMs
+        && bufferForPlaybackMs == other.bufferForPlaybackMs
+        && bufferForPlaybackAfterRebufferMs == other.bufferForPlaybackAfterRebufferMs
+        && targetBufferBytes == other.targetBufferBytes
+        && prioritizeTimeOverSizeThresholds == other.prioritizeTimeOverSizeThresholds
+        && backBufferDurationMs == other.backBufferDurationMs
+        && retainBackBufferFromKeyframe == other.retainBackBufferFromKeyframe;
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(
+        new Object[] {
+          minBufferMs,
+          maxBufferMs,
+          bufferForPlaybackMs,
+          bufferForPlaybackAfterRebufferMs,
+          targetBufferBytes,
+          prioritizeTimeOverSizeThresholds,
+          backBufferDurationMs,
+          retainBackBufferFromKeyframe
+        });
+  }
+}
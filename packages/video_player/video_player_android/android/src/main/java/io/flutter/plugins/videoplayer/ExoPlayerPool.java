@@ -0,0 +1,116 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.Context;
+import androidx.annotation.NonNull;
+import com.google.android.exoplayer2.DefaultRenderersFactory;
+import com.google.android.exoplayer2.ExoPlayer;
+import com.google.android.exoplayer2.PlaybackParameters;
+import com.google.android.exoplayer2.Player;
+import com.google.android.exoplayer2.upstream.DefaultBandwidthMeter;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps players that are no longer used, so new videos don't have to build a player and start its
+ * playback thread again.
+ *
+ * <p>All players share the process-wide {@link DefaultBandwidthMeter}, so adaptive streams start
+ * from the bandwidth measured by previous players.
+ *
+ * <p>This class is not thread-safe. All calls must be made on the platform thread.
+ */
+final class ExoPlayerPool {
+  static final int MAX_IDLE_PLAYERS = 2;
+
+  interface PlayerFactory {
+    @NonNull
+    ExoPlayer build(@NonNull Context context, @NonNull BufferingProfile bufferingProfile);
+  }
+
+  private final PlayerFactory playerFactory;
+
+  private final ArrayDeque<ExoPlayer> idlePlayers = new ArrayDeque<>();
+
+  // The profile each player was built with, since a player's load control can't be replaced.
+  private final WeakHashMap<ExoPlayer, BufferingProfile> bufferingProfiles = new WeakHashMap<>();
+
+  ExoPlayerPool() {
+    this(ExoPlayerPool::buildExoPlayer);
+  }
+
+  ExoPlayerPool(@NonNull PlayerFactory playerFactory) {
+    this.playerFactory = playerFactory;
+  }
+
+  /**
+   * Returns an idle player that buffers according to `bufferingProfile`, or builds a new one if
+   * there is none.
+   */
+  @NonNull
+  ExoPlayer acquire(@NonNull Context context, @NonNull BufferingProfile bufferingProfile) {
+    final Iterator<ExoPlayer> iterator = idlePlayers.iterator();
+    while (iterator.hasNext()) {
+      final ExoPlayer exoPlayer = iterator.next();
+      if (bufferingProfile.equals(bufferingProfiles.get(exoPlayer))) {
+        iterator.remove();
+        return exoPlayer;
+      }
+    }
+
+    final ExoPlayer exoPlayer = playerFactory.build(context, bufferingProfile);
+    bufferingProfiles.put(exoPlayer, bufferingProfile);
+    return exoPlayer;
+  }
+
+  /**
+   * Resets a player that is no longer used and keeps it for {@link #acquire}, or releases it if the
+   * pool is full.
+   *
+   * <p>The caller must have removed its listeners and video surface.
+   */
+  void recycle(@NonNull ExoPlayer exoPlayer) {
+    if (idlePlayers.size() >= MAX_IDLE_PLAYERS
+        || exoPlayer.getPlayerError() != null
+        || !bufferingProfiles.containsKey(exoPlayer)) {
+      exoPlayer.release();
+      return;
+    }
+
+    exoPlayer.stop();
+    exoPlayer.clearMediaItems();
+    exoPlayer.setPlayWhenReady(false);
+    exoPlayer.setRepeatMode(Player.REPEAT_MODE_OFF);
+    exoPlayer.setVolume(1f);
+    exoPlayer.setPlaybackParameters(PlaybackParameters.DEFAULT);
+    idlePlayers.addLast(exoPlayer);
+  }
+
+  /** Releases all idle players. */
+  void clear() {
+    for (ExoPlayer exoPlayer : idlePlayers) {
+      exoPlayer.release();
+    }
+    idlePlayers.clear();
+  }
+
+  int getIdlePlayerCount() {
+    return idlePlayers.size();
+  }
+
+  private static ExoPlayer buildExoPlayer(
+      @NonNull Context context, @NonNull BufferingProfile bufferingProfile) {
+    final Context applicationContext = context.getApplicationContext();
+    return new ExoPlayer.Builder(context)
+        .setRenderersFactory(
+            new DefaultRenderersFactory(applicationContext)
+                .setExtensionRendererMode(DefaultRenderersFactory.EXTENSION_RENDERER_MODE_ON))
+        .setBandwidthMeter(DefaultBandwidthMeter.getSingletonInstance(applicationContext))
+        .setLoadControl(bufferingProfile.buildLoadControl())
+        .build();
+  }
+}
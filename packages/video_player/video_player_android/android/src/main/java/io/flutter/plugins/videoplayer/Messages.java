@@ -19,6 +19,7 @@ import io.flutter.plugin.common.StandardMessageCodec;
 import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -642,6 +643,1263 @@ public class Messages {
         }
     }
 
+    /**
+     * Generated class from Pigeon that represents data sent in messages.
+     */
+    public static final class CacheMessage {
+        private @NonNull Boolean enabled;
+
+        public @NonNull Boolean getEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(@NonNull Boolean setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"enabled\" is null.");
+            }
+            this.enabled = setterArg;
+        }
+
+        private @NonNull Long maxSizeBytes;
+
+        public @NonNull Long getMaxSizeBytes() {
+            return maxSizeBytes;
+        }
+
+        public void setMaxSizeBytes(@NonNull Long setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"maxSizeBytes\" is null.");
+            }
+            this.maxSizeBytes = setterArg;
+        }
+
+        /**
+         * Constructor is non-public to enforce null safety; use Builder.
+         */
+        CacheMessage() {
+        }
+
+        public static final class Builder {
+
+            private @Nullable Boolean enabled;
+
+            public @NonNull Builder setEnabled(@NonNull Boolean setterArg) {
+                this.enabled = setterArg;
+                return this;
+            }
+
+            private @Nullable Long maxSizeBytes;
+
+            public @NonNull Builder setMaxSizeBytes(@NonNull Long setterArg) {
+                this.maxSizeBytes = setterArg;
+                return this;
+            }
+
+            public @NonNull CacheMessage build() {
+                CacheMessage pigeonReturn = new CacheMessage();
+                pigeonReturn.setEnabled(enabled);
+                pigeonReturn.setMaxSizeBytes(maxSizeBytes);
+                return pigeonReturn;
+            }
+        }
+
+        @NonNull
+        ArrayList<Object> toList() {
+            ArrayList<Object> toListResult = new ArrayList<Object>(2);
+            toListResult.add(enabled);
+            toListResult.add(maxSizeBytes);
+            return toListResult;
+        }
+
+        static @NonNull CacheMessage fromList(@NonNull ArrayList<Object> list) {
+            CacheMessage pigeonResult = new CacheMessage();
+            Object enabled = list.get(0);
+            pigeonResult.setEnabled((Boolean) enabled);
+            Object maxSizeBytes = list.get(1);
+            pigeonResult.setMaxSizeBytes(
+                    (maxSizeBytes == null)
+                            ? null
+                            : ((maxSizeBytes instanceof Integer) ? (Integer) maxSizeBytes : (Long) maxSizeBytes));
+            return pigeonResult;
+        }
+    }
+
+    /**
+     * Generated class from Pigeon that represents data sent in messages.
+     */
+    public static final class CacheStatsMessage {
+        private @NonNull Long cacheHitBytes;
+
+        public @NonNull Long getCacheHitBytes() {
+            return cacheHitBytes;
+        }
+
+        public void setCacheHitBytes(@NonNull Long setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"cacheHitBytes\" is null.");
+            }
+            this.cacheHitBytes = setterArg;
+        }
+
+        private @NonNull Long cachedBytes;
+
+        public @NonNull Long getCachedBytes() {
+            return cachedBytes;
+        }
+
+        public void setCachedBytes(@NonNull Long setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"cachedBytes\" is null.");
+            }
+            this.cachedBytes = setterArg;
+        }
+
+        /**
+         * Constructor is non-public to enforce null safety; use Builder.
+         */
+        CacheStatsMessage() {
+        }
+
+        public static final class Builder {
+
+            private @Nullable Long cacheHitBytes;
+
+            public @NonNull Builder setCacheHitBytes(@NonNull Long setterArg) {
+                this.cacheHitBytes = setterArg;
+                return this;
+            }
+
+            private @Nullable Long cachedBytes;
+
+            public @NonNull Builder setCachedBytes(@NonNull Long setterArg) {
+                this.cachedBytes = setterArg;
+                return this;
+            }
+
+            public @NonNull CacheStatsMessage build() {
+                CacheStatsMessage pigeonReturn = new CacheStatsMessage();
+                pigeonReturn.setCacheHitBytes(cacheHitBytes);
+                pigeonReturn.setCachedBytes(cachedBytes);
+                return pigeonReturn;
+            }
+        }
+
+        @NonNull
+        ArrayList<Object> toList() {
+            ArrayList<Object> toListResult = new ArrayList<Object>(2);
+            toListResult.add(cacheHitBytes);
+            toListResult.add(cachedBytes);
+            return toListResult;
+        }
+
+        static @NonNull CacheStatsMessage fromList(@NonNull ArrayList<Object> list) {
+            CacheStatsMessage pigeonResult = new CacheStatsMessage();
+            Object cacheHitBytes = list.get(0);
+            pigeonResult.setCacheHitBytes(
+                    (cacheHitBytes == null)
+                            ? null
+                            : ((cacheHitBytes instanceof Integer) ? (Integer) cacheHitBytes : (Long) cacheHitBytes));
+            Object cachedBytes = list.get(1);
+            pigeonResult.setCachedBytes(
+                    (cachedBytes == null)
+                            ? null
+                            : ((cachedBytes instanceof Integer) ? (Integer) cachedBytes : (Long) cachedBytes));
+            return pigeonResult;
+        }
+    }
+
+    /**
+     * Generated class from Pigeon that represents data sent in messages.
+     */
+    public static final class PrefetchMessage {
+        private @NonNull String uri;
+
+        public @NonNull String getUri() {
+            return uri;
+        }
+
+        public void setUri(@NonNull String setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"uri\" is null.");
+            }
+            this.uri = setterArg;
+        }
+
+        private @NonNull Map<String, String> httpHeaders;
+
+        public @NonNull Map<String, String> getHttpHeaders() {
+            return httpHeaders;
+        }
+
+        public void setHttpHeaders(@NonNull Map<String, String> setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"httpHeaders\" is null.");
+            }
+            this.httpHeaders = setterArg;
+        }
+
+        private @NonNull Long lengthBytes;
+
+        public @NonNull Long getLengthBytes() {
+            return lengthBytes;
+        }
+
+        public void setLengthBytes(@NonNull Long setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"lengthBytes\" is null.");
+            }
+            this.lengthBytes = setterArg;
+        }
+
+        /**
+         * Constructor is non-public to enforce null safety; use Builder.
+         */
+        PrefetchMessage() {
+        }
+
+        public static final class Builder {
+
+            private @Nullable String uri;
+
+            public @NonNull Builder setUri(@NonNull String setterArg) {
+                this.uri = setterArg;
+                return this;
+            }
+
+            private @Nullable Map<String, String> httpHeaders;
+
+            public @NonNull Builder setHttpHeaders(@NonNull Map<String, String> setterArg) {
+                this.httpHeaders = setterArg;
+                return this;
+            }
+
+            private @Nullable Long lengthBytes;
+
+            public @NonNull Builder setLengthBytes(@NonNull Long setterArg) {
+                this.lengthBytes = setterArg;
+                return this;
+            }
+
+            public @NonNull PrefetchMessage build() {
+                PrefetchMessage pigeonReturn = new PrefetchMessage();
+                pigeonReturn.setUri(uri);
+                pigeonReturn.setHttpHeaders(httpHeaders);
+                pigeonReturn.setLengthBytes(lengthBytes);
+                return pigeonReturn;
+            }
+        }
+
+        @NonNull
+        ArrayList<Object> toList() {
+            ArrayList<Object> toListResult = new ArrayList<Object>(3);
+            toListResult.add(uri);
+            toListResult.add(httpHeaders);
+            toListResult.add(lengthBytes);
+            return toListResult;
+        }
+
+        static @NonNull PrefetchMessage fromList(@NonNull ArrayList<Object> list) {
+            PrefetchMessage pigeonResult = new PrefetchMessage();
+            Object uri = list.get(0);
+            pigeonResult.setUri((String) uri);
+            Object httpHeaders = list.get(1);
+            pigeonResult.setHttpHeaders((Map<String, String>) httpHeaders);
+            Object lengthBytes = list.get(2);
+            pigeonResult.setLengthBytes(
+                    (lengthBytes == null)
+                            ? null
+                            : ((lengthBytes instanceof Integer) ? (Integer) lengthBytes : (Long) lengthBytes));
+            return pigeonResult;
+        }
+    }
+
+    /**
+     * Generated class from Pigeon that represents data sent in messages.
+     */
+    public static final class BufferingMessage {
+        private @NonNull Long minBufferMs;
+
+        public @NonNull Long getMinBufferMs() {
+            return minBufferMs;
+        }
+
+        public void setMinBufferMs(@NonNull Long setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"minBufferMs\" is null.");
+            }
+            this.minBufferMs = setterArg;
+        }
+
+        private @NonNull Long maxBufferMs;
+
+        public @NonNull Long getMaxBufferMs() {
+            return maxBufferMs;
+        }
+
+        public void setMaxBufferMs(@NonNull Long setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"maxBufferMs\" is null.");
+            }
+            this.maxBufferMs = setterArg;
+        }
+
+        private @NonNull Long bufferForPlaybackMs;
+
+        public @NonNull Long getBufferForPlaybackMs() {
+            return bufferForPlaybackMs;
+        }
+
+        public void setBufferForPlaybackMs(@NonNull Long setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"bufferForPlaybackMs\" is null.");
+            }
+            this.bufferForPlaybackMs = setterArg;
+        }
+
+        private @NonNull Long bufferForPlaybackAfterRebufferMs;
+
+        public @NonNull Long getBufferForPlaybackAfterRebufferMs() {
+            return bufferForPlaybackAfterRebufferMs;
+        }
+
+        public void setBufferForPlaybackAfterRebufferMs(@NonNull Long setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"bufferForPlaybackAfterRebufferMs\" is null.");
+            }
+            this.bufferForPlaybackAfterRebufferMs = setterArg;
+        }
+
+        private @NonNull Long targetBufferBytes;
+
+        public @NonNull Long getTargetBufferBytes() {
+            return targetBufferBytes;
+        }
+
+        public void setTargetBufferBytes(@NonNull Long setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"targetBufferBytes\" is null.");
+            }
+            this.targetBufferBytes = setterArg;
+        }
+
+        private @NonNull Boolean prioritizeTimeOverSizeThresholds;
+
+        public @NonNull Boolean getPrioritizeTimeOverSizeThresholds() {
+            return prioritizeTimeOverSizeThresholds;
+        }
+
+        public void setPrioritizeTimeOverSizeThresholds(@NonNull Boolean setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"prioritizeTimeOverSizeThresholds\" is null.");
+            }
+            this.prioritizeTimeOverSizeThresholds = setterArg;
+        }
+
+        private @NonNull Long backBufferDurationMs;
+
+        public @NonNull Long getBackBufferDurationMs() {
+            return backBufferDurationMs;
+        }
+
+        public void setBackBufferDurationMs(@NonNull Long setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"backBufferDurationMs\" is null.");
+            }
+            this.backBufferDurationMs = setterArg;
+        }
+
+        private @NonNull Boolean retainBackBufferFromKeyframe;
+
+        public @NonNull Boolean getRetainBackBufferFromKeyframe() {
+            return retainBackBufferFromKeyframe;
+        }
+
+        public void setRetainBackBufferFromKeyframe(@NonNull Boolean setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"retainBackBufferFromKeyframe\" is null.");
+            }
+            this.retainBackBufferFromKeyframe = setterArg;
+        }
+
+        /**
+         * Constructor is non-public to enforce null safety; use Builder.
+         */
+        BufferingMessage() {
+        }
+
+        public static final class Builder {
+
+            private @Nullable Long minBufferMs;
+
+            public @NonNull Builder setMinBufferMs(@NonNull Long setterArg) {
+                this.minBufferMs = setterArg;
+                return this;
+            }
+
+            private @Nullable Long maxBufferMs;
+
+            public @NonNull Builder setMaxBufferMs(@NonNull Long setterArg) {
+                this.maxBufferMs = setterArg;
+                return this;
+            }
+
+            private @Nullable Long bufferForPlaybackMs;
+
+            public @NonNull Builder setBufferForPlaybackMs(@NonNull Long setterArg) {
+                this.bufferForPlaybackMs = setterArg;
+                return this;
+            }
+
+            private @Nullable Long bufferForPlaybackAfterRebufferMs;
+
+            public @NonNull Builder setBufferForPlaybackAfterRebufferMs(@NonNull Long setterArg) {
+                this.bufferForPlaybackAfterRebufferMs = setterArg;
+                return this;
+            }
+
+            private @Nullable Long targetBufferBytes;
+
+            public @NonNull Builder setTargetBufferBytes(@NonNull Long setterArg) {
+                this.targetBufferBytes = setterArg;
+                return this;
+            }
+
+            private @Nullable Boolean prioritizeTimeOverSizeThresholds;
+
+            public @NonNull Builder setPrioritizeTimeOverSizeThresholds(@NonNull Boolean setterArg) {
+                this.prioritizeTimeOverSizeThresholds = setterArg;
+                return this;
+            }
+
+            private @Nullable Long backBufferDurationMs;
+
+            public @NonNull Builder setBackBufferDurationMs(@NonNull Long setterArg) {
+                this.backBufferDurationMs = setterArg;
+                return this;
+            }
+
+            private @Nullable Boolean retainBackBufferFromKeyframe;
+
+            public @NonNull Builder setRetainBackBufferFromKeyframe(@NonNull Boolean setterArg) {
+                this.retainBackBufferFromKeyframe = setterArg;
+                return this;
+            }
+
+            public @NonNull BufferingMessage build() {
+                BufferingMessage pigeonReturn = new BufferingMessage();
+                pigeonReturn.setMinBufferMs(minBufferMs);
+                pigeonReturn.setMaxBufferMs(maxBufferMs);
+                pigeonReturn.setBufferForPlaybackMs(bufferForPlaybackMs);
+                pigeonReturn.setBufferForPlaybackAfterRebufferMs(bufferForPlaybackAfterRebufferMs);
+                pigeonReturn.setTargetBufferBytes(targetBufferBytes);
+                pigeonReturn.setPrioritizeTimeOverSizeThresholds(prioritizeTimeOverSizeThresholds);
+                pigeonReturn.setBackBufferDurationMs(backBufferDurationMs);
+                pigeonReturn.setRetainBackBufferFromKeyframe(retainBackBufferFromKeyframe);
+                return pigeonReturn;
+            }
+        }
+
+        @NonNull
+        ArrayList<Object> toList() {
+            ArrayList<Object> toListResult = new ArrayList<Object>(8);
+            toListResult.add(minBufferMs);
+            toListResult.add(maxBufferMs);
+            toListResult.add(bufferForPlaybackMs);
+            toListResult.add(bufferForPlaybackAfterRebufferMs);
+            toListResult.add(targetBufferBytes);
+            toListResult.add(prioritizeTimeOverSizeThresholds);
+            toListResult.add(backBufferDurationMs);
+            toListResult.add(retainBackBufferFromKeyframe);
+            return toListResult;
+        }
+
+        static @NonNull BufferingMessage fromList(@NonNull ArrayList<Object> list) {
+            BufferingMessage pigeonResult = new BufferingMessage();
+            Object minBufferMs = list.get(0);
+            pigeonResult.setMinBufferMs(
+                    (minBufferMs == null)
+                            ? null
+                            : ((minBufferMs instanceof Integer) ? (Integer) minBufferMs : (Long) minBufferMs));
+            Object maxBufferMs = list.get(1);
+            pigeonResult.setMaxBufferMs(
+                    (maxBufferMs == null)
+                            ? null
+                            : ((maxBufferMs instanceof Integer) ? (Integer) maxBufferMs : (Long) maxBufferMs));
+            Object bufferForPlaybackMs = list.get(2);
+            pigeonResult.setBufferForPlaybackMs(
+                    (bufferForPlaybackMs == null)
+                            ? null
+                            : ((bufferForPlaybackMs instanceof Integer) ? (Integer) bufferForPlaybackMs : (Long) bufferForPlaybackMs));
+            Object bufferForPlaybackAfterRebufferMs = list.get(3);
+            pigeonResult.setBufferForPlaybackAfterRebufferMs(
+                    (bufferForPlaybackAfterRebufferMs == null)
+                            ? null
+                            : ((bufferForPlaybackAfterRebufferMs instanceof Integer) ? (Integer) bufferForPlaybackAfterRebufferMs : (Long) bufferForPlaybackAfterRebufferMs));
+            Object targetBufferBytes = list.get(4);
+            pigeonResult.setTargetBufferBytes(
+                    (targetBufferBytes == null)
+                            ? null
+                            : ((targetBufferBytes instanceof Integer) ? (Integer) targetBufferBytes : (Long) targetBufferBytes));
+            Object prioritizeTimeOverSizeThresholds = list.get(5);
+            pigeonResult.setPrioritizeTimeOverSizeThresholds((Boolean) prioritizeTimeOverSizeThresholds);
+            Object backBufferDurationMs = list.get(6);
+            pigeonResult.setBackBufferDurationMs(
+                    (backBufferDurationMs == null)
+                            ? null
+                            : ((backBufferDurationMs instanceof Integer) ? (Integer) backBufferDurationMs : (Long) backBufferDurationMs));
+            Object retainBackBufferFromKeyframe = list.get(7);
+            pigeonResult.setRetainBackBufferFromKeyframe((Boolean) retainBackBufferFromKeyframe);
+            return pigeonResult;
+        }
+    }
+
+    /**
+     * Generated class from Pigeon that represents data sent in messages.
+     */
+    public static final class PositionUpdatesMessage {
+        private @NonNull Long intervalMs;
+
+        public @NonNull Long getIntervalMs() {
+            return intervalMs;
+        }
+
+        public void setIntervalMs(@NonNull Long setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"intervalMs\" is null.");
+            }
+            this.intervalMs = setterArg;
+        }
+
+        /**
+         * Constructor is non-public to enforce null safety; use Builder.
+         */
+        PositionUpdatesMessage() {
+        }
+
+        public static final class Builder {
+
+            private @Nullable Long intervalMs;
+
+            public @NonNull Builder setIntervalMs(@NonNull Long setterArg) {
+                this.intervalMs = setterArg;
+                return this;
+            }
+
+            public @NonNull PositionUpdatesMessage build() {
+                PositionUpdatesMessage pigeonReturn = new PositionUpdatesMessage();
+                pigeonReturn.setIntervalMs(intervalMs);
+                return pigeonReturn;
+            }
+        }
+
+        @NonNull
+        ArrayList<Object> toList() {
+            ArrayList<Object> toListResult = new ArrayList<Object>(1);
+            toListResult.add(intervalMs);
+            return toListResult;
+        }
+
+        static @NonNull PositionUpdatesMessage fromList(@NonNull ArrayList<Object> list) {
+            PositionUpdatesMessage pigeonResult = new PositionUpdatesMessage();
+            Object intervalMs = list.get(0);
+            pigeonResult.setIntervalMs(
+                    (intervalMs == null)
+                            ? null
+                            : ((intervalMs instanceof Integer) ? (Integer) intervalMs : (Long) intervalMs));
+            return pigeonResult;
+        }
+    }
+
+    /**
+     * Generated class from Pigeon that represents data sent in messages.
+     */
+    public static final class PlaybackStatsMessage {
+        private @NonNull Long textureId;
+
+        public @NonNull Long getTextureId() {
+            return textureId;
+        }
+
+        public void setTextureId(@NonNull Long setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"textureId\" is null.");
+            }
+            this.textureId = setterArg;
+        }
+
+        private @NonNull Long startupTimeMs;
+
+        public @NonNull Long getStartupTimeMs() {
+            return startupTimeMs;
+        }
+
+        public void setStartupTimeMs(@NonNull Long setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"startupTimeMs\" is null.");
+            }
+            this.startupTimeMs = setterArg;
+        }
+
+        private @NonNull Long rebufferCount;
+
+        public @NonNull Long getRebufferCount() {
+            return rebufferCount;
+        }
+
+        public void setRebufferCount(@NonNull Long setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"rebufferCount\" is null.");
+            }
+            this.rebufferCount = setterArg;
+        }
+
+        private @NonNull Long rebufferDurationMs;
+
+        public @NonNull Long getRebufferDurationMs() {
+            return rebufferDurationMs;
+        }
+
+        public void setRebufferDurationMs(@NonNull Long setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"rebufferDurationMs\" is null.");
+            }
+            this.rebufferDurationMs = setterArg;
+        }
+
+        private @NonNull Long droppedFrames;
+
+        public @NonNull Long getDroppedFrames() {
+            return droppedFrames;
+        }
+
+        public void setDroppedFrames(@NonNull Long setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"droppedFrames\" is null.");
+            }
+            this.droppedFrames = setterArg;
+        }
+
+        private @NonNull Long bitrateSwitchCount;
+
+        public @NonNull Long getBitrateSwitchCount() {
+            return bitrateSwitchCount;
+        }
+
+        public void setBitrateSwitchCount(@NonNull Long setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"bitrateSwitchCount\" is null.");
+            }
+            this.bitrateSwitchCount = setterArg;
+        }
+
+        private @NonNull Long videoBitrate;
+
+        public @NonNull Long getVideoBitrate() {
+            return videoBitrate;
+        }
+
+        public void setVideoBitrate(@NonNull Long setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"videoBitrate\" is null.");
+            }
+            this.videoBitrate = setterArg;
+        }
+
+        private @NonNull Long bandwidthEstimate;
+
+        public @NonNull Long getBandwidthEstimate() {
+            return bandwidthEstimate;
+        }
+
+        public void setBandwidthEstimate(@NonNull Long setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"bandwidthEstimate\" is null.");
+            }
+            this.bandwidthEstimate = setterArg;
+        }
+
+        /**
+         * Constructor is non-public to enforce null safety; use Builder.
+         */
+        PlaybackStatsMessage() {
+        }
+
+        public static final class Builder {
+
+            private @Nullable Long textureId;
+
+            public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+                this.textureId = setterArg;
+                return this;
+            }
+
+            private @Nullable Long startupTimeMs;
+
+            public @NonNull Builder setStartupTimeMs(@NonNull Long setterArg) {
+                this.startupTimeMs = setterArg;
+                return this;
+            }
+
+            private @Nullable Long rebufferCount;
+
+            public @NonNull Builder setRebufferCount(@NonNull Long setterArg) {
+                this.rebufferCount = setterArg;
+                return this;
+            }
+
+            private @Nullable Long rebufferDurationMs;
+
+            public @NonNull Builder setRebufferDurationMs(@NonNull Long setterArg) {
+                this.rebufferDurationMs = setterArg;
+                return this;
+            }
+
+            private @Nullable Long droppedFrames;
+
+            public @NonNull Builder setDroppedFrames(@NonNull Long setterArg) {
+                this.droppedFrames = setterArg;
+                return this;
+            }
+
+            private @Nullable Long bitrateSwitchCount;
+
+            public @NonNull Builder setBitrateSwitchCount(@NonNull Long setterArg) {
+                this.bitrateSwitchCount = setterArg;
+                return this;
+            }
+
+            private @Nullable Long videoBitrate;
+
+            public @NonNull Builder setVideoBitrate(@NonNull Long setterArg) {
+                this.videoBitrate = setterArg;
+                return this;
+            }
+
+            private @Nullable Long bandwidthEstimate;
+
+            public @NonNull Builder setBandwidthEstimate(@NonNull Long setterArg) {
+                this.bandwidthEstimate = setterArg;
+                return this;
+            }
+
+            public @NonNull PlaybackStatsMessage build() {
+                PlaybackStatsMessage pigeonReturn = new PlaybackStatsMessage();
+                pigeonReturn.setTextureId(textureId);
+                pigeonReturn.setStartupTimeMs(startupTimeMs);
+                pigeonReturn.setRebufferCount(rebufferCount);
+                pigeonReturn.setRebufferDurationMs(rebufferDurationMs);
+                pigeonReturn.setDroppedFrames(droppedFrames);
+                pigeonReturn.setBitrateSwitchCount(bitrateSwitchCount);
+                pigeonReturn.setVideoBitrate(videoBitrate);
+                pigeonReturn.setBandwidthEstimate(bandwidthEstimate);
+                return pigeonReturn;
+            }
+        }
+
+        @NonNull
+        ArrayList<Object> toList() {
+            ArrayList<Object> toListResult = new ArrayList<Object>(8);
+            toListResult.add(textureId);
+            toListResult.add(startupTimeMs);
+            toListResult.add(rebufferCount);
+            toListResult.add(rebufferDurationMs);
+            toListResult.add(droppedFrames);
+            toListResult.add(bitrateSwitchCount);
+            toListResult.add(videoBitrate);
+            toListResult.add(bandwidthEstimate);
+            return toListResult;
+        }
+
+        static @NonNull PlaybackStatsMessage fromList(@NonNull ArrayList<Object> list) {
+            PlaybackStatsMessage pigeonResult = new PlaybackStatsMessage();
+            Object textureId = list.get(0);
+            pigeonResult.setTextureId(
+                    (textureId == null)
+                            ? null
+                            : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+            Object startupTimeMs = list.get(1);
+            pigeonResult.setStartupTimeMs(
+                    (startupTimeMs == null)
+                            ? null
+                            : ((startupTimeMs instanceof Integer) ? (Integer) startupTimeMs : (Long) startupTimeMs));
+            Object rebufferCount = list.get(2);
+            pigeonResult.setRebufferCount(
+                    (rebufferCount == null)
+                            ? null
+                            : ((rebufferCount instanceof Integer) ? (Integer) rebufferCount : (Long) rebufferCount));
+            Object rebufferDurationMs = list.get(3);
+            pigeonResult.setRebufferDurationMs(
+                    (rebufferDurationMs == null)
+                            ? null
+                            : ((rebufferDurationMs instanceof Integer) ? (Integer) rebufferDurationMs : (Long) rebufferDurationMs));
+            Object droppedFrames = list.get(4);
+            pigeonResult.setDroppedFrames(
+                    (droppedFrames == null)
+                            ? null
+                            : ((droppedFrames instanceof Integer) ? (Integer) droppedFrames : (Long) droppedFrames));
+            Object bitrateSwitchCount = list.get(5);
+            pigeonResult.setBitrateSwitchCount(
+                    (bitrateSwitchCount == null)
+                            ? null
+                            : ((bitrateSwitchCount instanceof Integer) ? (Integer) bitrateSwitchCount : (Long) bitrateSwitchCount));
+            Object videoBitrate = list.get(6);
+            pigeonResult.setVideoBitrate(
+                    (videoBitrate == null)
+                            ? null
+                            : ((videoBitrate instanceof Integer) ? (Integer) videoBitrate : (Long) videoBitrate));
+            Object bandwidthEstimate = list.get(7);
+            pigeonResult.setBandwidthEstimate(
+                    (bandwidthEstimate == null)
+                            ? null
+                            : ((bandwidthEstimate instanceof Integer) ? (Integer) bandwidthEstimate : (Long) bandwidthEstimate));
+            return pigeonResult;
+        }
+    }
+
+    /**
+     * Generated class from Pigeon that represents data sent in messages.
+     */
+    public static final class PlaybackStatsUpdatesMessage {
+        private @NonNull Long intervalMs;
+
+        public @NonNull Long getIntervalMs() {
+            return intervalMs;
+        }
+
+        public void setIntervalMs(@NonNull Long setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"intervalMs\" is null.");
+            }
+            this.intervalMs = setterArg;
+        }
+
+        /**
+         * Constructor is non-public to enforce null safety; use Builder.
+         */
+        PlaybackStatsUpdatesMessage() {
+        }
+
+        public static final class Builder {
+
+            private @Nullable Long intervalMs;
+
+            public @NonNull Builder setIntervalMs(@NonNull Long setterArg) {
+                this.intervalMs = setterArg;
+                return this;
+            }
+
+            public @NonNull PlaybackStatsUpdatesMessage build() {
+                PlaybackStatsUpdatesMessage pigeonReturn = new PlaybackStatsUpdatesMessage();
+                pigeonReturn.setIntervalMs(intervalMs);
+                return pigeonReturn;
+            }
+        }
+
+        @NonNull
+        ArrayList<Object> toList() {
+            ArrayList<Object> toListResult = new ArrayList<Object>(1);
+            toListResult.add(intervalMs);
+            return toListResult;
+        }
+
+        static @NonNull PlaybackStatsUpdatesMessage fromList(@NonNull ArrayList<Object> list) {
+            PlaybackStatsUpdatesMessage pigeonResult = new PlaybackStatsUpdatesMessage();
+            Object intervalMs = list.get(0);
+            pigeonResult.setIntervalMs(
+                    (intervalMs == null)
+                            ? null
+                            : ((intervalMs instanceof Integer) ? (Integer) intervalMs : (Long) intervalMs));
+            return pigeonResult;
+        }
+    }
+
+    /**
+     * Generated class from Pigeon that represents data sent in messages.
+     */
+    public static final class ThumbnailsMessage {
+        private @NonNull String uri;
+
+        public @NonNull String getUri() {
+            return uri;
+        }
+
+        public void setUri(@NonNull String setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"uri\" is null.");
+            }
+            this.uri = setterArg;
+        }
+
+        private @NonNull Map<String, String> httpHeaders;
+
+        public @NonNull Map<String, String> getHttpHeaders() {
+            return httpHeaders;
+        }
+
+        public void setHttpHeaders(@NonNull Map<String, String> setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"httpHeaders\" is null.");
+            }
+            this.httpHeaders = setterArg;
+        }
+
+        private @NonNull List<Long> timestampsMs;
+
+        public @NonNull List<Long> getTimestampsMs() {
+            return timestampsMs;
+        }
+
+        public void setTimestampsMs(@NonNull List<Long> setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"timestampsMs\" is null.");
+            }
+            this.timestampsMs = setterArg;
+        }
+
+        private @NonNull Long maxWidth;
+
+        public @NonNull Long getMaxWidth() {
+            return maxWidth;
+        }
+
+        public void setMaxWidth(@NonNull Long setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"maxWidth\" is null.");
+            }
+            this.maxWidth = setterArg;
+        }
+
+        private @NonNull Long maxHeight;
+
+        public @NonNull Long getMaxHeight() {
+            return maxHeight;
+        }
+
+        public void setMaxHeight(@NonNull Long setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"maxHeight\" is null.");
+            }
+            this.maxHeight = setterArg;
+        }
+
+        private @NonNull Boolean rgba;
+
+        public @NonNull Boolean getRgba() {
+            return rgba;
+        }
+
+        public void setRgba(@NonNull Boolean setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"rgba\" is null.");
+            }
+            this.rgba = setterArg;
+        }
+
+        /**
+         * Constructor is non-public to enforce null safety; use Builder.
+         */
+        ThumbnailsMessage() {
+        }
+
+        public static final class Builder {
+
+            private @Nullable String uri;
+
+            public @NonNull Builder setUri(@NonNull String setterArg) {
+                this.uri = setterArg;
+                return this;
+            }
+
+            private @Nullable Map<String, String> httpHeaders;
+
+            public @NonNull Builder setHttpHeaders(@NonNull Map<String, String> setterArg) {
+                this.httpHeaders = setterArg;
+                return this;
+            }
+
+            private @Nullable List<Long> timestampsMs;
+
+            public @NonNull Builder setTimestampsMs(@NonNull List<Long> setterArg) {
+                this.timestampsMs = setterArg;
+                return this;
+            }
+
+            private @Nullable Long maxWidth;
+
+            public @NonNull Builder setMaxWidth(@NonNull Long setterArg) {
+                this.maxWidth = setterArg;
+                return this;
+            }
+
+            private @Nullable Long maxHeight;
+
+            public @NonNull Builder setMaxHeight(@NonNull Long setterArg) {
+                this.maxHeight = setterArg;
+                return this;
+            }
+
+            private @Nullable Boolean rgba;
+
+            public @NonNull Builder setRgba(@NonNull Boolean setterArg) {
+                this.rgba = setterArg;
+                return this;
+            }
+
+            public @NonNull ThumbnailsMessage build() {
+                ThumbnailsMessage pigeonReturn = new ThumbnailsMessage();
+                pigeonReturn.setUri(uri);
+                pigeonReturn.setHttpHeaders(httpHeaders);
+                pigeonReturn.setTimestampsMs(timestampsMs);
+                pigeonReturn.setMaxWidth(maxWidth);
+                pigeonReturn.setMaxHeight(maxHeight);
+                pigeonReturn.setRgba(rgba);
+                return pigeonReturn;
+            }
+        }
+
+        @NonNull
+        ArrayList<Object> toList() {
+            ArrayList<Object> toListResult = new ArrayList<Object>(6);
+            toListResult.add(uri);
+            toListResult.add(httpHeaders);
+            toListResult.add(timestampsMs);
+            toListResult.add(maxWidth);
+            toListResult.add(maxHeight);
+            toListResult.add(rgba);
+            return toListResult;
+        }
+
+        static @NonNull ThumbnailsMessage fromList(@NonNull ArrayList<Object> list) {
+            ThumbnailsMessage pigeonResult = new ThumbnailsMessage();
+            Object uri = list.get(0);
+            pigeonResult.setUri((String) uri);
+            Object httpHeaders = list.get(1);
+            pigeonResult.setHttpHeaders((Map<String, String>) httpHeaders);
+            Object timestampsMs = list.get(2);
+            pigeonResult.setTimestampsMs((List<Long>) timestampsMs);
+            Object maxWidth = list.get(3);
+            pigeonResult.setMaxWidth(
+                    (maxWidth == null)
+                            ? null
+                            : ((maxWidth instanceof Integer) ? (Integer) maxWidth : (Long) maxWidth));
+            Object maxHeight = list.get(4);
+            pigeonResult.setMaxHeight(
+                    (maxHeight == null)
+                            ? null
+                            : ((maxHeight instanceof Integer) ? (Integer) maxHeight : (Long) maxHeight));
+            Object rgba = list.get(5);
+            pigeonResult.setRgba((Boolean) rgba);
+            return pigeonResult;
+        }
+    }
+
+    /**
+     * Generated class from Pigeon that represents data sent in messages.
+     */
+    public static final class ThumbnailMessage {
+        private @NonNull Long timestampMs;
+
+        public @NonNull Long getTimestampMs() {
+            return timestampMs;
+        }
+
+        public void setTimestampMs(@NonNull Long setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"timestampMs\" is null.");
+            }
+            this.timestampMs = setterArg;
+        }
+
+        private @NonNull Long width;
+
+        public @NonNull Long getWidth() {
+            return width;
+        }
+
+        public void setWidth(@NonNull Long setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"width\" is null.");
+            }
+            this.width = setterArg;
+        }
+
+        private @NonNull Long height;
+
+        public @NonNull Long getHeight() {
+            return height;
+        }
+
+        public void setHeight(@NonNull Long setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"height\" is null.");
+            }
+            this.height = setterArg;
+        }
+
+        private @Nullable String path;
+
+        public @Nullable String getPath() {
+            return path;
+        }
+
+        public void setPath(@Nullable String setterArg) {
+            this.path = setterArg;
+        }
+
+        private @Nullable byte[] pixels;
+
+        public @Nullable byte[] getPixels() {
+            return pixels;
+        }
+
+        public void setPixels(@Nullable byte[] setterArg) {
+            this.pixels = setterArg;
+        }
+
+        /**
+         * Constructor is non-public to enforce null safety; use Builder.
+         */
+        ThumbnailMessage() {
+        }
+
+        public static final class Builder {
+
+            private @Nullable Long timestampMs;
+
+            public @NonNull Builder setTimestampMs(@NonNull Long setterArg) {
+                this.timestampMs = setterArg;
+                return this;
+            }
+
+            private @Nullable Long width;
+
+            public @NonNull Builder setWidth(@NonNull Long setterArg) {
+                this.width = setterArg;
+                return this;
+            }
+
+            private @Nullable Long height;
+
+            public @NonNull Builder setHeight(@NonNull Long setterArg) {
+                this.height = setterArg;
+                return this;
+            }
+
+            private @Nullable String path;
+
+            public @NonNull Builder setPath(@Nullable String setterArg) {
+                this.path = setterArg;
+                return this;
+            }
+
+            private @Nullable byte[] pixels;
+
+            public @NonNull Builder setPixels(@Nullable byte[] setterArg) {
+                this.pixels = setterArg;
+                return this;
+            }
+
+            public @NonNull ThumbnailMessage build() {
+                ThumbnailMessage pigeonReturn = new ThumbnailMessage();
+                pigeonReturn.setTimestampMs(timestampMs);
+                pigeonReturn.setWidth(width);
+                pigeonReturn.setHeight(height);
+                pigeonReturn.setPath(path);
+                pigeonReturn.setPixels(pixels);
+                return pigeonReturn;
+            }
+        }
+
+        @NonNull
+        ArrayList<Object> toList() {
+            ArrayList<Object> toListResult = new ArrayList<Object>(5);
+            toListResult.add(timestampMs);
+            toListResult.add(width);
+            toListResult.add(height);
+            toListResult.add(path);
+            toListResult.add(pixels);
+            return toListResult;
+        }
+
+        static @NonNull ThumbnailMessage fromList(@NonNull ArrayList<Object> list) {
+            ThumbnailMessage pigeonResult = new ThumbnailMessage();
+            Object timestampMs = list.get(0);
+            pigeonResult.setTimestampMs(
+                    (timestampMs == null)
+                            ? null
+                            : ((timestampMs instanceof Integer) ? (Integer) timestampMs : (Long) timestampMs));
+            Object width = list.get(1);
+            pigeonResult.setWidth(
+                    (width == null)
+                            ? null
+                            : ((width instanceof Integer) ? (Integer) width : (Long) width));
+            Object height = list.get(2);
+            pigeonResult.setHeight(
+                    (height == null)
+                            ? null
+                            : ((height instanceof Integer) ? (Integer) height : (Long) height));
+            Object path = list.get(3);
+            pigeonResult.setPath((String) path);
+            Object pixels = list.get(4);
+            pigeonResult.setPixels((byte[]) pixels);
+            return pigeonResult;
+        }
+    }
+
+    /**
+     * Generated class from Pigeon that represents data sent in messages.
+     */
+    public static final class ThumbnailsResultMessage {
+        private @NonNull List<ThumbnailMessage> thumbnails;
+
+        public @NonNull List<ThumbnailMessage> getThumbnails() {
+            return thumbnails;
+        }
+
+        public void setThumbnails(@NonNull List<ThumbnailMessage> setterArg) {
+            if (setterArg == null) {
+                throw new IllegalStateException("Nonnull field \"thumbnails\" is null.");
+            }
+            this.thumbnails = setterArg;
+        }
+
+        /**
+         * Constructor is non-public to enforce null safety; use Builder.
+         */
+        ThumbnailsResultMessage() {
+        }
+
+        public static final class Builder {
+
+            private @Nullable List<ThumbnailMessage> thumbnails;
+
+            public @NonNull Builder setThumbnails(@NonNull List<ThumbnailMessage> setterArg) {
+                this.thumbnails = setterArg;
+                return this;
+            }
+
+            public @NonNull ThumbnailsResultMessage build() {
+                ThumbnailsResultMessage pigeonReturn = new ThumbnailsResultMessage();
+                pigeonReturn.setThumbnails(thumbnails);
+                return pigeonReturn;
+            }
+        }
+
+        @NonNull
+        ArrayList<Object> toList() {
+            ArrayList<Object> toListResult = new ArrayList<Object>(1);
+            toListResult.add(thumbnails);
+            return toListResult;
+        }
+
+        static @NonNull ThumbnailsResultMessage fromList(@NonNull ArrayList<Object> list) {
+            ThumbnailsResultMessage pigeonResult = new ThumbnailsResultMessage();
+            Object thumbnails = list.get(0);
+            pigeonResult.setThumbnails((List<ThumbnailMessage>) thumbnails);
+            return pigeonResult;
+        }
+    }
+
     private static class AndroidVideoPlayerApiCodec extends StandardMessageCodec {
         public static final AndroidVideoPlayerApiCodec INSTANCE = new AndroidVideoPlayerApiCodec();
 
@@ -652,18 +1910,38 @@ public class Messages {
         protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
             switch (type) {
                 case (byte) 128:
-                    return CreateMessage.fromList((ArrayList<Object>) readValue(buffer));
+                    return BufferingMessage.fromList((ArrayList<Object>) readValue(buffer));
                 case (byte) 129:
-                    return LoopingMessage.fromList((ArrayList<Object>) readValue(buffer));
+                    return CacheMessage.fromList((ArrayList<Object>) readValue(buffer));
                 case (byte) 130:
-                    return MixWithOthersMessage.fromList((ArrayList<Object>) readValue(buffer));
+                    return CacheStatsMessage.fromList((ArrayList<Object>) readValue(buffer));
                 case (byte) 131:
-                    return PlaybackSpeedMessage.fromList((ArrayList<Object>) readValue(buffer));
+                    return CreateMessage.fromList((ArrayList<Object>) readValue(buffer));
                 case (byte) 132:
-                    return PositionMessage.fromList((ArrayList<Object>) readValue(buffer));
+                    return LoopingMessage.fromList((ArrayList<Object>) readValue(buffer));
                 case (byte) 133:
-                    return TextureMessage.fromList((ArrayList<Object>) readValue(buffer));
+                    return MixWithOthersMessage.fromList((ArrayList<Object>) readValue(buffer));
                 case (byte) 134:
+                    return PlaybackSpeedMessage.fromList((ArrayList<Object>) readValue(buffer));
+                case (byte) 135:
+                    return PlaybackStatsMessage.fromList((ArrayList<Object>) readValue(buffer));
+                case (byte) 136:
+                    return PlaybackStatsUpdatesMessage.fromList((ArrayList<Object>) readValue(buffer));
+                case (byte) 137:
+                    return PositionMessage.fromList((ArrayList<Object>) readValue(buffer));
+                case (byte) 138:
+                    return PositionUpdatesMessage.fromList((ArrayList<Object>) readValue(buffer));
+                case (byte) 139:
+                    return PrefetchMessage.fromList((ArrayList<Object>) readValue(buffer));
+                case (byte) 140:
+                    return TextureMessage.fromList((ArrayList<Object>) readValue(buffer));
+                case (byte) 141:
+                    return ThumbnailMessage.fromList((ArrayList<Object>) readValue(buffer));
+                case (byte) 142:
+                    return ThumbnailsMessage.fromList((ArrayList<Object>) readValue(buffer));
+                case (byte) 143:
+                    return ThumbnailsResultMessage.fromList((ArrayList<Object>) readValue(buffer));
+                case (byte) 144:
                     return VolumeMessage.fromList((ArrayList<Object>) readValue(buffer));
                 default:
                     return super.readValueOfType(type, buffer);
@@ -672,26 +1950,56 @@ public class Messages {
 
         @Override
         protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
-            if (value instanceof CreateMessage) {
+            if (value instanceof BufferingMessage) {
                 stream.write(128);
+                writeValue(stream, ((BufferingMessage) value).toList());
+            } else if (value instanceof CacheMessage) {
+                stream.write(129);
+                writeValue(stream, ((CacheMessage) value).toList());
+            } else if (value instanceof CacheStatsMessage) {
+                stream.write(130);
+                writeValue(stream, ((CacheStatsMessage) value).toList());
+            } else if (value instanceof CreateMessage) {
+                stream.write(131);
                 writeValue(stream, ((CreateMessage) value).toList());
             } else if (value instanceof LoopingMessage) {
-                stream.write(129);
+                stream.write(132);
                 writeValue(stream, ((LoopingMessage) value).toList());
             } else if (value instanceof MixWithOthersMessage) {
-                stream.write(130);
+                stream.write(133);
                 writeValue(stream, ((MixWithOthersMessage) value).toList());
             } else if (value instanceof PlaybackSpeedMessage) {
-                stream.write(131);
+                stream.write(134);
                 writeValue(stream, ((PlaybackSpeedMessage) value).toList());
+            } else if (value instanceof PlaybackStatsMessage) {
+                stream.write(135);
+                writeValue(stream, ((PlaybackStatsMessage) value).toList());
+            } else if (value instanceof PlaybackStatsUpdatesMessage) {
+                stream.write(136);
+                writeValue(stream, ((PlaybackStatsUpdatesMessage) value).toList());
             } else if (value instanceof PositionMessage) {
-                stream.write(132);
+                stream.write(137);
                 writeValue(stream, ((PositionMessage) value).toList());
+            } else if (value instanceof PositionUpdatesMessage) {
+                stream.write(138);
+                writeValue(stream, ((PositionUpdatesMessage) value).toList());
+            } else if (value instanceof PrefetchMessage) {
+                stream.write(139);
+                writeValue(stream, ((PrefetchMessage) value).toList());
             } else if (value instanceof TextureMessage) {
-                stream.write(133);
+                stream.write(140);
                 writeValue(stream, ((TextureMessage) value).toList());
+            } else if (value instanceof ThumbnailMessage) {
+                stream.write(141);
+                writeValue(stream, ((ThumbnailMessage) value).toList());
+            } else if (value instanceof ThumbnailsMessage) {
+                stream.write(142);
+                writeValue(stream, ((ThumbnailsMessage) value).toList());
+            } else if (value instanceof ThumbnailsResultMessage) {
+                stream.write(143);
+                writeValue(stream, ((ThumbnailsResultMessage) value).toList());
             } else if (value instanceof VolumeMessage) {
-                stream.write(134);
+                stream.write(144);
                 writeValue(stream, ((VolumeMessage) value).toList());
             } else {
                 super.writeValue(stream, value);
@@ -699,6 +2007,13 @@ public class Messages {
         }
     }
 
+    public interface Result<T> {
+        @SuppressWarnings("UnknownNullness")
+        void success(T result);
+
+        void error(@NonNull Throwable error);
+    }
+
     /**
      * Generated interface from Pigeon that represents a handler of messages from Flutter.
      */
@@ -732,6 +2047,27 @@ public class Messages {
 
         void setMixWithOthers(@NonNull MixWithOthersMessage msg);
 
+        void setCacheOptions(@NonNull CacheMessage msg);
+
+        @NonNull
+        CacheStatsMessage getCacheStats();
+
+        void prefetch(@NonNull PrefetchMessage msg);
+
+        void preparePlayer(@NonNull CreateMessage msg);
+
+        void setBufferingOptions(@NonNull BufferingMessage msg);
+
+        void setPositionUpdateInterval(@NonNull PositionUpdatesMessage msg);
+
+        @NonNull
+        PlaybackStatsMessage getPlaybackStats(@NonNull TextureMessage msg);
+
+        void setPlaybackStatsInterval(@NonNull PlaybackStatsUpdatesMessage msg);
+
+        void getThumbnails(
+                @NonNull ThumbnailsMessage msg, @NonNull Result<ThumbnailsResultMessage> result);
+
         /**
          * The codec used by AndroidVideoPlayerApi.
          */
@@ -1049,6 +2385,235 @@ public class Messages {
                     channel.setMessageHandler(null);
                 }
             }
+            {
+                BasicMessageChannel<Object> channel =
+                        new BasicMessageChannel<>(
+                                binaryMessenger,
+                                "dev.flutter.pigeon.AndroidVideoPlayerApi.setCacheOptions",
+                                getCodec());
+                if (api != null) {
+                    channel.setMessageHandler(
+                            (message, reply) -> {
+                                ArrayList<Object> wrapped = new ArrayList<Object>();
+                                ArrayList<Object> args = (ArrayList<Object>) message;
+                                CacheMessage msgArg = (CacheMessage) args.get(0);
+                                try {
+                                    api.setCacheOptions(msgArg);
+                                    wrapped.add(0, null);
+                                } catch (Throwable exception) {
+                                    ArrayList<Object> wrappedError = wrapError(exception);
+                                    wrapped = wrappedError;
+                                }
+                                reply.reply(wrapped);
+                            });
+                } else {
+                    channel.setMessageHandler(null);
+                }
+            }
+            {
+                BasicMessageChannel<Object> channel =
+                        new BasicMessageChannel<>(
+                                binaryMessenger,
+                                "dev.flutter.pigeon.AndroidVideoPlayerApi.getCacheStats",
+                                getCodec());
+                if (api != null) {
+                    channel.setMessageHandler(
+                            (message, reply) -> {
+                                ArrayList<Object> wrapped = new ArrayList<Object>();
+                                try {
+                                    CacheStatsMessage output = api.getCacheStats();
+                                    wrapped.add(0, output);
+                                } catch (Throwable exception) {
+                                    ArrayList<Object> wrappedError = wrapError(exception);
+                                    wrapped = wrappedError;
+                                }
+                                reply.reply(wrapped);
+                            });
+                } else {
+                    channel.setMessageHandler(null);
+                }
+            }
+            {
+                BasicMessageChannel<Object> channel =
+                        new BasicMessageChannel<>(
+                                binaryMessenger,
+                                "dev.flutter.pigeon.AndroidVideoPlayerApi.prefetch",
+                                getCodec());
+                if (api != null) {
+                    channel.setMessageHandler(
+                            (message, reply) -> {
+                                ArrayList<Object> wrapped = new ArrayList<Object>();
+                                ArrayList<Object> args = (ArrayList<Object>) message;
+                                PrefetchMessage msgArg = (PrefetchMessage) args.get(0);
+                                try {
+                                    api.prefetch(msgArg);
+                                    wrapped.add(0, null);
+                                } catch (Throwable exception) {
+                                    ArrayList<Object> wrappedError = wrapError(exception);
+                                    wrapped = wrappedError;
+                                }
+                                reply.reply(wrapped);
+                            });
+                } else {
+                    channel.setMessageHandler(null);
+                }
+            }
+            {
+                BasicMessageChannel<Object> channel =
+                        new BasicMessageChannel<>(
+                                binaryMessenger,
+                                "dev.flutter.pigeon.AndroidVideoPlayerApi.preparePlayer",
+                                getCodec());
+                if (api != null) {
+                    channel.setMessageHandler(
+                            (message, reply) -> {
+                                ArrayList<Object> wrapped = new ArrayList<Object>();
+                                ArrayList<Object> args = (ArrayList<Object>) message;
+                                CreateMessage msgArg = (CreateMessage) args.get(0);
+                                try {
+                                    api.preparePlayer(msgArg);
+                                    wrapped.add(0, null);
+                                } catch (Throwable exception) {
+                                    ArrayList<Object> wrappedError = wrapError(exception);
+                                    wrapped = wrappedError;
+                                }
+                                reply.reply(wrapped);
+                            });
+                } else {
+                    channel.setMessageHandler(null);
+                }
+            }
+            {
+                BasicMessageChannel<Object> channel =
+                        new BasicMessageChannel<>(
+                                binaryMessenger,
+                                "dev.flutter.pigeon.AndroidVideoPlayerApi.setBufferingOptions",
+                                getCodec());
+                if (api != null) {
+                    channel.setMessageHandler(
+                            (message, reply) -> {
+                                ArrayList<Object> wrapped = new ArrayList<Object>();
+                                ArrayList<Object> args = (ArrayList<Object>) message;
+                                BufferingMessage msgArg = (BufferingMessage) args.get(0);
+                                try {
+                                    api.setBufferingOptions(msgArg);
+                                    wrapped.add(0, null);
+                                } catch (Throwable exception) {
+                                    ArrayList<Object> wrappedError = wrapError(exception);
+                                    wrapped = wrappedError;
+                                }
+                                reply.reply(wrapped);
+                            });
+                } else {
+                    channel.setMessageHandler(null);
+                }
+            }
+            {
+                BasicMessageChannel<Object> channel =
+                        new BasicMessageChannel<>(
+                                binaryMessenger,
+                                "dev.flutter.pigeon.AndroidVideoPlayerApi.setPositionUpdateInterval",
+                                getCodec());
+                if (api != null) {
+                    channel.setMessageHandler(
+                            (message, reply) -> {
+                                ArrayList<Object> wrapped = new ArrayList<Object>();
+                                ArrayList<Object> args = (ArrayList<Object>) message;
+                                PositionUpdatesMessage msgArg = (PositionUpdatesMessage) args.get(0);
+                                try {
+                                    api.setPositionUpdateInterval(msgArg);
+                                    wrapped.add(0, null);
+                                } catch (Throwable exception) {
+                                    ArrayList<Object> wrappedError = wrapError(exception);
+                                    wrapped = wrappedError;
+                                }
+                                reply.reply(wrapped);
+                            });
+                } else {
+                    channel.setMessageHandler(null);
+                }
+            }
+            {
+                BasicMessageChannel<Object> channel =
+                        new BasicMessageChannel<>(
+                                binaryMessenger,
+                                "dev.flutter.pigeon.AndroidVideoPlayerApi.getPlaybackStats",
+                                getCodec());
+                if (api != null) {
+                    channel.setMessageHandler(
+                            (message, reply) -> {
+                                ArrayList<Object> wrapped = new ArrayList<Object>();
+                                ArrayList<Object> args = (ArrayList<Object>) message;
+                                TextureMessage msgArg = (TextureMessage) args.get(0);
+                                try {
+                                    PlaybackStatsMessage output = api.getPlaybackStats(msgArg);
+                                    wrapped.add(0, output);
+                                } catch (Throwable exception) {
+                                    ArrayList<Object> wrappedError = wrapError(exception);
+                                    wrapped = wrappedError;
+                                }
+                                reply.reply(wrapped);
+                            });
+                } else {
+                    channel.setMessageHandler(null);
+                }
+            }
+            {
+                BasicMessageChannel<Object> channel =
+                        new BasicMessageChannel<>(
+                                binaryMessenger,
+                                "dev.flutter.pigeon.AndroidVideoPlayerApi.setPlaybackStatsInterval",
+                                getCodec());
+                if (api != null) {
+                    channel.setMessageHandler(
+                            (message, reply) -> {
+                                ArrayList<Object> wrapped = new ArrayList<Object>();
+                                ArrayList<Object> args = (ArrayList<Object>) message;
+                                PlaybackStatsUpdatesMessage msgArg = (PlaybackStatsUpdatesMessage) args.get(0);
+                                try {
+                                    api.setPlaybackStatsInterval(msgArg);
+                                    wrapped.add(0, null);
+                                } catch (Throwable exception) {
+                                    ArrayList<Object> wrappedError = wrapError(exception);
+                                    wrapped = wrappedError;
+                                }
+                                reply.reply(wrapped);
+                            });
+                } else {
+                    channel.setMessageHandler(null);
+                }
+            }
+            {
+                BasicMessageChannel<Object> channel =
+                        new BasicMessageChannel<>(
+                                binaryMessenger,
+                                "dev.flutter.pigeon.AndroidVideoPlayerApi.getThumbnails",
+                                getCodec());
+                if (api != null) {
+                    channel.setMessageHandler(
+                            (message, reply) -> {
+                                ArrayList<Object> wrapped = new ArrayList<Object>();
+                                ArrayList<Object> args = (ArrayList<Object>) message;
+                                ThumbnailsMessage msgArg = (ThumbnailsMessage) args.get(0);
+                                Result<ThumbnailsResultMessage> resultCallback =
+                                        new Result<ThumbnailsResultMessage>() {
+                                            public void success(ThumbnailsResultMessage result) {
+                                                wrapped.add(0, result);
+                                                reply.reply(wrapped);
+                                            }
+
+                                            public void error(Throwable error) {
+                                                ArrayList<Object> wrappedError = wrapError(error);
+                                                reply.reply(wrappedError);
+                                            }
+                                        };
+
+                                api.getThumbnails(msgArg, resultCallback);
+                            });
+                } else {
+                    channel.setMessageHandler(null);
+                }
+            }
         }
     }
 }
@@ -0,0 +1,144 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.Player;
+import com.google.android.exoplayer2.analytics.AnalyticsListener;
+import com.google.android.exoplayer2.decoder.DecoderReuseEvaluation;
+import com.google.android.exoplayer2.util.Clock;
+import io.flutter.plugins.videoplayer.Messages.PlaybackStatsMessage;
+
+/**
+ * Aggregates quality of experience statistics of a single player.
+ *
+ * <p>Values that aren't known yet are reported as -1.
+ */
+final class PlaybackStatsCollector implements AnalyticsListener {
+  private final Clock clock;
+  private final long startRealtimeMs;
+
+  private long startupTimeMs = C.TIME_UNSET;
+  private boolean isSeeking;
+  private long rebufferCount;
+  private long rebufferDurationMs;
+  // The start of the ongoing rebuffer, or C.TIME_UNSET.
+  private long rebufferStartRealtimeMs = C.TIME_UNSET;
+  private long droppedFrames;
+  private long bitrateSwitchCount;
+  private int videoBitrate = Format.NO_VALUE;
+  private long bandwidthEstimate = -1;
+
+  /** Creates a collector that measures the startup time from now. */
+  PlaybackStatsCollector(@NonNull Clock clock) {
+    this.clock = clock;
+    this.startRealtimeMs = clock.elapsedRealtime();
+  }
+
+  @Override
+  public void onRenderedFirstFrame(
+      @NonNull EventTime eventTime, @NonNull Object output, long renderTimeMs) {
+    onStarted(eventTime);
+  }
+
+  @Override
+  public void onIsPlayingChanged(@NonNull EventTime eventTime, boolean isPlaying) {
+    // Media without video never renders a frame.
+    if (isPlaying) {
+      onStarted(eventTime);
+    }
+  }
+
+  @Override
+  public void onPositionDiscontinuity(
+      @NonNull EventTime eventTime,
+      @NonNull Player.PositionInfo oldPosition,
+      @NonNull Player.PositionInfo newPosition,
+      int reason) {
+    if (reason == Player.DISCONTINUITY_REASON_SEEK
+        || reason == Player.DISCONTINUITY_REASON_SEEK_ADJUSTMENT) {
+      isSeeking = true;
+    }
+  }
+
+  @Override
+  public void onPlaybackStateChanged(@NonNull EventTime eventTime, int state) {
+    if (state == Player.STATE_BUFFERING) {
+      // Buffering before the start and after seeks is expected, not a stall.
+      if (startupTimeMs != C.TIME_UNSET
+          && !isSeeking
+          && rebufferStartRealtimeMs == C.TIME_UNSET) {
+        rebufferCount++;
+        rebufferStartRealtimeMs = eventTime.realtimeMs;
+      }
+      return;
+    }
+
+    if (rebufferStartRealtimeMs != C.TIME_UNSET) {
+      rebufferDurationMs += eventTime.realtimeMs - rebufferStartRealtimeMs;
+      rebufferStartRealtimeMs = C.TIME_UNSET;
+    }
+    if (state == Player.STATE_READY) {
+      isSeeking = false;
+    }
+  }
+
+  @Override
+  public void onDroppedVideoFrames(
+      @NonNull EventTime eventTime, int droppedFrames, long elapsedMs) {
+    this.droppedFrames += droppedFrames;
+  }
+
+  @Override
+  public void onVideoInputFormatChanged(
+      @NonNull EventTime eventTime,
+      @NonNull Format format,
+      @Nullable DecoderReuseEvaluation decoderReuseEvaluation) {
+    if (format.bitrate == Format.NO_VALUE) {
+      return;
+    }
+    if (videoBitrate != Format.NO_VALUE && videoBitrate != format.bitrate) {
+      bitrateSwitchCount++;
+    }
+    videoBitrate = format.bitrate;
+  }
+
+  @Override
+  public void onBandwidthEstimate(
+      @NonNull EventTime eventTime,
+      int totalLoadTimeMs,
+      long totalBytesLoaded,
+      long bitrateEstimate) {
+    bandwidthEstimate = bitrateEstimate;
+  }
+
+  /** Returns the current statistics, including an ongoing rebuffer. */
+  @NonNull
+  PlaybackStatsMessage toMessage(long textureId) {
+    long rebufferDurationMs = this.rebufferDurationMs;
+    if (rebufferStartRealtimeMs != C.TIME_UNSET) {
+      rebufferDurationMs += clock.elapsedRealtime() - rebufferStartRealtimeMs;
+    }
+    return new PlaybackStatsMessage.Builder()
+        .setTextureId(textureId)
+        .setStartupTimeMs(startupTimeMs == C.TIME_UNSET ? -1L : startupTimeMs)
+        .setRebufferCount(rebufferCount)
+        .setRebufferDurationMs(rebufferDurationMs)
+        .setDroppedFrames(droppedFrames)
+        .setBitrateSwitchCount(bitrateSwitchCount)
+        .setVideoBitrate(videoBitrate == Format.NO_VALUE ? -1L : videoBitrate)
+        .setBandwidthEstimate(bandwidthEstimate)
+        .build();
+  }
+
+  private void onStarted(EventTime eventTime) {
+    if (startupTimeMs == C.TIME_UNSET) {
+      startupTimeMs = eventTime.realtimeMs - startRealtimeMs;
+    }
+  }
+}
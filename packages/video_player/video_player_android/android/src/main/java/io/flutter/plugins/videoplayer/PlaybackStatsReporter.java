@@ -0,0 +1,74 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.os.Handler;
+import android.util.LongSparseArray;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugin.common.EventChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends the {@link PlaybackStatsCollector} statistics of all players to Dart in a single event at a
+ * fixed interval.
+ *
+ * <p>Each event is a list of encoded {@link Messages.PlaybackStatsMessage}s.
+ */
+final class PlaybackStatsReporter implements EventChannel.StreamHandler {
+  private final LongSparseArray<VideoPlayer> videoPlayers;
+  private final Handler handler;
+  private final Runnable report = this::report;
+
+  @Nullable private EventChannel.EventSink eventSink;
+
+  // 0 if reports are disabled.
+  private long intervalMs;
+
+  PlaybackStatsReporter(
+      @NonNull LongSparseArray<VideoPlayer> videoPlayers, @NonNull Handler handler) {
+    this.videoPlayers = videoPlayers;
+    this.handler = handler;
+  }
+
+  /** Sends the statistics every `intervalMs`, or stops if it is 0. */
+  void setInterval(long intervalMs) {
+    if (intervalMs < 0) {
+      throw new IllegalArgumentException("The interval must not be negative.");
+    }
+    this.intervalMs = intervalMs;
+    report();
+  }
+
+  @Override
+  public void onListen(Object arguments, EventChannel.EventSink events) {
+    eventSink = events;
+    report();
+  }
+
+  @Override
+  public void onCancel(Object arguments) {
+    eventSink = null;
+    report();
+  }
+
+  private void report() {
+    handler.removeCallbacks(report);
+    if (eventSink == null || intervalMs == 0) {
+      return;
+    }
+
+    final List<Object> stats = new ArrayList<>(videoPlayers.size());
+    for (int i = 0; i < videoPlayers.size(); i++) {
+      final PlaybackStatsCollector playbackStats = videoPlayers.valueAt(i).getPlaybackStats();
+      stats.add(playbackStats.toMessage(videoPlayers.keyAt(i)).toList());
+    }
+    if (!stats.isEmpty()) {
+      eventSink.success(stats);
+    }
+    handler.postDelayed(report, intervalMs);
+  }
+}
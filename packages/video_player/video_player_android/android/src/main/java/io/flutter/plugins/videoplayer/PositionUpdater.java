@@ -0,0 +1,92 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.os.Handler;
+import android.util.LongSparseArray;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugin.common.EventChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pushes the positions of all players to Dart in a single event at a fixed interval, so Dart
+ * doesn't have to ask every player for its position.
+ *
+ * <p>Each event is a flat list of `[textureId, positionMs, ...]` for the initialized players. The
+ * buffered range of a player is sent through its own event channel as a `bufferingUpdate` when it
+ * changes.
+ *
+ * <p>Updates stop while no player is playing; {@link #onPlaybackChanged} sends the final positions
+ * and resumes them.
+ */
+final class PositionUpdater implements EventChannel.StreamHandler {
+  private final LongSparseArray<VideoPlayer> videoPlayers;
+  private final Handler handler;
+  private final Runnable update = this::update;
+
+  @Nullable private EventChannel.EventSink eventSink;
+
+  // 0 if updates are disabled.
+  private long intervalMs;
+
+  PositionUpdater(@NonNull LongSparseArray<VideoPlayer> videoPlayers, @NonNull Handler handler) {
+    this.videoPlayers = videoPlayers;
+    this.handler = handler;
+  }
+
+  /** Sends updates every `intervalMs` while a player is playing, or stops them if it is 0. */
+  void setInterval(long intervalMs) {
+    if (intervalMs < 0) {
+      throw new IllegalArgumentException("The interval must not be negative.");
+    }
+    this.intervalMs = intervalMs;
+    update();
+  }
+
+  /** Called when a player starts or stops playing, or seeks. */
+  void onPlaybackChanged() {
+    update();
+  }
+
+  @Override
+  public void onListen(Object arguments, EventChannel.EventSink events) {
+    eventSink = events;
+    update();
+  }
+
+  @Override
+  public void onCancel(Object arguments) {
+    eventSink = null;
+    update();
+  }
+
+  private void update() {
+    handler.removeCallbacks(update);
+    if (eventSink == null || intervalMs == 0) {
+      return;
+    }
+
+    final List<Long> positions = new ArrayList<>(videoPlayers.size() * 2);
+    boolean isAnyPlaying = false;
+    for (int i = 0; i < videoPlayers.size(); i++) {
+      final VideoPlayer player = videoPlayers.valueAt(i);
+      if (!player.isInitialized) {
+        continue;
+      }
+      positions.add(videoPlayers.keyAt(i));
+      positions.add(player.getPosition());
+      player.sendBufferingUpdateIfChanged();
+      isAnyPlaying |= player.isPlaying();
+    }
+    if (!positions.isEmpty()) {
+      eventSink.success(positions);
+    }
+    if (isAnyPlaying) {
+      handler.postDelayed(update, intervalMs);
+    }
+  }
+}
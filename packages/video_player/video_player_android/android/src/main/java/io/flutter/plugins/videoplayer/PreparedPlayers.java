@@ -0,0 +1,81 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.ExoPlayer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Players that were prepared ahead of time and are waiting to be adopted by {@link
+ * VideoPlayerPlugin#create}.
+ *
+ * <p>At most {@link #MAX_PREPARED_PLAYERS} are kept; the oldest one is released when another one is
+ * added.
+ */
+final class PreparedPlayers {
+  static final int MAX_PREPARED_PLAYERS = 2;
+
+  // Insertion ordered, so the first entry is the oldest.
+  private final LinkedHashMap<List<Object>, ExoPlayer> players = new LinkedHashMap<>();
+
+  /** Adds a prepared player for the given source, replacing any player for the same source. */
+  void add(
+      @NonNull String dataSource,
+      @Nullable String formatHint,
+      @NonNull Map<String, String> httpHeaders,
+      @NonNull ExoPlayer exoPlayer) {
+    final ExoPlayer previous = players.put(key(dataSource, formatHint, httpHeaders), exoPlayer);
+    if (previous != null) {
+      previous.release();
+    }
+
+    final Iterator<ExoPlayer> iterator = players.values().iterator();
+    while (players.size() > MAX_PREPARED_PLAYERS) {
+      iterator.next().release();
+      iterator.remove();
+    }
+  }
+
+  /**
+   * Removes and returns the prepared player for the given source, or returns null if there is no
+   * usable one.
+   */
+  @Nullable
+  ExoPlayer take(
+      @NonNull String dataSource,
+      @Nullable String formatHint,
+      @NonNull Map<String, String> httpHeaders) {
+    final ExoPlayer exoPlayer = players.remove(key(dataSource, formatHint, httpHeaders));
+    if (exoPlayer != null && exoPlayer.getPlayerError() != null) {
+      // The error was reported before anyone listened, so start over with a new player.
+      exoPlayer.release();
+      return null;
+    }
+    return exoPlayer;
+  }
+
+  /** Releases all prepared players. */
+  void clear() {
+    for (ExoPlayer exoPlayer : players.values()) {
+      exoPlayer.release();
+    }
+    players.clear();
+  }
+
+  int size() {
+    return players.size();
+  }
+
+  private static List<Object> key(
+      String dataSource, @Nullable String formatHint, Map<String, String> httpHeaders) {
+    return Arrays.asList(dataSource, formatHint, httpHeaders);
+  }
+}
@@ -4,8 +4,18 @@
 
 package io.flutter.plugins.videoplayer;
 
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import io.flutter.plugin.common.EventChannel;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * And implementation of {@link EventChannel.EventSink} which can wrap an underlying sink.
@@ -13,50 +23,130 @@ import java.util.ArrayList;
  * <p>It delivers messages immediately when downstream is available, but it queues messages before
  * the delegate event sink is set with setDelegate.
  *
- * <p>This class is not thread-safe. All calls must be done on the same thread or synchronized
- * externally.
+ * <p>Events can be sent from any thread; they are delivered to the delegate on the thread of the
+ * handler, which is the platform thread by default. At most {@link #MAX_QUEUED_EVENTS} are queued,
+ * and only the latest queued event of each type in {@link #COALESCED_EVENTS} is kept, since it
+ * replaces the earlier ones.
  */
 final class QueuingEventSink implements EventChannel.EventSink {
+  static final int MAX_QUEUED_EVENTS = 100;
+
+  private static final Set<String> COALESCED_EVENTS =
+      new HashSet<>(Arrays.asList("bufferingUpdate", "cueUpdate", "isPlayingStateUpdate"));
+
+  private final Handler handler;
+  private final Runnable flush = this::maybeFlush;
+
+  // All fields below are guarded by this.
   private EventChannel.EventSink delegate;
   private final ArrayList<Object> eventQueue = new ArrayList<>();
   private boolean done = false;
+  private long droppedEventCount;
+  private long coalescedEventCount;
+
+  QueuingEventSink() {
+    this(new Handler(Looper.getMainLooper()));
+  }
+
+  @VisibleForTesting
+  QueuingEventSink(@NonNull Handler handler) {
+    this.handler = handler;
+  }
 
   public void setDelegate(EventChannel.EventSink delegate) {
-    this.delegate = delegate;
-    maybeFlush();
+    synchronized (this) {
+      this.delegate = delegate;
+    }
+    flushOnHandlerThread();
   }
 
   @Override
   public void endOfStream() {
-    enqueue(new EndOfStreamEvent());
-    maybeFlush();
-    done = true;
+    synchronized (this) {
+      enqueue(new EndOfStreamEvent());
+      done = true;
+    }
+    flushOnHandlerThread();
   }
 
   @Override
   public void error(String code, String message, Object details) {
-    enqueue(new ErrorEvent(code, message, details));
-    maybeFlush();
+    synchronized (this) {
+      enqueue(new ErrorEvent(code, message, details));
+    }
+    flushOnHandlerThread();
   }
 
   @Override
   public void success(Object event) {
-    enqueue(event);
-    maybeFlush();
+    synchronized (this) {
+      enqueue(event);
+    }
+    flushOnHandlerThread();
+  }
+
+  /** Returns the number of events that were dropped because the queue was full. */
+  synchronized long getDroppedEventCount() {
+    return droppedEventCount;
+  }
+
+  /** Returns the number of queued events that were replaced by a later event of the same type. */
+  synchronized long getCoalescedEventCount() {
+    return coalescedEventCount;
   }
 
   private void enqueue(Object event) {
     if (done) {
       return;
     }
+
+    final String type = eventType(event);
+    if (type != null && COALESCED_EVENTS.contains(type)) {
+      final Iterator<Object> iterator = eventQueue.iterator();
+      while (iterator.hasNext()) {
+        if (type.equals(eventType(iterator.next()))) {
+          iterator.remove();
+          coalescedEventCount++;
+          break;
+        }
+      }
+    }
+
+    if (eventQueue.size() >= MAX_QUEUED_EVENTS) {
+      // Drop the oldest event, but never the initialization, which Dart can't recover from.
+      final Iterator<Object> iterator = eventQueue.iterator();
+      while (iterator.hasNext()) {
+        if (!"initialized".equals(eventType(iterator.next()))) {
+          iterator.remove();
+          droppedEventCount++;
+          break;
+        }
+      }
+    }
     eventQueue.add(event);
   }
 
+  private void flushOnHandlerThread() {
+    if (Looper.myLooper() == handler.getLooper()) {
+      maybeFlush();
+    } else {
+      handler.post(flush);
+    }
+  }
+
   private void maybeFlush() {
-    if (delegate == null) {
-      return;
+    final EventChannel.EventSink delegate;
+    final ArrayList<Object> events;
+    synchronized (this) {
+      if (this.delegate == null || eventQueue.isEmpty()) {
+        return;
+      }
+      delegate = this.delegate;
+      events = new ArrayList<>(eventQueue);
+      eventQueue.clear();
     }
-    for (Object event : eventQueue) {
+
+    for (Object event : events) {
       if (event instanceof EndOfStreamEvent) {
         delegate.endOfStream();
       } else if (event instanceof ErrorEvent) {
@@ -66,7 +156,15 @@ final class QueuingEventSink implements EventChannel.EventSink {
         delegate.success(event);
       }
     }
-    eventQueue.clear();
+  }
+
+  @Nullable
+  private static String eventType(Object event) {
+    if (!(event instanceof Map)) {
+      return null;
+    }
+    final Object type = ((Map<?, ?>) event).get("event");
+    return type instanceof String ? (String) type : null;
   }
 
   static class EndOfStreamEvent {}
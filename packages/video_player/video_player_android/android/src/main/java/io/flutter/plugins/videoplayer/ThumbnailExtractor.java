@@ -0,0 +1,261 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.media.MediaMetadataRetriever;
+import android.net.Uri;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import io.flutter.Log;
+import io.flutter.plugins.videoplayer.Messages.Result;
+import io.flutter.plugins.videoplayer.Messages.ThumbnailMessage;
+import io.flutter.plugins.videoplayer.Messages.ThumbnailsMessage;
+import io.flutter.plugins.videoplayer.Messages.ThumbnailsResultMessage;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extracts downscaled frames of a video with {@link MediaMetadataRetriever}, without a player.
+ *
+ * <p>Each request runs on a background thread and decodes all of its timestamps with the same
+ * retriever; up to {@link #THREAD_COUNT} requests run at once. Frames are taken from the closest
+ * sync sample, which is much faster than decoding up to the exact timestamp.
+ *
+ * <p>Each extractor writes its JPEG files to a directory of its own. The directories of extractors
+ * from earlier processes are deleted when an extractor is created, while those of other engines in
+ * the same process are kept.
+ */
+final class ThumbnailExtractor {
+  private static final String TAG = "ThumbnailExtractor";
+  private static final String DIRECTORY = "video_player_thumbnails";
+  private static final int THREAD_COUNT = 2;
+  private static final int JPEG_QUALITY = 80;
+
+  // Loaded before any extractor of this process was created, so anything older is from an
+  // earlier process.
+  private static final long PROCESS_START_MILLIS = System.currentTimeMillis();
+  // The directories of the extractors of this process, which other engines may still use.
+  private static final Set<String> liveDirectoryNames =
+      Collections.synchronizedSet(new HashSet<>());
+
+  private final Context context;
+  private final File directory;
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+  private final ThreadPoolExecutor executor =
+      new ThreadPoolExecutor(
+          THREAD_COUNT,
+          THREAD_COUNT,
+          30,
+          TimeUnit.SECONDS,
+          new LinkedBlockingQueue<>(),
+          runnable ->
+              new Thread(
+                  () -> {
+                    Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                    runnable.run();
+                  },
+                  TAG));
+
+  ThumbnailExtractor(@NonNull Context context) {
+    this.context = context;
+    final File root = new File(context.getCacheDir(), DIRECTORY);
+    this.directory = new File(root, UUID.randomUUID().toString());
+    liveDirectoryNames.add(directory.getName());
+    // Don't keep threads around when no thumbnails are requested.
+    executor.allowCoreThreadTimeOut(true);
+    executor.execute(
+        () -> {
+          final Set<String> live;
+          synchronized (liveDirectoryNames) {
+            live = new HashSet<>(liveDirectoryNames);
+          }
+          deleteStaleFiles(root, live, PROCESS_START_MILLIS);
+        });
+  }
+
+  /**
+   * Stops extracting thumbnails. Requests that haven't started yet are dropped without a result.
+   */
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Extracts the frames of `msg` in the background and sends them to `result` on the platform
+   * thread.
+   *
+   * <p>Each frame fits within the maximum size and is either written to a JPEG file in the cache
+   * directory or returned as packed RGBA pixels, 4 bytes per pixel and row by row. Frames that
+   * can't be extracted have a width and height of 0 and neither a path nor pixels.
+   */
+  void extract(@NonNull ThumbnailsMessage msg, @NonNull Result<ThumbnailsResultMessage> result) {
+    executor.execute(
+        () -> {
+          try {
+            final ThumbnailsResultMessage output = extract(msg);
+            mainHandler.post(() -> result.success(output));
+          } catch (Exception e) {
+            mainHandler.post(() -> result.error(e));
+          }
+        });
+  }
+
+  private ThumbnailsResultMessage extract(ThumbnailsMessage msg) throws IOException {
+    final int maxWidth = msg.getMaxWidth().intValue();
+    final int maxHeight = msg.getMaxHeight().intValue();
+    final List<ThumbnailMessage> thumbnails = new ArrayList<>(msg.getTimestampsMs().size());
+
+    final MediaMetadataRetriever retriever = new MediaMetadataRetriever();
+    try {
+      setDataSource(retriever, msg);
+      // The codec may decode small integers as Integer rather than Long.
+      for (Object timestamp : msg.getTimestampsMs()) {
+        final long timestampMs = ((Number) timestamp).longValue();
+        final ThumbnailMessage.Builder thumbnail =
+            new ThumbnailMessage.Builder().setTimestampMs(timestampMs).setWidth(0L).setHeight(0L);
+
+        final Bitmap frame = getScaledFrame(retriever, timestampMs * 1000, maxWidth, maxHeight);
+        if (frame != null) {
+          thumbnail.setWidth((long) frame.getWidth()).setHeight((long) frame.getHeight());
+          try {
+            if (msg.getRgba()) {
+              thumbnail.setPixels(toRgba(frame));
+            } else {
+              thumbnail.setPath(writeJpeg(frame));
+            }
+          } finally {
+            frame.recycle();
+          }
+        }
+        thumbnails.add(thumbnail.build());
+      }
+    } finally {
+      try {
+        retriever.release();
+      } catch (IOException e) {
+        Log.w(TAG, "Failed to release the retriever", e);
+      }
+    }
+    return new ThumbnailsResultMessage.Builder().setThumbnails(thumbnails).build();
+  }
+
+  private void setDataSource(MediaMetadataRetriever retriever, ThumbnailsMessage msg) {
+    final Uri uri = Uri.parse(msg.getUri());
+    final String scheme = uri.getScheme();
+    if ("http".equals(scheme) || "https".equals(scheme)) {
+      retriever.setDataSource(msg.getUri(), msg.getHttpHeaders());
+    } else {
+      retriever.setDataSource(context, uri);
+    }
+  }
+
+  @Nullable
+  private static Bitmap getScaledFrame(
+      MediaMetadataRetriever retriever, long timeUs, int maxWidth, int maxHeight) {
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O_MR1) {
+      // Scales while decoding, so the full-size frame is never allocated.
+      return retriever.getScaledFrameAtTime(
+          timeUs, MediaMetadataRetriever.OPTION_CLOSEST_SYNC, maxWidth, maxHeight);
+    }
+
+    final Bitmap frame =
+        retriever.getFrameAtTime(timeUs, MediaMetadataRetriever.OPTION_CLOSEST_SYNC);
+    if (frame == null) {
+      return null;
+    }
+    final int[] size = fitWithin(frame.getWidth(), frame.getHeight(), maxWidth, maxHeight);
+    if (size[0] == frame.getWidth() && size[1] == frame.getHeight()) {
+      return frame;
+    }
+    final Bitmap scaled = Bitmap.createScaledBitmap(frame, size[0], size[1], true);
+    frame.recycle();
+    return scaled;
+  }
+
+  /** Returns the largest size with the aspect ratio of `width` x `height` that isn't larger. */
+  @VisibleForTesting
+  static int[] fitWithin(int width, int height, int maxWidth, int maxHeight) {
+    final float scale =
+        Math.min(1f, Math.min((float) maxWidth / width, (float) maxHeight / height));
+    return new int[] {
+      Math.max(1, Math.round(width * scale)), Math.max(1, Math.round(height * scale))
+    };
+  }
+
+  @VisibleForTesting
+  static byte[] toRgba(Bitmap frame) {
+    final Bitmap argb =
+        frame.getConfig() == Bitmap.Config.ARGB_8888
+            ? frame
+            : frame.copy(Bitmap.Config.ARGB_8888, false);
+    // ARGB_8888 is stored as R, G, B, A bytes.
+    final ByteBuffer buffer = ByteBuffer.allocate(argb.getWidth() * argb.getHeight() * 4);
+    argb.copyPixelsToBuffer(buffer);
+    if (argb != frame) {
+      argb.recycle();
+    }
+    return buffer.array();
+  }
+
+  /**
+   * Deletes the files and directories in `root` that were last modified before `staleBeforeMillis`,
+   * except for the directories named in `liveNames`.
+   */
+  @VisibleForTesting
+  static void deleteStaleFiles(
+      @NonNull File root, @NonNull Set<String> liveNames, long staleBeforeMillis) {
+    final File[] files = root.listFiles();
+    if (files == null) {
+      return;
+    }
+    for (File file : files) {
+      if (!liveNames.contains(file.getName()) && file.lastModified() < staleBeforeMillis) {
+        deleteRecursively(file);
+      }
+    }
+  }
+
+  private static void deleteRecursively(File file) {
+    final File[] children = file.listFiles();
+    if (children != null) {
+      for (File child : children) {
+        deleteRecursively(child);
+      }
+    }
+    if (!file.delete()) {
+      Log.w(TAG, "Failed to delete " + file);
+    }
+  }
+
+  private String writeJpeg(Bitmap frame) throws IOException {
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("Failed to create " + directory);
+    }
+    final File file = File.createTempFile("thumbnail_", ".jpg", directory);
+    try (OutputStream outputStream = new FileOutputStream(file)) {
+      frame.compress(Bitmap.CompressFormat.JPEG, JPEG_QUALITY, outputStream);
+    }
+    return file.getAbsolutePath();
+  }
+}
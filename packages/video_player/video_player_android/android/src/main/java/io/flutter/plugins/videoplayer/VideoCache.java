@@ -0,0 +1,100 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.Context;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.database.StandaloneDatabaseProvider;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.cache.Cache;
+import com.google.android.exoplayer2.upstream.cache.CacheDataSource;
+import com.google.android.exoplayer2.upstream.cache.LeastRecentlyUsedCacheEvictor;
+import com.google.android.exoplayer2.upstream.cache.SimpleCache;
+import java.io.File;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A least recently used disk cache for media loaded over HTTP, shared by every {@link VideoPlayer}
+ * in the process.
+ *
+ * <p>{@link SimpleCache} locks its directory, so there is at most one instance per process and its
+ * maximum size can't be changed once it is created.
+ */
+final class VideoCache {
+  private static final String DIRECTORY = "video_player_cache";
+
+  @Nullable private static VideoCache instance;
+
+  private final Cache cache;
+  private final long maxSizeBytes;
+  private final AtomicLong cacheHitBytes = new AtomicLong();
+
+  private final CacheDataSource.EventListener eventListener =
+      new CacheDataSource.EventListener() {
+        @Override
+        public void onCachedBytesRead(long cacheSizeBytes, long cachedBytesRead) {
+          cacheHitBytes.addAndGet(cachedBytesRead);
+        }
+
+        @Override
+        public void onCacheIgnored(int reason) {}
+      };
+
+  /**
+   * Returns the cache of this process, creating it with `maxSizeBytes` if it doesn't exist yet.
+   *
+   * @throws IllegalStateException if the cache already exists with a different maximum size.
+   */
+  @NonNull
+  static synchronized VideoCache getInstance(@NonNull Context context, long maxSizeBytes) {
+    if (instance == null) {
+      final Context applicationContext = context.getApplicationContext();
+      final Cache cache =
+          new SimpleCache(
+              new File(applicationContext.getCacheDir(), DIRECTORY),
+              new LeastRecentlyUsedCacheEvictor(maxSizeBytes),
+              new StandaloneDatabaseProvider(applicationContext));
+      instance = new VideoCache(cache, maxSizeBytes);
+    } else if (instance.maxSizeBytes != maxSizeBytes) {
+      throw new IllegalStateException(
+          "The video cache was already created with a maximum size of "
+              + instance.maxSizeBytes
+              + " bytes.");
+    }
+    return instance;
+  }
+
+  /** Returns the cache of this process, or null if it hasn't been created. */
+  @Nullable
+  static synchronized VideoCache getInstanceIfCreated() {
+    return instance;
+  }
+
+  VideoCache(@NonNull Cache cache, long maxSizeBytes) {
+    this.cache = cache;
+    this.maxSizeBytes = maxSizeBytes;
+  }
+
+  /** Returns a factory that reads through this cache and loads missing data from `upstream`. */
+  @NonNull
+  CacheDataSource.Factory createDataSourceFactory(@NonNull DataSource.Factory upstream) {
+    return new CacheDataSource.Factory()
+        .setCache(cache)
+        .setUpstreamDataSourceFactory(upstream)
+        .setFlags(CacheDataSource.FLAG_IGNORE_CACHE_ON_ERROR)
+        .setEventListener(eventListener);
+  }
+
+  /** Returns the number of bytes that were read from the cache instead of the network. */
+  long getCacheHitBytes() {
+    return cacheHitBytes.get();
+  }
+
+  /** Returns the number of bytes currently stored in the cache. */
+  long getCachedBytes() {
+    return cache.getCacheSpace();
+  }
+}
@@ -13,10 +13,10 @@ import android.net.Uri;
 import android.view.Surface;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
 import com.google.android.exoplayer2.C;
-import com.google.android.exoplayer2.DefaultRenderersFactory;
 import com.google.android.exoplayer2.ExoPlayer;
 import com.google.android.exoplayer2.Format;
 import com.google.android.exoplayer2.MediaItem;
@@ -31,6 +31,7 @@ import com.google.android.exoplayer2.source.ProgressiveMediaSource;
 import com.google.android.exoplayer2.source.TrackGroup;
 import com.google.android.exoplayer2.source.dash.DashMediaSource;
 import com.google.android.exoplayer2.source.dash.DefaultDashChunkSource;
+import com.google.android.exoplayer2.source.hls.HlsDataSourceFactory;
 import com.google.android.exoplayer2.source.hls.HlsMediaSource;
 import com.google.android.exoplayer2.source.smoothstreaming.DefaultSsChunkSource;
 import com.google.android.exoplayer2.source.smoothstreaming.SsMediaSource;
@@ -41,6 +42,7 @@ import com.google.android.exoplayer2.upstream.DataSource;
 import com.google.android.exoplayer2.upstream.DefaultDataSource;
 import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
 import com.google.android.exoplayer2.util.Assertions;
+import com.google.android.exoplayer2.util.Clock;
 import com.google.android.exoplayer2.util.Util;
 import com.google.common.collect.ImmutableList;
 
@@ -82,26 +84,36 @@ final class VideoPlayer {
 
     private DefaultHttpDataSource.Factory httpDataSourceFactory = new DefaultHttpDataSource.Factory();
 
-    VideoPlayer(Context context, EventChannel eventChannel, TextureRegistry.SurfaceTextureEntry textureEntry, String dataSource, String formatHint, @NonNull Map<String, String> httpHeaders, VideoPlayerOptions options) {
+    // Receives the player when this is disposed, or null to release it.
+    @Nullable
+    private final ExoPlayerPool playerPool;
+
+    private Listener listener;
+
+    @Nullable
+    private Runnable onPlaybackChanged;
+
+    private long lastBufferedPosition = -1;
+
+    private PlaybackStatsCollector playbackStats;
+
+    VideoPlayer(Context context, EventChannel eventChannel, TextureRegistry.SurfaceTextureEntry textureEntry, String dataSource, String formatHint, @NonNull Map<String, String> httpHeaders, VideoPlayerOptions options, @NonNull ExoPlayerPool playerPool) {
         this.eventChannel = eventChannel;
         this.textureEntry = textureEntry;
         this.options = options;
+        this.playerPool = playerPool;
 
-        ExoPlayer.Builder builder = new ExoPlayer.Builder(context);
-        builder.setRenderersFactory(new DefaultRenderersFactory(context.getApplicationContext()).setExtensionRendererMode(DefaultRenderersFactory.EXTENSION_RENDERER_MODE_ON));
-
-        ExoPlayer exoPlayer = builder.build();
-
-        Uri uri = Uri.parse(dataSource);
-        buildHttpDataSourceFactory(httpHeaders);
-        DataSource.Factory dataSourceFactory = new DefaultDataSource.Factory(context, httpDataSourceFactory);
+        ExoPlayer exoPlayer = buildPreparedExoPlayer(context, dataSource, formatHint, httpHeaders, options, httpDataSourceFactory, playerPool);
 
-        MediaSource mediaSource = buildMediaSource(uri, dataSourceFactory, formatHint);
+        setUpVideoPlayer(exoPlayer, new QueuingEventSink());
+    }
 
-        TrackSelectionParameters trackSelectionParameters = TrackSelectionParameters.getDefaults(context);
-        exoPlayer.setTrackSelectionParameters(trackSelectionParameters);
-        exoPlayer.setMediaSource(mediaSource);
-        exoPlayer.prepare();
+    // Constructor used to adopt a player that was prepared ahead of time with buildPreparedExoPlayer.
+    VideoPlayer(ExoPlayer exoPlayer, EventChannel eventChannel, TextureRegistry.SurfaceTextureEntry textureEntry, VideoPlayerOptions options, @NonNull ExoPlayerPool playerPool) {
+        this.eventChannel = eventChannel;
+        this.textureEntry = textureEntry;
+        this.options = options;
+        this.playerPool = playerPool;
 
         setUpVideoPlayer(exoPlayer, new QueuingEventSink());
     }
@@ -113,12 +125,42 @@ final class VideoPlayer {
         this.textureEntry = textureEntry;
         this.options = options;
         this.httpDataSourceFactory = httpDataSourceFactory;
+        this.playerPool = null;
 
         setUpVideoPlayer(exoPlayer, eventSink);
     }
 
+    /**
+     * Takes an {@link ExoPlayer} from `playerPool` for the given source and starts preparing it,
+     * without a surface or listeners.
+     */
+    static ExoPlayer buildPreparedExoPlayer(Context context, String dataSource, String formatHint, @NonNull Map<String, String> httpHeaders, VideoPlayerOptions options, DefaultHttpDataSource.Factory httpDataSourceFactory, ExoPlayerPool playerPool) {
+        ExoPlayer exoPlayer = playerPool.acquire(context, options.bufferingProfile);
+
+        Uri uri = Uri.parse(dataSource);
+        configureHttpDataSourceFactory(httpDataSourceFactory, httpHeaders);
+        DataSource.Factory manifestDataSourceFactory = new DefaultDataSource.Factory(context, httpDataSourceFactory);
+        DataSource.Factory dataSourceFactory = manifestDataSourceFactory;
+        if (options.cache != null) {
+            // Manifests are loaded without the cache, so live playlists are always up to date.
+            dataSourceFactory = new DefaultDataSource.Factory(context, options.cache.createDataSourceFactory(httpDataSourceFactory));
+        }
+
+        MediaSource mediaSource = buildMediaSource(uri, dataSourceFactory, manifestDataSourceFactory, formatHint);
+
+        TrackSelectionParameters trackSelectionParameters = TrackSelectionParameters.getDefaults(context);
+        exoPlayer.setTrackSelectionParameters(trackSelectionParameters);
+        exoPlayer.setMediaSource(mediaSource);
+        exoPlayer.prepare();
+        return exoPlayer;
+    }
+
     @VisibleForTesting
     public void buildHttpDataSourceFactory(@NonNull Map<String, String> httpHeaders) {
+        configureHttpDataSourceFactory(httpDataSourceFactory, httpHeaders);
+    }
+
+    static void configureHttpDataSourceFactory(DefaultHttpDataSource.Factory httpDataSourceFactory, @NonNull Map<String, String> httpHeaders) {
         final boolean httpHeadersNotEmpty = !httpHeaders.isEmpty();
         final String userAgent = httpHeadersNotEmpty && httpHeaders.containsKey(USER_AGENT) ? httpHeaders.get(USER_AGENT) : "ExoPlayer";
 
@@ -129,7 +171,7 @@ final class VideoPlayer {
         }
     }
 
-    private MediaSource buildMediaSource(Uri uri, DataSource.Factory mediaDataSourceFactory, String formatHint) {
+    private static MediaSource buildMediaSource(Uri uri, DataSource.Factory mediaDataSourceFactory, DataSource.Factory manifestDataSourceFactory, String formatHint) {
         int type;
         if (formatHint == null) {
             type = Util.inferContentType(uri);
@@ -154,11 +196,12 @@ final class VideoPlayer {
         }
         switch (type) {
             case C.CONTENT_TYPE_SS:
-                return new SsMediaSource.Factory(new DefaultSsChunkSource.Factory(mediaDataSourceFactory), mediaDataSourceFactory).createMediaSource(MediaItem.fromUri(uri));
+                return new SsMediaSource.Factory(new DefaultSsChunkSource.Factory(mediaDataSourceFactory), manifestDataSourceFactory).createMediaSource(MediaItem.fromUri(uri));
             case C.CONTENT_TYPE_DASH:
-                return new DashMediaSource.Factory(new DefaultDashChunkSource.Factory(mediaDataSourceFactory), mediaDataSourceFactory).createMediaSource(MediaItem.fromUri(uri));
+                return new DashMediaSource.Factory(new DefaultDashChunkSource.Factory(mediaDataSourceFactory), manifestDataSourceFactory).createMediaSource(MediaItem.fromUri(uri));
             case C.CONTENT_TYPE_HLS:
-                return new HlsMediaSource.Factory(mediaDataSourceFactory).createMediaSource(MediaItem.fromUri(uri));
+                HlsDataSourceFactory hlsDataSourceFactory = dataType -> dataType == C.DATA_TYPE_MANIFEST ? manifestDataSourceFactory.createDataSource() : mediaDataSourceFactory.createDataSource();
+                return new HlsMediaSource.Factory(hlsDataSourceFactory).createMediaSource(MediaItem.fromUri(uri));
             case C.CONTENT_TYPE_OTHER:
                 return new ProgressiveMediaSource.Factory(mediaDataSourceFactory).createMediaSource(MediaItem.fromUri(uri));
             default: {
@@ -187,7 +230,7 @@ final class VideoPlayer {
         exoPlayer.setVideoSurface(surface);
         setAudioAttributes(exoPlayer, options.mixWithOthers);
 
-        exoPlayer.addListener(new Listener() {
+        listener = new Listener() {
             private boolean isBuffering = false;
 
             @Override
@@ -251,14 +294,49 @@ final class VideoPlayer {
                     event.put("isPlaying", isPlaying);
                     eventSink.success(event);
                 }
+                if (onPlaybackChanged != null) {
+                    onPlaybackChanged.run();
+                }
             }
-        });
+
+            @Override
+            public void onPositionDiscontinuity(@NonNull Player.PositionInfo oldPosition, @NonNull Player.PositionInfo newPosition, int reason) {
+                if (onPlaybackChanged != null) {
+                    onPlaybackChanged.run();
+                }
+            }
+        };
+        exoPlayer.addListener(listener);
+
+        playbackStats = new PlaybackStatsCollector(Clock.DEFAULT);
+        exoPlayer.addAnalyticsListener(playbackStats);
+
+        // A player that was prepared ahead of time may already be ready.
+        if (exoPlayer.getPlaybackState() == Player.STATE_READY && !isInitialized) {
+            isInitialized = true;
+            sendInitialized();
+        }
+    }
+
+    /**
+     * Sets a callback for when the player starts or stops playing, or its position jumps, e.g.
+     * because of a seek.
+     */
+    void setOnPlaybackChanged(@Nullable Runnable onPlaybackChanged) {
+        this.onPlaybackChanged = onPlaybackChanged;
+    }
+
+    void sendBufferingUpdateIfChanged() {
+        if (exoPlayer.getBufferedPosition() != lastBufferedPosition) {
+            sendBufferingUpdate();
+        }
     }
 
     void sendBufferingUpdate() {
+        lastBufferedPosition = exoPlayer.getBufferedPosition();
         Map<String, Object> event = new HashMap<>();
         event.put("event", "bufferingUpdate");
-        List<? extends Number> range = Arrays.asList(0, exoPlayer.getBufferedPosition());
+        List<? extends Number> range = Arrays.asList(0, lastBufferedPosition);
         // iOS supports a list of buffered ranges, so here is a list with a single range.
         event.put("values", Collections.singletonList(range));
         eventSink.success(event);
@@ -301,6 +379,14 @@ final class VideoPlayer {
         return exoPlayer.getCurrentPosition();
     }
 
+    boolean isPlaying() {
+        return exoPlayer.isPlaying();
+    }
+
+    PlaybackStatsCollector getPlaybackStats() {
+        return playbackStats;
+    }
+
     public static final ImmutableList<Integer> SUPPORTED_TRACK_TYPES = ImmutableList.of(C.TRACK_TYPE_VIDEO, C.TRACK_TYPE_AUDIO, C.TRACK_TYPE_TEXT);
 
     private static final String[] TRACK_TYPE_STRINGS = {"Video", "Audio", "Text"};
@@ -386,11 +472,18 @@ final class VideoPlayer {
         }
         textureEntry.release();
         eventChannel.setStreamHandler(null);
+        if (exoPlayer != null) {
+            exoPlayer.removeListener(listener);
+            exoPlayer.removeAnalyticsListener(playbackStats);
+            exoPlayer.clearVideoSurface();
+            if (playerPool != null) {
+                playerPool.recycle(exoPlayer);
+            } else {
+                exoPlayer.release();
+            }
+        }
         if (surface != null) {
             surface.release();
         }
-        if (exoPlayer != null) {
-            exoPlayer.release();
-        }
     }
 }
@@ -4,6 +4,15 @@
 
 package io.flutter.plugins.videoplayer;
 
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
 class VideoPlayerOptions {
   public boolean mixWithOthers;
+
+  /** The disk cache for media loaded over HTTP, or null if caching is disabled. */
+  @Nullable public VideoCache cache;
+
+  /** How much media players created afterwards buffer. */
+  @NonNull public BufferingProfile bufferingProfile = BufferingProfile.DEFAULT;
 }
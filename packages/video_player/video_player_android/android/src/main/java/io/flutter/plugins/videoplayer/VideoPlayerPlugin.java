@@ -6,22 +6,37 @@ package io.flutter.plugins.videoplayer;
 
 import android.content.Context;
 import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
 import android.util.LongSparseArray;
 
 import androidx.annotation.NonNull;
 
+import com.google.android.exoplayer2.ExoPlayer;
+import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
+
 import io.flutter.FlutterInjector;
 import io.flutter.Log;
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugins.videoplayer.Messages.AndroidVideoPlayerApi;
+import io.flutter.plugins.videoplayer.Messages.BufferingMessage;
+import io.flutter.plugins.videoplayer.Messages.CacheMessage;
+import io.flutter.plugins.videoplayer.Messages.CacheStatsMessage;
 import io.flutter.plugins.videoplayer.Messages.CreateMessage;
 import io.flutter.plugins.videoplayer.Messages.LoopingMessage;
 import io.flutter.plugins.videoplayer.Messages.MixWithOthersMessage;
 import io.flutter.plugins.videoplayer.Messages.PlaybackSpeedMessage;
+import io.flutter.plugins.videoplayer.Messages.PlaybackStatsMessage;
+import io.flutter.plugins.videoplayer.Messages.PlaybackStatsUpdatesMessage;
 import io.flutter.plugins.videoplayer.Messages.PositionMessage;
+import io.flutter.plugins.videoplayer.Messages.PositionUpdatesMessage;
+import io.flutter.plugins.videoplayer.Messages.PrefetchMessage;
+import io.flutter.plugins.videoplayer.Messages.Result;
 import io.flutter.plugins.videoplayer.Messages.TextureMessage;
+import io.flutter.plugins.videoplayer.Messages.ThumbnailsMessage;
+import io.flutter.plugins.videoplayer.Messages.ThumbnailsResultMessage;
 import io.flutter.plugins.videoplayer.Messages.VolumeMessage;
 import io.flutter.view.TextureRegistry;
 
@@ -40,6 +55,14 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     private final LongSparseArray<VideoPlayer> videoPlayers = new LongSparseArray<>();
     private FlutterState flutterState;
     private final VideoPlayerOptions options = new VideoPlayerOptions();
+    private VideoPrefetcher prefetcher = new VideoPrefetcher();
+    private final PreparedPlayers preparedPlayers = new PreparedPlayers();
+    private final ExoPlayerPool playerPool = new ExoPlayerPool();
+    private final PositionUpdater positionUpdater =
+            new PositionUpdater(videoPlayers, new Handler(Looper.getMainLooper()));
+    private final PlaybackStatsReporter playbackStatsReporter =
+            new PlaybackStatsReporter(videoPlayers, new Handler(Looper.getMainLooper()));
+    private ThumbnailExtractor thumbnailExtractor;
 
     /**
      * Register this with the v2 embedding for the plugin to respond to lifecycle callbacks.
@@ -107,6 +130,7 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
         flutterState.stopListening(binding.getBinaryMessenger());
         flutterState = null;
         initialize();
+        shutdownBackgroundWork();
     }
 
     private void disposeAllPlayers() {
@@ -114,6 +138,9 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
             videoPlayers.valueAt(i).dispose();
         }
         videoPlayers.clear();
+        preparedPlayers.clear();
+        prefetcher.cancelAll();
+        playerPool.clear();
     }
 
     private void onDestroy() {
@@ -123,6 +150,18 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
         // be replaced with just asserting that videoPlayers.isEmpty().
         // https://github.com/flutter/flutter/issues/20989 tracks this.
         disposeAllPlayers();
+        shutdownBackgroundWork();
+    }
+
+    // Stops the threads of prefetching and thumbnail extraction. Both are created again if the
+    // plugin is attached to an engine afterwards.
+    private void shutdownBackgroundWork() {
+        prefetcher.shutdown();
+        prefetcher = new VideoPrefetcher();
+        if (thumbnailExtractor != null) {
+            thumbnailExtractor.shutdown();
+            thumbnailExtractor = null;
+        }
     }
 
     public void initialize() {
@@ -136,41 +175,80 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
                 new EventChannel(
                         flutterState.binaryMessenger, "flutter.io/videoPlayer/videoEvents" + handle.id());
 
+        String dataSource = dataSourceFor(arg);
+        String formatHint = formatHintFor(arg);
+        Map<String, String> httpHeaders = httpHeadersFor(arg);
+        prefetcher.cancel(dataSource);
+
         VideoPlayer player;
-        if (arg.getAsset() != null) {
-            String assetLookupKey;
-            if (arg.getPackageName() != null) {
-                assetLookupKey =
-                        flutterState.keyForAssetAndPackageName.get(arg.getAsset(), arg.getPackageName());
-            } else {
-                assetLookupKey = flutterState.keyForAsset.get(arg.getAsset());
-            }
-            player =
-                    new VideoPlayer(
-                            flutterState.applicationContext,
-                            eventChannel,
-                            handle,
-                            "asset:///" + assetLookupKey,
-                            null,
-                            new HashMap<>(),
-                            options);
+        ExoPlayer preparedPlayer = preparedPlayers.take(dataSource, formatHint, httpHeaders);
+        if (preparedPlayer != null) {
+            player = new VideoPlayer(preparedPlayer, eventChannel, handle, options, playerPool);
         } else {
-            Map<String, String> httpHeaders = arg.getHttpHeaders();
             player =
                     new VideoPlayer(
                             flutterState.applicationContext,
                             eventChannel,
                             handle,
-                            arg.getUri(),
-                            arg.getFormatHint(),
+                            dataSource,
+                            formatHint,
                             httpHeaders,
-                            options);
+                            options,
+                            playerPool);
         }
+        player.setOnPlaybackChanged(positionUpdater::onPlaybackChanged);
         videoPlayers.put(handle.id(), player);
 
         return new TextureMessage.Builder().setTextureId(handle.id()).build();
     }
 
+    @Override
+    public void preparePlayer(@NonNull CreateMessage arg) {
+        String dataSource = dataSourceFor(arg);
+        String formatHint = formatHintFor(arg);
+        Map<String, String> httpHeaders = httpHeadersFor(arg);
+        ExoPlayer exoPlayer =
+                VideoPlayer.buildPreparedExoPlayer(
+                        flutterState.applicationContext,
+                        dataSource,
+                        formatHint,
+                        httpHeaders,
+                        options,
+                        new DefaultHttpDataSource.Factory(),
+                        playerPool);
+        preparedPlayers.add(dataSource, formatHint, httpHeaders, exoPlayer);
+    }
+
+    @Override
+    public void prefetch(@NonNull PrefetchMessage arg) {
+        if (options.cache == null) {
+            throw new IllegalStateException("Prefetching requires the cache to be enabled with setCacheOptions.");
+        }
+        prefetcher.prefetch(options.cache, arg.getUri(), arg.getHttpHeaders(), arg.getLengthBytes());
+    }
+
+    private String dataSourceFor(CreateMessage arg) {
+        if (arg.getAsset() == null) {
+            return arg.getUri();
+        }
+        String assetLookupKey;
+        if (arg.getPackageName() != null) {
+            assetLookupKey =
+                    flutterState.keyForAssetAndPackageName.get(arg.getAsset(), arg.getPackageName());
+        } else {
+            assetLookupKey = flutterState.keyForAsset.get(arg.getAsset());
+        }
+        return "asset:///" + assetLookupKey;
+    }
+
+    private static String formatHintFor(CreateMessage arg) {
+        return arg.getAsset() != null ? null : arg.getFormatHint();
+    }
+
+    private static Map<String, String> httpHeadersFor(CreateMessage arg) {
+        return arg.getAsset() != null ? new HashMap<>() : arg.getHttpHeaders();
+    }
+
     public void dispose(@NonNull TextureMessage arg) {
         VideoPlayer player = videoPlayers.get(arg.getTextureId());
         player.dispose();
@@ -236,6 +314,66 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
         options.mixWithOthers = arg.getMixWithOthers();
     }
 
+    @Override
+    public void setCacheOptions(@NonNull CacheMessage arg) {
+        // Only affects players created afterwards.
+        options.cache =
+                arg.getEnabled()
+                        ? VideoCache.getInstance(flutterState.applicationContext, arg.getMaxSizeBytes())
+                        : null;
+    }
+
+    @Override
+    public void setPositionUpdateInterval(@NonNull PositionUpdatesMessage arg) {
+        positionUpdater.setInterval(arg.getIntervalMs());
+    }
+
+    @Override
+    public @NonNull PlaybackStatsMessage getPlaybackStats(@NonNull TextureMessage arg) {
+        VideoPlayer player = videoPlayers.get(arg.getTextureId());
+        return player.getPlaybackStats().toMessage(arg.getTextureId());
+    }
+
+    @Override
+    public void setPlaybackStatsInterval(@NonNull PlaybackStatsUpdatesMessage arg) {
+        playbackStatsReporter.setInterval(arg.getIntervalMs());
+    }
+
+    @Override
+    public void getThumbnails(
+            @NonNull ThumbnailsMessage arg, @NonNull Result<ThumbnailsResultMessage> result) {
+        if (thumbnailExtractor == null) {
+            thumbnailExtractor = new ThumbnailExtractor(flutterState.applicationContext);
+        }
+        thumbnailExtractor.extract(arg, result);
+    }
+
+    @Override
+    public void setBufferingOptions(@NonNull BufferingMessage arg) {
+        // Only affects players created afterwards.
+        options.bufferingProfile =
+                new BufferingProfile(
+                        arg.getMinBufferMs().intValue(),
+                        arg.getMaxBufferMs().intValue(),
+                        arg.getBufferForPlaybackMs().intValue(),
+                        arg.getBufferForPlaybackAfterRebufferMs().intValue(),
+                        arg.getTargetBufferBytes().intValue(),
+                        arg.getPrioritizeTimeOverSizeThresholds(),
+                        arg.getBackBufferDurationMs().intValue(),
+                        arg.getRetainBackBufferFromKeyframe());
+        // Idle players keep the load control they were built with, so they can't be reused.
+        playerPool.clear();
+    }
+
+    @Override
+    public @NonNull CacheStatsMessage getCacheStats() {
+        VideoCache cache = VideoCache.getInstanceIfCreated();
+        return new CacheStatsMessage.Builder()
+                .setCacheHitBytes(cache == null ? 0L : cache.getCacheHitBytes())
+                .setCachedBytes(cache == null ? 0L : cache.getCachedBytes())
+                .build();
+    }
+
     private interface KeyForAssetFn {
         String get(String asset);
     }
@@ -245,6 +383,9 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     }
 
     private static final class FlutterState {
+        private static final String POSITION_EVENTS_CHANNEL = "flutter.io/videoPlayer/positionEvents";
+        private static final String PLAYBACK_STATS_EVENTS_CHANNEL = "flutter.io/videoPlayer/playbackStatsEvents";
+
         final Context applicationContext;
         final BinaryMessenger binaryMessenger;
         final KeyForAssetFn keyForAsset;
@@ -266,10 +407,16 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
 
         void startListening(VideoPlayerPlugin methodCallHandler, BinaryMessenger messenger) {
             AndroidVideoPlayerApi.setup(messenger, methodCallHandler);
+            new EventChannel(messenger, POSITION_EVENTS_CHANNEL)
+                    .setStreamHandler(methodCallHandler.positionUpdater);
+            new EventChannel(messenger, PLAYBACK_STATS_EVENTS_CHANNEL)
+                    .setStreamHandler(methodCallHandler.playbackStatsReporter);
         }
 
         void stopListening(BinaryMessenger messenger) {
             AndroidVideoPlayerApi.setup(messenger, null);
+            new EventChannel(messenger, POSITION_EVENTS_CHANNEL).setStreamHandler(null);
+            new EventChannel(messenger, PLAYBACK_STATS_EVENTS_CHANNEL).setStreamHandler(null);
         }
     }
 }
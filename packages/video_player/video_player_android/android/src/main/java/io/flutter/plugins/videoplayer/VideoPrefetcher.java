@@ -0,0 +1,125 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.net.Uri;
+import android.os.Process;
+import androidx.annotation.NonNull;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
+import com.google.android.exoplayer2.upstream.cache.CacheWriter;
+import io.flutter.Log;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Downloads the start of media into the {@link VideoCache} on a background thread, so players
+ * created for it later can start without waiting for the network.
+ *
+ * <p>Downloads run one at a time in the order they were requested. The thread ends when no
+ * download has been pending for a while, and {@link #shutdown()} stops it for good.
+ */
+final class VideoPrefetcher {
+  private static final String TAG = "VideoPrefetcher";
+
+  private final ThreadPoolExecutor executor =
+      new ThreadPoolExecutor(
+          1,
+          1,
+          30,
+          TimeUnit.SECONDS,
+          new LinkedBlockingQueue<>(),
+          runnable ->
+              new Thread(
+                  () -> {
+                    Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                    runnable.run();
+                  },
+                  TAG));
+
+  // Guarded by itself. Pending and running downloads by URI.
+  private final Map<String, CacheWriter> writers = new HashMap<>();
+
+  VideoPrefetcher() {
+    executor.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * Downloads the first `length` bytes of `uri` into `cache`, unless they are already cached.
+   *
+   * <p>Does nothing if a download of `uri` is already pending.
+   */
+  void prefetch(
+      @NonNull VideoCache cache,
+      @NonNull String uri,
+      @NonNull Map<String, String> httpHeaders,
+      long length) {
+    final DefaultHttpDataSource.Factory httpDataSourceFactory = new DefaultHttpDataSource.Factory();
+    VideoPlayer.configureHttpDataSourceFactory(httpDataSourceFactory, httpHeaders);
+    final DataSpec dataSpec =
+        new DataSpec.Builder().setUri(Uri.parse(uri)).setLength(length).build();
+    final CacheWriter writer =
+        new CacheWriter(
+            cache.createDataSourceFactory(httpDataSourceFactory).createDataSource(),
+            dataSpec,
+            null,
+            null);
+
+    synchronized (writers) {
+      if (writers.containsKey(uri)) {
+        return;
+      }
+      writers.put(uri, writer);
+    }
+    executor.execute(
+        () -> {
+          try {
+            writer.cache();
+          } catch (InterruptedIOException e) {
+            // Cancelled.
+          } catch (IOException e) {
+            Log.w(TAG, "Failed to prefetch " + uri, e);
+          } finally {
+            synchronized (writers) {
+              // The download may have been cancelled and requested again in the meantime.
+              if (writers.get(uri) == writer) {
+                writers.remove(uri);
+              }
+            }
+          }
+        });
+  }
+
+  /** Stops the pending download of `uri`, if any, so it doesn't compete with playback. */
+  void cancel(@NonNull String uri) {
+    synchronized (writers) {
+      final CacheWriter writer = writers.remove(uri);
+      if (writer != null) {
+        writer.cancel();
+      }
+    }
+  }
+
+  /** Stops all pending downloads. */
+  void cancelAll() {
+    synchronized (writers) {
+      for (CacheWriter writer : writers.values()) {
+        writer.cancel();
+      }
+      writers.clear();
+    }
+  }
+
+  /** Stops all pending downloads and the thread that runs them. */
+  void shutdown() {
+    cancelAll();
+    executor.shutdownNow();
+  }
+}
@@ -0,0 +1,51 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.DefaultLoadControl;
+import org.junit.Test;
+
+public class BufferingProfileTest {
+  @Test
+  public void buildsLoadControlWithBackBuffer() {
+    final BufferingProfile profile =
+        new BufferingProfile(15000, 15000, 1000, 2000, 4 * 1024 * 1024, false, 5000, true);
+
+    final DefaultLoadControl loadControl = (DefaultLoadControl) profile.buildLoadControl();
+
+    assertEquals(5000000, loadControl.getBackBufferDurationUs());
+    assertTrue(loadControl.retainBackBufferFromKeyframe());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void throwsIfMinBufferExceedsMaxBuffer() {
+    new BufferingProfile(50000, 15000, 2500, 5000, C.LENGTH_UNSET, false, 0, false);
+  }
+
+  @Test
+  public void equalsComparesValues() {
+    final BufferingProfile profile =
+        new BufferingProfile(
+            DefaultLoadControl.DEFAULT_MIN_BUFFER_MS,
+            DefaultLoadControl.DEFAULT_MAX_BUFFER_MS,
+            DefaultLoadControl.DEFAULT_BUFFER_FOR_PLAYBACK_MS,
+            DefaultLoadControl.DEFAULT_BUFFER_FOR_PLAYBACK_AFTER_REBUFFER_MS,
+            DefaultLoadControl.DEFAULT_TARGET_BUFFER_BYTES,
+            DefaultLoadControl.DEFAULT_PRIORITIZE_TIME_OVER_SIZE_THRESHOLDS,
+            DefaultLoadControl.DEFAULT_BACK_BUFFER_DURATION_MS,
+            DefaultLoadControl.DEFAULT_RETAIN_BACK_BUFFER_FROM_KEYFRAME);
+
+    assertEquals(BufferingProfile.DEFAULT, profile);
+    assertEquals(BufferingProfile.DEFAULT.hashCode(), profile.hashCode());
+    assertNotEquals(
+        BufferingProfile.DEFAULT,
+        new BufferingProfile(15000, 15000, 2500, 5000, C.LENGTH_UNSET, false, 0, false));
+  }
+}
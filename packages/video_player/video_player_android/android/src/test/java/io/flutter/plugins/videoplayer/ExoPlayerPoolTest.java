@@ -0,0 +1,100 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.content.Context;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.ExoPlayer;
+import com.google.android.exoplayer2.PlaybackException;
+import org.junit.Test;
+
+public class ExoPlayerPoolTest {
+  private final Context context = mock(Context.class);
+  private final ExoPlayerPool playerPool =
+      new ExoPlayerPool((c, bufferingProfile) -> mock(ExoPlayer.class));
+
+  @Test
+  public void acquireReturnsRecycledPlayer() {
+    final ExoPlayer exoPlayer = playerPool.acquire(context, BufferingProfile.DEFAULT);
+
+    playerPool.recycle(exoPlayer);
+
+    verify(exoPlayer).stop();
+    verify(exoPlayer).clearMediaItems();
+    verify(exoPlayer, never()).release();
+    assertEquals(1, playerPool.getIdlePlayerCount());
+    assertSame(exoPlayer, playerPool.acquire(context, BufferingProfile.DEFAULT));
+    assertEquals(0, playerPool.getIdlePlayerCount());
+  }
+
+  @Test
+  public void acquireOnlyReturnsPlayerWithSameBufferingProfile() {
+    final ExoPlayer exoPlayer = playerPool.acquire(context, BufferingProfile.DEFAULT);
+    final BufferingProfile lowLatency =
+        new BufferingProfile(2000, 5000, 1000, 1000, C.LENGTH_UNSET, true, 0, false);
+
+    playerPool.recycle(exoPlayer);
+
+    assertNotSame(exoPlayer, playerPool.acquire(context, lowLatency));
+    assertEquals(1, playerPool.getIdlePlayerCount());
+  }
+
+  @Test
+  public void recycleReleasesPlayerWhenFull() {
+    final ExoPlayer[] exoPlayers = new ExoPlayer[ExoPlayerPool.MAX_IDLE_PLAYERS];
+    for (int i = 0; i < exoPlayers.length; i++) {
+      exoPlayers[i] = playerPool.acquire(context, BufferingProfile.DEFAULT);
+    }
+    final ExoPlayer exoPlayer = playerPool.acquire(context, BufferingProfile.DEFAULT);
+    for (ExoPlayer idlePlayer : exoPlayers) {
+      playerPool.recycle(idlePlayer);
+    }
+
+    playerPool.recycle(exoPlayer);
+
+    verify(exoPlayer).release();
+    assertEquals(ExoPlayerPool.MAX_IDLE_PLAYERS, playerPool.getIdlePlayerCount());
+  }
+
+  @Test
+  public void recycleReleasesFailedPlayer() {
+    final ExoPlayer exoPlayer = playerPool.acquire(context, BufferingProfile.DEFAULT);
+    when(exoPlayer.getPlayerError()).thenReturn(mock(PlaybackException.class));
+
+    playerPool.recycle(exoPlayer);
+
+    verify(exoPlayer).release();
+    assertEquals(0, playerPool.getIdlePlayerCount());
+  }
+
+  @Test
+  public void recycleReleasesPlayerNotBuiltByPool() {
+    final ExoPlayer exoPlayer = mock(ExoPlayer.class);
+
+    playerPool.recycle(exoPlayer);
+
+    verify(exoPlayer).release();
+    assertEquals(0, playerPool.getIdlePlayerCount());
+  }
+
+  @Test
+  public void clearReleasesIdlePlayers() {
+    final ExoPlayer exoPlayer = playerPool.acquire(context, BufferingProfile.DEFAULT);
+
+    playerPool.recycle(exoPlayer);
+    playerPool.clear();
+
+    verify(exoPlayer).release();
+    assertEquals(0, playerPool.getIdlePlayerCount());
+  }
+}
@@ -0,0 +1,92 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.Player;
+import com.google.android.exoplayer2.Timeline;
+import com.google.android.exoplayer2.analytics.AnalyticsListener.EventTime;
+import com.google.android.exoplayer2.util.Clock;
+import io.flutter.plugins.videoplayer.Messages.PlaybackStatsMessage;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PlaybackStatsCollectorTest {
+  private final Clock clock = mock(Clock.class);
+  private PlaybackStatsCollector collector;
+
+  @Before
+  public void setUp() {
+    when(clock.elapsedRealtime()).thenReturn(1000L);
+    collector = new PlaybackStatsCollector(clock);
+  }
+
+  @Test
+  public void reportsUnknownValuesBeforePlayback() {
+    final PlaybackStatsMessage stats = collector.toMessage(3);
+
+    assertEquals(3L, (long) stats.getTextureId());
+    assertEquals(-1L, (long) stats.getStartupTimeMs());
+    assertEquals(0L, (long) stats.getRebufferCount());
+    assertEquals(-1L, (long) stats.getVideoBitrate());
+    assertEquals(-1L, (long) stats.getBandwidthEstimate());
+  }
+
+  @Test
+  public void countsRebuffersAfterStartupButNotAfterSeeks() {
+    collector.onPlaybackStateChanged(eventTime(1100), Player.STATE_BUFFERING);
+    collector.onRenderedFirstFrame(eventTime(1400), new Object(), 0);
+    collector.onPlaybackStateChanged(eventTime(1400), Player.STATE_READY);
+
+    collector.onPlaybackStateChanged(eventTime(2000), Player.STATE_BUFFERING);
+    collector.onPlaybackStateChanged(eventTime(2500), Player.STATE_READY);
+
+    collector.onPositionDiscontinuity(
+        eventTime(3000), positionInfo(), positionInfo(), Player.DISCONTINUITY_REASON_SEEK);
+    collector.onPlaybackStateChanged(eventTime(3000), Player.STATE_BUFFERING);
+    collector.onPlaybackStateChanged(eventTime(3200), Player.STATE_READY);
+
+    collector.onPlaybackStateChanged(eventTime(4000), Player.STATE_BUFFERING);
+    when(clock.elapsedRealtime()).thenReturn(4300L);
+
+    final PlaybackStatsMessage stats = collector.toMessage(0);
+    assertEquals(400L, (long) stats.getStartupTimeMs());
+    assertEquals(2L, (long) stats.getRebufferCount());
+    assertEquals(800L, (long) stats.getRebufferDurationMs());
+  }
+
+  @Test
+  public void countsDroppedFramesBitrateSwitchesAndBandwidth() {
+    collector.onDroppedVideoFrames(eventTime(0), 3, 100);
+    collector.onDroppedVideoFrames(eventTime(0), 2, 100);
+    collector.onVideoInputFormatChanged(eventTime(0), format(1000000), null);
+    collector.onVideoInputFormatChanged(eventTime(0), format(1000000), null);
+    collector.onVideoInputFormatChanged(eventTime(0), format(2000000), null);
+    collector.onBandwidthEstimate(eventTime(0), 100, 1000, 5000000);
+
+    final PlaybackStatsMessage stats = collector.toMessage(0);
+    assertEquals(5L, (long) stats.getDroppedFrames());
+    assertEquals(1L, (long) stats.getBitrateSwitchCount());
+    assertEquals(2000000L, (long) stats.getVideoBitrate());
+    assertEquals(5000000L, (long) stats.getBandwidthEstimate());
+  }
+
+  private static EventTime eventTime(long realtimeMs) {
+    return new EventTime(
+        realtimeMs, Timeline.EMPTY, 0, null, 0, Timeline.EMPTY, 0, null, 0, 0);
+  }
+
+  private static Player.PositionInfo positionInfo() {
+    return new Player.PositionInfo(null, 0, null, null, 0, 0, 0, -1, -1);
+  }
+
+  private static Format format(int bitrate) {
+    return new Format.Builder().setAverageBitrate(bitrate).build();
+  }
+}
@@ -0,0 +1,79 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.os.Handler;
+import android.util.LongSparseArray;
+import io.flutter.plugin.common.EventChannel;
+import java.util.Arrays;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class PositionUpdaterTest {
+  private final LongSparseArray<VideoPlayer> videoPlayers = new LongSparseArray<>();
+  private final Handler handler = mock(Handler.class);
+  private final EventChannel.EventSink eventSink = mock(EventChannel.EventSink.class);
+  private final PositionUpdater positionUpdater = new PositionUpdater(videoPlayers, handler);
+
+  @Test
+  public void sendsPositionsOfInitializedPlayersInOneEvent() {
+    final VideoPlayer first = addPlayer(1, 1000, true);
+    addPlayer(2, 2000, false);
+    addPlayer(3, 0, false).isInitialized = false;
+
+    positionUpdater.onListen(null, eventSink);
+    positionUpdater.setInterval(100);
+
+    verify(eventSink).success(Arrays.asList(1L, 1000L, 2L, 2000L));
+    verify(first).sendBufferingUpdateIfChanged();
+    verify(handler).postDelayed(any(Runnable.class), eq(100L));
+  }
+
+  @Test
+  public void stopsWhileNoPlayerIsPlaying() {
+    addPlayer(1, 1000, false);
+
+    positionUpdater.onListen(null, eventSink);
+    positionUpdater.setInterval(100);
+
+    verify(eventSink).success(Arrays.asList(1L, 1000L));
+    verify(handler, never()).postDelayed(any(Runnable.class), anyLong());
+  }
+
+  @Test
+  public void sendsNothingUntilEnabled() {
+    addPlayer(1, 1000, true);
+
+    positionUpdater.onListen(null, eventSink);
+    positionUpdater.onPlaybackChanged();
+
+    verify(eventSink, never()).success(any());
+    verify(handler, never()).postDelayed(any(Runnable.class), anyLong());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void throwsForNegativeInterval() {
+    positionUpdater.setInterval(-1);
+  }
+
+  private VideoPlayer addPlayer(long textureId, long position, boolean isPlaying) {
+    final VideoPlayer player = mock(VideoPlayer.class);
+    player.isInitialized = true;
+    when(player.getPosition()).thenReturn(position);
+    when(player.isPlaying()).thenReturn(isPlaying);
+    videoPlayers.put(textureId, player);
+    return player;
+  }
+}
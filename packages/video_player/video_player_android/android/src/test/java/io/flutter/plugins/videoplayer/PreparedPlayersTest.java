@@ -0,0 +1,78 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.android.exoplayer2.ExoPlayer;
+import com.google.android.exoplayer2.PlaybackException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public class PreparedPlayersTest {
+  private final Map<String, String> noHeaders = new HashMap<>();
+
+  @Test
+  public void takeReturnsPlayerForSameSource() {
+    final PreparedPlayers preparedPlayers = new PreparedPlayers();
+    final ExoPlayer exoPlayer = mock(ExoPlayer.class);
+
+    preparedPlayers.add("https://a", "hls", noHeaders, exoPlayer);
+
+    assertNull(preparedPlayers.take("https://a", null, noHeaders));
+    assertNull(
+        preparedPlayers.take("https://a", "hls", Collections.singletonMap("User-Agent", "test")));
+    assertSame(exoPlayer, preparedPlayers.take("https://a", "hls", new HashMap<>()));
+    assertEquals(0, preparedPlayers.size());
+    verify(exoPlayer, never()).release();
+  }
+
+  @Test
+  public void addReleasesOldestPlayerWhenFull() {
+    final PreparedPlayers preparedPlayers = new PreparedPlayers();
+    final ExoPlayer first = mock(ExoPlayer.class);
+
+    preparedPlayers.add("https://0", null, noHeaders, first);
+    for (int i = 1; i <= PreparedPlayers.MAX_PREPARED_PLAYERS; i++) {
+      preparedPlayers.add("https://" + i, null, noHeaders, mock(ExoPlayer.class));
+    }
+
+    verify(first).release();
+    assertEquals(PreparedPlayers.MAX_PREPARED_PLAYERS, preparedPlayers.size());
+    assertNull(preparedPlayers.take("https://0", null, noHeaders));
+  }
+
+  @Test
+  public void takeReleasesFailedPlayer() {
+    final PreparedPlayers preparedPlayers = new PreparedPlayers();
+    final ExoPlayer exoPlayer = mock(ExoPlayer.class);
+    when(exoPlayer.getPlayerError()).thenReturn(mock(PlaybackException.class));
+
+    preparedPlayers.add("https://a", null, noHeaders, exoPlayer);
+
+    assertNull(preparedPlayers.take("https://a", null, noHeaders));
+    verify(exoPlayer).release();
+  }
+
+  @Test
+  public void clearReleasesAllPlayers() {
+    final PreparedPlayers preparedPlayers = new PreparedPlayers();
+    final ExoPlayer exoPlayer = mock(ExoPlayer.class);
+
+    preparedPlayers.add("https://a", null, noHeaders, exoPlayer);
+    preparedPlayers.clear();
+
+    verify(exoPlayer).release();
+    assertEquals(0, preparedPlayers.size());
+  }
+}
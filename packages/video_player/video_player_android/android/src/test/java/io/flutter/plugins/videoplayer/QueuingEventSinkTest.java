@@ -0,0 +1,118 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Handler;
+import android.os.Looper;
+import io.flutter.plugin.common.EventChannel;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class QueuingEventSinkTest {
+  private final QueuingEventSink eventSink =
+      new QueuingEventSink(new Handler(Looper.getMainLooper()));
+  private final EventChannel.EventSink delegate = mock(EventChannel.EventSink.class);
+
+  @Test
+  public void deliversQueuedEventsInOrderOnceDelegateIsSet() {
+    final Map<String, Object> initialized = event("initialized", null);
+    final Map<String, Object> completed = event("completed", null);
+
+    eventSink.success(initialized);
+    eventSink.error("VideoError", "message", null);
+    eventSink.success(completed);
+    verify(delegate, never()).success(any());
+
+    eventSink.setDelegate(delegate);
+
+    final InOrder inOrder = inOrder(delegate);
+    inOrder.verify(delegate).success(initialized);
+    inOrder.verify(delegate).error("VideoError", "message", null);
+    inOrder.verify(delegate).success(completed);
+  }
+
+  @Test
+  public void keepsOnlyLatestCoalescedEventOfEachType() {
+    final Map<String, Object> initialized = event("initialized", null);
+    final Map<String, Object> playing = event("isPlayingStateUpdate", true);
+    final Map<String, Object> lastBufferingUpdate = event("bufferingUpdate", 2);
+
+    eventSink.success(initialized);
+    eventSink.success(event("isPlayingStateUpdate", false));
+    eventSink.success(event("bufferingUpdate", 1));
+    eventSink.success(playing);
+    eventSink.success(lastBufferingUpdate);
+    eventSink.setDelegate(delegate);
+
+    final InOrder inOrder = inOrder(delegate);
+    inOrder.verify(delegate).success(initialized);
+    inOrder.verify(delegate).success(playing);
+    inOrder.verify(delegate).success(lastBufferingUpdate);
+    verify(delegate, times(3)).success(any());
+    assertEquals(2, eventSink.getCoalescedEventCount());
+  }
+
+  @Test
+  public void dropsOldestEventsButKeepsInitializedWhenFull() {
+    final Map<String, Object> initialized = event("initialized", null);
+
+    eventSink.success(initialized);
+    for (int i = 0; i < QueuingEventSink.MAX_QUEUED_EVENTS + 10; i++) {
+      eventSink.success(event(i % 2 == 0 ? "bufferingStart" : "bufferingEnd", null));
+    }
+    eventSink.setDelegate(delegate);
+
+    verify(delegate).success(initialized);
+    verify(delegate, times(QueuingEventSink.MAX_QUEUED_EVENTS)).success(any());
+    assertEquals(11, eventSink.getDroppedEventCount());
+  }
+
+  @Test
+  public void deliversEventsSentFromOtherThreadsOnHandlerThread() throws InterruptedException {
+    final Map<String, Object> completed = event("completed", null);
+    eventSink.setDelegate(delegate);
+
+    final Thread thread = new Thread(() -> eventSink.success(completed));
+    thread.start();
+    thread.join();
+    verify(delegate, never()).success(any());
+
+    shadowOf(Looper.getMainLooper()).idle();
+
+    verify(delegate).success(completed);
+  }
+
+  @Test
+  public void ignoresEventsAfterEndOfStream() {
+    eventSink.setDelegate(delegate);
+
+    eventSink.endOfStream();
+    eventSink.success(event("completed", null));
+
+    verify(delegate).endOfStream();
+    verify(delegate, never()).success(any());
+  }
+
+  private static Map<String, Object> event(String type, Object value) {
+    final Map<String, Object> event = new HashMap<>();
+    event.put("event", type);
+    event.put("value", value);
+    return event;
+  }
+}
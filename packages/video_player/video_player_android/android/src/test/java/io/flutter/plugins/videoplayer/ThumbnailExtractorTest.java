@@ -0,0 +1,79 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class ThumbnailExtractorTest {
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void fitWithinKeepsAspectRatio() {
+    assertArrayEquals(new int[] {320, 180}, ThumbnailExtractor.fitWithin(1920, 1080, 320, 320));
+    assertArrayEquals(new int[] {180, 320}, ThumbnailExtractor.fitWithin(1080, 1920, 320, 320));
+  }
+
+  @Test
+  public void fitWithinDoesNotUpscale() {
+    assertArrayEquals(new int[] {160, 90}, ThumbnailExtractor.fitWithin(160, 90, 320, 320));
+  }
+
+  @Test
+  public void toRgbaPacksPixels() {
+    final Bitmap frame = Bitmap.createBitmap(2, 1, Bitmap.Config.ARGB_8888);
+    frame.setPixel(0, 0, Color.argb(255, 10, 20, 30));
+    frame.setPixel(1, 0, Color.argb(255, 40, 50, 60));
+
+    assertArrayEquals(
+        new byte[] {10, 20, 30, (byte) 255, 40, 50, 60, (byte) 255},
+        ThumbnailExtractor.toRgba(frame));
+  }
+
+  @Test
+  public void deleteStaleFilesDeletesDirectoriesOfEarlierProcesses() throws IOException {
+    final File staleDirectory = temporaryFolder.newFolder("stale");
+    final File staleFile = new File(staleDirectory, "thumbnail_1.jpg");
+    assertTrue(staleFile.createNewFile());
+    final File staleLooseFile = temporaryFolder.newFile("thumbnail_2.jpg");
+    assertTrue(staleDirectory.setLastModified(1000));
+    assertTrue(staleLooseFile.setLastModified(1000));
+
+    ThumbnailExtractor.deleteStaleFiles(
+        temporaryFolder.getRoot(), Collections.<String>emptySet(), 2000);
+
+    assertFalse(staleDirectory.exists());
+    assertFalse(staleLooseFile.exists());
+  }
+
+  @Test
+  public void deleteStaleFilesKeepsDirectoriesOfThisProcess() throws IOException {
+    final File liveDirectory = temporaryFolder.newFolder("live");
+    final File liveFile = new File(liveDirectory, "thumbnail_1.jpg");
+    assertTrue(liveFile.createNewFile());
+    final File recentDirectory = temporaryFolder.newFolder("recent");
+    assertTrue(liveDirectory.setLastModified(1000));
+    assertTrue(recentDirectory.setLastModified(3000));
+
+    ThumbnailExtractor.deleteStaleFiles(
+        temporaryFolder.getRoot(), Collections.singleton("live"), 2000);
+
+    assertTrue(liveFile.exists());
+    assertTrue(recentDirectory.exists());
+  }
+}
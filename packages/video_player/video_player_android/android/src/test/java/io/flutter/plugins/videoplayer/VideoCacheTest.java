@@ -0,0 +1,49 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import android.content.Context;
+import androidx.test.core.app.ApplicationProvider;
+import com.google.android.exoplayer2.upstream.cache.Cache;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class VideoCacheTest {
+  @Test
+  public void getInstanceReturnsSharedCache() {
+    final Context context = ApplicationProvider.getApplicationContext();
+
+    final VideoCache cache = VideoCache.getInstance(context, 1024);
+
+    assertSame(cache, VideoCache.getInstance(context, 1024));
+    assertSame(cache, VideoCache.getInstanceIfCreated());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void getInstanceThrowsForDifferentMaxSize() {
+    final Context context = ApplicationProvider.getApplicationContext();
+
+    VideoCache.getInstance(context, 1024);
+    VideoCache.getInstance(context, 2048);
+  }
+
+  @Test
+  public void getCachedBytesReturnsCacheSpace() {
+    final Cache mockCache = mock(Cache.class);
+    when(mockCache.getCacheSpace()).thenReturn(300L);
+
+    final VideoCache cache = new VideoCache(mockCache, 1024);
+
+    assertEquals(300L, cache.getCachedBytes());
+    assertEquals(0L, cache.getCacheHitBytes());
+  }
+}
@@ -3,6 +3,7 @@
 // found in the LICENSE file.
 
 import 'dart:async';
+import 'dart:typed_data';
 
 import 'package:flutter/services.dart';
 import 'package:flutter/widgets.dart';
@@ -15,6 +16,11 @@ import 'messages.g.dart';
 class AndroidVideoPlayer extends VideoPlayerPlatform {
   final AndroidVideoPlayerApi _api = AndroidVideoPlayerApi();
 
+  // The latest positions pushed by the platform, in milliseconds by texture
+  // ID, while position updates are enabled.
+  final Map<int, int> _positions = <int, int>{};
+  StreamSubscription<dynamic>? _positionSubscription;
+
   /// Registers this class as the default instance of [PathProviderPlatform].
   static void registerWith() {
     VideoPlayerPlatform.instance = AndroidVideoPlayer();
@@ -27,11 +33,42 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
 
   @override
   Future<void> dispose(int textureId) {
+    _positions.remove(textureId);
     return _api.dispose(TextureMessage(textureId: textureId));
   }
 
   @override
   Future<int?> create(DataSource dataSource) async {
+    final TextureMessage response = await _api.create(_createMessage(dataSource));
+    return response.textureId;
+  }
+
+  /// Prepares a player for [dataSource] ahead of time, so that a later call to
+  /// [create] with the same source starts from a warm player.
+  ///
+  /// Only a couple of prepared players are kept; the oldest one is released
+  /// when another one is prepared.
+  Future<void> preparePlayer(DataSource dataSource) {
+    return _api.preparePlayer(_createMessage(dataSource));
+  }
+
+  /// Downloads the first [lengthBytes] of the media at [uri] into the disk
+  /// cache on a background thread.
+  ///
+  /// The cache must be enabled with [setCacheOptions] first.
+  Future<void> prefetch(
+    String uri, {
+    Map<String, String> httpHeaders = const <String, String>{},
+    int lengthBytes = 1024 * 1024,
+  }) {
+    return _api.prefetch(PrefetchMessage(
+      uri: uri,
+      httpHeaders: httpHeaders,
+      lengthBytes: lengthBytes,
+    ));
+  }
+
+  CreateMessage _createMessage(DataSource dataSource) {
     String? asset;
     String? packageName;
     String? uri;
@@ -55,16 +92,13 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
         uri = dataSource.uri;
         break;
     }
-    final CreateMessage message = CreateMessage(
+    return CreateMessage(
       asset: asset,
       packageName: packageName,
       uri: uri,
       httpHeaders: httpHeaders,
       formatHint: formatHint,
     );
-
-    final TextureMessage response = await _api.create(message);
-    return response.textureId;
   }
 
   @override
@@ -105,6 +139,9 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
 
   @override
   Future<void> seekTo(int textureId, Duration position) {
+    if (_positionSubscription != null) {
+      _positions[textureId] = position.inMilliseconds;
+    }
     return _api.seekTo(PositionMessage(
       textureId: textureId,
       position: position.inMilliseconds,
@@ -113,6 +150,10 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
 
   @override
   Future<Duration> getPosition(int textureId) async {
+    final int? position = _positions[textureId];
+    if (position != null) {
+      return Duration(milliseconds: position);
+    }
     final PositionMessage response = await _api.position(TextureMessage(textureId: textureId));
     return Duration(milliseconds: response.position);
   }
@@ -129,6 +170,174 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
     ));
   }
 
+  /// Enables or disables the disk cache for media loaded over HTTP.
+  ///
+  /// The cache is shared by every player in the process and only used by
+  /// players created afterwards. [maxSizeBytes] can't be changed once the
+  /// cache has been enabled.
+  Future<void> setCacheOptions({
+    required bool enabled,
+    int maxSizeBytes = 256 * 1024 * 1024,
+  }) {
+    return _api.setCacheOptions(CacheMessage(
+      enabled: enabled,
+      maxSizeBytes: maxSizeBytes,
+    ));
+  }
+
+  /// Makes the platform push the positions of all players every [interval]
+  /// while any of them is playing, or stops it if [interval] is null.
+  ///
+  /// While enabled, [getPosition] returns the latest pushed position instead
+  /// of asking the platform, and buffering updates are sent whenever the
+  /// buffered range changes.
+  Future<void> setPositionUpdateInterval(Duration? interval) async {
+    if (interval == null) {
+      await _positionSubscription?.cancel();
+      _positionSubscription = null;
+      _positions.clear();
+    } else {
+      _positionSubscription ??= _positionEventChannel.receiveBroadcastStream().listen(_onPositions);
+    }
+    return _api.setPositionUpdateInterval(PositionUpdatesMessage(
+      intervalMs: interval?.inMilliseconds ?? 0,
+    ));
+  }
+
+  void _onPositions(dynamic event) {
+    final List<Object?> positions = event as List<Object?>;
+    for (int i = 0; i < positions.length; i += 2) {
+      _positions[positions[i]! as int] = positions[i + 1]! as int;
+    }
+  }
+
+  /// Returns quality of experience statistics of the player with [textureId].
+  ///
+  /// The statistics are `startupTimeMs` (from creating the player until the
+  /// first frame was rendered or playback started), `rebufferCount`,
+  /// `rebufferDurationMs`, `droppedFrames`, `bitrateSwitchCount`,
+  /// `videoBitrate` and `bandwidthEstimate` in bits per second. Values that
+  /// aren't known yet are -1.
+  Future<Map<String, int>> getPlaybackStats(int textureId) async {
+    final PlaybackStatsMessage response =
+        await _api.getPlaybackStats(TextureMessage(textureId: textureId));
+    return _playbackStatsToMap(response);
+  }
+
+  /// Makes the platform send the statistics of all players to
+  /// [playbackStatsEvents] every [interval], or stops it if [interval] is null.
+  Future<void> setPlaybackStatsInterval(Duration? interval) {
+    return _api.setPlaybackStatsInterval(PlaybackStatsUpdatesMessage(
+      intervalMs: interval?.inMilliseconds ?? 0,
+    ));
+  }
+
+  /// Returns a stream of the [getPlaybackStats] statistics of all players by
+  /// texture ID, sent at the interval set with [setPlaybackStatsInterval].
+  Stream<Map<int, Map<String, int>>> playbackStatsEvents() {
+    return _playbackStatsEventChannel.receiveBroadcastStream().map((dynamic event) {
+      final Map<int, Map<String, int>> stats = <int, Map<String, int>>{};
+      for (final Object? encoded in event as List<Object?>) {
+        final PlaybackStatsMessage message = PlaybackStatsMessage.decode(encoded!);
+        stats[message.textureId] = _playbackStatsToMap(message);
+      }
+      return stats;
+    });
+  }
+
+  Map<String, int> _playbackStatsToMap(PlaybackStatsMessage message) {
+    return <String, int>{
+      'startupTimeMs': message.startupTimeMs,
+      'rebufferCount': message.rebufferCount,
+      'rebufferDurationMs': message.rebufferDurationMs,
+      'droppedFrames': message.droppedFrames,
+      'bitrateSwitchCount': message.bitrateSwitchCount,
+      'videoBitrate': message.videoBitrate,
+      'bandwidthEstimate': message.bandwidthEstimate,
+    };
+  }
+
+  /// Extracts frames of the video at [uri] at each of [timestamps], without
+  /// creating a player.
+  ///
+  /// Frames are taken from the nearest sync sample and scaled down to fit
+  /// within [maxWidth] x [maxHeight]. They are written to JPEG files in the
+  /// cache directory, or returned as packed RGBA pixels if [rgba] is true.
+  /// The files of each engine are kept for the rest of the process and deleted
+  /// once thumbnails are requested after the app was restarted.
+  Future<List<AndroidVideoThumbnail>> getThumbnails(
+    String uri,
+    List<Duration> timestamps, {
+    Map<String, String> httpHeaders = const <String, String>{},
+    int maxWidth = 320,
+    int maxHeight = 320,
+    bool rgba = false,
+  }) async {
+    final ThumbnailsResultMessage response = await _api.getThumbnails(ThumbnailsMessage(
+      uri: uri,
+      httpHeaders: httpHeaders,
+      timestampsMs: timestamps.map((Duration timestamp) => timestamp.inMilliseconds).toList(),
+      maxWidth: maxWidth,
+      maxHeight: maxHeight,
+      rgba: rgba,
+    ));
+    return response.thumbnails
+        .map((ThumbnailMessage? thumbnail) => AndroidVideoThumbnail._(
+              timestamp: Duration(milliseconds: thumbnail!.timestampMs),
+              width: thumbnail.width,
+              height: thumbnail.height,
+              path: thumbnail.path,
+              pixels: thumbnail.pixels,
+            ))
+        .toList();
+  }
+
+  /// Sets how much media players created afterwards buffer.
+  ///
+  /// The parameters have the same meaning as in ExoPlayer's
+  /// `DefaultLoadControl`, and the defaults are its defaults. A
+  /// [targetBufferBytes] of -1 derives the target from the selected tracks.
+  /// Inconsistent durations, such as a [minBuffer] greater than [maxBuffer],
+  /// throw a [PlatformException].
+  ///
+  /// Smaller buffers lower the latency of live streams and the memory used by
+  /// each player, at the cost of more rebuffering on slow networks. For
+  /// example, several players on a low-RAM device can use a [minBuffer] and
+  /// [maxBuffer] of 15 seconds and a [targetBufferBytes] of a few megabytes.
+  Future<void> setBufferingOptions({
+    Duration minBuffer = const Duration(seconds: 50),
+    Duration maxBuffer = const Duration(seconds: 50),
+    Duration bufferForPlayback = const Duration(milliseconds: 2500),
+    Duration bufferForPlaybackAfterRebuffer = const Duration(seconds: 5),
+    int targetBufferBytes = -1,
+    bool prioritizeTimeOverSizeThresholds = false,
+    Duration backBuffer = Duration.zero,
+    bool retainBackBufferFromKeyframe = false,
+  }) {
+    return _api.setBufferingOptions(BufferingMessage(
+      minBufferMs: minBuffer.inMilliseconds,
+      maxBufferMs: maxBuffer.inMilliseconds,
+      bufferForPlaybackMs: bufferForPlayback.inMilliseconds,
+      bufferForPlaybackAfterRebufferMs:
+          bufferForPlaybackAfterRebuffer.inMilliseconds,
+      targetBufferBytes: targetBufferBytes,
+      prioritizeTimeOverSizeThresholds: prioritizeTimeOverSizeThresholds,
+      backBufferDurationMs: backBuffer.inMilliseconds,
+      retainBackBufferFromKeyframe: retainBackBufferFromKeyframe,
+    ));
+  }
+
+  /// Returns the number of bytes read from the disk cache instead of the
+  /// network (`cacheHitBytes`) and the number of bytes currently stored in it
+  /// (`cachedBytes`).
+  Future<Map<String, int>> getCacheStats() async {
+    final CacheStatsMessage response = await _api.getCacheStats();
+    return <String, int>{
+      'cacheHitBytes': response.cacheHitBytes,
+      'cachedBytes': response.cachedBytes,
+    };
+  }
+
   @override
   Stream<VideoEvent> videoEventsFor(int textureId) {
     return _eventChannelFor(textureId).receiveBroadcastStream().map((dynamic event) {
@@ -182,6 +391,12 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
     return _api.setMixWithOthers(MixWithOthersMessage(mixWithOthers: mixWithOthers));
   }
 
+  static const EventChannel _positionEventChannel =
+      EventChannel('flutter.io/videoPlayer/positionEvents');
+
+  static const EventChannel _playbackStatsEventChannel =
+      EventChannel('flutter.io/videoPlayer/playbackStatsEvents');
+
   EventChannel _eventChannelFor(int textureId) {
     return EventChannel('flutter.io/videoPlayer/videoEvents$textureId');
   }
@@ -201,3 +416,31 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
     );
   }
 }
+
+/// A frame extracted by [AndroidVideoPlayer.getThumbnails].
+@immutable
+class AndroidVideoThumbnail {
+  const AndroidVideoThumbnail._({
+    required this.timestamp,
+    required this.width,
+    required this.height,
+    this.path,
+    this.pixels,
+  });
+
+  /// The requested timestamp.
+  final Duration timestamp;
+
+  /// The width of the frame, or 0 if it couldn't be extracted.
+  final int width;
+
+  /// The height of the frame, or 0 if it couldn't be extracted.
+  final int height;
+
+  /// The path of the JPEG file, if the frame was written to a file.
+  final String? path;
+
+  /// The RGBA pixels of the frame, 4 bytes per pixel and row by row, if they
+  /// were requested.
+  final Uint8List? pixels;
+}
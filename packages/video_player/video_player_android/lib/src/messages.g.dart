@@ -224,35 +224,410 @@ class MixWithOthersMessage {
   }
 }
 
+class CacheMessage {
+  CacheMessage({
+    required this.enabled,
+    required this.maxSizeBytes,
+  });
+
+  bool enabled;
+
+  int maxSizeBytes;
+
+  Object encode() {
+    return <Object?>[
+      enabled,
+      maxSizeBytes,
+    ];
+  }
+
+  static CacheMessage decode(Object result) {
+    result as List<Object?>;
+    return CacheMessage(
+      enabled: result[0]! as bool,
+      maxSizeBytes: result[1]! as int,
+    );
+  }
+}
+
+class CacheStatsMessage {
+  CacheStatsMessage({
+    required this.cacheHitBytes,
+    required this.cachedBytes,
+  });
+
+  int cacheHitBytes;
+
+  int cachedBytes;
+
+  Object encode() {
+    return <Object?>[
+      cacheHitBytes,
+      cachedBytes,
+    ];
+  }
+
+  static CacheStatsMessage decode(Object result) {
+    result as List<Object?>;
+    return CacheStatsMessage(
+      cacheHitBytes: result[0]! as int,
+      cachedBytes: result[1]! as int,
+    );
+  }
+}
+
+class PrefetchMessage {
+  PrefetchMessage({
+    required this.uri,
+    required this.httpHeaders,
+    required this.lengthBytes,
+  });
+
+  String uri;
+
+  Map<String?, String?> httpHeaders;
+
+  int lengthBytes;
+
+  Object encode() {
+    return <Object?>[
+      uri,
+      httpHeaders,
+      lengthBytes,
+    ];
+  }
+
+  static PrefetchMessage decode(Object result) {
+    result as List<Object?>;
+    return PrefetchMessage(
+      uri: result[0]! as String,
+      httpHeaders: (result[1] as Map<Object?, Object?>?)!.cast<String?, String?>(),
+      lengthBytes: result[2]! as int,
+    );
+  }
+}
+
+class BufferingMessage {
+  BufferingMessage({
+    required this.minBufferMs,
+    required this.maxBufferMs,
+    required this.bufferForPlaybackMs,
+    required this.bufferForPlaybackAfterRebufferMs,
+    required this.targetBufferBytes,
+    required this.prioritizeTimeOverSizeThresholds,
+    required this.backBufferDurationMs,
+    required this.retainBackBufferFromKeyframe,
+  });
+
+  int minBufferMs;
+
+  int maxBufferMs;
+
+  int bufferForPlaybackMs;
+
+  int bufferForPlaybackAfterRebufferMs;
+
+  int targetBufferBytes;
+
+  bool prioritizeTimeOverSizeThresholds;
+
+  int backBufferDurationMs;
+
+  bool retainBackBufferFromKeyframe;
+
+  Object encode() {
+    return <Object?>[
+      minBufferMs,
+      maxBufferMs,
+      bufferForPlaybackMs,
+      bufferForPlaybackAfterRebufferMs,
+      targetBufferBytes,
+      prioritizeTimeOverSizeThresholds,
+      backBufferDurationMs,
+      retainBackBufferFromKeyframe,
+    ];
+  }
+
+  static BufferingMessage decode(Object result) {
+    result as List<Object?>;
+    return BufferingMessage(
+      minBufferMs: result[0]! as int,
+      maxBufferMs: result[1]! as int,
+      bufferForPlaybackMs: result[2]! as int,
+      bufferForPlaybackAfterRebufferMs: result[3]! as int,
+      targetBufferBytes: result[4]! as int,
+      prioritizeTimeOverSizeThresholds: result[5]! as bool,
+      backBufferDurationMs: result[6]! as int,
+      retainBackBufferFromKeyframe: result[7]! as bool,
+    );
+  }
+}
+
+class PositionUpdatesMessage {
+  PositionUpdatesMessage({
+    required this.intervalMs,
+  });
+
+  int intervalMs;
+
+  Object encode() {
+    return <Object?>[
+      intervalMs,
+    ];
+  }
+
+  static PositionUpdatesMessage decode(Object result) {
+    result as List<Object?>;
+    return PositionUpdatesMessage(
+      intervalMs: result[0]! as int,
+    );
+  }
+}
+
+class PlaybackStatsMessage {
+  PlaybackStatsMessage({
+    required this.textureId,
+    required this.startupTimeMs,
+    required this.rebufferCount,
+    required this.rebufferDurationMs,
+    required this.droppedFrames,
+    required this.bitrateSwitchCount,
+    required this.videoBitrate,
+    required this.bandwidthEstimate,
+  });
+
+  int textureId;
+
+  int startupTimeMs;
+
+  int rebufferCount;
+
+  int rebufferDurationMs;
+
+  int droppedFrames;
+
+  int bitrateSwitchCount;
+
+  int videoBitrate;
+
+  int bandwidthEstimate;
+
+  Object encode() {
+    return <Object?>[
+      textureId,
+      startupTimeMs,
+      rebufferCount,
+      rebufferDurationMs,
+      droppedFrames,
+      bitrateSwitchCount,
+      videoBitrate,
+      bandwidthEstimate,
+    ];
+  }
+
+  static PlaybackStatsMessage decode(Object result) {
+    result as List<Object?>;
+    return PlaybackStatsMessage(
+      textureId: result[0]! as int,
+      startupTimeMs: result[1]! as int,
+      rebufferCount: result[2]! as int,
+      rebufferDurationMs: result[3]! as int,
+      droppedFrames: result[4]! as int,
+      bitrateSwitchCount: result[5]! as int,
+      videoBitrate: result[6]! as int,
+      bandwidthEstimate: result[7]! as int,
+    );
+  }
+}
+
+class PlaybackStatsUpdatesMessage {
+  PlaybackStatsUpdatesMessage({
+    required this.intervalMs,
+  });
+
+  int intervalMs;
+
+  Object encode() {
+    return <Object?>[
+      intervalMs,
+    ];
+  }
+
+  static PlaybackStatsUpdatesMessage decode(Object result) {
+    result as List<Object?>;
+    return PlaybackStatsUpdatesMessage(
+      intervalMs: result[0]! as int,
+    );
+  }
+}
+
+class ThumbnailsMessage {
+  ThumbnailsMessage({
+    required this.uri,
+    required this.httpHeaders,
+    required this.timestampsMs,
+    required this.maxWidth,
+    required this.maxHeight,
+    required this.rgba,
+  });
+
+  String uri;
+
+  Map<String?, String?> httpHeaders;
+
+  List<int?> timestampsMs;
+
+  int maxWidth;
+
+  int maxHeight;
+
+  bool rgba;
+
+  Object encode() {
+    return <Object?>[
+      uri,
+      httpHeaders,
+      timestampsMs,
+      maxWidth,
+      maxHeight,
+      rgba,
+    ];
+  }
+
+  static ThumbnailsMessage decode(Object result) {
+    result as List<Object?>;
+    return ThumbnailsMessage(
+      uri: result[0]! as String,
+      httpHeaders: (result[1] as Map<Object?, Object?>?)!.cast<String?, String?>(),
+      timestampsMs: (result[2] as List<Object?>?)!.cast<int?>(),
+      maxWidth: result[3]! as int,
+      maxHeight: result[4]! as int,
+      rgba: result[5]! as bool,
+    );
+  }
+}
+
+class ThumbnailMessage {
+  ThumbnailMessage({
+    required this.timestampMs,
+    required this.width,
+    required this.height,
+    this.path,
+    this.pixels,
+  });
+
+  int timestampMs;
+
+  int width;
+
+  int height;
+
+  String? path;
+
+  Uint8List? pixels;
+
+  Object encode() {
+    return <Object?>[
+      timestampMs,
+      width,
+      height,
+      path,
+      pixels,
+    ];
+  }
+
+  static ThumbnailMessage decode(Object result) {
+    result as List<Object?>;
+    return ThumbnailMessage(
+      timestampMs: result[0]! as int,
+      width: result[1]! as int,
+      height: result[2]! as int,
+      path: result[3] as String?,
+      pixels: result[4] as Uint8List?,
+    );
+  }
+}
+
+class ThumbnailsResultMessage {
+  ThumbnailsResultMessage({
+    required this.thumbnails,
+  });
+
+  List<ThumbnailMessage?> thumbnails;
+
+  Object encode() {
+    return <Object?>[
+      thumbnails,
+    ];
+  }
+
+  static ThumbnailsResultMessage decode(Object result) {
+    result as List<Object?>;
+    return ThumbnailsResultMessage(
+      thumbnails: (result[0] as List<Object?>?)!.cast<ThumbnailMessage?>(),
+    );
+  }
+}
+
 class _AndroidVideoPlayerApiCodec extends StandardMessageCodec {
   const _AndroidVideoPlayerApiCodec();
 
   @override
   void writeValue(WriteBuffer buffer, Object? value) {
-    if (value is CreateMessage) {
+    if (value is BufferingMessage) {
       buffer.putUint8(128);
       writeValue(buffer, value.encode());
-    } else if (value is LoopingMessage) {
+    } else if (value is CacheMessage) {
       buffer.putUint8(129);
       writeValue(buffer, value.encode());
-    } else if (value is MixWithOthersMessage) {
+    } else if (value is CacheStatsMessage) {
       buffer.putUint8(130);
       writeValue(buffer, value.encode());
-    } else if (value is PlaybackSpeedMessage) {
+    } else if (value is CreateMessage) {
       buffer.putUint8(131);
       writeValue(buffer, value.encode());
-    } else if (value is PositionMessage) {
+    } else if (value is LoopingMessage) {
       buffer.putUint8(132);
       writeValue(buffer, value.encode());
-    } else if (value is TextureMessage) {
+    } else if (value is MixWithOthersMessage) {
       buffer.putUint8(133);
       writeValue(buffer, value.encode());
-    } else if (value is VolumeMessage) {
+    } else if (value is PlaybackSpeedMessage) {
       buffer.putUint8(134);
       writeValue(buffer, value.encode());
-    } else if (value is TrackMessage) {
+    } else if (value is PlaybackStatsMessage) {
       buffer.putUint8(135);
       writeValue(buffer, value.encode());
+    } else if (value is PlaybackStatsUpdatesMessage) {
+      buffer.putUint8(136);
+      writeValue(buffer, value.encode());
+    } else if (value is PositionMessage) {
+      buffer.putUint8(137);
+      writeValue(buffer, value.encode());
+    } else if (value is PositionUpdatesMessage) {
+      buffer.putUint8(138);
+      writeValue(buffer, value.encode());
+    } else if (value is PrefetchMessage) {
+      buffer.putUint8(139);
+      writeValue(buffer, value.encode());
+    } else if (value is TextureMessage) {
+      buffer.putUint8(140);
+      writeValue(buffer, value.encode());
+    } else if (value is ThumbnailMessage) {
+      buffer.putUint8(141);
+      writeValue(buffer, value.encode());
+    } else if (value is ThumbnailsMessage) {
+      buffer.putUint8(142);
+      writeValue(buffer, value.encode());
+    } else if (value is ThumbnailsResultMessage) {
+      buffer.putUint8(143);
+      writeValue(buffer, value.encode());
+    } else if (value is VolumeMessage) {
+      buffer.putUint8(144);
+      writeValue(buffer, value.encode());
+    } else if (value is TrackMessage) {
+      buffer.putUint8(145);
+      writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
     }
@@ -262,18 +637,38 @@ class _AndroidVideoPlayerApiCodec extends StandardMessageCodec {
   Object? readValueOfType(int type, ReadBuffer buffer) {
     switch (type) {
       case 128:
-        return CreateMessage.decode(readValue(buffer)!);
+        return BufferingMessage.decode(readValue(buffer)!);
       case 129:
-        return LoopingMessage.decode(readValue(buffer)!);
+        return CacheMessage.decode(readValue(buffer)!);
       case 130:
-        return MixWithOthersMessage.decode(readValue(buffer)!);
+        return CacheStatsMessage.decode(readValue(buffer)!);
       case 131:
-        return PlaybackSpeedMessage.decode(readValue(buffer)!);
+        return CreateMessage.decode(readValue(buffer)!);
       case 132:
-        return PositionMessage.decode(readValue(buffer)!);
+        return LoopingMessage.decode(readValue(buffer)!);
       case 133:
-        return TextureMessage.decode(readValue(buffer)!);
+        return MixWithOthersMessage.decode(readValue(buffer)!);
       case 134:
+        return PlaybackSpeedMessage.decode(readValue(buffer)!);
+      case 135:
+        return PlaybackStatsMessage.decode(readValue(buffer)!);
+      case 136:
+        return PlaybackStatsUpdatesMessage.decode(readValue(buffer)!);
+      case 137:
+        return PositionMessage.decode(readValue(buffer)!);
+      case 138:
+        return PositionUpdatesMessage.decode(readValue(buffer)!);
+      case 139:
+        return PrefetchMessage.decode(readValue(buffer)!);
+      case 140:
+        return TextureMessage.decode(readValue(buffer)!);
+      case 141:
+        return ThumbnailMessage.decode(readValue(buffer)!);
+      case 142:
+        return ThumbnailsMessage.decode(readValue(buffer)!);
+      case 143:
+        return ThumbnailsResultMessage.decode(readValue(buffer)!);
+      case 144:
         return VolumeMessage.decode(readValue(buffer)!);
       default:
         return super.readValueOfType(type, buffer);
@@ -578,4 +973,208 @@ class AndroidVideoPlayerApi {
       return;
     }
   }
+
+  Future<void> setCacheOptions(CacheMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setCacheOptions', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<CacheStatsMessage> getCacheStats() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getCacheStats', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(null) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as CacheStatsMessage?)!;
+    }
+  }
+
+  Future<void> prefetch(PrefetchMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.prefetch', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> preparePlayer(CreateMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.preparePlayer', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setBufferingOptions(BufferingMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setBufferingOptions', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setPositionUpdateInterval(PositionUpdatesMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setPositionUpdateInterval', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<PlaybackStatsMessage> getPlaybackStats(TextureMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getPlaybackStats', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as PlaybackStatsMessage?)!;
+    }
+  }
+
+  Future<void> setPlaybackStatsInterval(PlaybackStatsUpdatesMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setPlaybackStatsInterval', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<ThumbnailsResultMessage> getThumbnails(ThumbnailsMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getThumbnails', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as ThumbnailsResultMessage?)!;
+    }
+  }
 }
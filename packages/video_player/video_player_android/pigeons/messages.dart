@@ -56,6 +56,112 @@ class MixWithOthersMessage {
   bool mixWithOthers;
 }
 
+class CacheMessage {
+  CacheMessage(this.enabled, this.maxSizeBytes);
+  bool enabled;
+  int maxSizeBytes;
+}
+
+class CacheStatsMessage {
+  CacheStatsMessage(this.cacheHitBytes, this.cachedBytes);
+  int cacheHitBytes;
+  int cachedBytes;
+}
+
+class PrefetchMessage {
+  PrefetchMessage(this.uri, this.httpHeaders, this.lengthBytes);
+  String uri;
+  Map<String?, String?> httpHeaders;
+  int lengthBytes;
+}
+
+class BufferingMessage {
+  BufferingMessage(
+    this.minBufferMs,
+    this.maxBufferMs,
+    this.bufferForPlaybackMs,
+    this.bufferForPlaybackAfterRebufferMs,
+    this.targetBufferBytes,
+    this.prioritizeTimeOverSizeThresholds,
+    this.backBufferDurationMs,
+    this.retainBackBufferFromKeyframe,
+  );
+  int minBufferMs;
+  int maxBufferMs;
+  int bufferForPlaybackMs;
+  int bufferForPlaybackAfterRebufferMs;
+  int targetBufferBytes;
+  bool prioritizeTimeOverSizeThresholds;
+  int backBufferDurationMs;
+  bool retainBackBufferFromKeyframe;
+}
+
+class PositionUpdatesMessage {
+  PositionUpdatesMessage(this.intervalMs);
+  int intervalMs;
+}
+
+class PlaybackStatsMessage {
+  PlaybackStatsMessage(
+    this.textureId,
+    this.startupTimeMs,
+    this.rebufferCount,
+    this.rebufferDurationMs,
+    this.droppedFrames,
+    this.bitrateSwitchCount,
+    this.videoBitrate,
+    this.bandwidthEstimate,
+  );
+  int textureId;
+  int startupTimeMs;
+  int rebufferCount;
+  int rebufferDurationMs;
+  int droppedFrames;
+  int bitrateSwitchCount;
+  int videoBitrate;
+  int bandwidthEstimate;
+}
+
+class PlaybackStatsUpdatesMessage {
+  PlaybackStatsUpdatesMessage(this.intervalMs);
+  int intervalMs;
+}
+
+class ThumbnailsMessage {
+  ThumbnailsMessage(
+    this.uri,
+    this.httpHeaders,
+    this.timestampsMs,
+    this.maxWidth,
+    this.maxHeight,
+    this.rgba,
+  );
+  String uri;
+  Map<String?, String?> httpHeaders;
+  List<int?> timestampsMs;
+  int maxWidth;
+  int maxHeight;
+  bool rgba;
+}
+
+class ThumbnailMessage {
+  ThumbnailMessage({
+    required this.timestampMs,
+    required this.width,
+    required this.height,
+  });
+  int timestampMs;
+  int width;
+  int height;
+  String? path;
+  Uint8List? pixels;
+}
+
+class ThumbnailsResultMessage {
+  ThumbnailsResultMessage(this.thumbnails);
+  List<ThumbnailMessage?> thumbnails;
+}
+
 @HostApi(dartHostTestHandler: 'TestHostVideoPlayerApi')
 abstract class AndroidVideoPlayerApi {
   void initialize();
@@ -69,4 +175,14 @@ abstract class AndroidVideoPlayerApi {
   void seekTo(PositionMessage msg);
   void pause(TextureMessage msg);
   void setMixWithOthers(MixWithOthersMessage msg);
+  void setCacheOptions(CacheMessage msg);
+  CacheStatsMessage getCacheStats();
+  void prefetch(PrefetchMessage msg);
+  void preparePlayer(CreateMessage msg);
+  void setBufferingOptions(BufferingMessage msg);
+  void setPositionUpdateInterval(PositionUpdatesMessage msg);
+  PlaybackStatsMessage getPlaybackStats(TextureMessage msg);
+  void setPlaybackStatsInterval(PlaybackStatsUpdatesMessage msg);
+  @async
+  ThumbnailsResultMessage getThumbnails(ThumbnailsMessage msg);
 }
@@ -19,6 +19,12 @@ class _ApiLogger implements TestHostVideoPlayerApi {
   VolumeMessage? volumeMessage;
   PlaybackSpeedMessage? playbackSpeedMessage;
   MixWithOthersMessage? mixWithOthersMessage;
+  CacheMessage? cacheMessage;
+  PrefetchMessage? prefetchMessage;
+  BufferingMessage? bufferingMessage;
+  PositionUpdatesMessage? positionUpdatesMessage;
+  PlaybackStatsUpdatesMessage? playbackStatsUpdatesMessage;
+  ThumbnailsMessage? thumbnailsMessage;
 
   @override
   TextureMessage create(CreateMessage arg) {
@@ -86,6 +92,74 @@ class _ApiLogger implements TestHostVideoPlayerApi {
     log.add('setPlaybackSpeed');
     playbackSpeedMessage = arg;
   }
+
+  @override
+  void setCacheOptions(CacheMessage arg) {
+    log.add('setCacheOptions');
+    cacheMessage = arg;
+  }
+
+  @override
+  CacheStatsMessage getCacheStats() {
+    log.add('getCacheStats');
+    return CacheStatsMessage(cacheHitBytes: 10, cachedBytes: 20);
+  }
+
+  @override
+  void prefetch(PrefetchMessage arg) {
+    log.add('prefetch');
+    prefetchMessage = arg;
+  }
+
+  @override
+  void preparePlayer(CreateMessage arg) {
+    log.add('preparePlayer');
+    createMessage = arg;
+  }
+
+  @override
+  void setBufferingOptions(BufferingMessage arg) {
+    log.add('setBufferingOptions');
+    bufferingMessage = arg;
+  }
+
+  @override
+  void setPositionUpdateInterval(PositionUpdatesMessage arg) {
+    log.add('setPositionUpdateInterval');
+    positionUpdatesMessage = arg;
+  }
+
+  @override
+  PlaybackStatsMessage getPlaybackStats(TextureMessage arg) {
+    log.add('getPlaybackStats');
+    textureMessage = arg;
+    return PlaybackStatsMessage(
+      textureId: arg.textureId,
+      startupTimeMs: 350,
+      rebufferCount: 2,
+      rebufferDurationMs: 1200,
+      droppedFrames: 5,
+      bitrateSwitchCount: 3,
+      videoBitrate: 2000000,
+      bandwidthEstimate: -1,
+    );
+  }
+
+  @override
+  Future<ThumbnailsResultMessage> getThumbnails(ThumbnailsMessage arg) async {
+    log.add('getThumbnails');
+    thumbnailsMessage = arg;
+    return ThumbnailsResultMessage(thumbnails: <ThumbnailMessage?>[
+      ThumbnailMessage(timestampMs: 0, width: 320, height: 180, path: '/cache/0.jpg'),
+      ThumbnailMessage(timestampMs: 5000, width: 0, height: 0),
+    ]);
+  }
+
+  @override
+  void setPlaybackStatsInterval(PlaybackStatsUpdatesMessage arg) {
+    log.add('setPlaybackStatsInterval');
+    playbackStatsUpdatesMessage = arg;
+  }
 }
 
 void main() {
@@ -184,6 +258,30 @@ void main() {
           <String, String>{'Authorization': 'Bearer token'});
       expect(textureId, 3);
     });
+    test('preparePlayer', () async {
+      await player.preparePlayer(DataSource(
+        sourceType: DataSourceType.network,
+        uri: 'someUri',
+        formatHint: VideoFormat.hls,
+      ));
+      expect(log.log.last, 'preparePlayer');
+      expect(log.createMessage?.uri, 'someUri');
+      expect(log.createMessage?.formatHint, 'hls');
+    });
+
+    test('prefetch', () async {
+      await player.prefetch(
+        'someUri',
+        httpHeaders: <String, String>{'Authorization': 'Bearer token'},
+        lengthBytes: 4096,
+      );
+      expect(log.log.last, 'prefetch');
+      expect(log.prefetchMessage?.uri, 'someUri');
+      expect(log.prefetchMessage?.httpHeaders,
+          <String, String>{'Authorization': 'Bearer token'});
+      expect(log.prefetchMessage?.lengthBytes, 4096);
+    });
+
     test('setLooping', () async {
       await player.setLooping(1, true);
       expect(log.log.last, 'setLooping');
@@ -213,6 +311,85 @@ void main() {
       expect(log.mixWithOthersMessage?.mixWithOthers, false);
     });
 
+    test('setCacheOptions', () async {
+      await player.setCacheOptions(enabled: true, maxSizeBytes: 1024);
+      expect(log.log.last, 'setCacheOptions');
+      expect(log.cacheMessage?.enabled, true);
+      expect(log.cacheMessage?.maxSizeBytes, 1024);
+    });
+
+    test('getCacheStats', () async {
+      final Map<String, int> stats = await player.getCacheStats();
+      expect(log.log.last, 'getCacheStats');
+      expect(stats, <String, int>{'cacheHitBytes': 10, 'cachedBytes': 20});
+    });
+
+    test('setBufferingOptions', () async {
+      await player.setBufferingOptions(
+        minBuffer: const Duration(seconds: 15),
+        maxBuffer: const Duration(seconds: 15),
+        targetBufferBytes: 4 * 1024 * 1024,
+        backBuffer: const Duration(seconds: 5),
+      );
+      expect(log.log.last, 'setBufferingOptions');
+      expect(log.bufferingMessage?.minBufferMs, 15000);
+      expect(log.bufferingMessage?.maxBufferMs, 15000);
+      expect(log.bufferingMessage?.bufferForPlaybackMs, 2500);
+      expect(log.bufferingMessage?.bufferForPlaybackAfterRebufferMs, 5000);
+      expect(log.bufferingMessage?.targetBufferBytes, 4 * 1024 * 1024);
+      expect(log.bufferingMessage?.prioritizeTimeOverSizeThresholds, false);
+      expect(log.bufferingMessage?.backBufferDurationMs, 5000);
+      expect(log.bufferingMessage?.retainBackBufferFromKeyframe, false);
+    });
+
+    test('getPlaybackStats', () async {
+      final Map<String, int> stats = await player.getPlaybackStats(1);
+      expect(log.log.last, 'getPlaybackStats');
+      expect(log.textureMessage?.textureId, 1);
+      expect(stats, <String, int>{
+        'startupTimeMs': 350,
+        'rebufferCount': 2,
+        'rebufferDurationMs': 1200,
+        'droppedFrames': 5,
+        'bitrateSwitchCount': 3,
+        'videoBitrate': 2000000,
+        'bandwidthEstimate': -1,
+      });
+    });
+
+    test('setPlaybackStatsInterval', () async {
+      await player.setPlaybackStatsInterval(const Duration(seconds: 10));
+      expect(log.log.last, 'setPlaybackStatsInterval');
+      expect(log.playbackStatsUpdatesMessage?.intervalMs, 10000);
+
+      await player.setPlaybackStatsInterval(null);
+      expect(log.playbackStatsUpdatesMessage?.intervalMs, 0);
+    });
+
+    test('getThumbnails', () async {
+      final List<AndroidVideoThumbnail> thumbnails = await player.getThumbnails(
+        'https://example.com/video.mp4',
+        const <Duration>[Duration.zero, Duration(seconds: 5)],
+        maxWidth: 320,
+        maxHeight: 180,
+      );
+      expect(log.log.last, 'getThumbnails');
+      expect(log.thumbnailsMessage?.uri, 'https://example.com/video.mp4');
+      expect(log.thumbnailsMessage?.timestampsMs, <int>[0, 5000]);
+      expect(log.thumbnailsMessage?.maxWidth, 320);
+      expect(log.thumbnailsMessage?.maxHeight, 180);
+      expect(log.thumbnailsMessage?.rgba, false);
+
+      expect(thumbnails, hasLength(2));
+      expect(thumbnails[0].timestamp, Duration.zero);
+      expect(thumbnails[0].width, 320);
+      expect(thumbnails[0].path, '/cache/0.jpg');
+      expect(thumbnails[1].timestamp, const Duration(seconds: 5));
+      expect(thumbnails[1].width, 0);
+      expect(thumbnails[1].path, isNull);
+      expect(thumbnails[1].pixels, isNull);
+    });
+
     test('setVolume', () async {
       await player.setVolume(1, 0.7);
       expect(log.log.last, 'setVolume');
@@ -392,6 +569,100 @@ void main() {
             ),
           ]));
     });
+
+    test('setPositionUpdateInterval', () async {
+      const String mockChannel = 'flutter.io/videoPlayer/positionEvents';
+      _ambiguate(TestDefaultBinaryMessengerBinding.instance)!
+          .defaultBinaryMessenger
+          .setMockMessageHandler(
+        mockChannel,
+        (ByteData? message) async {
+          final MethodCall methodCall =
+              const StandardMethodCodec().decodeMethodCall(message);
+          if (methodCall.method == 'listen') {
+            await _ambiguate(TestDefaultBinaryMessengerBinding.instance)!
+                .defaultBinaryMessenger
+                .handlePlatformMessage(
+                    mockChannel,
+                    const StandardMethodCodec()
+                        .encodeSuccessEnvelope(<int>[1, 1000, 2, 2000]),
+                    (ByteData? data) {});
+            return const StandardMethodCodec().encodeSuccessEnvelope(null);
+          } else if (methodCall.method == 'cancel') {
+            return const StandardMethodCodec().encodeSuccessEnvelope(null);
+          } else {
+            fail('Expected listen or cancel');
+          }
+        },
+      );
+
+      await player
+          .setPositionUpdateInterval(const Duration(milliseconds: 100));
+      expect(log.log.last, 'setPositionUpdateInterval');
+      expect(log.positionUpdatesMessage?.intervalMs, 100);
+
+      expect(await player.getPosition(2), const Duration(milliseconds: 2000));
+      await player.seekTo(1, const Duration(milliseconds: 5000));
+      expect(await player.getPosition(1), const Duration(milliseconds: 5000));
+      expect(log.log, isNot(contains('position')));
+
+      await player.setPositionUpdateInterval(null);
+      expect(log.positionUpdatesMessage?.intervalMs, 0);
+      expect(await player.getPosition(1), const Duration(milliseconds: 234));
+      expect(log.log.last, 'position');
+    });
+
+    test('playbackStatsEvents', () async {
+      const String mockChannel = 'flutter.io/videoPlayer/playbackStatsEvents';
+      _ambiguate(TestDefaultBinaryMessengerBinding.instance)!
+          .defaultBinaryMessenger
+          .setMockMessageHandler(
+        mockChannel,
+        (ByteData? message) async {
+          final MethodCall methodCall =
+              const StandardMethodCodec().decodeMethodCall(message);
+          if (methodCall.method == 'listen') {
+            await _ambiguate(TestDefaultBinaryMessengerBinding.instance)!
+                .defaultBinaryMessenger
+                .handlePlatformMessage(
+                    mockChannel,
+                    const StandardMethodCodec()
+                        .encodeSuccessEnvelope(<Object?>[
+                      PlaybackStatsMessage(
+                        textureId: 7,
+                        startupTimeMs: 350,
+                        rebufferCount: 0,
+                        rebufferDurationMs: 0,
+                        droppedFrames: 1,
+                        bitrateSwitchCount: 0,
+                        videoBitrate: -1,
+                        bandwidthEstimate: 8000000,
+                      ).encode(),
+                    ]),
+                    (ByteData? data) {});
+            return const StandardMethodCodec().encodeSuccessEnvelope(null);
+          } else if (methodCall.method == 'cancel') {
+            return const StandardMethodCodec().encodeSuccessEnvelope(null);
+          } else {
+            fail('Expected listen or cancel');
+          }
+        },
+      );
+
+      expect(
+          await player.playbackStatsEvents().first,
+          <int, Map<String, int>>{
+            7: <String, int>{
+              'startupTimeMs': 350,
+              'rebufferCount': 0,
+              'rebufferDurationMs': 0,
+              'droppedFrames': 1,
+              'bitrateSwitchCount': 0,
+              'videoBitrate': -1,
+              'bandwidthEstimate': 8000000,
+            },
+          });
+    });
   });
 }
 
@@ -11,6 +11,10 @@ import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.CookieManagerHostApi;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -87,6 +91,79 @@ public class CookieManagerHostApiImpl implements CookieManagerHostApi {
     getCookieManagerInstance(identifier).setCookie(url, value);
   }
 
+  @Override
+  public void setCookies(@NonNull Long identifier, @NonNull Map<String, List<String>> cookies) {
+    final CookieManager cookieManager = getCookieManagerInstance(identifier);
+    for (Map.Entry<String, List<String>> entry : cookies.entrySet()) {
+      for (String value : entry.getValue()) {
+        cookieManager.setCookie(entry.getKey(), value);
+      }
+    }
+    // Before Lollipop, cookies are persisted periodically by `CookieSyncManager`.
+    if (sdkChecker.sdkIsAtLeast(Build.VERSION_CODES.LOLLIPOP)) {
+      cookieManager.flush();
+    }
+  }
+
+  @Override
+  public void setCookiesAndFlush(
+      @NonNull Long identifier,
+      @NonNull Map<String, List<String>> cookies,
+      @NonNull GeneratedAndroidWebView.Result<Boolean> result) {
+    if (!sdkChecker.sdkIsAtLeast(Build.VERSION_CODES.LOLLIPOP)) {
+      setCookies(identifier, cookies);
+      result.success(true);
+      return;
+    }
+
+    final CookieManager cookieManager = getCookieManagerInstance(identifier);
+    int count = 0;
+    for (List<String> values : cookies.values()) {
+      count += values.size();
+    }
+    if (count == 0) {
+      result.success(true);
+      return;
+    }
+
+    // `CookieManager` calls back on the thread that set the cookies, so the counters are only
+    // accessed on the platform thread.
+    final int[] pending = {count};
+    final boolean[] allSet = {true};
+    for (Map.Entry<String, List<String>> entry : cookies.entrySet()) {
+      for (String value : entry.getValue()) {
+        cookieManager.setCookie(
+            entry.getKey(),
+            value,
+            (Boolean set) -> {
+              allSet[0] &= Boolean.TRUE.equals(set);
+              if (--pending[0] == 0) {
+                cookieManager.flush();
+                result.success(allSet[0]);
+              }
+            });
+      }
+    }
+  }
+
+  @NonNull
+  @Override
+  public List<String> getCookies(@NonNull Long identifier, @NonNull String url) {
+    final String cookies = getCookieManagerInstance(identifier).getCookie(url);
+    if (cookies == null || cookies.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    final List<String> pairs = new ArrayList<>();
+    for (String pair : cookies.split(";")) {
+      final String trimmed = pair.trim();
+      if (!trimmed.isEmpty()) {
+        pairs.add(trimmed);
+      }
+    }
+    return pairs;
+  }
+
   @Override
   public void removeAllCookies(
       @NonNull Long identifier, @NonNull GeneratedAndroidWebView.Result<Boolean> result) {
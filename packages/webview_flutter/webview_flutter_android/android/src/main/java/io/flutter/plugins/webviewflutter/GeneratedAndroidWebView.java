@@ -476,6 +476,13 @@ public class GeneratedAndroidWebView {
      * <p>This is typically only used after a hot restart.
      */
     void clear();
+    /**
+     * Returns the number of live native instances, grouped by class name.
+     *
+     * <p>This is intended for debugging leaks and memory growth.
+     */
+    @NonNull
+    Map<String, Long> getInstanceCounts();
 
     /** The codec used by InstanceManagerHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
@@ -508,6 +515,29 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.InstanceManagerHostApi.getInstanceCounts",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                try {
+                  Map<String, Long> output = api.getInstanceCounts();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
   /**
@@ -608,6 +638,16 @@ public class GeneratedAndroidWebView {
     /** Handles Dart method `CookieManager.setAcceptThirdPartyCookies`. */
     void setAcceptThirdPartyCookies(
         @NonNull Long identifier, @NonNull Long webViewIdentifier, @NonNull Boolean accept);
+    /** Handles Dart method `CookieManager.setCookies`. */
+    void setCookies(@NonNull Long identifier, @NonNull Map<String, List<String>> cookies);
+    /** Handles Dart method `CookieManager.setCookiesAndFlush`. */
+    void setCookiesAndFlush(
+        @NonNull Long identifier,
+        @NonNull Map<String, List<String>> cookies,
+        @NonNull Result<Boolean> result);
+    /** Handles Dart method `CookieManager.getCookies`. */
+    @NonNull
+    List<String> getCookies(@NonNull Long identifier, @NonNull String url);
 
     /** The codec used by CookieManagerHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
@@ -733,6 +773,92 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.CookieManagerHostApi.setCookies", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number identifierArg = (Number) args.get(0);
+                Map<String, List<String>> cookiesArg = (Map<String, List<String>>) args.get(1);
+                try {
+                  api.setCookies(
+                      (identifierArg == null) ? null : identifierArg.longValue(), cookiesArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.CookieManagerHostApi.setCookiesAndFlush",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number identifierArg = (Number) args.get(0);
+                Map<String, List<String>> cookiesArg = (Map<String, List<String>>) args.get(1);
+                Result<Boolean> resultCallback =
+                    new Result<Boolean>() {
+                      public void success(Boolean result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.setCookiesAndFlush(
+                    (identifierArg == null) ? null : identifierArg.longValue(),
+                    cookiesArg,
+                    resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.CookieManagerHostApi.getCookies", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number identifierArg = (Number) args.get(0);
+                String urlArg = (String) args.get(1);
+                try {
+                  List<String> output =
+                      api.getCookies(
+                          (identifierArg == null) ? null : identifierArg.longValue(), urlArg);
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 
@@ -837,6 +963,22 @@ public class GeneratedAndroidWebView {
 
     void setBackgroundColor(@NonNull Long instanceId, @NonNull Long color);
 
+    void prewarm(@NonNull Long poolSize);
+
+    @NonNull
+    Map<String, Long> getCreationMetrics();
+
+    void setScrollChangedEvents(
+        @NonNull Long instanceId,
+        @NonNull Boolean enabled,
+        @NonNull Long minIntervalMilliseconds,
+        @NonNull Long minDelta);
+
+    void evaluateJavascriptBatch(
+        @NonNull Long instanceId,
+        @NonNull List<String> scripts,
+        @NonNull Result<List<Map<String, Object>>> result);
+
     /** The codec used by WebViewHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
       return WebViewHostApiCodec.INSTANCE;
@@ -1538,6 +1680,121 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.prewarm", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number poolSizeArg = (Number) args.get(0);
+                try {
+                  api.prewarm((poolSizeArg == null) ? null : poolSizeArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewHostApi.getCreationMetrics",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                try {
+                  Map<String, Long> output = api.getCreationMetrics();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewHostApi.setScrollChangedEvents",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                Boolean enabledArg = (Boolean) args.get(1);
+                Number minIntervalMillisecondsArg = (Number) args.get(2);
+                Number minDeltaArg = (Number) args.get(3);
+                try {
+                  api.setScrollChangedEvents(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      enabledArg,
+                      (minIntervalMillisecondsArg == null)
+                          ? null
+                          : minIntervalMillisecondsArg.longValue(),
+                      (minDeltaArg == null) ? null : minDeltaArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptBatch",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                List<String> scriptsArg = (List<String>) args.get(1);
+                Result<List<Map<String, Object>>> resultCallback =
+                    new Result<List<Map<String, Object>>>() {
+                      public void success(List<Map<String, Object>> result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.evaluateJavascriptBatch(
+                    (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                    scriptsArg,
+                    resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
   /**
@@ -1575,6 +1832,22 @@ public class GeneratedAndroidWebView {
           new ArrayList<Object>(Collections.singletonList(identifierArg)),
           channelReply -> callback.reply(null));
     }
+
+    public void onScrollChanged(
+        @NonNull Long webViewInstanceIdArg,
+        @NonNull Long leftArg,
+        @NonNull Long topArg,
+        @NonNull Long oldLeftArg,
+        @NonNull Long oldTopArg,
+        @NonNull Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.WebViewFlutterApi.onScrollChanged", getCodec());
+      channel.send(
+          new ArrayList<Object>(
+              Arrays.asList(webViewInstanceIdArg, leftArg, topArg, oldLeftArg, oldTopArg)),
+          channelReply -> callback.reply(null));
+    }
   }
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
   public interface WebSettingsHostApi {
@@ -1999,6 +2272,15 @@ public class GeneratedAndroidWebView {
 
     void create(@NonNull Long instanceId, @NonNull String channelName);
 
+    void setBatching(
+        @NonNull Long instanceId,
+        @NonNull Boolean enabled,
+        @NonNull Long maxBatchSize,
+        @NonNull Long flushIntervalMilliseconds);
+
+    @NonNull
+    Map<String, Long> getQueueMetrics(@NonNull Long instanceId);
+
     /** The codec used by JavaScriptChannelHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
       return new StandardMessageCodec();
@@ -2034,6 +2316,67 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.JavaScriptChannelHostApi.setBatching",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                Boolean enabledArg = (Boolean) args.get(1);
+                Number maxBatchSizeArg = (Number) args.get(2);
+                Number flushIntervalMillisecondsArg = (Number) args.get(3);
+                try {
+                  api.setBatching(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      enabledArg,
+                      (maxBatchSizeArg == null) ? null : maxBatchSizeArg.longValue(),
+                      (flushIntervalMillisecondsArg == null)
+                          ? null
+                          : flushIntervalMillisecondsArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.JavaScriptChannelHostApi.getQueueMetrics",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                try {
+                  Map<String, Long> output =
+                      api.getQueueMetrics(
+                          (instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
   /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
@@ -2065,6 +2408,34 @@ public class GeneratedAndroidWebView {
           new ArrayList<Object>(Arrays.asList(instanceIdArg, messageArg)),
           channelReply -> callback.reply(null));
     }
+
+    public void postMessages(
+        @NonNull Long instanceIdArg,
+        @NonNull List<String> messagesArg,
+        @NonNull Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.JavaScriptChannelFlutterApi.postMessages",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg, messagesArg)),
+          channelReply -> callback.reply(null));
+    }
+
+    public void postBinaryMessages(
+        @NonNull Long instanceIdArg,
+        @NonNull List<byte[]> messagesArg,
+        @NonNull Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.JavaScriptChannelFlutterApi.postBinaryMessages",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg, messagesArg)),
+          channelReply -> callback.reply(null));
+    }
   }
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
   public interface WebViewClientHostApi {
@@ -2074,6 +2445,22 @@ public class GeneratedAndroidWebView {
     void setSynchronousReturnValueForShouldOverrideUrlLoading(
         @NonNull Long instanceId, @NonNull Boolean value);
 
+    void setResourceInterception(
+        @NonNull Long instanceId,
+        @NonNull List<String> urlPatterns,
+        @Nullable String assetUrlPrefix,
+        @NonNull Long maxMemoryCacheBytes,
+        @NonNull Long maxDiskCacheBytes);
+
+    @NonNull
+    Map<String, Long> getResourceInterceptionMetrics(
+        @NonNull Long instanceId, @NonNull Long webViewInstanceId);
+
+    void setNavigationPolicy(
+        @NonNull Long instanceId,
+        @NonNull List<Map<String, Object>> rules,
+        @Nullable String defaultAction);
+
     /** The codec used by WebViewClientHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
       return new StandardMessageCodec();
@@ -2134,6 +2521,99 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewClientHostApi.setResourceInterception",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                List<String> urlPatternsArg = (List<String>) args.get(1);
+                String assetUrlPrefixArg = (String) args.get(2);
+                Number maxMemoryCacheBytesArg = (Number) args.get(3);
+                Number maxDiskCacheBytesArg = (Number) args.get(4);
+                try {
+                  api.setResourceInterception(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      urlPatternsArg,
+                      assetUrlPrefixArg,
+                      (maxMemoryCacheBytesArg == null) ? null : maxMemoryCacheBytesArg.longValue(),
+                      (maxDiskCacheBytesArg == null) ? null : maxDiskCacheBytesArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewClientHostApi.getResourceInterceptionMetrics",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                Number webViewInstanceIdArg = (Number) args.get(1);
+                try {
+                  Map<String, Long> output =
+                      api.getResourceInterceptionMetrics(
+                          (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                          (webViewInstanceIdArg == null) ? null : webViewInstanceIdArg.longValue());
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewClientHostApi.setNavigationPolicy",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                List<Map<String, Object>> rulesArg = (List<Map<String, Object>>) args.get(1);
+                String defaultActionArg = (String) args.get(2);
+                try {
+                  api.setNavigationPolicy(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      rulesArg,
+                      defaultActionArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 
@@ -2300,6 +2780,23 @@ public class GeneratedAndroidWebView {
               Arrays.asList(instanceIdArg, webViewInstanceIdArg, urlArg, isReloadArg)),
           channelReply -> callback.reply(null));
     }
+
+    public void onNavigationReported(
+        @NonNull Long instanceIdArg,
+        @NonNull Long webViewInstanceIdArg,
+        @NonNull String urlArg,
+        @NonNull Boolean allowedArg,
+        @NonNull Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.WebViewClientFlutterApi.onNavigationReported",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(
+              Arrays.asList(instanceIdArg, webViewInstanceIdArg, urlArg, allowedArg)),
+          channelReply -> callback.reply(null));
+    }
   }
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
   public interface DownloadListenerHostApi {
@@ -2392,6 +2889,9 @@ public class GeneratedAndroidWebView {
     void setSynchronousReturnValueForOnShowFileChooser(
         @NonNull Long instanceId, @NonNull Boolean value);
 
+    void setProgressThrottle(
+        @NonNull Long instanceId, @NonNull Long minIntervalMilliseconds, @NonNull Long minDelta);
+
     /** The codec used by WebChromeClientHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
       return new StandardMessageCodec();
@@ -2452,6 +2952,38 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebChromeClientHostApi.setProgressThrottle",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                Number minIntervalMillisecondsArg = (Number) args.get(1);
+                Number minDeltaArg = (Number) args.get(2);
+                try {
+                  api.setProgressThrottle(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      (minIntervalMillisecondsArg == null)
+                          ? null
+                          : minIntervalMillisecondsArg.longValue(),
+                      (minDeltaArg == null) ? null : minDeltaArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
@@ -9,9 +9,14 @@ import android.os.Looper;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.WeakHashMap;
 
 /**
@@ -28,6 +33,11 @@ import java.util.WeakHashMap;
  * is removed and then the identifier is retrieved with the intention to pass the identifier to Dart
  * (e.g. calling {@link #getIdentifierForStrongReference(Object)}), the strong reference to the
  * instance is recreated. The strong reference will then need to be removed manually again.
+ *
+ * <p>A daemon thread waits for weak references to be enqueued after their instances are garbage
+ * collected, so the `finalizationListener` is called shortly after collection. The instances
+ * themselves are only accessed and released on the main thread. The thread ends when {@link
+ * #stopFinalizationListener()} is called.
  */
 @SuppressWarnings("unchecked")
 public class InstanceManager {
@@ -36,7 +46,6 @@ public class InstanceManager {
   // Host uses identifiers >= 2^16 and Dart is expected to use values n where,
   // 0 <= n < 2^16.
   private static final long MIN_HOST_CREATED_IDENTIFIER = 65536;
-  private static final long CLEAR_FINALIZED_WEAK_REFERENCES_INTERVAL = 3000;
   private static final String TAG = "InstanceManager";
 
   /** Interface for listening when a weak reference of an instance is removed from the manager. */
@@ -44,19 +53,29 @@ public class InstanceManager {
     void onFinalize(long identifier);
   }
 
+  /** A weak reference that knows the identifier of its instance after it is cleared. */
+  private static class IdentifiedWeakReference extends WeakReference<Object> {
+    final long identifier;
+
+    IdentifiedWeakReference(Object instance, long identifier, ReferenceQueue<Object> queue) {
+      super(instance, queue);
+      this.identifier = identifier;
+    }
+  }
+
   private final WeakHashMap<Object, Long> identifiers = new WeakHashMap<>();
-  private final HashMap<Long, WeakReference<Object>> weakInstances = new HashMap<>();
-  private final HashMap<Long, Object> strongInstances = new HashMap<>();
+  private final LongObjectMap<IdentifiedWeakReference> weakInstances = new LongObjectMap<>();
+  private final LongObjectMap<Object> strongInstances = new LongObjectMap<>();
 
   private final ReferenceQueue<Object> referenceQueue = new ReferenceQueue<>();
-  private final HashMap<WeakReference<Object>, Long> weakReferencesToIdentifiers = new HashMap<>();
+  private final Thread finalizerThread = new Thread(this::awaitFinalizedInstances, TAG);
 
-  private final Handler handler = new Handler(Looper.getMainLooper());
+  private final Handler handler;
 
   private final FinalizationListener finalizationListener;
 
   private long nextIdentifier = MIN_HOST_CREATED_IDENTIFIER;
-  private boolean hasFinalizationListenerStopped = false;
+  private volatile boolean hasFinalizationListenerStopped = false;
 
   /**
    * Instantiate a new manager.
@@ -68,13 +87,27 @@ public class InstanceManager {
    */
   @NonNull
   public static InstanceManager create(@NonNull FinalizationListener finalizationListener) {
-    return new InstanceManager(finalizationListener);
+    return create(finalizationListener, new Handler(Looper.getMainLooper()));
+  }
+
+  /**
+   * Instantiate a new manager that releases garbage collected instances on the thread of `handler`.
+   *
+   * <p>Every method of the manager must be called on that thread.
+   */
+  @VisibleForTesting
+  @NonNull
+  static InstanceManager create(
+      @NonNull FinalizationListener finalizationListener, @NonNull Handler handler) {
+    final InstanceManager instanceManager = new InstanceManager(finalizationListener, handler);
+    instanceManager.finalizerThread.start();
+    return instanceManager;
   }
 
-  private InstanceManager(FinalizationListener finalizationListener) {
+  private InstanceManager(FinalizationListener finalizationListener, Handler handler) {
     this.finalizationListener = finalizationListener;
-    handler.postDelayed(
-        this::releaseAllFinalizedInstances, CLEAR_FINALIZED_WEAK_REFERENCES_INTERVAL);
+    this.handler = handler;
+    finalizerThread.setDaemon(true);
   }
 
   /**
@@ -165,9 +198,9 @@ public class InstanceManager {
   public <T> T getInstance(long identifier) {
     logWarningIfFinalizationListenerHasStopped();
 
-    final WeakReference<T> instance = (WeakReference<T>) weakInstances.get(identifier);
+    final IdentifiedWeakReference instance = weakInstances.get(identifier);
     if (instance != null) {
-      return instance.get();
+      return (T) instance.get();
     }
     return null;
   }
@@ -184,15 +217,38 @@ public class InstanceManager {
   }
 
   /**
-   * Stop the periodic run of the {@link FinalizationListener} for instances that have been garbage
+   * Returns the number of instances that haven't been garbage collected, grouped by class name.
+   *
+   * <p>This is intended for debugging leaks and memory growth.
+   */
+  @NonNull
+  public Map<String, Long> getInstanceCounts() {
+    logWarningIfFinalizationListenerHasStopped();
+
+    final Map<String, Long> counts = new HashMap<>();
+    weakInstances.forEach(
+        (identifier, reference) -> {
+          final Object instance = reference.get();
+          if (instance != null) {
+            final String name = instance.getClass().getName();
+            final Long count = counts.get(name);
+            counts.put(name, count == null ? 1 : count + 1);
+          }
+        });
+    return counts;
+  }
+
+  /**
+   * Stop calling the {@link FinalizationListener} for instances that have been garbage
    * collected.
    *
    * <p>The InstanceManager can continue to be used, but the {@link FinalizationListener} will no
-   * longer be called and methods will log a warning.
+   * longer be called and methods will log a warning. This also ends the thread that waits for
+   * garbage collected instances.
    */
   public void stopFinalizationListener() {
-    handler.removeCallbacks(this::releaseAllFinalizedInstances);
     hasFinalizationListenerStopped = true;
+    finalizerThread.interrupt();
   }
 
   /**
@@ -204,7 +260,6 @@ public class InstanceManager {
     identifiers.clear();
     weakInstances.clear();
     strongInstances.clear();
-    weakReferencesToIdentifiers.clear();
   }
 
   /**
@@ -217,22 +272,44 @@ public class InstanceManager {
     return hasFinalizationListenerStopped;
   }
 
-  private void releaseAllFinalizedInstances() {
+  @VisibleForTesting
+  @NonNull
+  Thread getFinalizerThread() {
+    return finalizerThread;
+  }
+
+  // Runs on the finalizer thread until the finalization listener is stopped.
+  private void awaitFinalizedInstances() {
+    while (!hasFinalizationListenerStopped()) {
+      final List<IdentifiedWeakReference> references = new ArrayList<>();
+      try {
+        references.add((IdentifiedWeakReference) referenceQueue.remove());
+      } catch (InterruptedException exception) {
+        continue;
+      }
+
+      // Releases every instance that is already collected with a single message.
+      Reference<?> reference;
+      while ((reference = referenceQueue.poll()) != null) {
+        references.add((IdentifiedWeakReference) reference);
+      }
+      handler.post(() -> releaseFinalizedInstances(references));
+    }
+  }
+
+  private void releaseFinalizedInstances(List<IdentifiedWeakReference> references) {
     if (hasFinalizationListenerStopped()) {
       return;
     }
 
-    WeakReference<Object> reference;
-    while ((reference = (WeakReference<Object>) referenceQueue.poll()) != null) {
-      final Long identifier = weakReferencesToIdentifiers.remove(reference);
-      if (identifier != null) {
-        weakInstances.remove(identifier);
-        strongInstances.remove(identifier);
-        finalizationListener.onFinalize(identifier);
+    for (IdentifiedWeakReference reference : references) {
+      // The identifier may have been cleared and reused since the instance was added.
+      if (weakInstances.get(reference.identifier) == reference) {
+        weakInstances.remove(reference.identifier);
+        strongInstances.remove(reference.identifier);
+        finalizationListener.onFinalize(reference.identifier);
       }
     }
-    handler.postDelayed(
-        this::releaseAllFinalizedInstances, CLEAR_FINALIZED_WEAK_REFERENCES_INTERVAL);
   }
 
   private void addInstance(Object instance, long identifier) {
@@ -243,10 +320,10 @@ public class InstanceManager {
       throw new IllegalArgumentException(
           String.format("Identifier has already been added: %d", identifier));
     }
-    final WeakReference<Object> weakReference = new WeakReference<>(instance, referenceQueue);
+    final IdentifiedWeakReference weakReference =
+        new IdentifiedWeakReference(instance, identifier, referenceQueue);
     identifiers.put(instance, identifier);
     weakInstances.put(identifier, weakReference);
-    weakReferencesToIdentifiers.put(weakReference, identifier);
     strongInstances.put(identifier, instance);
   }
 
@@ -0,0 +1,37 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.NonNull;
+import java.util.Map;
+
+/**
+ * Host API implementation for `InstanceManagerHostApi`.
+ *
+ * <p>Handles clearing the native {@link InstanceManager} and reporting the instances it contains.
+ */
+public class InstanceManagerHostApiImpl implements GeneratedAndroidWebView.InstanceManagerHostApi {
+  private final InstanceManager instanceManager;
+
+  /**
+   * Constructs a {@link InstanceManagerHostApiImpl}.
+   *
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   */
+  public InstanceManagerHostApiImpl(@NonNull InstanceManager instanceManager) {
+    this.instanceManager = instanceManager;
+  }
+
+  @Override
+  public void clear() {
+    instanceManager.clear();
+  }
+
+  @NonNull
+  @Override
+  public Map<String, Long> getInstanceCounts() {
+    return instanceManager.getInstanceCounts();
+  }
+}
@@ -0,0 +1,91 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Combines several scripts into one script for {@link android.webkit.WebView#evaluateJavascript}
+ * and splits its result back into one result per script.
+ *
+ * <p>Each script is run with a global (indirect) `eval`, so it behaves as if it was passed to
+ * `evaluateJavascript` on its own. An exception thrown by one script is caught and doesn't prevent
+ * the following scripts from running. A script whose result can't be converted to JSON, e.g.
+ * because it is cyclic, still succeeds but its result is reported as unserializable. Pages whose
+ * Content Security Policy forbids `eval` report an error for every script.
+ */
+public class JavaScriptBatch {
+  static final String KEY_SUCCEEDED = "succeeded";
+  static final String KEY_RESULT = "result";
+  static final String KEY_ERROR = "error";
+  static final String KEY_UNSERIALIZABLE = "unserializable";
+
+  private JavaScriptBatch() {}
+
+  /** Returns a script that runs every script in {@code scripts} and returns all results. */
+  @NonNull
+  public static String buildScript(@NonNull List<String> scripts) {
+    final StringBuilder builder = new StringBuilder("(function(){var r=[];");
+    for (String script : scripts) {
+      // The inner try only catches JSON.stringify errors, which are reported with a third element.
+      builder
+          .append("try{var v=(0,eval)(")
+          .append(JSONObject.quote(script))
+          .append(");try{r.push([true,v===undefined?null:JSON.stringify(v)]);}")
+          .append("catch(e){r.push([true,null,String(e)]);}}")
+          .append("catch(e){r.push([false,String(e)]);}");
+    }
+    return builder.append("return r;})()").toString();
+  }
+
+  /**
+   * Parses the value returned for a script built with {@link #buildScript}.
+   *
+   * <p>Each result is a map with a `succeeded` flag and either the `result` of the script, encoded
+   * as JSON like the result of `evaluateJavascript`, or the `error` it threw. If the script
+   * succeeded but its result couldn't be encoded, the map has no `result`, its `unserializable`
+   * flag is set and `error` holds the encoding error.
+   *
+   * @throws IllegalStateException if the batch didn't run, e.g. because the page was unloaded
+   */
+  @NonNull
+  public static List<Map<String, Object>> parseResults(@Nullable String value, int scriptCount) {
+    final List<Map<String, Object>> results = new ArrayList<>(scriptCount);
+    try {
+      final JSONArray entries = new JSONArray(value == null ? "null" : value);
+      if (entries.length() != scriptCount) {
+        throw new IllegalStateException(
+            "Expected " + scriptCount + " results, but received " + entries.length() + ".");
+      }
+      for (int i = 0; i < entries.length(); i++) {
+        final JSONArray entry = entries.getJSONArray(i);
+        final boolean succeeded = entry.getBoolean(0);
+        final boolean unserializable = entry.length() > 2;
+        final Map<String, Object> result = new HashMap<>();
+        result.put(KEY_SUCCEEDED, succeeded);
+        result.put(KEY_UNSERIALIZABLE, unserializable);
+        if (unserializable) {
+          result.put(KEY_ERROR, entry.getString(2));
+        } else {
+          // A script that evaluates to `undefined` has the same result as with evaluateJavascript.
+          final String data = entry.isNull(1) ? "null" : entry.getString(1);
+          result.put(succeeded ? KEY_RESULT : KEY_ERROR, data);
+        }
+        results.add(result);
+      }
+    } catch (JSONException exception) {
+      throw new IllegalStateException("The JavaScript batch did not run.", exception);
+    }
+    return results;
+  }
+}
@@ -8,19 +8,43 @@ import android.os.Handler;
 import android.os.Looper;
 import android.webkit.JavascriptInterface;
 import androidx.annotation.NonNull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Added as a JavaScript interface to the WebView for any JavaScript channel that the Dart code sets
  * up.
  *
- * <p>Exposes a single method named `postMessage` to JavaScript, which sends a message to the Dart
- * code.
+ * <p>Exposes a method named `postMessage` to JavaScript, which sends a message to the Dart code,
+ * and `postBinaryMessage`, which sends a binary string (one character per byte, e.g. created with
+ * `String.fromCharCode`) to the Dart code as bytes.
+ *
+ * <p>When batching is enabled, messages are queued and sent to Dart as a single list when the flush
+ * interval elapses or the queue reaches the maximum batch size, whichever happens first.
  */
 public class JavaScriptChannel {
   private final Handler platformThreadHandler;
   final String javaScriptChannelName;
   private final JavaScriptChannelFlutterApiImpl flutterApi;
 
+  private final Object queueLock = new Object();
+  // Holds String and byte[] messages in the order they were posted. Guarded by queueLock, as are
+  // the fields below.
+  private List<Object> pendingMessages = new ArrayList<>();
+  private boolean batchingEnabled = false;
+  private int maxBatchSize;
+  private long flushIntervalMillis;
+  private boolean delayedFlushScheduled = false;
+  private boolean immediateFlushScheduled = false;
+  private long peakQueueDepth = 0;
+  private long batchedMessageCount = 0;
+  private long batchCount = 0;
+
+  private final Runnable flushRunnable = this::flush;
+
   /**
    * Creates a {@link JavaScriptChannel} that passes arguments of callback methods to Dart.
    *
@@ -41,13 +65,162 @@ public class JavaScriptChannel {
   @SuppressWarnings("unused")
   @JavascriptInterface
   public void postMessage(@NonNull final String message) {
-    final Runnable postMessageRunnable =
-        () -> flutterApi.postMessage(JavaScriptChannel.this, message, reply -> {});
+    if (enqueue(message)) {
+      return;
+    }
+    runOnPlatformThread(() -> flutterApi.postMessage(JavaScriptChannel.this, message, reply -> {}));
+  }
 
+  /**
+   * Sends a binary string to Dart as bytes.
+   *
+   * <p>Each character of {@code binaryString} must be in the range 0-255 and represents one byte.
+   * This avoids the size and encoding overhead of base64 for binary payloads.
+   */
+  // Suppressing unused warning as this is invoked from JavaScript.
+  @SuppressWarnings("unused")
+  @JavascriptInterface
+  public void postBinaryMessage(@NonNull final String binaryString) {
+    final byte[] message = decodeBinaryString(binaryString);
+    if (enqueue(message)) {
+      return;
+    }
+    runOnPlatformThread(
+        () ->
+            flutterApi.postBinaryMessages(
+                JavaScriptChannel.this, Collections.singletonList(message), reply -> {}));
+  }
+
+  /**
+   * Enables or disables batching of messages.
+   *
+   * <p>Disabling batching flushes the messages that are still queued.
+   *
+   * @param enabled whether messages are queued and sent in batches
+   * @param maxBatchSize number of queued messages that triggers a flush
+   * @param flushIntervalMillis maximum time a message is queued before it is sent
+   */
+  public void setBatching(boolean enabled, int maxBatchSize, long flushIntervalMillis) {
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException("maxBatchSize must be at least 1.");
+    }
+    if (flushIntervalMillis < 0) {
+      throw new IllegalArgumentException("flushIntervalMillis must not be negative.");
+    }
+    final boolean hasPendingMessages;
+    synchronized (queueLock) {
+      batchingEnabled = enabled;
+      this.maxBatchSize = maxBatchSize;
+      this.flushIntervalMillis = flushIntervalMillis;
+      hasPendingMessages = !pendingMessages.isEmpty() && !enabled;
+    }
+    if (hasPendingMessages) {
+      runOnPlatformThread(this::flush);
+    }
+  }
+
+  /**
+   * Returns counters describing the message queue.
+   *
+   * <p>Contains the current `queueDepth`, the `peakQueueDepth`, the number of `batchedMessages`
+   * sent in batches and the number of `batches` sent.
+   */
+  @NonNull
+  public Map<String, Long> getQueueMetrics() {
+    final Map<String, Long> metrics = new HashMap<>();
+    synchronized (queueLock) {
+      metrics.put("queueDepth", (long) pendingMessages.size());
+      metrics.put("peakQueueDepth", peakQueueDepth);
+      metrics.put("batchedMessages", batchedMessageCount);
+      metrics.put("batches", batchCount);
+    }
+    return metrics;
+  }
+
+  // Returns false if batching is disabled and the message should be sent right away.
+  private boolean enqueue(@NonNull Object message) {
+    synchronized (queueLock) {
+      if (!batchingEnabled) {
+        return false;
+      }
+      pendingMessages.add(message);
+      peakQueueDepth = Math.max(peakQueueDepth, pendingMessages.size());
+      if (pendingMessages.size() >= maxBatchSize) {
+        if (!immediateFlushScheduled) {
+          immediateFlushScheduled = true;
+          platformThreadHandler.post(flushRunnable);
+        }
+      } else if (!delayedFlushScheduled) {
+        delayedFlushScheduled = true;
+        platformThreadHandler.postDelayed(flushRunnable, flushIntervalMillis);
+      }
+      return true;
+    }
+  }
+
+  private void flush() {
+    final List<Object> messages;
+    synchronized (queueLock) {
+      if (immediateFlushScheduled && delayedFlushScheduled) {
+        platformThreadHandler.removeCallbacks(flushRunnable);
+      }
+      delayedFlushScheduled = false;
+      immediateFlushScheduled = false;
+      if (pendingMessages.isEmpty()) {
+        return;
+      }
+      messages = pendingMessages;
+      pendingMessages = new ArrayList<>();
+      batchedMessageCount += messages.size();
+    }
+
+    // Sends runs of consecutive text or binary messages together to preserve the message order.
+    int start = 0;
+    while (start < messages.size()) {
+      final boolean binary = messages.get(start) instanceof byte[];
+      int end = start + 1;
+      while (end < messages.size() && (messages.get(end) instanceof byte[]) == binary) {
+        end++;
+      }
+      if (binary) {
+        final List<byte[]> run = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+          run.add((byte[]) messages.get(i));
+        }
+        flutterApi.postBinaryMessages(this, run, reply -> {});
+      } else {
+        final List<String> run = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+          run.add((String) messages.get(i));
+        }
+        flutterApi.postMessages(this, run, reply -> {});
+      }
+      synchronized (queueLock) {
+        batchCount++;
+      }
+      start = end;
+    }
+  }
+
+  private void runOnPlatformThread(@NonNull Runnable runnable) {
     if (platformThreadHandler.getLooper() == Looper.myLooper()) {
-      postMessageRunnable.run();
+      runnable.run();
     } else {
-      platformThreadHandler.post(postMessageRunnable);
+      platformThreadHandler.post(runnable);
+    }
+  }
+
+  @NonNull
+  static byte[] decodeBinaryString(@NonNull String binaryString) {
+    final byte[] bytes = new byte[binaryString.length()];
+    for (int i = 0; i < bytes.length; i++) {
+      final char c = binaryString.charAt(i);
+      if (c > 0xFF) {
+        throw new IllegalArgumentException(
+            "Binary messages may only contain characters in the range 0-255.");
+      }
+      bytes[i] = (byte) c;
     }
+    return bytes;
   }
 }
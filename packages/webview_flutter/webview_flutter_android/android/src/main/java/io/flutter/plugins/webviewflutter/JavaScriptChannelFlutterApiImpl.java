@@ -7,6 +7,7 @@ package io.flutter.plugins.webviewflutter;
 import androidx.annotation.NonNull;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptChannelFlutterApi;
+import java.util.List;
 
 /**
  * Flutter Api implementation for {@link JavaScriptChannel}.
@@ -36,6 +37,23 @@ public class JavaScriptChannelFlutterApiImpl extends JavaScriptChannelFlutterApi
     super.postMessage(getIdentifierForJavaScriptChannel(javaScriptChannel), messageArg, callback);
   }
 
+  /** Passes a batch of messages queued by a {@link JavaScriptChannel} to Dart. */
+  public void postMessages(
+      @NonNull JavaScriptChannel javaScriptChannel,
+      @NonNull List<String> messagesArg,
+      @NonNull Reply<Void> callback) {
+    super.postMessages(getIdentifierForJavaScriptChannel(javaScriptChannel), messagesArg, callback);
+  }
+
+  /** Passes binary messages from {@link JavaScriptChannel#postBinaryMessage} to Dart. */
+  public void postBinaryMessages(
+      @NonNull JavaScriptChannel javaScriptChannel,
+      @NonNull List<byte[]> messagesArg,
+      @NonNull Reply<Void> callback) {
+    super.postBinaryMessages(
+        getIdentifierForJavaScriptChannel(javaScriptChannel), messagesArg, callback);
+  }
+
   private long getIdentifierForJavaScriptChannel(JavaScriptChannel javaScriptChannel) {
     final Long identifier = instanceManager.getIdentifierForStrongReference(javaScriptChannel);
     if (identifier == null) {
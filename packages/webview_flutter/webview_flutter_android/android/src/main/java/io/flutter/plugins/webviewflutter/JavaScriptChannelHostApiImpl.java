@@ -7,6 +7,8 @@ package io.flutter.plugins.webviewflutter;
 import android.os.Handler;
 import androidx.annotation.NonNull;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptChannelHostApi;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Host api implementation for {@link JavaScriptChannel}.
@@ -74,4 +76,23 @@ public class JavaScriptChannelHostApiImpl implements JavaScriptChannelHostApi {
             flutterApi, channelName, platformThreadHandler);
     instanceManager.addDartCreatedInstance(javaScriptChannel, instanceId);
   }
+
+  @Override
+  public void setBatching(
+      @NonNull Long instanceId,
+      @NonNull Boolean enabled,
+      @NonNull Long maxBatchSize,
+      @NonNull Long flushIntervalMilliseconds) {
+    final JavaScriptChannel javaScriptChannel =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    javaScriptChannel.setBatching(enabled, maxBatchSize.intValue(), flushIntervalMilliseconds);
+  }
+
+  @NonNull
+  @Override
+  public Map<String, Long> getQueueMetrics(@NonNull Long instanceId) {
+    final JavaScriptChannel javaScriptChannel =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    return javaScriptChannel.getQueueMetrics();
+  }
 }
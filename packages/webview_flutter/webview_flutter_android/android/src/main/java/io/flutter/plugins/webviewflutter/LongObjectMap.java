@@ -0,0 +1,147 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * A hash table from primitive `long` keys to non-null values.
+ *
+ * <p>Unlike a {@link java.util.HashMap}, keys are not boxed and there is no entry object per
+ * mapping. Collisions are resolved with linear probing and removals shift the following entries
+ * back, so lookups never have to skip deleted entries.
+ *
+ * <p>This class is not thread safe.
+ */
+@SuppressWarnings("unchecked")
+class LongObjectMap<V> {
+  private static final int MIN_CAPACITY = 16;
+
+  /** Handles each mapping of {@link #forEach}. */
+  interface Visitor<V> {
+    void visit(long key, @NonNull V value);
+  }
+
+  private long[] keys = new long[MIN_CAPACITY];
+  // A slot is empty if and only if its value is null.
+  private Object[] values = new Object[MIN_CAPACITY];
+  private int size = 0;
+
+  /** Returns the number of mappings. */
+  int size() {
+    return size;
+  }
+
+  /** Returns the value mapped to `key`, or null if there is none. */
+  @Nullable
+  V get(long key) {
+    final int index = indexOf(key);
+    return index < 0 ? null : (V) values[index];
+  }
+
+  /** Whether there is a value mapped to `key`. */
+  boolean containsKey(long key) {
+    return indexOf(key) >= 0;
+  }
+
+  /** Maps `key` to `value` and returns the previously mapped value, or null if there was none. */
+  @Nullable
+  V put(long key, @NonNull V value) {
+    final int mask = values.length - 1;
+    int index = hash(key) & mask;
+    while (values[index] != null) {
+      if (keys[index] == key) {
+        final V previous = (V) values[index];
+        values[index] = value;
+        return previous;
+      }
+      index = (index + 1) & mask;
+    }
+
+    keys[index] = key;
+    values[index] = value;
+    size++;
+    // Keeps the load factor at or below 3/4, which also guarantees an empty slot to end probing.
+    if (size * 4 > values.length * 3) {
+      resize(values.length * 2);
+    }
+    return null;
+  }
+
+  /** Removes the value mapped to `key` and returns it, or null if there was none. */
+  @Nullable
+  V remove(long key) {
+    final int index = indexOf(key);
+    if (index < 0) {
+      return null;
+    }
+
+    final V removed = (V) values[index];
+    final int mask = values.length - 1;
+    int hole = index;
+    int next = (index + 1) & mask;
+    while (values[next] != null) {
+      // An entry can fill the hole if the hole is between its ideal slot and its current slot.
+      final int ideal = hash(keys[next]) & mask;
+      if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+        keys[hole] = keys[next];
+        values[hole] = values[next];
+        hole = next;
+      }
+      next = (next + 1) & mask;
+    }
+    values[hole] = null;
+    size--;
+    return removed;
+  }
+
+  /** Removes all mappings. */
+  void clear() {
+    Arrays.fill(values, null);
+    size = 0;
+  }
+
+  /** Calls `visitor` for every mapping. The map must not be modified during the iteration. */
+  void forEach(@NonNull Visitor<V> visitor) {
+    for (int index = 0; index < values.length; index++) {
+      if (values[index] != null) {
+        visitor.visit(keys[index], (V) values[index]);
+      }
+    }
+  }
+
+  private int indexOf(long key) {
+    final int mask = values.length - 1;
+    int index = hash(key) & mask;
+    while (values[index] != null) {
+      if (keys[index] == key) {
+        return index;
+      }
+      index = (index + 1) & mask;
+    }
+    return -1;
+  }
+
+  private void resize(int capacity) {
+    final long[] oldKeys = keys;
+    final Object[] oldValues = values;
+    keys = new long[capacity];
+    values = new Object[capacity];
+    size = 0;
+    for (int index = 0; index < oldValues.length; index++) {
+      if (oldValues[index] != null) {
+        put(oldKeys[index], (V) oldValues[index]);
+      }
+    }
+  }
+
+  private static int hash(long key) {
+    // Spreads sequential identifiers across the table.
+    final int hash = (int) (key ^ (key >>> 32)) * 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
+}
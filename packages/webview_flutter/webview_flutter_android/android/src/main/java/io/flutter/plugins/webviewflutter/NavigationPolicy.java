@@ -0,0 +1,189 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.net.Uri;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A compiled table of navigation rules that decides synchronously whether a URL may be loaded.
+ *
+ * <p>Each rule matches URLs by scheme, host suffix or regular expression and either allows or
+ * denies the navigation. When several rules match a URL, the first one in the list wins. Scheme
+ * and host suffix rules are looked up in hash tables, so only regular expressions cost time
+ * proportional to the number of rules.
+ */
+public class NavigationPolicy {
+  static final String TYPE_SCHEME = "scheme";
+  static final String TYPE_HOST_SUFFIX = "hostSuffix";
+  static final String TYPE_REGEX = "regex";
+
+  static final String ACTION_ALLOW = "allow";
+  static final String ACTION_DENY = "deny";
+
+  /** The outcome of evaluating a URL. */
+  public static class Decision {
+    /** Whether the navigation is denied, i.e. the value to return from shouldOverrideUrlLoading. */
+    public final boolean deny;
+
+    /** Whether the decided navigation is reported to Dart, which can't change the decision. */
+    public final boolean report;
+
+    Decision(boolean deny, boolean report) {
+      this.deny = deny;
+      this.report = report;
+    }
+  }
+
+  private static class Rule {
+    final int index;
+    final Decision decision;
+
+    Rule(int index, Decision decision) {
+      this.index = index;
+      this.decision = decision;
+    }
+  }
+
+  private static class RegexRule extends Rule {
+    final Pattern pattern;
+
+    RegexRule(int index, Decision decision, Pattern pattern) {
+      super(index, decision);
+      this.pattern = pattern;
+    }
+  }
+
+  private final Map<String, Rule> schemeRules = new HashMap<>();
+  private final Map<String, Rule> hostSuffixRules = new HashMap<>();
+  private final List<RegexRule> regexRules = new ArrayList<>();
+  @Nullable private final Decision defaultDecision;
+
+  private NavigationPolicy(@Nullable Decision defaultDecision) {
+    this.defaultDecision = defaultDecision;
+  }
+
+  /**
+   * Compiles a list of rules.
+   *
+   * <p>Each rule is a map with a `type` (`scheme`, `hostSuffix` or `regex`), a `pattern`, an
+   * `action` (`allow` or `deny`) and an optional `report` flag.
+   *
+   * <p>`regex` patterns are unanchored and match anywhere in the URL, like the URL patterns of a
+   * {@link ResourceInterceptor}; use `^` and `$` to match the whole URL.
+   *
+   * @param rules the rules, in order of precedence
+   * @param defaultAction the action for URLs that match no rule, or null to leave the decision to
+   *     the existing shouldOverrideUrlLoading behavior
+   * @throws IllegalArgumentException if a rule is malformed
+   */
+  @NonNull
+  public static NavigationPolicy compile(
+      @NonNull List<Map<String, Object>> rules, @Nullable String defaultAction) {
+    final NavigationPolicy policy =
+        new NavigationPolicy(
+            defaultAction == null ? null : new Decision(parseAction(defaultAction), false));
+    for (int index = 0; index < rules.size(); index++) {
+      final Map<String, Object> data = rules.get(index);
+      final String type = (String) data.get("type");
+      final String pattern = (String) data.get("pattern");
+      final Object report = data.get("report");
+      if (type == null || pattern == null) {
+        throw new IllegalArgumentException("Navigation rule " + index + " is missing a field.");
+      }
+      final Decision decision =
+          new Decision(parseAction((String) data.get("action")), Boolean.TRUE.equals(report));
+      switch (type) {
+        case TYPE_SCHEME:
+          putIfAbsent(policy.schemeRules, pattern.toLowerCase(Locale.US), index, decision);
+          break;
+        case TYPE_HOST_SUFFIX:
+          putIfAbsent(policy.hostSuffixRules, normalizeHost(pattern), index, decision);
+          break;
+        case TYPE_REGEX:
+          policy.regexRules.add(new RegexRule(index, decision, Pattern.compile(pattern)));
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown navigation rule type: " + type);
+      }
+    }
+    return policy;
+  }
+
+  /**
+   * Returns the decision for {@code url}, or null if no rule matched and there is no default
+   * action.
+   */
+  @Nullable
+  public Decision evaluate(@NonNull String url) {
+    final Uri uri = Uri.parse(url);
+    return evaluate(url, uri.getScheme(), uri.getHost());
+  }
+
+  /** Returns the decision for {@code url}, whose scheme and host have already been parsed. */
+  @Nullable
+  Decision evaluate(@NonNull String url, @Nullable String scheme, @Nullable String host) {
+    Rule best = null;
+    if (scheme != null) {
+      best = schemeRules.get(scheme.toLowerCase(Locale.US));
+    }
+    if (host != null && !hostSuffixRules.isEmpty()) {
+      // Looks up the host itself and every parent domain, e.g. a.b.com, b.com and com.
+      String suffix = normalizeHost(host);
+      while (true) {
+        final Rule rule = hostSuffixRules.get(suffix);
+        if (rule != null && (best == null || rule.index < best.index)) {
+          best = rule;
+        }
+        final int dot = suffix.indexOf('.');
+        if (dot < 0) {
+          break;
+        }
+        suffix = suffix.substring(dot + 1);
+      }
+    }
+    for (RegexRule rule : regexRules) {
+      if (best != null && rule.index > best.index) {
+        break;
+      }
+      if (rule.pattern.matcher(url).find()) {
+        best = rule;
+        break;
+      }
+    }
+    return best != null ? best.decision : defaultDecision;
+  }
+
+  private static boolean parseAction(@Nullable String action) {
+    if (ACTION_DENY.equals(action)) {
+      return true;
+    } else if (ACTION_ALLOW.equals(action)) {
+      return false;
+    }
+    throw new IllegalArgumentException("Unknown navigation rule action: " + action);
+  }
+
+  private static String normalizeHost(@NonNull String host) {
+    String normalized = host.toLowerCase(Locale.US);
+    while (normalized.startsWith(".")) {
+      normalized = normalized.substring(1);
+    }
+    return normalized;
+  }
+
+  private static void putIfAbsent(
+      Map<String, Rule> rules, String key, int index, Decision decision) {
+    if (!rules.containsKey(key)) {
+      rules.put(key, new Rule(index, decision));
+    }
+  }
+}
@@ -0,0 +1,912 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.content.res.AssetFileDescriptor;
+import android.os.Build;
+import android.webkit.CookieManager;
+import android.webkit.WebResourceResponse;
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Serves requests intercepted by a {@link android.webkit.WebViewClient} from Flutter assets, an LRU
+ * memory cache and a disk cache.
+ *
+ * <p>Only GET requests whose URL contains a match of one of the configured patterns, or starts
+ * with the configured asset URL prefix, are intercepted. Everything else is left to the WebView.
+ * Patterns are unanchored, like the `regex` rules of a {@link NavigationPolicy}; use `^` and `$`
+ * to match the whole URL.
+ *
+ * <p>Methods of this class are called on the WebView's network threads and are thread-safe.
+ */
+public class ResourceInterceptor {
+  private static final long NO_EXPIRY = 0;
+
+  @VisibleForTesting static final int CONNECT_TIMEOUT_MILLIS = 15 * 1000;
+  @VisibleForTesting static final int READ_TIMEOUT_MILLIS = 30 * 1000;
+
+  private static final Map<String, String> MIME_TYPES_BY_EXTENSION = new HashMap<>();
+
+  static {
+    MIME_TYPES_BY_EXTENSION.put("css", "text/css");
+    MIME_TYPES_BY_EXTENSION.put("htm", "text/html");
+    MIME_TYPES_BY_EXTENSION.put("html", "text/html");
+    MIME_TYPES_BY_EXTENSION.put("js", "text/javascript");
+    MIME_TYPES_BY_EXTENSION.put("mjs", "text/javascript");
+    MIME_TYPES_BY_EXTENSION.put("json", "application/json");
+    MIME_TYPES_BY_EXTENSION.put("svg", "image/svg+xml");
+    MIME_TYPES_BY_EXTENSION.put("wasm", "application/wasm");
+    MIME_TYPES_BY_EXTENSION.put("webp", "image/webp");
+    MIME_TYPES_BY_EXTENSION.put("woff", "font/woff");
+    MIME_TYPES_BY_EXTENSION.put("woff2", "font/woff2");
+  }
+
+  // Hop-by-hop and transfer headers that no longer apply once the body has been decoded, and
+  // cookies, which are set in the CookieManager when the response arrives and must not be replayed
+  // from the cache.
+  private static final List<String> DROPPED_RESPONSE_HEADERS =
+      Arrays.asList(
+          "connection",
+          "content-encoding",
+          "content-length",
+          "set-cookie",
+          "set-cookie2",
+          "transfer-encoding");
+
+  /** A resource that can be handed to the WebView. */
+  @VisibleForTesting
+  static class Resource {
+    @NonNull final String mimeType;
+    @Nullable final String encoding;
+    final int statusCode;
+    @NonNull final String reasonPhrase;
+    @NonNull final Map<String, String> headers;
+    @Nullable final byte[] data;
+    @Nullable final ByteBuffer mappedData;
+    @Nullable final String etag;
+    final long expiresAtMillis;
+
+    Resource(
+        @NonNull String mimeType,
+        @Nullable String encoding,
+        int statusCode,
+        @NonNull String reasonPhrase,
+        @NonNull Map<String, String> headers,
+        @Nullable byte[] data,
+        @Nullable ByteBuffer mappedData,
+        @Nullable String etag,
+        long expiresAtMillis) {
+      this.mimeType = mimeType;
+      this.encoding = encoding;
+      this.statusCode = statusCode;
+      this.reasonPhrase = reasonPhrase;
+      this.headers = headers;
+      this.data = data;
+      this.mappedData = mappedData;
+      this.etag = etag;
+      this.expiresAtMillis = expiresAtMillis;
+    }
+
+    int size() {
+      if (data != null) {
+        return data.length;
+      }
+      return mappedData == null ? 0 : mappedData.remaining();
+    }
+
+    boolean isFresh(long nowMillis) {
+      return expiresAtMillis != NO_EXPIRY && nowMillis < expiresAtMillis;
+    }
+
+    @NonNull
+    InputStream openStream() {
+      if (mappedData != null) {
+        return new ByteBufferInputStream(mappedData.duplicate());
+      }
+      return new ByteArrayInputStream(data == null ? new byte[0] : data);
+    }
+
+    @NonNull
+    Resource withExpiry(long expiresAtMillis) {
+      return new Resource(
+          mimeType,
+          encoding,
+          statusCode,
+          reasonPhrase,
+          headers,
+          data,
+          mappedData,
+          etag,
+          expiresAtMillis);
+    }
+  }
+
+  /** Counters of the requests served for a single WebView. */
+  @VisibleForTesting
+  static class Metrics {
+    long memoryHits;
+    long diskHits;
+    long assetHits;
+    long revalidations;
+    long misses;
+    long bytesServed;
+
+    @NonNull
+    synchronized Map<String, Long> toMap() {
+      final Map<String, Long> map = new HashMap<>();
+      map.put("memoryHits", memoryHits);
+      map.put("diskHits", diskHits);
+      map.put("assetHits", assetHits);
+      map.put("revalidations", revalidations);
+      map.put("misses", misses);
+      map.put("bytesServed", bytesServed);
+      return map;
+    }
+  }
+
+  /** LRU cache bounded by the total size of the cached resources. */
+  @VisibleForTesting
+  static class MemoryCache {
+    private final long maxBytes;
+    private final LinkedHashMap<String, Resource> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeBytes = 0;
+
+    MemoryCache(long maxBytes) {
+      this.maxBytes = maxBytes;
+    }
+
+    @Nullable
+    synchronized Resource get(@NonNull String url) {
+      return entries.get(url);
+    }
+
+    synchronized void put(@NonNull String url, @NonNull Resource resource) {
+      if (resource.size() > maxBytes) {
+        return;
+      }
+      final Resource previous = entries.put(url, resource);
+      if (previous != null) {
+        sizeBytes -= previous.size();
+      }
+      sizeBytes += resource.size();
+      final Iterator<Resource> iterator = entries.values().iterator();
+      while (sizeBytes > maxBytes && iterator.hasNext()) {
+        sizeBytes -= iterator.next().size();
+        iterator.remove();
+      }
+    }
+
+    synchronized long sizeBytes() {
+      return sizeBytes;
+    }
+  }
+
+  /**
+   * Disk cache shared by every interceptor that stores entries in the same directory.
+   *
+   * <p>There is a single instance per directory in the process, so writes and trimming are
+   * serialized by one lock and bounded by one limit: the largest one requested for the directory.
+   */
+  @VisibleForTesting
+  static class DiskCache {
+    // Temporary files older than this were left behind by a write that never finished.
+    @VisibleForTesting static final long ABANDONED_TEMPORARY_FILE_AGE_MILLIS = 60 * 1000;
+
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final Map<String, DiskCache> instancesByPath = new HashMap<>();
+
+    @NonNull private final File directory;
+    private long maxBytes = 0;
+
+    private DiskCache(@NonNull File directory) {
+      this.directory = directory;
+    }
+
+    /**
+     * Returns the disk cache of {@code directory}, raising its limit to {@code maxBytes} if it is
+     * lower.
+     */
+    @NonNull
+    static DiskCache forDirectory(@NonNull File directory, long maxBytes) {
+      final DiskCache diskCache;
+      synchronized (instancesByPath) {
+        final String path = directory.getAbsolutePath();
+        DiskCache existing = instancesByPath.get(path);
+        if (existing == null) {
+          existing = new DiskCache(directory);
+          instancesByPath.put(path, existing);
+        }
+        diskCache = existing;
+      }
+      synchronized (diskCache) {
+        diskCache.maxBytes = Math.max(diskCache.maxBytes, maxBytes);
+      }
+      return diskCache;
+    }
+
+    @Nullable
+    synchronized Resource read(@NonNull String url) {
+      final File file = fileFor(url);
+      if (!file.exists()) {
+        return null;
+      }
+      try (DataInputStream stream = new DataInputStream(new FileInputStream(file))) {
+        if (!url.equals(stream.readUTF())) {
+          return null;
+        }
+        final String mimeType = stream.readUTF();
+        final String encoding = stream.readBoolean() ? stream.readUTF() : null;
+        final String etag = stream.readBoolean() ? stream.readUTF() : null;
+        final long expiresAtMillis = stream.readLong();
+        final int headerCount = stream.readInt();
+        final Map<String, String> headers = new HashMap<>();
+        for (int i = 0; i < headerCount; i++) {
+          headers.put(stream.readUTF(), stream.readUTF());
+        }
+        final byte[] data = new byte[stream.readInt()];
+        stream.readFully(data);
+        // Used as the access time for trimming.
+        file.setLastModified(System.currentTimeMillis());
+        return new Resource(
+            mimeType, encoding, 200, "OK", headers, data, null, etag, expiresAtMillis);
+      } catch (IOException e) {
+        file.delete();
+        return null;
+      }
+    }
+
+    synchronized void write(@NonNull String url, @NonNull Resource resource) {
+      if (resource.data == null || resource.size() > maxBytes) {
+        return;
+      }
+      if (!directory.exists() && !directory.mkdirs()) {
+        return;
+      }
+      final File file = fileFor(url);
+      final File temporary = new File(file.getPath() + TEMPORARY_FILE_SUFFIX);
+      try (DataOutputStream stream = new DataOutputStream(new FileOutputStream(temporary))) {
+        stream.writeUTF(url);
+        stream.writeUTF(resource.mimeType);
+        writeNullableUtf(stream, resource.encoding);
+        writeNullableUtf(stream, resource.etag);
+        stream.writeLong(resource.expiresAtMillis);
+        stream.writeInt(resource.headers.size());
+        for (Map.Entry<String, String> header : resource.headers.entrySet()) {
+          stream.writeUTF(header.getKey());
+          stream.writeUTF(header.getValue());
+        }
+        stream.writeInt(resource.data.length);
+        stream.write(resource.data);
+      } catch (IOException e) {
+        temporary.delete();
+        return;
+      }
+      if (!temporary.renameTo(file)) {
+        temporary.delete();
+        return;
+      }
+      trim();
+    }
+
+    /**
+     * Deletes the least recently used entries until the cache fits its limit.
+     *
+     * <p>Writes in this process hold the lock, so temporary files seen here belong to another
+     * process or to a write that never finished. Only the latter, recognized by their age, are
+     * deleted.
+     */
+    @VisibleForTesting
+    synchronized void trim() {
+      final File[] files = directory.listFiles();
+      if (files == null) {
+        return;
+      }
+      final long now = System.currentTimeMillis();
+      final List<File> entries = new ArrayList<>();
+      long totalBytes = 0;
+      for (File file : files) {
+        if (!file.getName().endsWith(TEMPORARY_FILE_SUFFIX)) {
+          entries.add(file);
+          totalBytes += file.length();
+        } else if (now - file.lastModified() > ABANDONED_TEMPORARY_FILE_AGE_MILLIS) {
+          file.delete();
+        }
+      }
+      if (totalBytes <= maxBytes) {
+        return;
+      }
+      Collections.sort(entries, (a, b) -> Long.compare(a.lastModified(), b.lastModified()));
+      for (File file : entries) {
+        if (totalBytes <= maxBytes) {
+          break;
+        }
+        final long length = file.length();
+        if (file.delete()) {
+          totalBytes -= length;
+        }
+      }
+    }
+
+    @VisibleForTesting
+    synchronized long maxBytes() {
+      return maxBytes;
+    }
+
+    private File fileFor(@NonNull String url) {
+      return new File(directory, sha1(url));
+    }
+  }
+
+  /** Creates {@link ResourceInterceptor}s that share a Flutter asset source and cache directory. */
+  public static class ResourceInterceptorCreator {
+    @NonNull private final FlutterAssetManager flutterAssetManager;
+    @NonNull private final File cacheDirectory;
+
+    /**
+     * Constructs a {@link ResourceInterceptorCreator}.
+     *
+     * @param flutterAssetManager used to look up and read Flutter assets
+     * @param cacheDirectory directory of the disk cache shared by the created interceptors
+     */
+    public ResourceInterceptorCreator(
+        @NonNull FlutterAssetManager flutterAssetManager, @NonNull File cacheDirectory) {
+      this.flutterAssetManager = flutterAssetManager;
+      this.cacheDirectory = cacheDirectory;
+    }
+
+    /** Creates a {@link ResourceInterceptor}. */
+    @NonNull
+    public ResourceInterceptor createResourceInterceptor(
+        @NonNull List<String> urlPatterns,
+        @Nullable String assetUrlPrefix,
+        long maxMemoryCacheBytes,
+        long maxDiskCacheBytes) {
+      return new ResourceInterceptor(
+          flutterAssetManager,
+          cacheDirectory,
+          urlPatterns,
+          assetUrlPrefix,
+          maxMemoryCacheBytes,
+          maxDiskCacheBytes);
+    }
+  }
+
+  @NonNull private final FlutterAssetManager flutterAssetManager;
+  @NonNull private final List<Pattern> urlPatterns = new ArrayList<>();
+  @Nullable private final String assetUrlPrefix;
+  @NonNull private final MemoryCache memoryCache;
+  // Null if responses are only cached in memory.
+  @Nullable private final DiskCache diskCache;
+  private final Map<WebView, Metrics> metricsByWebView = new WeakHashMap<>();
+
+  @VisibleForTesting
+  ResourceInterceptor(
+      @NonNull FlutterAssetManager flutterAssetManager,
+      @NonNull File cacheDirectory,
+      @NonNull List<String> urlPatterns,
+      @Nullable String assetUrlPrefix,
+      long maxMemoryCacheBytes,
+      long maxDiskCacheBytes) {
+    this.flutterAssetManager = flutterAssetManager;
+    for (String urlPattern : urlPatterns) {
+      this.urlPatterns.add(Pattern.compile(urlPattern));
+    }
+    this.assetUrlPrefix = assetUrlPrefix;
+    this.memoryCache = new MemoryCache(maxMemoryCacheBytes);
+    this.diskCache =
+        maxDiskCacheBytes > 0 ? DiskCache.forDirectory(cacheDirectory, maxDiskCacheBytes) : null;
+  }
+
+  /**
+   * Returns the response for an intercepted request, or null if the WebView should load it itself.
+   *
+   * @param webView the WebView the request was made by
+   * @param url the URL of the request
+   * @param method the HTTP method of the request
+   * @param requestHeaders the headers of the request
+   */
+  @Nullable
+  public WebResourceResponse intercept(
+      @NonNull WebView webView,
+      @NonNull String url,
+      @NonNull String method,
+      @Nullable Map<String, String> requestHeaders) {
+    final Resource resource = load(webView, url, method, requestHeaders);
+    if (resource == null) {
+      return null;
+    }
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+      return new WebResourceResponse(
+          resource.mimeType,
+          resource.encoding,
+          resource.statusCode,
+          resource.reasonPhrase,
+          resource.headers,
+          resource.openStream());
+    }
+    // Status codes and headers can't be set before Lollipop.
+    return resource.statusCode == HttpURLConnection.HTTP_OK
+        ? new WebResourceResponse(resource.mimeType, resource.encoding, resource.openStream())
+        : null;
+  }
+
+  /** Returns the counters of the requests served for {@code webView}. */
+  @NonNull
+  public Map<String, Long> getMetrics(@NonNull WebView webView) {
+    return metricsFor(webView).toMap();
+  }
+
+  @VisibleForTesting
+  @Nullable
+  Resource load(
+      @NonNull WebView webView,
+      @NonNull String url,
+      @NonNull String method,
+      @Nullable Map<String, String> requestHeaders) {
+    if (!"GET".equalsIgnoreCase(method)) {
+      return null;
+    }
+
+    if (assetUrlPrefix != null && url.startsWith(assetUrlPrefix)) {
+      final Resource asset = loadAsset(stripQuery(url.substring(assetUrlPrefix.length())));
+      if (asset != null) {
+        record(webView, asset, Source.ASSET);
+      }
+      return asset;
+    }
+
+    if (!matchesUrlPatterns(url)) {
+      return null;
+    }
+
+    final long now = System.currentTimeMillis();
+    final Resource cached = memoryCache.get(url);
+    if (cached != null && cached.isFresh(now)) {
+      record(webView, cached, Source.MEMORY);
+      return cached;
+    }
+
+    final Resource stored = cached != null ? cached : readFromDisk(url);
+    if (stored != null && stored.isFresh(now)) {
+      memoryCache.put(url, stored);
+      record(webView, stored, Source.DISK);
+      return stored;
+    }
+
+    final Resource fetched;
+    try {
+      fetched = fetch(url, requestHeaders, stored);
+    } catch (IOException e) {
+      // Let the WebView load the resource and report the error itself.
+      return null;
+    }
+    if (fetched == null) {
+      return null;
+    }
+    if (fetched == stored) {
+      record(webView, stored, Source.REVALIDATED);
+      return stored;
+    }
+    record(webView, fetched, Source.NETWORK);
+    return fetched;
+  }
+
+  @VisibleForTesting
+  boolean matchesUrlPatterns(@NonNull String url) {
+    for (Pattern pattern : urlPatterns) {
+      if (pattern.matcher(url).find()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @VisibleForTesting
+  long memoryCacheSizeBytes() {
+    return memoryCache.sizeBytes();
+  }
+
+  private enum Source {
+    MEMORY,
+    DISK,
+    ASSET,
+    REVALIDATED,
+    NETWORK
+  }
+
+  private Metrics metricsFor(WebView webView) {
+    synchronized (metricsByWebView) {
+      Metrics metrics = metricsByWebView.get(webView);
+      if (metrics == null) {
+        metrics = new Metrics();
+        metricsByWebView.put(webView, metrics);
+      }
+      return metrics;
+    }
+  }
+
+  private void record(WebView webView, Resource resource, Source source) {
+    final Metrics metrics = metricsFor(webView);
+    synchronized (metrics) {
+      switch (source) {
+        case MEMORY:
+          metrics.memoryHits++;
+          break;
+        case DISK:
+          metrics.diskHits++;
+          break;
+        case ASSET:
+          metrics.assetHits++;
+          break;
+        case REVALIDATED:
+          metrics.revalidations++;
+          break;
+        case NETWORK:
+          metrics.misses++;
+          break;
+      }
+      metrics.bytesServed += resource.size();
+    }
+  }
+
+  // Flutter assets.
+
+  @Nullable
+  private Resource loadAsset(@NonNull String assetName) {
+    final String path = flutterAssetManager.getAssetFilePathByName(assetName);
+    final String mimeType = guessMimeType(assetName);
+    final Map<String, String> headers = new HashMap<>();
+    headers.put("Content-Type", mimeType);
+    ByteBuffer mapped = null;
+    byte[] data = null;
+    try {
+      mapped = mapAsset(path);
+    } catch (IOException e) {
+      // Compressed assets can't be opened as file descriptors; read them as a stream instead.
+      try (InputStream stream = flutterAssetManager.assetManager.open(path)) {
+        data = readFully(stream);
+      } catch (IOException notFound) {
+        return null;
+      }
+    }
+    return new Resource(mimeType, null, 200, "OK", headers, data, mapped, null, NO_EXPIRY);
+  }
+
+  @NonNull
+  private ByteBuffer mapAsset(@NonNull String path) throws IOException {
+    try (AssetFileDescriptor descriptor = flutterAssetManager.assetManager.openFd(path)) {
+      try (FileInputStream stream = descriptor.createInputStream()) {
+        // The mapping stays valid after the channel is closed.
+        final FileChannel channel = stream.getChannel();
+        return channel.map(
+            FileChannel.MapMode.READ_ONLY, descriptor.getStartOffset(), descriptor.getLength());
+      }
+    }
+  }
+
+  @VisibleForTesting
+  @NonNull
+  static String guessMimeType(@NonNull String name) {
+    final int dot = name.lastIndexOf('.');
+    if (dot >= 0) {
+      final String mimeType =
+          MIME_TYPES_BY_EXTENSION.get(name.substring(dot + 1).toLowerCase(Locale.US));
+      if (mimeType != null) {
+        return mimeType;
+      }
+    }
+    final String guessed = URLConnection.guessContentTypeFromName(name);
+    return guessed != null ? guessed : "application/octet-stream";
+  }
+
+  // Network.
+
+  @Nullable
+  private Resource fetch(
+      @NonNull String url, @Nullable Map<String, String> requestHeaders, @Nullable Resource stored)
+      throws IOException {
+    final HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+    try {
+      // Redirects can't be represented by a WebResourceResponse, so they are left to the WebView.
+      connection.setInstanceFollowRedirects(false);
+      connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+      connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+      if (requestHeaders != null) {
+        for (Map.Entry<String, String> header : requestHeaders.entrySet()) {
+          // The body handed to the WebView has to be decoded, so let the connection negotiate.
+          if (!"accept-encoding".equalsIgnoreCase(header.getKey())) {
+            connection.setRequestProperty(header.getKey(), header.getValue());
+          }
+        }
+      }
+      final String cookies = CookieManager.getInstance().getCookie(url);
+      if (cookies != null && !cookies.isEmpty()) {
+        connection.setRequestProperty("Cookie", cookies);
+      }
+      final boolean hasCredentials =
+          connection.getRequestProperty("Cookie") != null
+              || connection.getRequestProperty("Authorization") != null;
+      if (stored != null && stored.etag != null) {
+        connection.setRequestProperty("If-None-Match", stored.etag);
+      }
+
+      final int statusCode = connection.getResponseCode();
+      storeCookies(url, connection);
+      final long now = System.currentTimeMillis();
+      final long maxAgeMillis = parseMaxAgeMillis(connection.getHeaderField("Cache-Control"));
+
+      if (statusCode == HttpURLConnection.HTTP_NOT_MODIFIED && stored != null) {
+        final Resource revalidated =
+            stored.withExpiry(maxAgeMillis > 0 ? now + maxAgeMillis : NO_EXPIRY);
+        memoryCache.put(url, revalidated);
+        writeToDisk(url, revalidated);
+        return stored;
+      }
+      if (statusCode >= 300 && statusCode < 400) {
+        return null;
+      }
+
+      final byte[] body;
+      try (InputStream stream =
+          statusCode >= 400 ? connection.getErrorStream() : connection.getInputStream()) {
+        body = stream == null ? new byte[0] : readFully(stream);
+      }
+
+      final Map<String, String> headers = new HashMap<>();
+      for (Map.Entry<String, List<String>> header : connection.getHeaderFields().entrySet()) {
+        if (header.getKey() != null
+            && !header.getValue().isEmpty()
+            && !DROPPED_RESPONSE_HEADERS.contains(header.getKey().toLowerCase(Locale.US))) {
+          headers.put(header.getKey(), header.getValue().get(0));
+        }
+      }
+      final String[] contentType = parseContentType(connection.getContentType());
+      final String reasonPhrase = connection.getResponseMessage();
+      final String etag = connection.getHeaderField("ETag");
+      final Resource resource =
+          new Resource(
+              contentType[0],
+              contentType[1],
+              statusCode,
+              reasonPhrase == null || reasonPhrase.isEmpty() ? "OK" : reasonPhrase,
+              headers,
+              body,
+              null,
+              etag,
+              maxAgeMillis > 0 ? now + maxAgeMillis : NO_EXPIRY);
+
+      if (statusCode == HttpURLConnection.HTTP_OK
+          && (maxAgeMillis > 0 || etag != null)
+          && !isNoStore(connection.getHeaderField("Cache-Control"))
+          && isShareable(connection.getHeaderField("Cache-Control"), hasCredentials)
+          && isCacheableVary(connection.getHeaderField("Vary"))) {
+        memoryCache.put(url, resource);
+        writeToDisk(url, resource);
+      }
+      return resource;
+    } finally {
+      connection.disconnect();
+    }
+  }
+
+  private static void storeCookies(@NonNull String url, @NonNull HttpURLConnection connection) {
+    final List<String> setCookies = connection.getHeaderFields().get("Set-Cookie");
+    if (setCookies == null) {
+      return;
+    }
+    final CookieManager cookieManager = CookieManager.getInstance();
+    for (String cookie : setCookies) {
+      cookieManager.setCookie(url, cookie);
+    }
+  }
+
+  /**
+   * Returns the `max-age` of a `Cache-Control` header in milliseconds, or 0 if the response must
+   * be revalidated before it is reused.
+   */
+  @VisibleForTesting
+  static long parseMaxAgeMillis(@Nullable String cacheControl) {
+    if (cacheControl == null) {
+      return 0;
+    }
+    long maxAgeSeconds = 0;
+    for (String directive : cacheControl.split(",")) {
+      final String trimmed = directive.trim().toLowerCase(Locale.US);
+      if (trimmed.equals("no-cache") || trimmed.equals("no-store")) {
+        return 0;
+      }
+      if (trimmed.startsWith("max-age=")) {
+        try {
+          maxAgeSeconds = Long.parseLong(trimmed.substring("max-age=".length()).trim());
+        } catch (NumberFormatException e) {
+          return 0;
+        }
+      }
+    }
+    return Math.max(0, maxAgeSeconds) * 1000;
+  }
+
+  private static boolean isNoStore(@Nullable String cacheControl) {
+    return cacheControl != null && cacheControl.toLowerCase(Locale.US).contains("no-store");
+  }
+
+  /**
+   * Returns whether a response with the given `Cache-Control` header can be shared by every WebView
+   * and later sessions.
+   *
+   * <p>Responses marked `private` are never shared. Responses to requests with cookies or an
+   * `Authorization` header are only shared if they are explicitly marked `public`, since the cache
+   * doesn't check credentials when it serves them.
+   */
+  @VisibleForTesting
+  static boolean isShareable(@Nullable String cacheControl, boolean hasCredentials) {
+    boolean isPublic = false;
+    if (cacheControl != null) {
+      for (String directive : cacheControl.split(",")) {
+        final String trimmed = directive.trim().toLowerCase(Locale.US);
+        if (trimmed.equals("private") || trimmed.startsWith("private=")) {
+          return false;
+        }
+        isPublic |= trimmed.equals("public");
+      }
+    }
+    return isPublic || !hasCredentials;
+  }
+
+  /**
+   * Returns whether a response with the given `Vary` header can be cached by URL alone.
+   *
+   * <p>Only `Accept-Encoding` is ignored, because the connection negotiates the encoding itself and
+   * cached bodies are always decoded.
+   */
+  @VisibleForTesting
+  static boolean isCacheableVary(@Nullable String vary) {
+    if (vary == null) {
+      return true;
+    }
+    for (String header : vary.split(",")) {
+      final String trimmed = header.trim();
+      if (!trimmed.isEmpty() && !trimmed.equalsIgnoreCase("accept-encoding")) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static final Pattern CHARSET = Pattern.compile("charset=\"?([^;\"\\s]+)\"?");
+
+  /** Splits a `Content-Type` header into a mime type and an optional charset. */
+  @VisibleForTesting
+  @NonNull
+  static String[] parseContentType(@Nullable String contentType) {
+    if (contentType == null || contentType.isEmpty()) {
+      return new String[] {"application/octet-stream", null};
+    }
+    final int semicolon = contentType.indexOf(';');
+    final String mimeType =
+        (semicolon < 0 ? contentType : contentType.substring(0, semicolon)).trim();
+    final Matcher charset = CHARSET.matcher(contentType.toLowerCase(Locale.US));
+    return new String[] {mimeType, charset.find() ? charset.group(1) : null};
+  }
+
+  // Disk cache.
+
+  @Nullable
+  private Resource readFromDisk(@NonNull String url) {
+    return diskCache == null ? null : diskCache.read(url);
+  }
+
+  private void writeToDisk(@NonNull String url, @NonNull Resource resource) {
+    if (diskCache != null) {
+      diskCache.write(url, resource);
+    }
+  }
+
+  private static void writeNullableUtf(DataOutputStream stream, @Nullable String value)
+      throws IOException {
+    stream.writeBoolean(value != null);
+    if (value != null) {
+      stream.writeUTF(value);
+    }
+  }
+
+  private static String sha1(@NonNull String value) {
+    try {
+      final byte[] digest =
+          MessageDigest.getInstance("SHA-1").digest(value.getBytes(StandardCharsets.UTF_8));
+      final StringBuilder builder = new StringBuilder(digest.length * 2);
+      for (byte b : digest) {
+        builder.append(String.format(Locale.US, "%02x", b));
+      }
+      return builder.toString();
+    } catch (NoSuchAlgorithmException e) {
+      return Integer.toHexString(value.hashCode());
+    }
+  }
+
+  private static String stripQuery(@NonNull String path) {
+    int end = path.length();
+    final int query = path.indexOf('?');
+    if (query >= 0) {
+      end = query;
+    }
+    final int fragment = path.indexOf('#');
+    if (fragment >= 0 && fragment < end) {
+      end = fragment;
+    }
+    return path.substring(0, end);
+  }
+
+  private static byte[] readFully(@NonNull InputStream stream) throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    final byte[] buffer = new byte[16 * 1024];
+    int read;
+    while ((read = stream.read(buffer)) != -1) {
+      output.write(buffer, 0, read);
+    }
+    return output.toByteArray();
+  }
+
+  /** Reads a {@link ByteBuffer}, such as a memory-mapped asset, without copying it first. */
+  private static class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer buffer;
+
+    ByteBufferInputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+    }
+
+    @Override
+    public int read(@NonNull byte[] bytes, int offset, int length) {
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      final int count = Math.min(length, buffer.remaining());
+      buffer.get(bytes, offset, count);
+      return count;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
+  }
+}
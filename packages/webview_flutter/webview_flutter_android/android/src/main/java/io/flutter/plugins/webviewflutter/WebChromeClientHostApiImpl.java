@@ -7,6 +7,7 @@ package io.flutter.plugins.webviewflutter;
 import android.net.Uri;
 import android.os.Build;
 import android.os.Message;
+import android.os.SystemClock;
 import android.webkit.GeolocationPermissions;
 import android.webkit.PermissionRequest;
 import android.webkit.ValueCallback;
@@ -38,6 +39,18 @@ public class WebChromeClientHostApiImpl implements WebChromeClientHostApi {
     private final WebChromeClientFlutterApiImpl flutterApi;
     private boolean returnValueForOnShowFileChooser = false;
 
+    // Time without progress changes after which a throttled progress value is reported anyway, so
+    // a load that stalls shows its latest progress.
+    @VisibleForTesting static final long PROGRESS_SETTLE_MILLIS = 100;
+
+    private long progressMinIntervalMillis = 0;
+    private long progressMinDelta = 0;
+    private int lastReportedProgress = -1;
+    private long lastReportedProgressMillis = 0;
+    private int pendingProgress = -1;
+    @Nullable private WebView pendingProgressView;
+    private final Runnable pendingProgressRunnable = this::reportPendingProgress;
+
     /**
      * Creates a {@link WebChromeClient} that passes arguments of callbacks methods to Dart.
      *
@@ -49,6 +62,51 @@ public class WebChromeClientHostApiImpl implements WebChromeClientHostApi {
 
     @Override
     public void onProgressChanged(@NonNull WebView view, int progress) {
+      final long now = SystemClock.uptimeMillis();
+      // The first tick of a load, a restarted load and the final tick are always reported.
+      final boolean throttled =
+          progress < 100
+              && lastReportedProgress >= 0
+              && progress >= lastReportedProgress
+              && (progress - lastReportedProgress < progressMinDelta
+                  || now - lastReportedProgressMillis < progressMinIntervalMillis);
+      if (throttled) {
+        schedulePendingProgress(view, progress);
+        return;
+      }
+
+      cancelPendingProgress();
+      reportProgress(view, progress, now);
+    }
+
+    // Reports the latest throttled value once no other value arrives for the settle time, and never
+    // sooner than the minimum interval.
+    private void schedulePendingProgress(@NonNull WebView view, int progress) {
+      cancelPendingProgress();
+      pendingProgress = progress;
+      pendingProgressView = view;
+      view.postDelayed(
+          pendingProgressRunnable, Math.max(progressMinIntervalMillis, PROGRESS_SETTLE_MILLIS));
+    }
+
+    private void cancelPendingProgress() {
+      if (pendingProgressView != null) {
+        pendingProgressView.removeCallbacks(pendingProgressRunnable);
+        pendingProgressView = null;
+      }
+    }
+
+    private void reportPendingProgress() {
+      final WebView view = pendingProgressView;
+      pendingProgressView = null;
+      if (view != null) {
+        reportProgress(view, pendingProgress, SystemClock.uptimeMillis());
+      }
+    }
+
+    private void reportProgress(@NonNull WebView view, int progress, long now) {
+      lastReportedProgress = progress < 100 ? progress : -1;
+      lastReportedProgressMillis = now;
       flutterApi.onProgressChanged(this, view, (long) progress, reply -> {});
     }
 
@@ -99,6 +157,17 @@ public class WebChromeClientHostApiImpl implements WebChromeClientHostApi {
     public void setReturnValueForOnShowFileChooser(boolean value) {
       returnValueForOnShowFileChooser = value;
     }
+
+    /**
+     * Limits how often {@link #onProgressChanged} is passed to Dart.
+     *
+     * @param minIntervalMillis the minimum time between two reported progress values
+     * @param minDelta the minimum change between two reported progress values
+     */
+    public void setProgressThrottle(long minIntervalMillis, long minDelta) {
+      progressMinIntervalMillis = minIntervalMillis;
+      progressMinDelta = minDelta;
+    }
   }
 
   /**
@@ -234,4 +303,14 @@ public class WebChromeClientHostApiImpl implements WebChromeClientHostApi {
         Objects.requireNonNull(instanceManager.getInstance(instanceId));
     webChromeClient.setReturnValueForOnShowFileChooser(value);
   }
+
+  @Override
+  public void setProgressThrottle(
+      @NonNull Long instanceId,
+      @NonNull Long minIntervalMilliseconds,
+      @NonNull Long minDelta) {
+    final WebChromeClientImpl webChromeClient =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    webChromeClient.setProgressThrottle(minIntervalMilliseconds, minDelta);
+  }
 }
@@ -230,6 +230,21 @@ public class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
         getIdentifierForClient(webViewClient), webViewIdentifier, url, isReload, callback);
   }
 
+  /** Passes a navigation decided by the {@link NavigationPolicy} of a client to Dart. */
+  public void onNavigationReported(
+      @NonNull WebViewClient webViewClient,
+      @NonNull WebView webView,
+      @NonNull String url,
+      boolean allowed,
+      @NonNull Reply<Void> callback) {
+    webViewFlutterApi.create(webView, reply -> {});
+
+    final Long webViewIdentifier =
+        Objects.requireNonNull(instanceManager.getIdentifierForStrongReference(webView));
+    onNavigationReported(
+        getIdentifierForClient(webViewClient), webViewIdentifier, url, allowed, callback);
+  }
+
   private long getIdentifierForClient(WebViewClient webViewClient) {
     final Long identifier = instanceManager.getIdentifierForStrongReference(webViewClient);
     if (identifier == null) {
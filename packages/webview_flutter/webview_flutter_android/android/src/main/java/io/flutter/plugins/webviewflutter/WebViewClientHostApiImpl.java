@@ -7,16 +7,22 @@ package io.flutter.plugins.webviewflutter;
 import android.annotation.SuppressLint;
 import android.annotation.TargetApi;
 import android.graphics.Bitmap;
+import android.net.Uri;
 import android.os.Build;
 import android.view.KeyEvent;
 import android.webkit.WebResourceError;
 import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
 import android.webkit.WebView;
 import android.webkit.WebViewClient;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.RequiresApi;
 import androidx.webkit.WebResourceErrorCompat;
 import androidx.webkit.WebViewClientCompat;
+import io.flutter.plugins.webviewflutter.ResourceInterceptor.ResourceInterceptorCreator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -28,12 +34,15 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
   private final InstanceManager instanceManager;
   private final WebViewClientCreator webViewClientCreator;
   private final WebViewClientFlutterApiImpl flutterApi;
+  @Nullable private final ResourceInterceptorCreator resourceInterceptorCreator;
 
   /** Implementation of {@link WebViewClient} that passes arguments of callback methods to Dart. */
   @RequiresApi(Build.VERSION_CODES.N)
   public static class WebViewClientImpl extends WebViewClient {
     private final WebViewClientFlutterApiImpl flutterApi;
     private boolean returnValueForShouldOverrideUrlLoading = false;
+    @Nullable private volatile ResourceInterceptor resourceInterceptor;
+    @Nullable private NavigationPolicy navigationPolicy;
 
     /**
      * Creates a {@link WebViewClient} that passes arguments of callbacks methods to Dart.
@@ -77,16 +86,39 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
     @Override
     public boolean shouldOverrideUrlLoading(
         @NonNull WebView view, @NonNull WebResourceRequest request) {
-      flutterApi.requestLoading(this, view, request, reply -> {});
-      return returnValueForShouldOverrideUrlLoading;
+      final NavigationPolicy.Decision decision =
+          evaluateNavigationPolicy(navigationPolicy, request.getUrl());
+      if (decision == null) {
+        flutterApi.requestLoading(this, view, request, reply -> {});
+        return returnValueForShouldOverrideUrlLoading;
+      }
+      reportNavigationIfNeeded(flutterApi, this, view, request.getUrl().toString(), decision);
+      return decision.deny;
     }
 
     // Legacy codepath for < 24; newer versions use the variant above.
     @SuppressWarnings("deprecation")
     @Override
     public boolean shouldOverrideUrlLoading(@NonNull WebView view, @NonNull String url) {
-      flutterApi.urlLoading(this, view, url, reply -> {});
-      return returnValueForShouldOverrideUrlLoading;
+      final NavigationPolicy.Decision decision = evaluateNavigationPolicy(navigationPolicy, url);
+      if (decision == null) {
+        flutterApi.urlLoading(this, view, url, reply -> {});
+        return returnValueForShouldOverrideUrlLoading;
+      }
+      reportNavigationIfNeeded(flutterApi, this, view, url, decision);
+      return decision.deny;
+    }
+
+    @Nullable
+    @Override
+    public WebResourceResponse shouldInterceptRequest(
+        @NonNull WebView view, @NonNull WebResourceRequest request) {
+      final ResourceInterceptor interceptor = resourceInterceptor;
+      if (interceptor == null) {
+        return null;
+      }
+      return interceptor.intercept(
+          view, request.getUrl().toString(), request.getMethod(), request.getRequestHeaders());
     }
 
     @Override
@@ -106,6 +138,25 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
     public void setReturnValueForShouldOverrideUrlLoading(boolean value) {
       returnValueForShouldOverrideUrlLoading = value;
     }
+
+    /** Sets the interceptor that serves requests, or null to let the WebView load everything. */
+    public void setResourceInterceptor(@Nullable ResourceInterceptor resourceInterceptor) {
+      this.resourceInterceptor = resourceInterceptor;
+    }
+
+    /** The interceptor that serves requests, if any. */
+    @Nullable
+    public ResourceInterceptor getResourceInterceptor() {
+      return resourceInterceptor;
+    }
+
+    /**
+     * Sets the policy that decides navigations without asking Dart, or null to use {@link
+     * #setReturnValueForShouldOverrideUrlLoading} for all navigations.
+     */
+    public void setNavigationPolicy(@Nullable NavigationPolicy navigationPolicy) {
+      this.navigationPolicy = navigationPolicy;
+    }
   }
 
   /**
@@ -115,6 +166,8 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
   public static class WebViewClientCompatImpl extends WebViewClientCompat {
     private final WebViewClientFlutterApiImpl flutterApi;
     private boolean returnValueForShouldOverrideUrlLoading = false;
+    @Nullable private volatile ResourceInterceptor resourceInterceptor;
+    @Nullable private NavigationPolicy navigationPolicy;
 
     public WebViewClientCompatImpl(@NonNull WebViewClientFlutterApiImpl flutterApi) {
       this.flutterApi = flutterApi;
@@ -158,16 +211,52 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
     @Override
     public boolean shouldOverrideUrlLoading(
         @NonNull WebView view, @NonNull WebResourceRequest request) {
-      flutterApi.requestLoading(this, view, request, reply -> {});
-      return returnValueForShouldOverrideUrlLoading;
+      final NavigationPolicy.Decision decision =
+          evaluateNavigationPolicy(navigationPolicy, request.getUrl());
+      if (decision == null) {
+        flutterApi.requestLoading(this, view, request, reply -> {});
+        return returnValueForShouldOverrideUrlLoading;
+      }
+      reportNavigationIfNeeded(flutterApi, this, view, request.getUrl().toString(), decision);
+      return decision.deny;
     }
 
     // Legacy codepath for < Lollipop; newer versions use the variant above.
     @SuppressWarnings("deprecation")
     @Override
     public boolean shouldOverrideUrlLoading(@NonNull WebView view, @NonNull String url) {
-      flutterApi.urlLoading(this, view, url, reply -> {});
-      return returnValueForShouldOverrideUrlLoading;
+      final NavigationPolicy.Decision decision = evaluateNavigationPolicy(navigationPolicy, url);
+      if (decision == null) {
+        flutterApi.urlLoading(this, view, url, reply -> {});
+        return returnValueForShouldOverrideUrlLoading;
+      }
+      reportNavigationIfNeeded(flutterApi, this, view, url, decision);
+      return decision.deny;
+    }
+
+    @RequiresApi(api = Build.VERSION_CODES.LOLLIPOP)
+    @Nullable
+    @Override
+    public WebResourceResponse shouldInterceptRequest(
+        @NonNull WebView view, @NonNull WebResourceRequest request) {
+      final ResourceInterceptor interceptor = resourceInterceptor;
+      if (interceptor == null) {
+        return null;
+      }
+      return interceptor.intercept(
+          view, request.getUrl().toString(), request.getMethod(), request.getRequestHeaders());
+    }
+
+    // Legacy codepath for < Lollipop; newer versions use the variant above.
+    @SuppressWarnings("deprecation")
+    @Nullable
+    @Override
+    public WebResourceResponse shouldInterceptRequest(@NonNull WebView view, @NonNull String url) {
+      final ResourceInterceptor interceptor = resourceInterceptor;
+      if (interceptor == null) {
+        return null;
+      }
+      return interceptor.intercept(view, url, "GET", null);
     }
 
     @Override
@@ -187,6 +276,51 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
     public void setReturnValueForShouldOverrideUrlLoading(boolean value) {
       returnValueForShouldOverrideUrlLoading = value;
     }
+
+    /** Sets the interceptor that serves requests, or null to let the WebView load everything. */
+    public void setResourceInterceptor(@Nullable ResourceInterceptor resourceInterceptor) {
+      this.resourceInterceptor = resourceInterceptor;
+    }
+
+    /** The interceptor that serves requests, if any. */
+    @Nullable
+    public ResourceInterceptor getResourceInterceptor() {
+      return resourceInterceptor;
+    }
+
+    /**
+     * Sets the policy that decides navigations without asking Dart, or null to use {@link
+     * #setReturnValueForShouldOverrideUrlLoading} for all navigations.
+     */
+    public void setNavigationPolicy(@Nullable NavigationPolicy navigationPolicy) {
+      this.navigationPolicy = navigationPolicy;
+    }
+  }
+
+  @Nullable
+  private static NavigationPolicy.Decision evaluateNavigationPolicy(
+      @Nullable NavigationPolicy navigationPolicy, @NonNull String url) {
+    return navigationPolicy == null ? null : navigationPolicy.evaluate(url);
+  }
+
+  @Nullable
+  private static NavigationPolicy.Decision evaluateNavigationPolicy(
+      @Nullable NavigationPolicy navigationPolicy, @NonNull Uri url) {
+    return navigationPolicy == null
+        ? null
+        : navigationPolicy.evaluate(url.toString(), url.getScheme(), url.getHost());
+  }
+
+  // Decided navigations are only reported, so Dart never has to load them again.
+  private static void reportNavigationIfNeeded(
+      @NonNull WebViewClientFlutterApiImpl flutterApi,
+      @NonNull WebViewClient webViewClient,
+      @NonNull WebView view,
+      @NonNull String url,
+      @NonNull NavigationPolicy.Decision decision) {
+    if (decision.report) {
+      flutterApi.onNavigationReported(webViewClient, view, url, !decision.deny, reply -> {});
+    }
   }
 
   /** Handles creating {@link WebViewClient}s for a {@link WebViewClientHostApiImpl}. */
@@ -226,9 +360,27 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
       @NonNull InstanceManager instanceManager,
       @NonNull WebViewClientCreator webViewClientCreator,
       @NonNull WebViewClientFlutterApiImpl flutterApi) {
+    this(instanceManager, webViewClientCreator, flutterApi, null);
+  }
+
+  /**
+   * Creates a host API that handles creating {@link WebViewClient}s and their resource
+   * interception.
+   *
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   * @param webViewClientCreator handles creating {@link WebViewClient}s
+   * @param flutterApi handles sending messages to Dart
+   * @param resourceInterceptorCreator handles creating {@link ResourceInterceptor}s
+   */
+  public WebViewClientHostApiImpl(
+      @NonNull InstanceManager instanceManager,
+      @NonNull WebViewClientCreator webViewClientCreator,
+      @NonNull WebViewClientFlutterApiImpl flutterApi,
+      @Nullable ResourceInterceptorCreator resourceInterceptorCreator) {
     this.instanceManager = instanceManager;
     this.webViewClientCreator = webViewClientCreator;
     this.flutterApi = flutterApi;
+    this.resourceInterceptorCreator = resourceInterceptorCreator;
   }
 
   @Override
@@ -252,4 +404,73 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
           "This WebViewClient doesn't support setting the returnValueForShouldOverrideUrlLoading.");
     }
   }
+
+  @Override
+  public void setResourceInterception(
+      @NonNull Long instanceId,
+      @NonNull List<String> urlPatterns,
+      @Nullable String assetUrlPrefix,
+      @NonNull Long maxMemoryCacheBytes,
+      @NonNull Long maxDiskCacheBytes) {
+    final WebViewClient webViewClient =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    ResourceInterceptor interceptor = null;
+    if (!urlPatterns.isEmpty() || assetUrlPrefix != null) {
+      if (resourceInterceptorCreator == null) {
+        throw new IllegalStateException("Resource interception is not available.");
+      }
+      interceptor =
+          resourceInterceptorCreator.createResourceInterceptor(
+              urlPatterns, assetUrlPrefix, maxMemoryCacheBytes, maxDiskCacheBytes);
+    }
+    if (webViewClient instanceof WebViewClientCompatImpl) {
+      ((WebViewClientCompatImpl) webViewClient).setResourceInterceptor(interceptor);
+    } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N
+        && webViewClient instanceof WebViewClientImpl) {
+      ((WebViewClientImpl) webViewClient).setResourceInterceptor(interceptor);
+    } else {
+      throw new IllegalStateException("This WebViewClient doesn't support resource interception.");
+    }
+  }
+
+  @NonNull
+  @Override
+  public Map<String, Long> getResourceInterceptionMetrics(
+      @NonNull Long instanceId, @NonNull Long webViewInstanceId) {
+    final WebViewClient webViewClient =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    final WebView webView = Objects.requireNonNull(instanceManager.getInstance(webViewInstanceId));
+    ResourceInterceptor interceptor = null;
+    if (webViewClient instanceof WebViewClientCompatImpl) {
+      interceptor = ((WebViewClientCompatImpl) webViewClient).getResourceInterceptor();
+    } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N
+        && webViewClient instanceof WebViewClientImpl) {
+      interceptor = ((WebViewClientImpl) webViewClient).getResourceInterceptor();
+    }
+    if (interceptor == null) {
+      throw new IllegalStateException("Resource interception is not enabled for this client.");
+    }
+    return interceptor.getMetrics(webView);
+  }
+
+  @Override
+  public void setNavigationPolicy(
+      @NonNull Long instanceId,
+      @NonNull List<Map<String, Object>> rules,
+      @Nullable String defaultAction) {
+    final WebViewClient webViewClient =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    final NavigationPolicy navigationPolicy =
+        rules.isEmpty() && defaultAction == null
+            ? null
+            : NavigationPolicy.compile(rules, defaultAction);
+    if (webViewClient instanceof WebViewClientCompatImpl) {
+      ((WebViewClientCompatImpl) webViewClient).setNavigationPolicy(navigationPolicy);
+    } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N
+        && webViewClient instanceof WebViewClientImpl) {
+      ((WebViewClientImpl) webViewClient).setNavigationPolicy(navigationPolicy);
+    } else {
+      throw new IllegalStateException("This WebViewClient doesn't support navigation policies.");
+    }
+  }
 }
@@ -9,6 +9,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewFlutterApi;
+import java.util.Objects;
 
 /**
  * Flutter API implementation for `WebView`.
@@ -47,6 +48,23 @@ public class WebViewFlutterApiImpl {
     }
   }
 
+  /** Passes arguments from {@link WebView#onScrollChanged} to Dart. */
+  public void onScrollChanged(
+      @NonNull WebView instance,
+      @NonNull Long left,
+      @NonNull Long top,
+      @NonNull Long oldLeft,
+      @NonNull Long oldTop,
+      @NonNull WebViewFlutterApi.Reply<Void> callback) {
+    api.onScrollChanged(
+        Objects.requireNonNull(instanceManager.getIdentifierForStrongReference(instance)),
+        left,
+        top,
+        oldLeft,
+        oldTop,
+        callback);
+  }
+
   /**
    * Sets the Flutter API used to send messages to Dart.
    *
@@ -27,6 +27,7 @@ import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebSettingsHost
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebStorageHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewClientHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewHostApi;
+import java.io.File;
 
 /**
  * Java platform implementation of the webview_flutter plugin.
@@ -86,7 +87,7 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
                 new GeneratedAndroidWebView.JavaObjectFlutterApi(binaryMessenger)
                     .dispose(identifier, reply -> {}));
 
-    InstanceManagerHostApi.setup(binaryMessenger, () -> instanceManager.clear());
+    InstanceManagerHostApi.setup(binaryMessenger, new InstanceManagerHostApiImpl(instanceManager));
 
     viewRegistry.registerViewFactory(
         "plugins.flutter.io/webview", new FlutterWebViewFactory(instanceManager));
@@ -109,7 +110,10 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
         new WebViewClientHostApiImpl(
             instanceManager,
             new WebViewClientHostApiImpl.WebViewClientCreator(),
-            new WebViewClientFlutterApiImpl(binaryMessenger, instanceManager)));
+            new WebViewClientFlutterApiImpl(binaryMessenger, instanceManager),
+            new ResourceInterceptor.ResourceInterceptorCreator(
+                flutterAssetManager,
+                new File(context.getCacheDir(), "webview_flutter_resource_cache"))));
     WebChromeClientHostApi.setup(
         binaryMessenger,
         new WebChromeClientHostApiImpl(
@@ -156,6 +160,9 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
 
   @Override
   public void onDetachedFromEngine(@NonNull FlutterPluginBinding binding) {
+    if (webViewHostApi != null) {
+      webViewHostApi.clearWebViewPool();
+    }
     if (instanceManager != null) {
       instanceManager.stopFinalizationListener();
       instanceManager = null;
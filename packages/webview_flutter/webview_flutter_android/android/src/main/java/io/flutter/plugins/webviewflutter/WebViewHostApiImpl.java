@@ -8,9 +8,13 @@ import android.annotation.SuppressLint;
 import android.content.Context;
 import android.hardware.display.DisplayManager;
 import android.os.Build;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.os.SystemClock;
 import android.view.View;
 import android.view.ViewParent;
 import android.webkit.WebChromeClient;
+import android.webkit.WebSettings;
 import android.webkit.WebView;
 import android.webkit.WebViewClient;
 import androidx.annotation.ChecksSdkIntAtLeast;
@@ -21,6 +25,7 @@ import io.flutter.embedding.android.FlutterView;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.platform.PlatformView;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewHostApi;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -33,8 +38,12 @@ public class WebViewHostApiImpl implements WebViewHostApi {
   private final InstanceManager instanceManager;
   private final WebViewProxy webViewProxy;
   private final BinaryMessenger binaryMessenger;
+  private final WebViewPool webViewPool = new WebViewPool();
 
   private Context context;
+  private boolean idleWorkScheduled = false;
+  // Whether the WebView provider should be loaded before any WebView needs it.
+  private boolean providerPrewarmPending = false;
 
   /** Handles creating and calling static methods for {@link WebView}s. */
   public static class WebViewProxy {
@@ -63,18 +72,58 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     public void setWebContentsDebuggingEnabled(boolean enabled) {
       WebView.setWebContentsDebuggingEnabled(enabled);
     }
+
+    /**
+     * Forwards call to {@link WebSettings#getDefaultUserAgent}, which loads and initializes the
+     * WebView provider.
+     *
+     * @param context an Activity Context to access application assets
+     */
+    public void prewarmWebViewProvider(@NonNull Context context) {
+      WebSettings.getDefaultUserAgent(context);
+    }
+
+    /**
+     * Adds an {@link MessageQueue.IdleHandler} to the message queue of the current thread.
+     *
+     * @param idleHandler called when the thread is about to wait for more messages
+     */
+    public void addIdleHandler(@NonNull MessageQueue.IdleHandler idleHandler) {
+      Looper.myQueue().addIdleHandler(idleHandler);
+    }
   }
 
   /** Implementation of {@link WebView} that can be used as a Flutter {@link PlatformView}s. */
   @SuppressLint("ViewConstructor")
   public static class WebViewPlatformView extends WebView implements PlatformView {
-    // To ease adding callback methods, this value is added prematurely.
-    @SuppressWarnings("unused")
     private WebViewFlutterApiImpl api;
 
     private WebViewClient currentWebViewClient;
     private WebChromeClientHostApiImpl.SecureWebChromeClient currentWebChromeClient;
 
+    @VisibleForTesting static final long SCROLL_SETTLE_MILLIS = 100;
+
+    private boolean scrollChangedEventsEnabled = false;
+    private long scrollMinIntervalMillis = 0;
+    private long scrollMinDelta = 0;
+    private int latestScrollX = 0;
+    private int latestScrollY = 0;
+    private int reportedScrollX = 0;
+    private int reportedScrollY = 0;
+    private long reportedScrollMillis = 0;
+    private boolean scrollEventScheduled = false;
+    private final Runnable scrollEventRunnable =
+        () -> {
+          scrollEventScheduled = false;
+          reportScrollChangedIfNeeded(false);
+        };
+    private boolean scrollSettleScheduled = false;
+    private final Runnable scrollSettleRunnable =
+        () -> {
+          scrollSettleScheduled = false;
+          reportScrollChangedIfNeeded(true);
+        };
+
     private final @NonNull AndroidSdkChecker sdkChecker;
 
     // Interface for an injectable SDK version checker.
@@ -171,6 +220,86 @@ public class WebViewHostApiImpl implements WebViewHostApi {
       currentWebChromeClient.setWebViewClient(currentWebViewClient);
     }
 
+    @Override
+    protected void onScrollChanged(int left, int top, int oldLeft, int oldTop) {
+      super.onScrollChanged(left, top, oldLeft, oldTop);
+      if (!scrollChangedEventsEnabled) {
+        return;
+      }
+
+      latestScrollX = left;
+      latestScrollY = top;
+      if (scrollEventScheduled) {
+        return;
+      }
+      // Reports immediately when allowed and otherwise once at the end of the interval, so the
+      // last position of a scroll is always reported.
+      final long elapsedMillis = SystemClock.uptimeMillis() - reportedScrollMillis;
+      if (elapsedMillis >= scrollMinIntervalMillis) {
+        reportScrollChangedIfNeeded(false);
+      } else {
+        scrollEventScheduled = true;
+        postDelayed(scrollEventRunnable, scrollMinIntervalMillis - elapsedMillis);
+      }
+    }
+
+    /**
+     * Sets whether scroll position changes are passed to Dart and how often.
+     *
+     * @param enabled whether changes are passed to Dart
+     * @param minIntervalMillis the minimum time between two reported positions
+     * @param minDelta the minimum distance in pixels, along either axis, between two reported
+     *     positions
+     */
+    public void setScrollChangedEvents(boolean enabled, long minIntervalMillis, long minDelta) {
+      scrollChangedEventsEnabled = enabled;
+      scrollMinIntervalMillis = minIntervalMillis;
+      scrollMinDelta = minDelta;
+      if (scrollEventScheduled) {
+        removeCallbacks(scrollEventRunnable);
+        scrollEventScheduled = false;
+      }
+      cancelScrollSettle();
+      latestScrollX = reportedScrollX = getScrollX();
+      latestScrollY = reportedScrollY = getScrollY();
+    }
+
+    // A position closer than minDelta to the reported one is only reported once the scroll settles,
+    // i.e. no other change arrives for SCROLL_SETTLE_MILLIS, so the final position isn't dropped.
+    private void reportScrollChangedIfNeeded(boolean settled) {
+      final int delta =
+          Math.max(
+              Math.abs(latestScrollX - reportedScrollX), Math.abs(latestScrollY - reportedScrollY));
+      if (delta == 0) {
+        return;
+      }
+      if (delta < scrollMinDelta && !settled) {
+        cancelScrollSettle();
+        scrollSettleScheduled = true;
+        postDelayed(scrollSettleRunnable, Math.max(scrollMinIntervalMillis, SCROLL_SETTLE_MILLIS));
+        return;
+      }
+
+      cancelScrollSettle();
+      api.onScrollChanged(
+          this,
+          (long) latestScrollX,
+          (long) latestScrollY,
+          (long) reportedScrollX,
+          (long) reportedScrollY,
+          reply -> {});
+      reportedScrollX = latestScrollX;
+      reportedScrollY = latestScrollY;
+      reportedScrollMillis = SystemClock.uptimeMillis();
+    }
+
+    private void cancelScrollSettle() {
+      if (scrollSettleScheduled) {
+        removeCallbacks(scrollSettleRunnable);
+        scrollSettleScheduled = false;
+      }
+    }
+
     // When running unit tests, the parent `WebView` class is replaced by a stub that returns null
     // for every method. This is overridden so that this returns the current WebChromeClient during
     // unit tests. This should only remain overridden as long as `setWebChromeClient` is overridden.
@@ -185,7 +314,6 @@ public class WebViewHostApiImpl implements WebViewHostApi {
      *
      * <p>This is only visible for testing.
      */
-    @SuppressWarnings("unused")
     @VisibleForTesting
     void setApi(WebViewFlutterApiImpl api) {
       this.api = api;
@@ -217,20 +345,96 @@ public class WebViewHostApiImpl implements WebViewHostApi {
    * @param context the new context.
    */
   public void setContext(@Nullable Context context) {
+    if (this.context != context) {
+      // Pooled WebViews hold on to the context they were created with.
+      webViewPool.clear();
+    }
     this.context = context;
+    scheduleIdleWork();
+  }
+
+  /** Destroys the pooled {@link WebView}s and stops refilling the pool. */
+  public void clearWebViewPool() {
+    webViewPool.setTargetSize(0);
   }
 
   @Override
   public void create(@NonNull Long instanceId) {
+    final long startNanos = System.nanoTime();
+    WebView webView = webViewPool.acquire();
+    final boolean pooled = webView != null;
+    if (!pooled) {
+      webView = createWebView();
+    }
+    webViewPool.recordCreation(pooled, System.nanoTime() - startNanos);
+
+    instanceManager.addDartCreatedInstance(webView, instanceId);
+    scheduleIdleWork();
+  }
+
+  @Override
+  public void setScrollChangedEvents(
+      @NonNull Long instanceId,
+      @NonNull Boolean enabled,
+      @NonNull Long minIntervalMilliseconds,
+      @NonNull Long minDelta) {
+    final WebViewPlatformView webView =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    webView.setScrollChangedEvents(enabled, minIntervalMilliseconds, minDelta);
+  }
+
+  @Override
+  public void prewarm(@NonNull Long poolSize) {
+    webViewPool.setTargetSize(poolSize.intValue());
+    providerPrewarmPending = true;
+    scheduleIdleWork();
+  }
+
+  @NonNull
+  @Override
+  public Map<String, Long> getCreationMetrics() {
+    return webViewPool.getMetrics();
+  }
+
+  private WebViewPlatformView createWebView() {
+    // Creating a WebView loads the provider as well.
+    providerPrewarmPending = false;
     DisplayListenerProxy displayListenerProxy = new DisplayListenerProxy();
     DisplayManager displayManager =
         (DisplayManager) context.getSystemService(Context.DISPLAY_SERVICE);
     displayListenerProxy.onPreWebViewInitialization(displayManager);
 
-    final WebView webView = webViewProxy.createWebView(context, binaryMessenger, instanceManager);
+    final WebViewPlatformView webView =
+        webViewProxy.createWebView(context, binaryMessenger, instanceManager);
 
     displayListenerProxy.onPostWebViewInitialization(displayManager);
-    instanceManager.addDartCreatedInstance(webView, instanceId);
+    return webView;
+  }
+
+  // Does one unit of work, loading the WebView provider or creating one pooled WebView, each time
+  // the platform thread becomes idle, so prewarming never delays frames or a call to create.
+  private void scheduleIdleWork() {
+    if (idleWorkScheduled || context == null || !hasIdleWork()) {
+      return;
+    }
+    idleWorkScheduled = true;
+    webViewProxy.addIdleHandler(
+        () -> {
+          if (context != null && providerPrewarmPending) {
+            providerPrewarmPending = false;
+            final long startNanos = System.nanoTime();
+            webViewProxy.prewarmWebViewProvider(context);
+            webViewPool.recordPrewarm(System.nanoTime() - startNanos);
+          } else if (context != null && webViewPool.needsRefill()) {
+            webViewPool.add(createWebView());
+          }
+          idleWorkScheduled = context != null && hasIdleWork();
+          return idleWorkScheduled;
+        });
+  }
+
+  private boolean hasIdleWork() {
+    return providerPrewarmPending || webViewPool.needsRefill();
   }
 
   @Override
@@ -322,6 +526,26 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     webView.evaluateJavascript(javascriptString, result::success);
   }
 
+  @Override
+  public void evaluateJavascriptBatch(
+      @NonNull Long instanceId,
+      @NonNull List<String> scripts,
+      @NonNull GeneratedAndroidWebView.Result<List<Map<String, Object>>> result) {
+    final WebView webView = Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    webView.evaluateJavascript(
+        JavaScriptBatch.buildScript(scripts),
+        value -> {
+          final List<Map<String, Object>> results;
+          try {
+            results = JavaScriptBatch.parseResults(value, scripts.size());
+          } catch (IllegalStateException exception) {
+            result.error(exception);
+            return;
+          }
+          result.success(results);
+        });
+  }
+
   @Nullable
   @Override
   public String getTitle(@NonNull Long instanceId) {
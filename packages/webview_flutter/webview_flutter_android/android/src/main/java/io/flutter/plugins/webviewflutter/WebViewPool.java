@@ -0,0 +1,100 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.WebViewPlatformView;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A small pool of pre-initialized {@link WebViewPlatformView}s that have never been handed to Dart,
+ * along with timing metrics of {@link WebViewHostApiImpl#create}.
+ *
+ * <p>Only accessed on the platform thread.
+ */
+public class WebViewPool {
+  private final ArrayDeque<WebViewPlatformView> webViews = new ArrayDeque<>();
+  private int targetSize = 0;
+
+  private long prewarmNanos = 0;
+  private long coldCreations = 0;
+  private long coldCreationNanos = 0;
+  private long lastColdCreationNanos = 0;
+  private long pooledCreations = 0;
+  private long pooledCreationNanos = 0;
+  private long lastPooledCreationNanos = 0;
+
+  /** Sets the number of WebViews to keep ready, destroying pooled WebViews above it. */
+  public void setTargetSize(int targetSize) {
+    if (targetSize < 0) {
+      throw new IllegalArgumentException("The pool size must not be negative.");
+    }
+    this.targetSize = targetSize;
+    while (webViews.size() > targetSize) {
+      webViews.removeLast().destroy();
+    }
+  }
+
+  /** Whether fewer WebViews than the target size are pooled. */
+  public boolean needsRefill() {
+    return webViews.size() < targetSize;
+  }
+
+  /** Adds a newly created WebView to the pool. */
+  public void add(@NonNull WebViewPlatformView webView) {
+    webViews.addLast(webView);
+  }
+
+  /** Removes and returns a pooled WebView, or returns null if the pool is empty. */
+  @Nullable
+  public WebViewPlatformView acquire() {
+    return webViews.pollFirst();
+  }
+
+  /** Destroys all pooled WebViews. The target size is kept. */
+  public void clear() {
+    while (!webViews.isEmpty()) {
+      webViews.removeFirst().destroy();
+    }
+  }
+
+  void recordPrewarm(long nanos) {
+    prewarmNanos = nanos;
+  }
+
+  void recordCreation(boolean pooled, long nanos) {
+    if (pooled) {
+      pooledCreations++;
+      pooledCreationNanos += nanos;
+      lastPooledCreationNanos = nanos;
+    } else {
+      coldCreations++;
+      coldCreationNanos += nanos;
+      lastColdCreationNanos = nanos;
+    }
+  }
+
+  /** Returns the pool size and the creation timings, in microseconds. */
+  @NonNull
+  public Map<String, Long> getMetrics() {
+    final Map<String, Long> metrics = new HashMap<>();
+    metrics.put("pooledWebViews", (long) webViews.size());
+    metrics.put("prewarmMicros", prewarmNanos / 1000);
+    metrics.put("coldCreations", coldCreations);
+    metrics.put("lastColdCreationMicros", lastColdCreationNanos / 1000);
+    metrics.put(
+        "averageColdCreationMicros",
+        coldCreations == 0 ? 0 : coldCreationNanos / coldCreations / 1000);
+    metrics.put("pooledCreations", pooledCreations);
+    metrics.put("lastPooledCreationMicros", lastPooledCreationNanos / 1000);
+    metrics.put(
+        "averagePooledCreationMicros",
+        pooledCreations == 0 ? 0 : pooledCreationNanos / pooledCreations / 1000);
+    return metrics;
+  }
+}
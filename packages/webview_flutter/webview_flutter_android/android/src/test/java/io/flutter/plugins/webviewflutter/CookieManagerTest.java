@@ -5,7 +5,11 @@
 package io.flutter.plugins.webviewflutter;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -15,6 +19,11 @@ import android.webkit.ValueCallback;
 import android.webkit.WebView;
 import androidx.annotation.NonNull;
 import io.flutter.plugin.common.BinaryMessenger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -129,4 +138,87 @@ public class CookieManagerTest {
 
     verify(mockCookieManager).setAcceptThirdPartyCookies(mockWebView, accept);
   }
+
+  @Test
+  public void setCookies() {
+    final long instanceIdentifier = 0;
+    instanceManager.addDartCreatedInstance(mockCookieManager, instanceIdentifier);
+
+    final CookieManagerHostApiImpl hostApi =
+        new CookieManagerHostApiImpl(
+            mockBinaryMessenger,
+            instanceManager,
+            new CookieManagerHostApiImpl.CookieManagerProxy(),
+            (int version) -> version <= Build.VERSION_CODES.LOLLIPOP);
+
+    final Map<String, List<String>> cookies = new HashMap<>();
+    cookies.put("https://flutter.dev", Arrays.asList("a=b", "c=d"));
+    hostApi.setCookies(instanceIdentifier, cookies);
+
+    verify(mockCookieManager).setCookie("https://flutter.dev", "a=b");
+    verify(mockCookieManager).setCookie("https://flutter.dev", "c=d");
+    verify(mockCookieManager).flush();
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  @Test
+  public void setCookiesAndFlush() {
+    final long instanceIdentifier = 0;
+    instanceManager.addDartCreatedInstance(mockCookieManager, instanceIdentifier);
+
+    final CookieManagerHostApiImpl hostApi =
+        new CookieManagerHostApiImpl(
+            mockBinaryMessenger,
+            instanceManager,
+            new CookieManagerHostApiImpl.CookieManagerProxy(),
+            (int version) -> version <= Build.VERSION_CODES.LOLLIPOP);
+
+    final Boolean[] successResult = new Boolean[1];
+    final Map<String, List<String>> cookies = new HashMap<>();
+    cookies.put("https://flutter.dev", Arrays.asList("a=b", "c=d"));
+    hostApi.setCookiesAndFlush(
+        instanceIdentifier,
+        cookies,
+        new GeneratedAndroidWebView.Result<Boolean>() {
+          @Override
+          public void success(Boolean result) {
+            successResult[0] = result;
+          }
+
+          @Override
+          public void error(@NonNull Throwable error) {}
+        });
+
+    final ArgumentCaptor<ValueCallback> firstCallbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    final ArgumentCaptor<ValueCallback> secondCallbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockCookieManager)
+        .setCookie(eq("https://flutter.dev"), eq("a=b"), firstCallbackCaptor.capture());
+    verify(mockCookieManager)
+        .setCookie(eq("https://flutter.dev"), eq("c=d"), secondCallbackCaptor.capture());
+
+    firstCallbackCaptor.getValue().onReceiveValue(true);
+    verify(mockCookieManager, never()).flush();
+    assertNull(successResult[0]);
+
+    secondCallbackCaptor.getValue().onReceiveValue(false);
+    verify(mockCookieManager).flush();
+    assertFalse(successResult[0]);
+  }
+
+  @Test
+  public void getCookies() {
+    final long instanceIdentifier = 0;
+    instanceManager.addDartCreatedInstance(mockCookieManager, instanceIdentifier);
+    when(mockCookieManager.getCookie("https://flutter.dev")).thenReturn("a=b; c=d");
+
+    final CookieManagerHostApiImpl hostApi =
+        new CookieManagerHostApiImpl(mockBinaryMessenger, instanceManager);
+
+    assertEquals(
+        Arrays.asList("a=b", "c=d"), hostApi.getCookies(instanceIdentifier, "https://flutter.dev"));
+    assertEquals(
+        Collections.emptyList(), hostApi.getCookies(instanceIdentifier, "https://dart.dev"));
+  }
 }
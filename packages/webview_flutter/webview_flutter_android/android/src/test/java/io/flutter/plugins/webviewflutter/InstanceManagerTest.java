@@ -9,7 +9,14 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
-
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import android.os.Handler;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.Test;
 
 public class InstanceManagerTest {
@@ -137,4 +144,75 @@ public class InstanceManagerTest {
     assertEquals(instanceManager.getIdentifierForStrongReference(instance), (Long) identifier);
     assertTrue(instanceManager.containsInstance(instance));
   }
+
+  @Test
+  public void stopFinalizationListenerEndsFinalizerThread() throws InterruptedException {
+    final InstanceManager instanceManager = InstanceManager.create(identifier -> {});
+    final Thread finalizerThread = instanceManager.getFinalizerThread();
+    assertTrue(finalizerThread.isAlive());
+
+    instanceManager.stopFinalizationListener();
+    finalizerThread.join(1000);
+
+    assertFalse(finalizerThread.isAlive());
+  }
+
+  @Test
+  public void getInstanceCounts() {
+    final InstanceManager instanceManager = InstanceManager.create(identifier -> {});
+
+    final Object object = new Object();
+    final String string = "instance";
+    instanceManager.addDartCreatedInstance(object, 0);
+    instanceManager.addDartCreatedInstance(object, 1);
+    instanceManager.addDartCreatedInstance(string, 2);
+
+    final Map<String, Long> counts = instanceManager.getInstanceCounts();
+    assertEquals(2, counts.size());
+    assertEquals((Long) 2L, counts.get(Object.class.getName()));
+    assertEquals((Long) 1L, counts.get(String.class.getName()));
+
+    instanceManager.stopFinalizationListener();
+  }
+
+  @Test
+  public void finalizationListenerIsCalledForGarbageCollectedInstance()
+      throws InterruptedException {
+    final Handler mockHandler = mock(Handler.class);
+    when(mockHandler.post(any()))
+        .thenAnswer(
+            invocation -> {
+              ((Runnable) invocation.getArgument(0)).run();
+              return true;
+            });
+
+    final CountDownLatch latch = new CountDownLatch(1);
+    final long[] finalizedIdentifier = {-1};
+    final InstanceManager instanceManager =
+        InstanceManager.create(
+            identifier -> {
+              finalizedIdentifier[0] = identifier;
+              latch.countDown();
+            },
+            mockHandler);
+
+    Object object = new Object();
+    instanceManager.addDartCreatedInstance(object, 0);
+    instanceManager.remove(0);
+
+    // To allow for object to be garbage collected.
+    //noinspection UnusedAssignment
+    object = null;
+
+    for (int i = 0; i < 10 && latch.getCount() > 0; i++) {
+      Runtime.getRuntime().gc();
+      latch.await(100, TimeUnit.MILLISECONDS);
+    }
+
+    assertEquals(0, latch.getCount());
+    assertEquals(0, finalizedIdentifier[0]);
+    assertNull(instanceManager.getInstance(0));
+
+    instanceManager.stopFinalizationListener();
+  }
 }
@@ -0,0 +1,65 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+public class JavaScriptBatchTest {
+  @Test
+  public void buildScriptQuotesEachScript() {
+    final String script =
+        JavaScriptBatch.buildScript(Arrays.asList("document.title", "a = \"x\";\nb"));
+
+    assertTrue(script.startsWith("(function(){"));
+    assertTrue(script.contains("(0,eval)(\"document.title\")"));
+    assertTrue(script.contains("(0,eval)(\"a = \\\"x\\\";\\nb\")"));
+    // Errors of JSON.stringify are caught separately from errors of the script.
+    assertTrue(script.contains("catch(e){r.push([true,null,String(e)]);}}"));
+    assertTrue(script.endsWith("return r;})()"));
+  }
+
+  @Test
+  public void parseResults() {
+    final List<Map<String, Object>> results =
+        JavaScriptBatch.parseResults("[[true,\"\\\"t\\\"\"],[true,null],[false,\"Error: e\"]]", 3);
+
+    assertEquals(true, results.get(0).get("succeeded"));
+    assertEquals("\"t\"", results.get(0).get("result"));
+    assertEquals("null", results.get(1).get("result"));
+    assertEquals(false, results.get(2).get("succeeded"));
+    assertEquals("Error: e", results.get(2).get("error"));
+  }
+
+  @Test
+  public void parseResultsReportsUnserializableResults() {
+    final List<Map<String, Object>> results =
+        JavaScriptBatch.parseResults(
+            "[[true,null,\"TypeError: cyclic object value\"],[true,\"1\"]]", 2);
+
+    assertEquals(true, results.get(0).get("succeeded"));
+    assertEquals(true, results.get(0).get("unserializable"));
+    assertFalse(results.get(0).containsKey("result"));
+    assertEquals("TypeError: cyclic object value", results.get(0).get("error"));
+    assertEquals(false, results.get(1).get("unserializable"));
+    assertEquals("1", results.get(1).get("result"));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void parseResultsRejectsMissingResults() {
+    JavaScriptBatch.parseResults("[[true,\"1\"]]", 2);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void parseResultsRejectsBatchesThatDidNotRun() {
+    JavaScriptBatch.parseResults("null", 1);
+  }
+}
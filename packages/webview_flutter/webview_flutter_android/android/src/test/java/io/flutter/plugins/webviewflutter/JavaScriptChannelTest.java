@@ -4,17 +4,28 @@
 
 package io.flutter.plugins.webviewflutter;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import android.os.Handler;
 import android.os.Looper;
 import io.flutter.plugins.webviewflutter.JavaScriptChannelHostApiImpl.JavaScriptChannelCreator;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -24,6 +35,8 @@ public class JavaScriptChannelTest {
 
   @Mock public JavaScriptChannelFlutterApiImpl mockFlutterApi;
 
+  @Mock public Handler mockHandler;
+
   InstanceManager instanceManager;
   JavaScriptChannelHostApiImpl hostApiImpl;
   JavaScriptChannel javaScriptChannel;
@@ -65,4 +78,89 @@ public class JavaScriptChannelTest {
     javaScriptChannel.postMessage("A message post.");
     verify(mockFlutterApi).postMessage(eq(javaScriptChannel), eq("A message post."), any());
   }
+
+  @Test
+  public void postBinaryMessage() {
+    javaScriptChannel.postBinaryMessage("\u0000\u00ff");
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<List<byte[]>> messagesCaptor = ArgumentCaptor.forClass(List.class);
+    verify(mockFlutterApi)
+        .postBinaryMessages(eq(javaScriptChannel), messagesCaptor.capture(), any());
+    assertArrayEquals(new byte[] {0, (byte) 0xff}, messagesCaptor.getValue().get(0));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void postBinaryMessageRejectsWideCharacters() {
+    javaScriptChannel.postBinaryMessage("\u0100");
+  }
+
+  @Test
+  public void batchingFlushesAfterInterval() {
+    final JavaScriptChannel channel = new JavaScriptChannel(mockFlutterApi, "name", mockHandler);
+    channel.setBatching(true, 10, 16);
+
+    channel.postMessage("a");
+    channel.postMessage("b");
+
+    final ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockHandler).postDelayed(flushCaptor.capture(), eq(16L));
+    verify(mockFlutterApi, never()).postMessage(any(), any(), any());
+
+    flushCaptor.getValue().run();
+    verify(mockFlutterApi).postMessages(eq(channel), eq(Arrays.asList("a", "b")), any());
+  }
+
+  @Test
+  public void batchingFlushesWhenMaxBatchSizeIsReached() {
+    final JavaScriptChannel channel = new JavaScriptChannel(mockFlutterApi, "name", mockHandler);
+    channel.setBatching(true, 2, 1000);
+
+    channel.postMessage("a");
+    verify(mockHandler, never()).post(any());
+    channel.postMessage("b");
+
+    final ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockHandler).post(flushCaptor.capture());
+    flushCaptor.getValue().run();
+    verify(mockFlutterApi).postMessages(eq(channel), eq(Arrays.asList("a", "b")), any());
+
+    final Map<String, Long> metrics = channel.getQueueMetrics();
+    assertEquals(0L, (long) metrics.get("queueDepth"));
+    assertEquals(2L, (long) metrics.get("peakQueueDepth"));
+    assertEquals(2L, (long) metrics.get("batchedMessages"));
+    assertEquals(1L, (long) metrics.get("batches"));
+  }
+
+  @Test
+  public void batchingPreservesOrderOfTextAndBinaryMessages() {
+    final JavaScriptChannel channel = new JavaScriptChannel(mockFlutterApi, "name", mockHandler);
+    channel.setBatching(true, 10, 16);
+
+    channel.postMessage("a");
+    channel.postBinaryMessage("\u0001");
+    channel.postMessage("b");
+
+    final ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockHandler).postDelayed(flushCaptor.capture(), anyLong());
+    flushCaptor.getValue().run();
+
+    final InOrder inOrder = inOrder(mockFlutterApi);
+    inOrder
+        .verify(mockFlutterApi)
+        .postMessages(eq(channel), eq(Collections.singletonList("a")), any());
+    inOrder.verify(mockFlutterApi).postBinaryMessages(eq(channel), any(), any());
+    inOrder
+        .verify(mockFlutterApi)
+        .postMessages(eq(channel), eq(Collections.singletonList("b")), any());
+  }
+
+  @Test
+  public void setBatchingHostApi() {
+    hostApiImpl.setBatching(0L, true, 5L, 16L);
+    javaScriptChannel.postMessage("queued");
+
+    verify(mockFlutterApi, never()).postMessage(any(), any(), any());
+    assertEquals(1L, (long) hostApiImpl.getQueueMetrics(0L).get("queueDepth"));
+  }
 }
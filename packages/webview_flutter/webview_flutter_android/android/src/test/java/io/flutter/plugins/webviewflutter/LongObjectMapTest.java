@@ -0,0 +1,80 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public class LongObjectMapTest {
+  @Test
+  public void putAndGet() {
+    final LongObjectMap<String> map = new LongObjectMap<>();
+
+    assertNull(map.put(0, "zero"));
+    assertNull(map.put(65536, "host"));
+    assertEquals("zero", map.put(0, "replaced"));
+
+    assertEquals(2, map.size());
+    assertEquals("replaced", map.get(0));
+    assertEquals("host", map.get(65536));
+    assertTrue(map.containsKey(65536));
+    assertFalse(map.containsKey(1));
+    assertNull(map.get(1));
+  }
+
+  @Test
+  public void remove() {
+    final LongObjectMap<String> map = new LongObjectMap<>();
+    map.put(1, "one");
+
+    assertEquals("one", map.remove(1));
+    assertNull(map.remove(1));
+    assertEquals(0, map.size());
+    assertFalse(map.containsKey(1));
+  }
+
+  @Test
+  public void keepsAllEntriesWhileGrowingAndRemoving() {
+    final LongObjectMap<Long> map = new LongObjectMap<>();
+    final Map<Long, Long> expected = new HashMap<>();
+
+    for (long key = 0; key < 1000; key++) {
+      map.put(key * 31, key);
+      expected.put(key * 31, key);
+    }
+    for (long key = 0; key < 1000; key += 3) {
+      assertEquals((Long) key, map.remove(key * 31));
+      expected.remove(key * 31);
+    }
+
+    assertEquals(expected.size(), map.size());
+    for (long key = 0; key < 1000; key++) {
+      assertEquals(expected.get(key * 31), map.get(key * 31));
+    }
+
+    final Map<Long, Long> visited = new HashMap<>();
+    map.forEach(visited::put);
+    assertEquals(expected, visited);
+  }
+
+  @Test
+  public void clear() {
+    final LongObjectMap<String> map = new LongObjectMap<>();
+    map.put(1, "one");
+    map.put(2, "two");
+
+    map.clear();
+
+    assertEquals(0, map.size());
+    assertNull(map.get(1));
+    assertNull(map.put(2, "two"));
+  }
+}
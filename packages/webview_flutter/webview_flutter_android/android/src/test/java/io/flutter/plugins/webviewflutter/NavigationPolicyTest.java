@@ -0,0 +1,108 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+public class NavigationPolicyTest {
+  @Test
+  public void hostSuffixMatchesHostAndSubdomains() {
+    final NavigationPolicy policy =
+        NavigationPolicy.compile(
+            Collections.singletonList(rule("hostSuffix", "example.com", "deny", false)), null);
+
+    assertTrue(evaluate(policy, "https://example.com/").deny);
+    assertTrue(evaluate(policy, "https://WWW.Example.com/a").deny);
+    assertNull(evaluate(policy, "https://badexample.com/"));
+    assertNull(evaluate(policy, "https://example.com.evil.org/"));
+  }
+
+  @Test
+  public void schemeRules() {
+    final NavigationPolicy policy =
+        NavigationPolicy.compile(
+            Collections.singletonList(rule("scheme", "intent", "deny", true)), "allow");
+
+    final NavigationPolicy.Decision denied = evaluate(policy, "intent://scan/#Intent;end");
+    assertTrue(denied.deny);
+    assertTrue(denied.report);
+
+    final NavigationPolicy.Decision allowed = evaluate(policy, "https://flutter.dev");
+    assertFalse(allowed.deny);
+    assertFalse(allowed.report);
+  }
+
+  @Test
+  public void firstMatchingRuleWins() {
+    final NavigationPolicy policy =
+        NavigationPolicy.compile(
+            Arrays.asList(
+                rule("regex", "/login", "allow", true),
+                rule("hostSuffix", "example.com", "deny", false),
+                rule("regex", "\\.pdf$", "allow", false)),
+            null);
+
+    final NavigationPolicy.Decision login = evaluate(policy, "https://example.com/login");
+    assertFalse(login.deny);
+    assertTrue(login.report);
+    assertTrue(evaluate(policy, "https://example.com/file.pdf").deny);
+    assertFalse(evaluate(policy, "https://flutter.dev/file.pdf").deny);
+  }
+
+  @Test
+  public void unmatchedUrlsUseTheDefaultAction() {
+    final List<Map<String, Object>> rules = new ArrayList<>();
+
+    assertTrue(evaluate(NavigationPolicy.compile(rules, "deny"), "https://flutter.dev").deny);
+    assertNull(evaluate(NavigationPolicy.compile(rules, null), "https://flutter.dev"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void compileRejectsUnknownTypes() {
+    NavigationPolicy.compile(
+        Collections.singletonList(rule("path", "/home", "deny", false)), null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void compileRejectsUnknownActions() {
+    NavigationPolicy.compile(
+        Collections.singletonList(rule("scheme", "https", "block", false)), null);
+  }
+
+  private static NavigationPolicy.Decision evaluate(NavigationPolicy policy, String url) {
+    final int schemeEnd = url.indexOf(':');
+    final String scheme = url.substring(0, schemeEnd);
+    String host = null;
+    if (url.startsWith("//", schemeEnd + 1)) {
+      final int hostStart = schemeEnd + 3;
+      int hostEnd = hostStart;
+      while (hostEnd < url.length() && "/?#".indexOf(url.charAt(hostEnd)) < 0) {
+        hostEnd++;
+      }
+      host = url.substring(hostStart, hostEnd);
+    }
+    return policy.evaluate(url, scheme, host);
+  }
+
+  private static Map<String, Object> rule(
+      String type, String pattern, String action, boolean report) {
+    final Map<String, Object> rule = new HashMap<>();
+    rule.put("type", type);
+    rule.put("pattern", pattern);
+    rule.put("action", action);
+    rule.put("report", report);
+    return rule;
+  }
+}
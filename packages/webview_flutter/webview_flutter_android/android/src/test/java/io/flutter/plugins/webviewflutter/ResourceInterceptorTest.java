@@ -0,0 +1,239 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+import android.content.res.AssetManager;
+import android.webkit.WebView;
+import io.flutter.embedding.engine.plugins.FlutterPlugin;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class ResourceInterceptorTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Mock public AssetManager mockAssetManager;
+
+  @Mock public FlutterPlugin.FlutterAssets mockFlutterAssets;
+
+  @Mock public WebView mockWebView;
+
+  ResourceInterceptor interceptor;
+
+  @Before
+  public void setUp() throws IOException {
+    final FlutterAssetManager flutterAssetManager =
+        new FlutterAssetManager.PluginBindingFlutterAssetManager(
+            mockAssetManager, mockFlutterAssets);
+    interceptor =
+        new ResourceInterceptor(
+            flutterAssetManager,
+            temporaryFolder.newFolder(),
+            Collections.singletonList("https://cdn\\.example\\.com/static/.*"),
+            "https://appassets.local/",
+            1024,
+            4096);
+  }
+
+  @Test
+  public void matchesUrlPatterns() {
+    assertTrue(interceptor.matchesUrlPatterns("https://cdn.example.com/static/app.js"));
+    assertFalse(interceptor.matchesUrlPatterns("https://cdn.example.com/api/user"));
+    assertFalse(interceptor.matchesUrlPatterns("https://example.com/static/app.js"));
+    // Patterns are unanchored.
+    assertTrue(
+        interceptor.matchesUrlPatterns("https://a.test/?u=https://cdn.example.com/static/a"));
+  }
+
+  @Test
+  public void loadIgnoresNonGetAndUnmatchedRequests() {
+    assertNull(
+        interceptor.load(
+            mockWebView, "https://cdn.example.com/static/app.js", "POST", new HashMap<>()));
+    assertNull(interceptor.load(mockWebView, "https://example.com/", "GET", new HashMap<>()));
+  }
+
+  @Test
+  public void loadServesFlutterAssetsAndRecordsMetrics() throws IOException {
+    final byte[] html = "<html></html>".getBytes("UTF-8");
+    when(mockFlutterAssets.getAssetFilePathByName("web/index.html"))
+        .thenReturn("flutter_assets/web/index.html");
+    // Compressed assets can't be memory-mapped.
+    when(mockAssetManager.openFd("flutter_assets/web/index.html"))
+        .thenThrow(new IOException("compressed"));
+    when(mockAssetManager.open("flutter_assets/web/index.html"))
+        .thenAnswer(invocation -> new ByteArrayInputStream(html));
+
+    final ResourceInterceptor.Resource resource =
+        interceptor.load(mockWebView, "https://appassets.local/web/index.html?v=2", "GET", null);
+    interceptor.load(mockWebView, "https://appassets.local/web/index.html", "GET", null);
+
+    assertNotNull(resource);
+    assertEquals("text/html", resource.mimeType);
+    assertArrayEquals(html, resource.data);
+    final Map<String, Long> metrics = interceptor.getMetrics(mockWebView);
+    assertEquals(2L, (long) metrics.get("assetHits"));
+    assertEquals(2L * html.length, (long) metrics.get("bytesServed"));
+    assertEquals(0L, (long) metrics.get("misses"));
+  }
+
+  @Test
+  public void loadReturnsNullForMissingAssets() throws IOException {
+    when(mockFlutterAssets.getAssetFilePathByName("missing.js"))
+        .thenReturn("flutter_assets/missing.js");
+    when(mockAssetManager.openFd("flutter_assets/missing.js"))
+        .thenThrow(new IOException("missing"));
+    when(mockAssetManager.open("flutter_assets/missing.js")).thenThrow(new IOException("missing"));
+
+    assertNull(interceptor.load(mockWebView, "https://appassets.local/missing.js", "GET", null));
+  }
+
+  @Test
+  public void memoryCacheEvictsLeastRecentlyUsedEntries() {
+    final ResourceInterceptor.MemoryCache cache = new ResourceInterceptor.MemoryCache(10);
+    cache.put("a", resourceOfSize(4));
+    cache.put("b", resourceOfSize(4));
+    // Marks "a" as the most recently used entry.
+    cache.get("a");
+    cache.put("c", resourceOfSize(4));
+
+    assertNotNull(cache.get("a"));
+    assertNull(cache.get("b"));
+    assertNotNull(cache.get("c"));
+    assertEquals(8, cache.sizeBytes());
+  }
+
+  @Test
+  public void memoryCacheSkipsEntriesLargerThanTheCache() {
+    final ResourceInterceptor.MemoryCache cache = new ResourceInterceptor.MemoryCache(10);
+    cache.put("a", resourceOfSize(11));
+
+    assertNull(cache.get("a"));
+    assertEquals(0, cache.sizeBytes());
+  }
+
+  @Test
+  public void diskCacheIsSharedByInterceptorsOfTheSameDirectory() throws IOException {
+    final File directory = temporaryFolder.newFolder();
+
+    final ResourceInterceptor.DiskCache first =
+        ResourceInterceptor.DiskCache.forDirectory(directory, 100);
+    final ResourceInterceptor.DiskCache second =
+        ResourceInterceptor.DiskCache.forDirectory(new File(directory.getPath()), 50);
+
+    assertSame(first, second);
+    assertEquals(100, first.maxBytes());
+  }
+
+  @Test
+  public void diskCacheEntriesAreReadBack() throws IOException {
+    final ResourceInterceptor.DiskCache cache =
+        ResourceInterceptor.DiskCache.forDirectory(temporaryFolder.newFolder(), 4096);
+
+    cache.write("https://cdn.example.com/static/a.js", resourceOfSize(8));
+
+    final ResourceInterceptor.Resource resource =
+        cache.read("https://cdn.example.com/static/a.js");
+    assertNotNull(resource);
+    assertArrayEquals(resourceOfSize(8).data, resource.data);
+    assertNull(cache.read("https://cdn.example.com/static/b.js"));
+  }
+
+  @Test
+  public void diskCacheTrimKeepsTemporaryFilesOfUnfinishedWrites() throws IOException {
+    final File directory = temporaryFolder.newFolder();
+    final ResourceInterceptor.DiskCache cache =
+        ResourceInterceptor.DiskCache.forDirectory(directory, 4096);
+    final File inProgress = new File(directory, "in-progress.tmp");
+    final File abandoned = new File(directory, "abandoned.tmp");
+    assertTrue(inProgress.createNewFile());
+    assertTrue(abandoned.createNewFile());
+    assertTrue(
+        abandoned.setLastModified(
+            System.currentTimeMillis()
+                - 2 * ResourceInterceptor.DiskCache.ABANDONED_TEMPORARY_FILE_AGE_MILLIS));
+
+    cache.trim();
+
+    assertTrue(inProgress.exists());
+    assertFalse(abandoned.exists());
+  }
+
+  @Test
+  public void isCacheableVary() {
+    assertTrue(ResourceInterceptor.isCacheableVary(null));
+    assertTrue(ResourceInterceptor.isCacheableVary("Accept-Encoding"));
+    assertFalse(ResourceInterceptor.isCacheableVary("Accept-Encoding, Cookie"));
+    assertFalse(ResourceInterceptor.isCacheableVary("*"));
+  }
+
+  @Test
+  public void isShareable() {
+    assertTrue(ResourceInterceptor.isShareable(null, false));
+    assertTrue(ResourceInterceptor.isShareable("max-age=60", false));
+    assertFalse(ResourceInterceptor.isShareable("private, max-age=60", false));
+    assertFalse(ResourceInterceptor.isShareable("max-age=60", true));
+    assertTrue(ResourceInterceptor.isShareable("public, max-age=60", true));
+    assertFalse(ResourceInterceptor.isShareable("public, private", true));
+  }
+
+  @Test
+  public void parseMaxAgeMillis() {
+    assertEquals(60000, ResourceInterceptor.parseMaxAgeMillis("public, max-age=60"));
+    assertEquals(0, ResourceInterceptor.parseMaxAgeMillis("max-age=60, no-cache"));
+    assertEquals(0, ResourceInterceptor.parseMaxAgeMillis("no-store"));
+    assertEquals(0, ResourceInterceptor.parseMaxAgeMillis("max-age=abc"));
+    assertEquals(0, ResourceInterceptor.parseMaxAgeMillis(null));
+  }
+
+  @Test
+  public void parseContentType() {
+    assertArrayEquals(
+        new String[] {"text/html", "utf-8"},
+        ResourceInterceptor.parseContentType("text/html; charset=UTF-8"));
+    assertArrayEquals(
+        new String[] {"application/json", null},
+        ResourceInterceptor.parseContentType("application/json"));
+    assertArrayEquals(
+        new String[] {"application/octet-stream", null},
+        ResourceInterceptor.parseContentType(null));
+  }
+
+  @Test
+  public void guessMimeType() {
+    assertEquals("text/javascript", ResourceInterceptor.guessMimeType("main.dart.js"));
+    assertEquals("application/wasm", ResourceInterceptor.guessMimeType("canvaskit.wasm"));
+    assertEquals("application/octet-stream", ResourceInterceptor.guessMimeType("LICENSE"));
+  }
+
+  private static ResourceInterceptor.Resource resourceOfSize(int size) {
+    final byte[] data = new byte[size];
+    Arrays.fill(data, (byte) 1);
+    return new ResourceInterceptor.Resource(
+        "application/octet-stream", null, 200, "OK", new HashMap<>(), data, null, null, 0);
+  }
+}
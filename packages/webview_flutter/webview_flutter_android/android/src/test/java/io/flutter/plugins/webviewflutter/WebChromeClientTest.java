@@ -10,6 +10,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -77,6 +78,57 @@ public class WebChromeClientTest {
     verify(mockFlutterApi).onProgressChanged(eq(webChromeClient), eq(mockWebView), eq(23L), any());
   }
 
+  @Test
+  public void onProgressChangedIsThrottledByMinDelta() {
+    hostApiImpl.setProgressThrottle(2L, 0L, 10L);
+
+    webChromeClient.onProgressChanged(mockWebView, 5);
+    webChromeClient.onProgressChanged(mockWebView, 10);
+    webChromeClient.onProgressChanged(mockWebView, 15);
+    webChromeClient.onProgressChanged(mockWebView, 100);
+
+    verify(mockFlutterApi).onProgressChanged(eq(webChromeClient), eq(mockWebView), eq(5L), any());
+    verify(mockFlutterApi, never())
+        .onProgressChanged(eq(webChromeClient), eq(mockWebView), eq(10L), any());
+    verify(mockFlutterApi).onProgressChanged(eq(webChromeClient), eq(mockWebView), eq(15L), any());
+    verify(mockFlutterApi)
+        .onProgressChanged(eq(webChromeClient), eq(mockWebView), eq(100L), any());
+  }
+
+  @Test
+  public void onProgressChangedReportsLastThrottledValueOnceSettled() {
+    hostApiImpl.setProgressThrottle(2L, 0L, 10L);
+
+    webChromeClient.onProgressChanged(mockWebView, 5);
+    webChromeClient.onProgressChanged(mockWebView, 8);
+    webChromeClient.onProgressChanged(mockWebView, 9);
+
+    verify(mockFlutterApi, never())
+        .onProgressChanged(eq(webChromeClient), eq(mockWebView), eq(9L), any());
+    final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockWebView, times(2))
+        .postDelayed(runnableCaptor.capture(), eq(WebChromeClientImpl.PROGRESS_SETTLE_MILLIS));
+    // The value 8 was superseded before it was reported.
+    verify(mockWebView).removeCallbacks(runnableCaptor.getValue());
+
+    runnableCaptor.getValue().run();
+
+    verify(mockFlutterApi, never())
+        .onProgressChanged(eq(webChromeClient), eq(mockWebView), eq(8L), any());
+    verify(mockFlutterApi).onProgressChanged(eq(webChromeClient), eq(mockWebView), eq(9L), any());
+  }
+
+  @Test
+  public void onProgressChangedReportsRestartedLoads() {
+    hostApiImpl.setProgressThrottle(2L, 0L, 50L);
+
+    webChromeClient.onProgressChanged(mockWebView, 30);
+    webChromeClient.onProgressChanged(mockWebView, 10);
+
+    verify(mockFlutterApi).onProgressChanged(eq(webChromeClient), eq(mockWebView), eq(30L), any());
+    verify(mockFlutterApi).onProgressChanged(eq(webChromeClient), eq(mockWebView), eq(10L), any());
+  }
+
   @Test
   public void onCreateWindow() {
     final WebView mockOnCreateWindowWebView = mock(WebView.class);
@@ -5,9 +5,12 @@
 package io.flutter.plugins.webviewflutter;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -18,7 +21,9 @@ import android.webkit.WebViewClient;
 import androidx.annotation.NonNull;
 import io.flutter.plugins.webviewflutter.WebViewClientHostApiImpl.WebViewClientCompatImpl;
 import io.flutter.plugins.webviewflutter.WebViewClientHostApiImpl.WebViewClientCreator;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -92,6 +97,56 @@ public class WebViewClientTest {
         .urlLoading(eq(webViewClient), eq(mockWebView), eq("https://www.google.com"), any());
   }
 
+  @Test
+  public void reportedAllowedNavigationIsNotPassedToRequestLoading() {
+    hostApiImpl.setNavigationPolicy(
+        1L, Collections.singletonList(rule("allow", "example.com")), "deny");
+
+    final WebResourceRequest request = mockRequest("https", "www.example.com");
+    final boolean overridden = webViewClient.shouldOverrideUrlLoading(mockWebView, request);
+
+    assertFalse(overridden);
+    verify(mockFlutterApi)
+        .onNavigationReported(
+            eq(webViewClient), eq(mockWebView), eq("https://www.example.com"), eq(true), any());
+    verify(mockFlutterApi, never()).requestLoading(any(), any(), any(), any());
+  }
+
+  @Test
+  public void reportedDeniedNavigationIsNotPassedToRequestLoading() {
+    hostApiImpl.setNavigationPolicy(
+        1L, Collections.singletonList(rule("deny", "example.com")), "allow");
+
+    final WebResourceRequest request = mockRequest("https", "www.example.com");
+    final boolean overridden = webViewClient.shouldOverrideUrlLoading(mockWebView, request);
+
+    assertTrue(overridden);
+    verify(mockFlutterApi)
+        .onNavigationReported(
+            eq(webViewClient), eq(mockWebView), eq("https://www.example.com"), eq(false), any());
+    verify(mockFlutterApi, never()).requestLoading(any(), any(), any(), any());
+  }
+
+  private static Map<String, Object> rule(String action, String hostSuffix) {
+    final Map<String, Object> rule = new HashMap<>();
+    rule.put("type", "hostSuffix");
+    rule.put("pattern", hostSuffix);
+    rule.put("action", action);
+    rule.put("report", true);
+    return rule;
+  }
+
+  private static WebResourceRequest mockRequest(String scheme, String host) {
+    final Uri mockUri = mock(Uri.class);
+    when(mockUri.toString()).thenReturn(scheme + "://" + host);
+    when(mockUri.getScheme()).thenReturn(scheme);
+    when(mockUri.getHost()).thenReturn(host);
+
+    final WebResourceRequest mockRequest = mock(WebResourceRequest.class);
+    when(mockRequest.getUrl()).thenReturn(mockUri);
+    return mockRequest;
+  }
+
   @Test
   public void convertWebResourceRequestWithNullHeaders() {
     final Uri mockUri = mock(Uri.class);
@@ -6,16 +6,23 @@ package io.flutter.plugins.webviewflutter;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 import android.content.Context;
 import android.os.Build;
+import android.os.MessageQueue;
 import android.view.View;
 import android.webkit.DownloadListener;
 import android.webkit.ValueCallback;
@@ -26,7 +33,11 @@ import io.flutter.embedding.android.FlutterView;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewFlutterApi;
 import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.WebViewPlatformView;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import org.junit.After;
 import org.junit.Before;
@@ -187,6 +198,38 @@ public class WebViewTest {
     assertEquals(successValue[0], "da result");
   }
 
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  @Test
+  public void evaluateJavascriptBatch() {
+    final List<Map<String, Object>>[] successValue = new List[1];
+    final Throwable[] errorValue = new Throwable[1];
+    testHostApiImpl.evaluateJavascriptBatch(
+        0L,
+        Arrays.asList("1 + 1", "undefinedVariable"),
+        new GeneratedAndroidWebView.Result<List<Map<String, Object>>>() {
+          @Override
+          public void success(List<Map<String, Object>> result) {
+            successValue[0] = result;
+          }
+
+          @Override
+          public void error(@NonNull Throwable error) {
+            errorValue[0] = error;
+          }
+        });
+
+    final ArgumentCaptor<ValueCallback<String>> callbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockWebView).evaluateJavascript(any(), callbackCaptor.capture());
+
+    callbackCaptor.getValue().onReceiveValue("[[true,\"2\"],[false,\"ReferenceError\"]]");
+    assertNull(errorValue[0]);
+    assertEquals(true, successValue[0].get(0).get("succeeded"));
+    assertEquals("2", successValue[0].get(0).get("result"));
+    assertEquals(false, successValue[0].get(1).get("succeeded"));
+    assertEquals("ReferenceError", successValue[0].get(1).get("error"));
+  }
+
   @Test
   public void getTitle() {
     when(mockWebView.getTitle()).thenReturn("My title");
@@ -358,4 +401,119 @@ public class WebViewTest {
 
     verify(mockFlutterView).setImportantForAutofill(View.IMPORTANT_FOR_AUTOFILL_YES);
   }
+
+  @Test
+  public void prewarmFillsPoolWhenIdle() {
+    final WebViewPlatformView pooledWebView = mock(WebViewPlatformView.class);
+    when(mockWebViewProxy.createWebView(mockContext, mockBinaryMessenger, testInstanceManager))
+        .thenReturn(pooledWebView);
+
+    testHostApiImpl.prewarm(1L);
+    // Nothing is done until the platform thread is idle.
+    verify(mockWebViewProxy, never()).prewarmWebViewProvider(any());
+
+    final ArgumentCaptor<MessageQueue.IdleHandler> idleHandlerCaptor =
+        ArgumentCaptor.forClass(MessageQueue.IdleHandler.class);
+    verify(mockWebViewProxy).addIdleHandler(idleHandlerCaptor.capture());
+    assertTrue(idleHandlerCaptor.getValue().queueIdle());
+    verify(mockWebViewProxy).prewarmWebViewProvider(mockContext);
+    assertEquals(0L, (long) testHostApiImpl.getCreationMetrics().get("pooledWebViews"));
+
+    assertFalse(idleHandlerCaptor.getValue().queueIdle());
+    assertEquals(1L, (long) testHostApiImpl.getCreationMetrics().get("pooledWebViews"));
+
+    testHostApiImpl.create(1L);
+    assertEquals(pooledWebView, testInstanceManager.getInstance(1L));
+
+    final Map<String, Long> metrics = testHostApiImpl.getCreationMetrics();
+    assertEquals(1L, (long) metrics.get("coldCreations"));
+    assertEquals(1L, (long) metrics.get("pooledCreations"));
+    assertEquals(0L, (long) metrics.get("pooledWebViews"));
+  }
+
+  @Test
+  public void setContextDestroysPooledWebViews() {
+    final WebViewPlatformView pooledWebView = mock(WebViewPlatformView.class);
+    when(mockWebViewProxy.createWebView(mockContext, mockBinaryMessenger, testInstanceManager))
+        .thenReturn(pooledWebView);
+
+    testHostApiImpl.prewarm(1L);
+    final ArgumentCaptor<MessageQueue.IdleHandler> idleHandlerCaptor =
+        ArgumentCaptor.forClass(MessageQueue.IdleHandler.class);
+    verify(mockWebViewProxy).addIdleHandler(idleHandlerCaptor.capture());
+    // Loads the provider, then creates the pooled WebView.
+    idleHandlerCaptor.getValue().queueIdle();
+    idleHandlerCaptor.getValue().queueIdle();
+
+    testHostApiImpl.setContext(mock(Context.class));
+    verify(pooledWebView).destroy();
+  }
+
+  @Test
+  public void prewarmWithoutContextOnlySetsPoolSize() {
+    testHostApiImpl.setContext(null);
+    testHostApiImpl.prewarm(2L);
+
+    verify(mockWebViewProxy, never()).prewarmWebViewProvider(any());
+    verify(mockWebViewProxy, never()).addIdleHandler(any());
+  }
+
+  @Test
+  public void onScrollChanged() {
+    final WebViewPlatformView webView =
+        new WebViewPlatformView(mockContext, mockBinaryMessenger, testInstanceManager);
+    final WebViewFlutterApiImpl mockFlutterApi = mock(WebViewFlutterApiImpl.class);
+    webView.setApi(mockFlutterApi);
+
+    webView.onScrollChanged(0, 10, 0, 0);
+    verify(mockFlutterApi, never()).onScrollChanged(any(), any(), any(), any(), any(), any());
+
+    webView.setScrollChangedEvents(true, 0, 20);
+    webView.onScrollChanged(0, 10, 0, 0);
+    verify(mockFlutterApi, never()).onScrollChanged(any(), any(), any(), any(), any(), any());
+
+    webView.onScrollChanged(0, 25, 0, 10);
+    verify(mockFlutterApi).onScrollChanged(eq(webView), eq(0L), eq(25L), eq(0L), eq(0L), any());
+  }
+
+  @Test
+  public void onScrollChangedReportsLastPositionWithinMinDelta() {
+    // Constructed as a mock so that the delayed report can be captured and run.
+    final WebViewPlatformView webView =
+        mock(
+            WebViewPlatformView.class,
+            withSettings()
+                .useConstructor(mockContext, mockBinaryMessenger, testInstanceManager)
+                .defaultAnswer(CALLS_REAL_METHODS));
+    final List<Runnable> delayedRunnables = new ArrayList<>();
+    doAnswer(invocation -> delayedRunnables.add(invocation.getArgument(0)))
+        .when(webView)
+        .postDelayed(any(), anyLong());
+    final WebViewFlutterApiImpl mockFlutterApi = mock(WebViewFlutterApiImpl.class);
+    webView.setApi(mockFlutterApi);
+
+    webView.setScrollChangedEvents(true, 0, 20);
+    webView.onScrollChanged(0, 25, 0, 0);
+    // The scroll ends closer than minDelta to the reported position.
+    webView.onScrollChanged(0, 30, 0, 25);
+
+    verify(mockFlutterApi).onScrollChanged(eq(webView), eq(0L), eq(25L), eq(0L), eq(0L), any());
+    verify(mockFlutterApi, never())
+        .onScrollChanged(eq(webView), eq(0L), eq(30L), any(), any(), any());
+    verify(webView).postDelayed(any(), eq(WebViewPlatformView.SCROLL_SETTLE_MILLIS));
+
+    delayedRunnables.get(0).run();
+
+    verify(mockFlutterApi).onScrollChanged(eq(webView), eq(0L), eq(30L), eq(0L), eq(25L), any());
+  }
+
+  @Test
+  public void setScrollChangedEvents() {
+    final WebViewPlatformView webView = mock(WebViewPlatformView.class);
+    testInstanceManager.addDartCreatedInstance(webView, 1L);
+
+    testHostApiImpl.setScrollChangedEvents(1L, true, 16L, 4L);
+
+    verify(webView).setScrollChangedEvents(true, 16L, 4L);
+  }
 }
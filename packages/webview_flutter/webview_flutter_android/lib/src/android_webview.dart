@@ -53,6 +53,19 @@ class JavaObject with Copyable {
     instance._api.instanceManager.removeWeakReference(instance);
   }
 
+  /// Returns the number of native instances that haven't been garbage
+  /// collected, grouped by class name.
+  ///
+  /// This is intended for debugging leaks and memory growth.
+  static Future<Map<String, int>> getInstanceCounts({
+    BinaryMessenger? binaryMessenger,
+  }) async {
+    final Map<String?, int?> counts = await InstanceManagerHostApi(
+      binaryMessenger: binaryMessenger,
+    ).getInstanceCounts();
+    return counts.cast<String, int>();
+  }
+
   @override
   JavaObject copy() {
     return JavaObject.detached();
@@ -136,6 +149,7 @@ class WebView extends JavaObject {
   /// any effect and should not be exposed publicly. More info here:
   /// https://github.com/flutter/flutter/issues/108106
   WebView({
+    this.onScrollChanged,
     @visibleForTesting super.binaryMessenger,
     @visibleForTesting super.instanceManager,
   }) : super.detached() {
@@ -148,6 +162,7 @@ class WebView extends JavaObject {
   /// create copies.
   @protected
   WebView.detached({
+    this.onScrollChanged,
     super.binaryMessenger,
     super.instanceManager,
   }) : super.detached();
@@ -156,6 +171,13 @@ class WebView extends JavaObject {
   @visibleForTesting
   static WebViewHostApiImpl api = WebViewHostApiImpl();
 
+  /// Called when the scroll position of this WebView changes.
+  ///
+  /// Changes are only reported after enabling them with
+  /// [setScrollChangedEvents].
+  final void Function(int left, int top, int oldLeft, int oldTop)?
+      onScrollChanged;
+
   /// The [WebSettings] object used to control the settings for this WebView.
   late final WebSettings settings = WebSettings(this);
 
@@ -168,6 +190,27 @@ class WebView extends JavaObject {
     return api.setWebContentsDebuggingEnabled(enabled);
   }
 
+  /// Loads the WebView provider and keeps [poolSize] WebViews ready for the
+  /// next calls to create one.
+  ///
+  /// The work is done one step at a time when the platform thread is idle, so
+  /// it doesn't delay frames. A [poolSize] of 0 only loads the provider.
+  static Future<void> prewarm({int poolSize = 1}) {
+    return api.prewarm(poolSize);
+  }
+
+  /// Returns the number of pooled WebViews and timings, in microseconds, of
+  /// [prewarm] and of creating WebViews with and without the pool.
+  ///
+  /// Contains `pooledWebViews`, `prewarmMicros`, `coldCreations`,
+  /// `lastColdCreationMicros`, `averageColdCreationMicros`,
+  /// `pooledCreations`, `lastPooledCreationMicros` and
+  /// `averagePooledCreationMicros`.
+  static Future<Map<String, int>> getCreationMetrics() async {
+    final Map<String?, int?> metrics = await api.getCreationMetrics();
+    return metrics.cast<String, int>();
+  }
+
   /// Loads the given data into this WebView using a 'data' scheme URL.
   ///
   /// Note that JavaScript's same origin policy means that script running in a
@@ -336,6 +379,25 @@ class WebView extends JavaObject {
     );
   }
 
+  /// Evaluates every script in [scripts] in order with a single call to
+  /// [evaluateJavascript] and returns one result per script.
+  ///
+  /// Each result contains a `succeeded` flag and either the `result` of the
+  /// script, encoded as JSON like the result of [evaluateJavascript], or the
+  /// `error` the script threw. A script that throws doesn't prevent the
+  /// following scripts from running. If a script succeeds but its result
+  /// can't be encoded as JSON, e.g. because it is cyclic, the result has its
+  /// `unserializable` flag set and `error` holds the encoding error instead of
+  /// a `result`.
+  ///
+  /// Scripts are run with a global `eval`, so this fails on pages whose
+  /// Content Security Policy doesn't allow `eval`.
+  Future<List<Map<String, Object?>>> evaluateJavascriptBatch(
+    List<String> scripts,
+  ) {
+    return api.evaluateJavascriptBatchFromInstance(this, scripts);
+  }
+
   // TODO(bparrishMines): Update documentation when WebViewClient.onReceivedTitle is added.
   /// Gets the title for the current page.
   ///
@@ -444,9 +506,30 @@ class WebView extends JavaObject {
     return api.setBackgroundColorFromInstance(this, color.value);
   }
 
+  /// Sets whether changes of the scroll position are passed to
+  /// [onScrollChanged].
+  ///
+  /// Consecutive changes are coalesced so that at most one change is reported
+  /// every [minInterval] and only when the position moved by at least
+  /// [minDelta] pixels along either axis. The last position of a scroll is
+  /// always reported, once the scroll position stops changing for a moment.
+  Future<void> setScrollChangedEvents(
+    bool enabled, {
+    Duration minInterval = Duration.zero,
+    int minDelta = 0,
+  }) {
+    return api.setScrollChangedEventsFromInstance(
+      this,
+      enabled,
+      minInterval.inMilliseconds,
+      minDelta,
+    );
+  }
+
   @override
   WebView copy() {
     return WebView.detached(
+      onScrollChanged: onScrollChanged,
       binaryMessenger: _api.binaryMessenger,
       instanceManager: _api.instanceManager,
     );
@@ -505,6 +588,27 @@ class CookieManager extends JavaObject {
     return _cookieManagerApi.setCookieFromInstances(this, url, value);
   }
 
+  /// Sets every cookie in [cookies], a map from URL to the cookie values to set
+  /// for it, in a single platform call and then persists them with one flush.
+  ///
+  /// Each value uses the same format as the value of [setCookie].
+  Future<void> setCookies(Map<String, List<String>> cookies) {
+    return _cookieManagerApi.setCookiesFromInstances(this, cookies);
+  }
+
+  /// Same as [setCookies], but the returned future only completes once every
+  /// cookie has been set and persisted.
+  ///
+  /// The returned future resolves to false if any cookie was rejected.
+  Future<bool> setCookiesAndFlush(Map<String, List<String>> cookies) {
+    return _cookieManagerApi.setCookiesAndFlushFromInstances(this, cookies);
+  }
+
+  /// Gets the cookies for the given URL as a list of "name=value" pairs.
+  Future<List<String>> getCookies(String url) {
+    return _cookieManagerApi.getCookiesFromInstances(this, url);
+  }
+
   /// Removes all cookies.
   ///
   /// The returned future resolves to true if any cookies were removed.
@@ -711,6 +815,8 @@ class JavaScriptChannel extends JavaObject {
   JavaScriptChannel(
     this.channelName, {
     required this.postMessage,
+    this.postMessages,
+    this.postBinaryMessage,
     @visibleForTesting super.binaryMessenger,
     @visibleForTesting super.instanceManager,
   }) : super.detached() {
@@ -727,6 +833,8 @@ class JavaScriptChannel extends JavaObject {
   JavaScriptChannel.detached(
     this.channelName, {
     required this.postMessage,
+    this.postMessages,
+    this.postBinaryMessage,
     super.binaryMessenger,
     super.instanceManager,
   }) : super.detached();
@@ -741,11 +849,53 @@ class JavaScriptChannel extends JavaObject {
   /// Callback method when javaScript calls `postMessage` on the object instance passed.
   final void Function(String message) postMessage;
 
+  /// Callback method for the messages of a batch when batching is enabled with
+  /// [setBatching].
+  ///
+  /// If this is null, [postMessage] is called once for each message.
+  final void Function(List<String> messages)? postMessages;
+
+  /// Callback method when javaScript calls `postBinaryMessage` on the object
+  /// instance passed.
+  ///
+  /// If this is null, binary messages are base64 encoded and passed to
+  /// [postMessages] or [postMessage] instead.
+  final void Function(Uint8List message)? postBinaryMessage;
+
+  /// Sets whether messages are queued natively and sent to Dart in batches.
+  ///
+  /// A batch is sent when a message has been queued for [flushInterval] or the
+  /// queue holds [maxBatchSize] messages, whichever happens first. The default
+  /// interval is about one frame. Disabling batching sends the messages that
+  /// are still queued.
+  Future<void> setBatching(
+    bool enabled, {
+    int maxBatchSize = 64,
+    Duration flushInterval = const Duration(milliseconds: 16),
+  }) {
+    return api.setBatchingFromInstance(
+      this,
+      enabled,
+      maxBatchSize,
+      flushInterval.inMilliseconds,
+    );
+  }
+
+  /// Returns counters describing the native message queue.
+  ///
+  /// Contains the current `queueDepth`, the `peakQueueDepth`, the number of
+  /// `batchedMessages` sent in batches and the number of `batches` sent.
+  Future<Map<String, int>> getQueueMetrics() {
+    return api.getQueueMetricsFromInstance(this);
+  }
+
   @override
   JavaScriptChannel copy() {
     return JavaScriptChannel.detached(
       channelName,
       postMessage: postMessage,
+      postMessages: postMessages,
+      postBinaryMessage: postBinaryMessage,
       binaryMessenger: _api.binaryMessenger,
       instanceManager: _api.instanceManager,
     );
@@ -763,6 +913,7 @@ class WebViewClient extends JavaObject {
     this.requestLoading,
     this.urlLoading,
     this.doUpdateVisitedHistory,
+    this.onNavigationReported,
     @visibleForTesting super.binaryMessenger,
     @visibleForTesting super.instanceManager,
   }) : super.detached() {
@@ -783,6 +934,7 @@ class WebViewClient extends JavaObject {
     this.requestLoading,
     this.urlLoading,
     this.doUpdateVisitedHistory,
+    this.onNavigationReported,
     super.binaryMessenger,
     super.instanceManager,
   }) : super.detached();
@@ -931,6 +1083,15 @@ class WebViewClient extends JavaObject {
   final void Function(WebView webView, String url, bool isReload)?
       doUpdateVisitedHistory;
 
+  /// When a navigation was decided by a [NavigationRule] with
+  /// [NavigationRule.report] set.
+  ///
+  /// This is only a notification: the navigation was already allowed or
+  /// denied, as indicated by `allowed`, and is not passed to [requestLoading]
+  /// or [urlLoading].
+  final void Function(WebView webView, String url, bool allowed)?
+      onNavigationReported;
+
   /// Sets the required synchronous return value for the Java method,
   /// `WebViewClient.shouldOverrideUrlLoading(...)`.
   ///
@@ -949,6 +1110,55 @@ class WebViewClient extends JavaObject {
     return api.setShouldOverrideUrlLoadingReturnValueFromInstance(this, value);
   }
 
+  /// Serves GET requests natively from Flutter assets, a memory cache and a
+  /// disk cache.
+  ///
+  /// Requests whose URL contains a match of one of [urlPatterns] are fetched
+  /// natively and cached. Patterns are unanchored regular expressions; use `^`
+  /// and `$` to match the whole URL. Requests whose URL starts with
+  /// [assetUrlPrefix] are served from the Flutter asset named by the rest of
+  /// the URL. The disk cache is shared by every client and only used if
+  /// [maxDiskCacheBytes] is positive. Setting no patterns and no prefix turns
+  /// interception off.
+  Future<void> setResourceInterception({
+    List<String> urlPatterns = const <String>[],
+    String? assetUrlPrefix,
+    int maxMemoryCacheBytes = 8 * 1024 * 1024,
+    int maxDiskCacheBytes = 0,
+  }) {
+    return api.setResourceInterceptionFromInstance(
+      this,
+      urlPatterns,
+      assetUrlPrefix,
+      maxMemoryCacheBytes,
+      maxDiskCacheBytes,
+    );
+  }
+
+  /// Returns how the requests of [webView] intercepted by
+  /// [setResourceInterception] were served.
+  ///
+  /// Contains `memoryHits`, `diskHits`, `assetHits`, `revalidations`, `misses`
+  /// and `bytesServed`. Throws a [PlatformException] if resource interception
+  /// isn't enabled.
+  Future<Map<String, int>> getResourceInterceptionMetrics(WebView webView) {
+    return api.getResourceInterceptionMetricsFromInstance(this, webView);
+  }
+
+  /// Sets rules that allow or deny navigations natively, without a round trip
+  /// to Dart.
+  ///
+  /// When several rules match a URL, the first one in [rules] wins. URLs that
+  /// match no rule get [defaultAction], or are passed to [requestLoading] and
+  /// [urlLoading] as usual if it is null. Setting no rules and no default
+  /// action removes the policy.
+  Future<void> setNavigationPolicy(
+    List<NavigationRule> rules, {
+    NavigationAction? defaultAction,
+  }) {
+    return api.setNavigationPolicyFromInstance(this, rules, defaultAction);
+  }
+
   @override
   WebViewClient copy() {
     return WebViewClient.detached(
@@ -959,6 +1169,7 @@ class WebViewClient extends JavaObject {
       requestLoading: requestLoading,
       urlLoading: urlLoading,
       doUpdateVisitedHistory: doUpdateVisitedHistory,
+      onNavigationReported: onNavigationReported,
       binaryMessenger: _api.binaryMessenger,
       instanceManager: _api.instanceManager,
     );
@@ -1125,6 +1336,24 @@ class WebChromeClient extends JavaObject {
     );
   }
 
+  /// Limits how often [onProgressChanged] is called.
+  ///
+  /// A new progress value is only reported once [minInterval] has passed and
+  /// the progress increased by at least [minDelta] since the last reported
+  /// value. The first and the final progress value of a page load are always
+  /// reported, and a value that was held back is reported once the progress
+  /// stops changing for a moment.
+  Future<void> setProgressThrottle({
+    Duration minInterval = Duration.zero,
+    int minDelta = 0,
+  }) {
+    return api.setProgressThrottleFromInstance(
+      this,
+      minInterval.inMilliseconds,
+      minDelta,
+    );
+  }
+
   @override
   WebChromeClient copy() {
     return WebChromeClient.detached(
@@ -1303,6 +1532,55 @@ class WebResourceError {
   final String description;
 }
 
+/// What a [NavigationRule] does with the navigations it matches.
+enum NavigationAction {
+  /// The [WebView] loads the URL.
+  allow,
+
+  /// The [WebView] doesn't load the URL.
+  deny,
+}
+
+/// How a [NavigationRule] matches URLs.
+enum NavigationRuleType {
+  /// Matches URLs with the scheme of the pattern, e.g. `intent`.
+  scheme,
+
+  /// Matches URLs whose host is the pattern or one of its subdomains, e.g.
+  /// `example.com` matches `www.example.com`.
+  hostSuffix,
+
+  /// Matches URLs that contain a match of the pattern as a regular expression.
+  ///
+  /// The pattern is unanchored; use `^` and `$` to match the whole URL.
+  regex,
+}
+
+/// A rule of the policy set with [WebViewClient.setNavigationPolicy].
+@immutable
+class NavigationRule {
+  /// Constructs a [NavigationRule].
+  const NavigationRule({
+    required this.type,
+    required this.pattern,
+    required this.action,
+    this.report = false,
+  });
+
+  /// How [pattern] matches URLs.
+  final NavigationRuleType type;
+
+  /// The scheme, host suffix or regular expression matched against URLs.
+  final String pattern;
+
+  /// What happens to navigations matching this rule.
+  final NavigationAction action;
+
+  /// Whether navigations matching this rule are passed to
+  /// [WebViewClient.onNavigationReported].
+  final bool report;
+}
+
 /// Manages Flutter assets that are part of Android's app bundle.
 class FlutterAssetManager {
   /// Constructs the [FlutterAssetManager].
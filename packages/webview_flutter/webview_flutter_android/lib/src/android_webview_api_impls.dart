@@ -2,6 +2,7 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:convert';
 import 'dart:typed_data';
 import 'dart:ui';
 
@@ -272,6 +273,20 @@ class WebViewHostApiImpl extends WebViewHostApi {
     );
   }
 
+  /// Helper method to convert instances ids to objects.
+  Future<List<Map<String, Object?>>> evaluateJavascriptBatchFromInstance(
+    WebView instance,
+    List<String> scripts,
+  ) async {
+    final List<Map<String?, Object?>?> results = await evaluateJavascriptBatch(
+      instanceManager.getIdentifier(instance)!,
+      scripts,
+    );
+    return results
+        .map((Map<String?, Object?>? result) => result!.cast<String, Object?>())
+        .toList();
+  }
+
   /// Helper method to convert instances ids to objects.
   Future<String?> getTitleFromInstance(WebView instance) {
     return getTitle(instanceManager.getIdentifier(instance)!);
@@ -363,6 +378,21 @@ class WebViewHostApiImpl extends WebViewHostApi {
   Future<void> setBackgroundColorFromInstance(WebView instance, int color) {
     return setBackgroundColor(instanceManager.getIdentifier(instance)!, color);
   }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> setScrollChangedEventsFromInstance(
+    WebView instance,
+    bool enabled,
+    int minIntervalMilliseconds,
+    int minDelta,
+  ) {
+    return setScrollChangedEvents(
+      instanceManager.getIdentifier(instance)!,
+      enabled,
+      minIntervalMilliseconds,
+      minDelta,
+    );
+  }
 }
 
 /// Flutter API implementation for [WebView].
@@ -390,6 +420,23 @@ class WebViewFlutterApiImpl implements WebViewFlutterApi {
   void create(int identifier) {
     instanceManager.addHostCreatedInstance(WebView.detached(), identifier);
   }
+
+  @override
+  void onScrollChanged(
+    int webViewInstanceId,
+    int left,
+    int top,
+    int oldLeft,
+    int oldTop,
+  ) {
+    final WebView? webViewInstance = instanceManager
+        .getInstanceWithWeakReference(webViewInstanceId) as WebView?;
+    assert(
+      webViewInstance != null,
+      'InstanceManager does not contain a WebView with instanceId: $webViewInstanceId',
+    );
+    webViewInstance!.onScrollChanged?.call(left, top, oldLeft, oldTop);
+  }
 }
 
 /// Host api implementation for [WebSettings].
@@ -562,6 +609,31 @@ class JavaScriptChannelHostApiImpl extends JavaScriptChannelHostApi {
       );
     }
   }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> setBatchingFromInstance(
+    JavaScriptChannel instance,
+    bool enabled,
+    int maxBatchSize,
+    int flushIntervalMilliseconds,
+  ) {
+    return setBatching(
+      instanceManager.getIdentifier(instance)!,
+      enabled,
+      maxBatchSize,
+      flushIntervalMilliseconds,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<Map<String, int>> getQueueMetricsFromInstance(
+    JavaScriptChannel instance,
+  ) async {
+    final Map<String?, int?> metrics = await getQueueMetrics(
+      instanceManager.getIdentifier(instance)!,
+    );
+    return metrics.cast<String, int>();
+  }
 }
 
 /// Flutter api implementation for [JavaScriptChannel].
@@ -583,6 +655,47 @@ class JavaScriptChannelFlutterApiImpl extends JavaScriptChannelFlutterApi {
     );
     instance!.postMessage(message);
   }
+
+  @override
+  void postMessages(int instanceId, List<String?> messages) {
+    final JavaScriptChannel? instance = instanceManager
+        .getInstanceWithWeakReference(instanceId) as JavaScriptChannel?;
+    assert(
+      instance != null,
+      'InstanceManager does not contain a JavaScriptChannel with instanceId: $instanceId',
+    );
+    final void Function(List<String> messages)? postMessages =
+        instance!.postMessages;
+    if (postMessages != null) {
+      postMessages(messages.cast<String>());
+    } else {
+      for (final String? message in messages) {
+        instance.postMessage(message!);
+      }
+    }
+  }
+
+  @override
+  void postBinaryMessages(int instanceId, List<Uint8List?> messages) {
+    final JavaScriptChannel? instance = instanceManager
+        .getInstanceWithWeakReference(instanceId) as JavaScriptChannel?;
+    assert(
+      instance != null,
+      'InstanceManager does not contain a JavaScriptChannel with instanceId: $instanceId',
+    );
+    final void Function(Uint8List message)? postBinaryMessage =
+        instance!.postBinaryMessage;
+    if (postBinaryMessage != null) {
+      for (final Uint8List? message in messages) {
+        postBinaryMessage(message!);
+      }
+    } else {
+      postMessages(
+        instanceId,
+        messages.map((Uint8List? message) => base64Encode(message!)).toList(),
+      );
+    }
+  }
 }
 
 /// Host api implementation for [WebViewClient].
@@ -614,6 +727,55 @@ class WebViewClientHostApiImpl extends WebViewClientHostApi {
       value,
     );
   }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> setResourceInterceptionFromInstance(
+    WebViewClient instance,
+    List<String> urlPatterns,
+    String? assetUrlPrefix,
+    int maxMemoryCacheBytes,
+    int maxDiskCacheBytes,
+  ) {
+    return setResourceInterception(
+      instanceManager.getIdentifier(instance)!,
+      urlPatterns,
+      assetUrlPrefix,
+      maxMemoryCacheBytes,
+      maxDiskCacheBytes,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<Map<String, int>> getResourceInterceptionMetricsFromInstance(
+    WebViewClient instance,
+    WebView webView,
+  ) async {
+    final Map<String?, int?> metrics = await getResourceInterceptionMetrics(
+      instanceManager.getIdentifier(instance)!,
+      instanceManager.getIdentifier(webView)!,
+    );
+    return metrics.cast<String, int>();
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> setNavigationPolicyFromInstance(
+    WebViewClient instance,
+    List<NavigationRule> rules,
+    NavigationAction? defaultAction,
+  ) {
+    return setNavigationPolicy(
+      instanceManager.getIdentifier(instance)!,
+      rules
+          .map((NavigationRule rule) => <String, Object>{
+                'type': rule.type.name,
+                'pattern': rule.pattern,
+                'action': rule.action.name,
+                'report': rule.report,
+              })
+          .toList(),
+      defaultAction?.name,
+    );
+  }
 }
 
 /// Flutter api implementation for [WebViewClient].
@@ -794,6 +956,30 @@ class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
       instance.doUpdateVisitedHistory!(webViewInstance!, url, isReload);
     }
   }
+
+  @override
+  void onNavigationReported(
+    int instanceId,
+    int webViewInstanceId,
+    String url,
+    bool allowed,
+  ) {
+    final WebViewClient? instance = instanceManager
+        .getInstanceWithWeakReference(instanceId) as WebViewClient?;
+    final WebView? webViewInstance = instanceManager
+        .getInstanceWithWeakReference(webViewInstanceId) as WebView?;
+    assert(
+      instance != null,
+      'InstanceManager does not contain a WebViewClient with instanceId: $instanceId',
+    );
+    assert(
+      webViewInstance != null,
+      'InstanceManager does not contain a WebView with instanceId: $webViewInstanceId',
+    );
+    if (instance!.onNavigationReported != null) {
+      instance.onNavigationReported!(webViewInstance!, url, allowed);
+    }
+  }
 }
 
 /// Host api implementation for [DownloadListener].
@@ -879,6 +1065,19 @@ class WebChromeClientHostApiImpl extends WebChromeClientHostApi {
       value,
     );
   }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> setProgressThrottleFromInstance(
+    WebChromeClient instance,
+    int minIntervalMilliseconds,
+    int minDelta,
+  ) {
+    return setProgressThrottle(
+      instanceManager.getIdentifier(instance)!,
+      minIntervalMilliseconds,
+      minDelta,
+    );
+  }
 }
 
 /// Flutter api implementation for [DownloadListener].
@@ -1217,6 +1416,37 @@ class CookieManagerHostApiImpl extends CookieManagerHostApi {
     );
   }
 
+  /// Helper method to convert instance ids to objects.
+  Future<void> setCookiesFromInstances(
+    CookieManager instance,
+    Map<String, List<String>> cookies,
+  ) {
+    return setCookies(instanceManager.getIdentifier(instance)!, cookies);
+  }
+
+  /// Helper method to convert instance ids to objects.
+  Future<bool> setCookiesAndFlushFromInstances(
+    CookieManager instance,
+    Map<String, List<String>> cookies,
+  ) {
+    return setCookiesAndFlush(
+      instanceManager.getIdentifier(instance)!,
+      cookies,
+    );
+  }
+
+  /// Helper method to convert instance ids to objects.
+  Future<List<String>> getCookiesFromInstances(
+    CookieManager instance,
+    String url,
+  ) async {
+    final List<String?> cookies = await getCookies(
+      instanceManager.getIdentifier(instance)!,
+      url,
+    );
+    return cookies.whereType<String>().toList();
+  }
+
   /// Helper method to convert instance ids to objects.
   Future<bool> removeAllCookiesFromInstances(CookieManager instance) {
     return removeAllCookies(instanceManager.getIdentifier(instance)!);
@@ -34,6 +34,11 @@ abstract class InstanceManagerHostApi {
   ///
   /// This is typically only used after a hot restart.
   void clear();
+
+  /// Returns the number of live native instances, grouped by class name.
+  ///
+  /// This is intended for debugging leaks and memory growth.
+  Map<String, int> getInstanceCounts();
 }
 
 /// Mode of how to select files for a file chooser.
@@ -136,6 +141,16 @@ abstract class CookieManagerHostApi {
     int webViewIdentifier,
     bool accept,
   );
+
+  /// Handles Dart method `CookieManager.setCookies`.
+  void setCookies(int identifier, Map<String, List<String>> cookies);
+
+  /// Handles Dart method `CookieManager.setCookiesAndFlush`.
+  @async
+  bool setCookiesAndFlush(int identifier, Map<String, List<String>> cookies);
+
+  /// Handles Dart method `CookieManager.getCookies`.
+  List<String> getCookies(int identifier, String url);
 }
 
 @HostApi(dartHostTestHandler: 'TestWebViewHostApi')
@@ -215,6 +230,23 @@ abstract class WebViewHostApi {
   void setWebChromeClient(int instanceId, int? clientInstanceId);
 
   void setBackgroundColor(int instanceId, int color);
+
+  void prewarm(int poolSize);
+
+  Map<String, int> getCreationMetrics();
+
+  void setScrollChangedEvents(
+    int instanceId,
+    bool enabled,
+    int minIntervalMilliseconds,
+    int minDelta,
+  );
+
+  @async
+  List<Map<String, Object>> evaluateJavascriptBatch(
+    int instanceId,
+    List<String> scripts,
+  );
 }
 
 /// Flutter API for `WebView`.
@@ -228,6 +260,14 @@ abstract class WebViewHostApi {
 abstract class WebViewFlutterApi {
   /// Create a new Dart instance and add it to the `InstanceManager`.
   void create(int identifier);
+
+  void onScrollChanged(
+    int webViewInstanceId,
+    int left,
+    int top,
+    int oldLeft,
+    int oldTop,
+  );
 }
 
 @HostApi(dartHostTestHandler: 'TestWebSettingsHostApi')
@@ -264,11 +304,24 @@ abstract class WebSettingsHostApi {
 @HostApi(dartHostTestHandler: 'TestJavaScriptChannelHostApi')
 abstract class JavaScriptChannelHostApi {
   void create(int instanceId, String channelName);
+
+  void setBatching(
+    int instanceId,
+    bool enabled,
+    int maxBatchSize,
+    int flushIntervalMilliseconds,
+  );
+
+  Map<String, int> getQueueMetrics(int instanceId);
 }
 
 @FlutterApi()
 abstract class JavaScriptChannelFlutterApi {
   void postMessage(int instanceId, String message);
+
+  void postMessages(int instanceId, List<String> messages);
+
+  void postBinaryMessages(int instanceId, List<Uint8List> messages);
 }
 
 @HostApi(dartHostTestHandler: 'TestWebViewClientHostApi')
@@ -279,6 +332,25 @@ abstract class WebViewClientHostApi {
     int instanceId,
     bool value,
   );
+
+  void setResourceInterception(
+    int instanceId,
+    List<String> urlPatterns,
+    String? assetUrlPrefix,
+    int maxMemoryCacheBytes,
+    int maxDiskCacheBytes,
+  );
+
+  Map<String, int> getResourceInterceptionMetrics(
+    int instanceId,
+    int webViewInstanceId,
+  );
+
+  void setNavigationPolicy(
+    int instanceId,
+    List<Map<String, Object>> rules,
+    String? defaultAction,
+  );
 }
 
 @FlutterApi()
@@ -316,6 +388,13 @@ abstract class WebViewClientFlutterApi {
     String url,
     bool isReload,
   );
+
+  void onNavigationReported(
+    int instanceId,
+    int webViewInstanceId,
+    String url,
+    bool allowed,
+  );
 }
 
 @HostApi(dartHostTestHandler: 'TestDownloadListenerHostApi')
@@ -343,6 +422,12 @@ abstract class WebChromeClientHostApi {
     int instanceId,
     bool value,
   );
+
+  void setProgressThrottle(
+    int instanceId,
+    int minIntervalMilliseconds,
+    int minDelta,
+  );
 }
 
 @HostApi(dartHostTestHandler: 'TestAssetManagerHostApi')
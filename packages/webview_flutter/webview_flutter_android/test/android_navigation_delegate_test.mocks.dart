@@ -35,4 +35,12 @@ class MockTestInstanceManagerHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+  @override
+  Map<String?, int?> getInstanceCounts() => (super.noSuchMethod(
+        Invocation.method(
+          #getInstanceCounts,
+          [],
+        ),
+        returnValue: <String?, int?>{},
+      ) as Map<String?, int?>);
 }
@@ -1363,6 +1363,46 @@ class MockJavaScriptChannel extends _i1.Mock implements _i2.JavaScriptChannel {
         returnValueForMissingStub: (String message) {},
       ) as void Function(String));
   @override
+  void Function(List<String>)? get postMessages => (super.noSuchMethod(
+        Invocation.getter(#postMessages),
+        returnValueForMissingStub: null,
+      ) as void Function(List<String>)?);
+  @override
+  void Function(_i14.Uint8List)? get postBinaryMessage =>
+      (super.noSuchMethod(
+        Invocation.getter(#postBinaryMessage),
+        returnValueForMissingStub: null,
+      ) as void Function(_i14.Uint8List)?);
+  @override
+  _i9.Future<void> setBatching(
+    bool? enabled, {
+    int? maxBatchSize = 64,
+    Duration? flushInterval = const Duration(milliseconds: 16),
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setBatching,
+          [enabled],
+          {
+            #maxBatchSize: maxBatchSize,
+            #flushInterval: flushInterval,
+          },
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+  @override
+  _i9.Future<Map<String, int>> getQueueMetrics() => (super.noSuchMethod(
+        Invocation.method(
+          #getQueueMetrics,
+          [],
+        ),
+        returnValue:
+            _i9.Future<Map<String, int>>.value(<String, int>{}),
+        returnValueForMissingStub:
+            _i9.Future<Map<String, int>>.value(<String, int>{}),
+      ) as _i9.Future<Map<String, int>>);
+  @override
   _i2.JavaScriptChannel copy() => (super.noSuchMethod(
         Invocation.method(
           #copy,
@@ -1738,6 +1778,23 @@ class MockWebChromeClient extends _i1.Mock implements _i2.WebChromeClient {
         returnValueForMissingStub: _i9.Future<void>.value(),
       ) as _i9.Future<void>);
   @override
+  _i9.Future<void> setProgressThrottle({
+    Duration? minInterval = Duration.zero,
+    int? minDelta = 0,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setProgressThrottle,
+          [],
+          {
+            #minInterval: minInterval,
+            #minDelta: minDelta,
+          },
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+  @override
   _i2.WebChromeClient copy() => (super.noSuchMethod(
         Invocation.method(
           #copy,
@@ -1914,6 +1971,21 @@ class MockWebSettings extends _i1.Mock implements _i2.WebSettings {
 /// See the documentation for Mockito's code generation for more information.
 class MockWebView extends _i1.Mock implements _i2.WebView {
   @override
+  void Function(
+    int,
+    int,
+    int,
+    int,
+  )? get onScrollChanged => (super.noSuchMethod(
+        Invocation.getter(#onScrollChanged),
+        returnValueForMissingStub: null,
+      ) as void Function(
+        int,
+        int,
+        int,
+        int,
+      )?);
+  @override
   _i2.WebSettings get settings => (super.noSuchMethod(
         Invocation.getter(#settings),
         returnValue: _FakeWebSettings_17(
@@ -2073,6 +2145,19 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
         returnValueForMissingStub: _i9.Future<String?>.value(),
       ) as _i9.Future<String?>);
   @override
+  _i9.Future<List<Map<String, Object?>>> evaluateJavascriptBatch(
+          List<String>? scripts) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #evaluateJavascriptBatch,
+          [scripts],
+        ),
+        returnValue: _i9.Future<List<Map<String, Object?>>>.value(
+            <Map<String, Object?>>[]),
+        returnValueForMissingStub: _i9.Future<List<Map<String, Object?>>>.value(
+            <Map<String, Object?>>[]),
+      ) as _i9.Future<List<Map<String, Object?>>>);
+  @override
   _i9.Future<String?> getTitle() => (super.noSuchMethod(
         Invocation.method(
           #getTitle,
@@ -2214,6 +2299,24 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
         returnValueForMissingStub: _i9.Future<void>.value(),
       ) as _i9.Future<void>);
   @override
+  _i9.Future<void> setScrollChangedEvents(
+    bool? enabled, {
+    Duration? minInterval = Duration.zero,
+    int? minDelta = 0,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setScrollChangedEvents,
+          [enabled],
+          {
+            #minInterval: minInterval,
+            #minDelta: minDelta,
+          },
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+  @override
   _i2.WebView copy() => (super.noSuchMethod(
         Invocation.method(
           #copy,
@@ -2252,6 +2355,54 @@ class MockWebViewClient extends _i1.Mock implements _i2.WebViewClient {
         returnValueForMissingStub: _i9.Future<void>.value(),
       ) as _i9.Future<void>);
   @override
+  _i9.Future<void> setResourceInterception({
+    List<String>? urlPatterns = const <String>[],
+    String? assetUrlPrefix,
+    int? maxMemoryCacheBytes = 8388608,
+    int? maxDiskCacheBytes = 0,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setResourceInterception,
+          [],
+          {
+            #urlPatterns: urlPatterns,
+            #assetUrlPrefix: assetUrlPrefix,
+            #maxMemoryCacheBytes: maxMemoryCacheBytes,
+            #maxDiskCacheBytes: maxDiskCacheBytes,
+          },
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+  @override
+  _i9.Future<Map<String, int>> getResourceInterceptionMetrics(
+          _i2.WebView? webView) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getResourceInterceptionMetrics,
+          [webView],
+        ),
+        returnValue:
+            _i9.Future<Map<String, int>>.value(<String, int>{}),
+        returnValueForMissingStub:
+            _i9.Future<Map<String, int>>.value(<String, int>{}),
+      ) as _i9.Future<Map<String, int>>);
+  @override
+  _i9.Future<void> setNavigationPolicy(
+    List<_i2.NavigationRule>? rules, {
+    _i2.NavigationAction? defaultAction,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setNavigationPolicy,
+          [rules],
+          {#defaultAction: defaultAction},
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+  @override
   _i2.WebViewClient copy() => (super.noSuchMethod(
         Invocation.method(
           #copy,
@@ -2410,4 +2561,12 @@ class MockTestInstanceManagerHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+  @override
+  Map<String?, int?> getInstanceCounts() => (super.noSuchMethod(
+        Invocation.method(
+          #getInstanceCounts,
+          [],
+        ),
+        returnValue: <String?, int?>{},
+      ) as Map<String?, int?>);
 }
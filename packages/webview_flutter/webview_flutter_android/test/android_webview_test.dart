@@ -2,6 +2,8 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:typed_data';
+
 import 'package:flutter_test/flutter_test.dart';
 import 'package:mockito/annotations.dart';
 import 'package:mockito/mockito.dart';
@@ -230,6 +232,31 @@ void main() {
         );
       });
 
+      test('evaluateJavascriptBatch', () {
+        when(
+          mockPlatformHostApi.evaluateJavascriptBatch(
+            webViewInstanceId,
+            <String>['1 + 1', 'undefinedVariable'],
+          ),
+        ).thenAnswer(
+          (_) => Future<List<Map<String?, Object?>?>>.value(
+            <Map<String?, Object?>?>[
+              <String?, Object?>{'succeeded': true, 'result': '2'},
+              <String?, Object?>{'succeeded': false, 'error': 'ReferenceError'},
+            ],
+          ),
+        );
+        expect(
+          webView.evaluateJavascriptBatch(
+            <String>['1 + 1', 'undefinedVariable'],
+          ),
+          completion(<Map<String, Object?>>[
+            <String, Object?>{'succeeded': true, 'result': '2'},
+            <String, Object?>{'succeeded': false, 'error': 'ReferenceError'},
+          ]),
+        );
+      });
+
       test('getTitle', () {
         when(mockPlatformHostApi.getTitle(webViewInstanceId))
             .thenReturn('aTitle');
@@ -386,6 +413,59 @@ void main() {
         );
       });
 
+      test('prewarm', () {
+        WebView.prewarm(poolSize: 2);
+        verify(mockPlatformHostApi.prewarm(2));
+      });
+
+      test('getCreationMetrics', () async {
+        when(mockPlatformHostApi.getCreationMetrics()).thenReturn(
+          <String?, int?>{'pooledWebViews': 1, 'pooledCreations': 3},
+        );
+
+        expect(
+          await WebView.getCreationMetrics(),
+          <String, int>{'pooledWebViews': 1, 'pooledCreations': 3},
+        );
+      });
+
+      test('setScrollChangedEvents', () {
+        webView.setScrollChangedEvents(
+          true,
+          minInterval: const Duration(milliseconds: 16),
+          minDelta: 4,
+        );
+        verify(mockPlatformHostApi.setScrollChangedEvents(
+          webViewInstanceId,
+          true,
+          16,
+          4,
+        ));
+      });
+
+      test('FlutterAPI onScrollChanged', () {
+        final InstanceManager instanceManager = InstanceManager(
+          onWeakReferenceRemoved: (_) {},
+        );
+
+        final WebViewFlutterApiImpl api = WebViewFlutterApiImpl(
+          instanceManager: instanceManager,
+        );
+
+        late final List<int> result;
+        final WebView webView = WebView.detached(
+          onScrollChanged: (int left, int top, int oldLeft, int oldTop) {
+            result = <int>[left, top, oldLeft, oldTop];
+          },
+        );
+        const int instanceIdentifier = 0;
+        instanceManager.addHostCreatedInstance(webView, instanceIdentifier);
+
+        api.onScrollChanged(instanceIdentifier, 0, 20, 0, 10);
+
+        expect(result, <int>[0, 20, 0, 10]);
+      });
+
       test('copy', () {
         expect(webView.copy(), isA<WebView>());
       });
@@ -564,6 +644,135 @@ void main() {
         expect(result, 'Hello, World!');
       });
 
+      test('postMessages', () {
+        final List<List<String>> results = <List<String>>[];
+        when(mockJavaScriptChannel.postMessages).thenReturn(
+          (List<String> messages) {
+            results.add(messages);
+          },
+        );
+
+        flutterApi.postMessages(
+          mockJavaScriptChannelInstanceId,
+          <String>['one', 'two'],
+        );
+
+        expect(results, <List<String>>[
+          <String>['one', 'two']
+        ]);
+        verifyNever(mockJavaScriptChannel.postMessage);
+      });
+
+      test('postMessages without postMessages callback', () {
+        final List<String> results = <String>[];
+        when(mockJavaScriptChannel.postMessages).thenReturn(null);
+        when(mockJavaScriptChannel.postMessage).thenReturn((String message) {
+          results.add(message);
+        });
+
+        flutterApi.postMessages(
+          mockJavaScriptChannelInstanceId,
+          <String>['one', 'two'],
+        );
+
+        expect(results, <String>['one', 'two']);
+      });
+
+      test('postBinaryMessages', () {
+        final List<Uint8List> results = <Uint8List>[];
+        when(mockJavaScriptChannel.postBinaryMessage).thenReturn(
+          (Uint8List message) {
+            results.add(message);
+          },
+        );
+
+        flutterApi.postBinaryMessages(
+          mockJavaScriptChannelInstanceId,
+          <Uint8List>[
+            Uint8List.fromList(<int>[0, 255])
+          ],
+        );
+
+        expect(results.single, <int>[0, 255]);
+      });
+
+      test('postBinaryMessages without postBinaryMessage callback', () {
+        final List<String> results = <String>[];
+        when(mockJavaScriptChannel.postBinaryMessage).thenReturn(null);
+        when(mockJavaScriptChannel.postMessages).thenReturn(null);
+        when(mockJavaScriptChannel.postMessage).thenReturn((String message) {
+          results.add(message);
+        });
+
+        flutterApi.postBinaryMessages(
+          mockJavaScriptChannelInstanceId,
+          <Uint8List>[
+            Uint8List.fromList(<int>[0, 255])
+          ],
+        );
+
+        expect(results, <String>['AP8=']);
+      });
+
+      test('setBatching', () {
+        final MockTestJavaScriptChannelHostApi mockPlatformHostApi =
+            MockTestJavaScriptChannelHostApi();
+        TestJavaScriptChannelHostApi.setup(mockPlatformHostApi);
+        JavaScriptChannel.api = JavaScriptChannelHostApiImpl(
+          instanceManager: instanceManager,
+        );
+
+        final JavaScriptChannel channel = JavaScriptChannel(
+          'channel',
+          postMessage: (_) {},
+          instanceManager: instanceManager,
+        );
+        final int channelInstanceId = instanceManager.getIdentifier(channel)!;
+
+        channel.setBatching(true);
+        verify(mockPlatformHostApi.setBatching(
+          channelInstanceId,
+          true,
+          64,
+          16,
+        ));
+
+        channel.setBatching(
+          true,
+          maxBatchSize: 8,
+          flushInterval: const Duration(milliseconds: 100),
+        );
+        verify(mockPlatformHostApi.setBatching(
+          channelInstanceId,
+          true,
+          8,
+          100,
+        ));
+      });
+
+      test('getQueueMetrics', () async {
+        final MockTestJavaScriptChannelHostApi mockPlatformHostApi =
+            MockTestJavaScriptChannelHostApi();
+        TestJavaScriptChannelHostApi.setup(mockPlatformHostApi);
+        JavaScriptChannel.api = JavaScriptChannelHostApiImpl(
+          instanceManager: instanceManager,
+        );
+
+        final JavaScriptChannel channel = JavaScriptChannel(
+          'channel',
+          postMessage: (_) {},
+          instanceManager: instanceManager,
+        );
+        final int channelInstanceId = instanceManager.getIdentifier(channel)!;
+        when(mockPlatformHostApi.getQueueMetrics(channelInstanceId))
+            .thenReturn(<String?, int?>{'queueDepth': 2, 'batches': 1});
+
+        expect(
+          await channel.getQueueMetrics(),
+          <String, int>{'queueDepth': 2, 'batches': 1},
+        );
+      });
+
       test('copy', () {
         expect(
           JavaScriptChannel.detached('channel', postMessage: (_) {}).copy(),
@@ -739,6 +948,127 @@ void main() {
         );
       });
 
+      test('onNavigationReported', () {
+        late final List<Object> result;
+        when(mockWebViewClient.onNavigationReported).thenReturn(
+          (WebView webView, String url, bool allowed) {
+            result = <Object>[webView, url, allowed];
+          },
+        );
+
+        flutterApi.onNavigationReported(
+          mockWebViewClientInstanceId,
+          mockWebViewInstanceId,
+          'https://www.google.com',
+          false,
+        );
+
+        expect(
+          result,
+          containsAllInOrder(
+            <Object?>[mockWebView, 'https://www.google.com', false],
+          ),
+        );
+        // Reported navigations were already decided natively, so they must
+        // not reach the callbacks that load the URL.
+        verifyNever(mockWebViewClient.requestLoading);
+        verifyNever(mockWebViewClient.urlLoading);
+      });
+
+      test('setNavigationPolicy', () {
+        final MockTestWebViewClientHostApi mockPlatformHostApi =
+            MockTestWebViewClientHostApi();
+        TestWebViewClientHostApi.setup(mockPlatformHostApi);
+        WebViewClient.api = WebViewClientHostApiImpl(
+          instanceManager: instanceManager,
+        );
+
+        final WebViewClient webViewClient = WebViewClient(
+          instanceManager: instanceManager,
+        );
+        final int webViewClientInstanceId =
+            instanceManager.getIdentifier(webViewClient)!;
+
+        webViewClient.setNavigationPolicy(
+          const <NavigationRule>[
+            NavigationRule(
+              type: NavigationRuleType.hostSuffix,
+              pattern: 'example.com',
+              action: NavigationAction.allow,
+              report: true,
+            ),
+          ],
+          defaultAction: NavigationAction.deny,
+        );
+
+        verify(mockPlatformHostApi.setNavigationPolicy(
+          webViewClientInstanceId,
+          <Map<String, Object>>[
+            <String, Object>{
+              'type': 'hostSuffix',
+              'pattern': 'example.com',
+              'action': 'allow',
+              'report': true,
+            },
+          ],
+          'deny',
+        ));
+      });
+
+      test('setResourceInterception', () {
+        final MockTestWebViewClientHostApi mockPlatformHostApi =
+            MockTestWebViewClientHostApi();
+        TestWebViewClientHostApi.setup(mockPlatformHostApi);
+        WebViewClient.api = WebViewClientHostApiImpl(
+          instanceManager: instanceManager,
+        );
+
+        final WebViewClient webViewClient = WebViewClient(
+          instanceManager: instanceManager,
+        );
+        final int webViewClientInstanceId =
+            instanceManager.getIdentifier(webViewClient)!;
+
+        webViewClient.setResourceInterception(
+          urlPatterns: <String>[r'\.css$'],
+          assetUrlPrefix: 'https://appassets.local/',
+          maxDiskCacheBytes: 1024,
+        );
+
+        verify(mockPlatformHostApi.setResourceInterception(
+          webViewClientInstanceId,
+          <String>[r'\.css$'],
+          'https://appassets.local/',
+          8 * 1024 * 1024,
+          1024,
+        ));
+      });
+
+      test('getResourceInterceptionMetrics', () async {
+        final MockTestWebViewClientHostApi mockPlatformHostApi =
+            MockTestWebViewClientHostApi();
+        TestWebViewClientHostApi.setup(mockPlatformHostApi);
+        WebViewClient.api = WebViewClientHostApiImpl(
+          instanceManager: instanceManager,
+        );
+
+        final WebViewClient webViewClient = WebViewClient(
+          instanceManager: instanceManager,
+        );
+        final int webViewClientInstanceId =
+            instanceManager.getIdentifier(webViewClient)!;
+
+        when(mockPlatformHostApi.getResourceInterceptionMetrics(
+          webViewClientInstanceId,
+          mockWebViewInstanceId,
+        )).thenReturn(<String?, int?>{'memoryHits': 2, 'misses': 1});
+
+        expect(
+          await webViewClient.getResourceInterceptionMetrics(mockWebView),
+          <String, int>{'memoryHits': 2, 'misses': 1},
+        );
+      });
+
       test('doUpdateVisitedHistory', () {
         late final List<Object> result;
         when(mockWebViewClient.doUpdateVisitedHistory).thenReturn(
@@ -1197,6 +1527,76 @@ void main() {
         accept,
       ));
     });
+
+    test('setCookies', () async {
+      final MockTestCookieManagerHostApi mockApi =
+          MockTestCookieManagerHostApi();
+      TestCookieManagerHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+
+      final CookieManager instance = CookieManager.detached(
+        instanceManager: instanceManager,
+      );
+      const int instanceIdentifier = 0;
+      instanceManager.addHostCreatedInstance(instance, instanceIdentifier);
+
+      const Map<String, List<String>> cookies = <String, List<String>>{
+        'https://flutter.dev': <String>['a=b', 'c=d; Secure'],
+      };
+
+      await instance.setCookies(cookies);
+
+      verify(mockApi.setCookies(instanceIdentifier, cookies));
+    });
+
+    test('setCookiesAndFlush', () async {
+      final MockTestCookieManagerHostApi mockApi =
+          MockTestCookieManagerHostApi();
+      TestCookieManagerHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+
+      final CookieManager instance = CookieManager.detached(
+        instanceManager: instanceManager,
+      );
+      const int instanceIdentifier = 0;
+      instanceManager.addHostCreatedInstance(instance, instanceIdentifier);
+
+      const Map<String, List<String>> cookies = <String, List<String>>{
+        'https://flutter.dev': <String>['a=b'],
+      };
+      when(mockApi.setCookiesAndFlush(instanceIdentifier, cookies))
+          .thenAnswer((_) => Future<bool>.value(true));
+
+      expect(await instance.setCookiesAndFlush(cookies), isTrue);
+    });
+
+    test('getCookies', () async {
+      final MockTestCookieManagerHostApi mockApi =
+          MockTestCookieManagerHostApi();
+      TestCookieManagerHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+
+      final CookieManager instance = CookieManager.detached(
+        instanceManager: instanceManager,
+      );
+      const int instanceIdentifier = 0;
+      instanceManager.addHostCreatedInstance(instance, instanceIdentifier);
+
+      const String url = 'https://flutter.dev';
+      when(mockApi.getCookies(instanceIdentifier, url))
+          .thenReturn(<String>['a=b', 'c=d']);
+
+      expect(await instance.getCookies(url), <String>['a=b', 'c=d']);
+    });
   });
 
   group('WebStorage', () {
@@ -170,6 +170,52 @@ class MockCookieManagerHostApi extends _i1.Mock
         returnValue: _i5.Future<void>.value(),
         returnValueForMissingStub: _i5.Future<void>.value(),
       ) as _i5.Future<void>);
+  @override
+  _i5.Future<void> setCookies(
+    int? arg_identifier,
+    Map<String?, List<String?>?>? arg_cookies,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setCookies,
+          [
+            arg_identifier,
+            arg_cookies,
+          ],
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+  @override
+  _i5.Future<bool> setCookiesAndFlush(
+    int? arg_identifier,
+    Map<String?, List<String?>?>? arg_cookies,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setCookiesAndFlush,
+          [
+            arg_identifier,
+            arg_cookies,
+          ],
+        ),
+        returnValue: _i5.Future<bool>.value(false),
+      ) as _i5.Future<bool>);
+  @override
+  _i5.Future<List<String?>> getCookies(
+    int? arg_identifier,
+    String? arg_url,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getCookies,
+          [
+            arg_identifier,
+            arg_url,
+          ],
+        ),
+        returnValue: _i5.Future<List<String?>>.value(<String?>[]),
+      ) as _i5.Future<List<String?>>);
 }
 
 /// A class which mocks [DownloadListener].
@@ -238,6 +284,40 @@ class MockJavaScriptChannel extends _i1.Mock implements _i2.JavaScriptChannel {
         returnValue: (String message) {},
       ) as void Function(String));
   @override
+  void Function(List<String>)? get postMessages =>
+      (super.noSuchMethod(Invocation.getter(#postMessages))
+          as void Function(List<String>)?);
+  @override
+  void Function(_i7.Uint8List)? get postBinaryMessage =>
+      (super.noSuchMethod(Invocation.getter(#postBinaryMessage))
+          as void Function(_i7.Uint8List)?);
+  @override
+  _i5.Future<void> setBatching(
+    bool? enabled, {
+    int? maxBatchSize = 64,
+    Duration? flushInterval = const Duration(milliseconds: 16),
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setBatching,
+          [enabled],
+          {
+            #maxBatchSize: maxBatchSize,
+            #flushInterval: flushInterval,
+          },
+        ),
+        returnValue: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+  @override
+  _i5.Future<Map<String, int>> getQueueMetrics() => (super.noSuchMethod(
+        Invocation.method(
+          #getQueueMetrics,
+          [],
+        ),
+        returnValue:
+            _i5.Future<Map<String, int>>.value(<String, int>{}),
+      ) as _i5.Future<Map<String, int>>);
+  @override
   _i2.JavaScriptChannel copy() => (super.noSuchMethod(
         Invocation.method(
           #copy,
@@ -312,6 +392,51 @@ class MockTestCookieManagerHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+  @override
+  void setCookies(
+    int? identifier,
+    Map<String?, List<String?>?>? cookies,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #setCookies,
+          [
+            identifier,
+            cookies,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
+  @override
+  _i5.Future<bool> setCookiesAndFlush(
+    int? identifier,
+    Map<String?, List<String?>?>? cookies,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setCookiesAndFlush,
+          [
+            identifier,
+            cookies,
+          ],
+        ),
+        returnValue: _i5.Future<bool>.value(false),
+      ) as _i5.Future<bool>);
+  @override
+  List<String?> getCookies(
+    int? identifier,
+    String? url,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getCookies,
+          [
+            identifier,
+            url,
+          ],
+        ),
+        returnValue: <String?>[],
+      ) as List<String?>);
 }
 
 /// A class which mocks [TestDownloadListenerHostApi].
@@ -380,6 +505,14 @@ class MockTestInstanceManagerHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+  @override
+  Map<String?, int?> getInstanceCounts() => (super.noSuchMethod(
+        Invocation.method(
+          #getInstanceCounts,
+          [],
+        ),
+        returnValue: <String?, int?>{},
+      ) as Map<String?, int?>);
 }
 
 /// A class which mocks [TestJavaObjectHostApi].
@@ -425,6 +558,33 @@ class MockTestJavaScriptChannelHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+  @override
+  void setBatching(
+    int? instanceId,
+    bool? enabled,
+    int? maxBatchSize,
+    int? flushIntervalMilliseconds,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #setBatching,
+          [
+            instanceId,
+            enabled,
+            maxBatchSize,
+            flushIntervalMilliseconds,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
+  @override
+  Map<String?, int?> getQueueMetrics(int? instanceId) => (super.noSuchMethod(
+        Invocation.method(
+          #getQueueMetrics,
+          [instanceId],
+        ),
+        returnValue: <String?, int?>{},
+      ) as Map<String?, int?>);
 }
 
 /// A class which mocks [TestWebChromeClientHostApi].
@@ -459,6 +619,23 @@ class MockTestWebChromeClientHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+  @override
+  void setProgressThrottle(
+    int? instanceId,
+    int? minIntervalMilliseconds,
+    int? minDelta,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #setProgressThrottle,
+          [
+            instanceId,
+            minIntervalMilliseconds,
+            minDelta,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
 }
 
 /// A class which mocks [TestWebSettingsHostApi].
@@ -741,6 +918,59 @@ class MockTestWebViewClientHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+  @override
+  void setResourceInterception(
+    int? instanceId,
+    List<String?>? urlPatterns,
+    String? assetUrlPrefix,
+    int? maxMemoryCacheBytes,
+    int? maxDiskCacheBytes,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #setResourceInterception,
+          [
+            instanceId,
+            urlPatterns,
+            assetUrlPrefix,
+            maxMemoryCacheBytes,
+            maxDiskCacheBytes,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
+  @override
+  Map<String?, int?> getResourceInterceptionMetrics(
+    int? instanceId,
+    int? webViewInstanceId,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getResourceInterceptionMetrics,
+          [
+            instanceId,
+            webViewInstanceId,
+          ],
+        ),
+        returnValue: <String?, int?>{},
+      ) as Map<String?, int?>);
+  @override
+  void setNavigationPolicy(
+    int? instanceId,
+    List<Map<String?, Object?>?>? rules,
+    String? defaultAction,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #setNavigationPolicy,
+          [
+            instanceId,
+            rules,
+            defaultAction,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
 }
 
 /// A class which mocks [TestWebViewHostApi].
@@ -1078,6 +1308,56 @@ class MockTestWebViewHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+  @override
+  void prewarm(int? poolSize) => super.noSuchMethod(
+        Invocation.method(
+          #prewarm,
+          [poolSize],
+        ),
+        returnValueForMissingStub: null,
+      );
+  @override
+  Map<String?, int?> getCreationMetrics() => (super.noSuchMethod(
+        Invocation.method(
+          #getCreationMetrics,
+          [],
+        ),
+        returnValue: <String?, int?>{},
+      ) as Map<String?, int?>);
+  @override
+  void setScrollChangedEvents(
+    int? instanceId,
+    bool? enabled,
+    int? minIntervalMilliseconds,
+    int? minDelta,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #setScrollChangedEvents,
+          [
+            instanceId,
+            enabled,
+            minIntervalMilliseconds,
+            minDelta,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
+  @override
+  _i5.Future<List<Map<String?, Object?>?>> evaluateJavascriptBatch(
+    int? instanceId,
+    List<String?>? scripts,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #evaluateJavascriptBatch,
+          [
+            instanceId,
+            scripts,
+          ],
+        ),
+        returnValue: _i5.Future<List<Map<String?, Object?>?>>.value(<Map<String?, Object?>?>[]),
+      ) as _i5.Future<List<Map<String?, Object?>?>>);
 }
 
 /// A class which mocks [TestAssetManagerHostApi].
@@ -1160,6 +1440,23 @@ class MockWebChromeClient extends _i1.Mock implements _i2.WebChromeClient {
         returnValueForMissingStub: _i5.Future<void>.value(),
       ) as _i5.Future<void>);
   @override
+  _i5.Future<void> setProgressThrottle({
+    Duration? minInterval = Duration.zero,
+    int? minDelta = 0,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setProgressThrottle,
+          [],
+          {
+            #minInterval: minInterval,
+            #minDelta: minDelta,
+          },
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+  @override
   _i2.WebChromeClient copy() => (super.noSuchMethod(
         Invocation.method(
           #copy,
@@ -1183,6 +1480,20 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
     _i1.throwOnMissingStub(this);
   }
 
+  @override
+  void Function(
+    int,
+    int,
+    int,
+    int,
+  )? get onScrollChanged => (super.noSuchMethod(
+        Invocation.getter(#onScrollChanged),
+      ) as void Function(
+        int,
+        int,
+        int,
+        int,
+      )?);
   @override
   _i2.WebSettings get settings => (super.noSuchMethod(
         Invocation.getter(#settings),
@@ -1335,6 +1646,17 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
         returnValue: _i5.Future<String?>.value(),
       ) as _i5.Future<String?>);
   @override
+  _i5.Future<List<Map<String, Object?>>> evaluateJavascriptBatch(
+          List<String>? scripts) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #evaluateJavascriptBatch,
+          [scripts],
+        ),
+        returnValue: _i5.Future<List<Map<String, Object?>>>.value(
+            <Map<String, Object?>>[]),
+      ) as _i5.Future<List<Map<String, Object?>>>);
+  @override
   _i5.Future<String?> getTitle() => (super.noSuchMethod(
         Invocation.method(
           #getTitle,
@@ -1466,6 +1788,24 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
         returnValueForMissingStub: _i5.Future<void>.value(),
       ) as _i5.Future<void>);
   @override
+  _i5.Future<void> setScrollChangedEvents(
+    bool? enabled, {
+    Duration? minInterval = Duration.zero,
+    int? minDelta = 0,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setScrollChangedEvents,
+          [enabled],
+          {
+            #minInterval: minInterval,
+            #minDelta: minDelta,
+          },
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+  @override
   _i2.WebView copy() => (super.noSuchMethod(
         Invocation.method(
           #copy,
@@ -1501,6 +1841,51 @@ class MockWebViewClient extends _i1.Mock implements _i2.WebViewClient {
         returnValueForMissingStub: _i5.Future<void>.value(),
       ) as _i5.Future<void>);
   @override
+  _i5.Future<void> setResourceInterception({
+    List<String>? urlPatterns = const <String>[],
+    String? assetUrlPrefix,
+    int? maxMemoryCacheBytes = 8388608,
+    int? maxDiskCacheBytes = 0,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setResourceInterception,
+          [],
+          {
+            #urlPatterns: urlPatterns,
+            #assetUrlPrefix: assetUrlPrefix,
+            #maxMemoryCacheBytes: maxMemoryCacheBytes,
+            #maxDiskCacheBytes: maxDiskCacheBytes,
+          },
+        ),
+        returnValue: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+  @override
+  _i5.Future<Map<String, int>> getResourceInterceptionMetrics(
+          _i2.WebView? webView) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getResourceInterceptionMetrics,
+          [webView],
+        ),
+        returnValue:
+            _i5.Future<Map<String, int>>.value(<String, int>{}),
+      ) as _i5.Future<Map<String, int>>);
+  @override
+  _i5.Future<void> setNavigationPolicy(
+    List<_i2.NavigationRule>? rules, {
+    _i2.NavigationAction? defaultAction,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setNavigationPolicy,
+          [rules],
+          {#defaultAction: defaultAction},
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+  @override
   _i2.WebViewClient copy() => (super.noSuchMethod(
         Invocation.method(
           #copy,
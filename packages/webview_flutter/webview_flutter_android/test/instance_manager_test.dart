@@ -155,6 +155,23 @@ void main() {
 
       TestInstanceManagerHostApi.setup(null);
     });
+
+    test('getInstanceCounts', () async {
+      final MockTestInstanceManagerHostApi mockApi =
+          MockTestInstanceManagerHostApi();
+      TestInstanceManagerHostApi.setup(mockApi);
+
+      when(mockApi.getInstanceCounts()).thenReturn(
+        <String?, int?>{'android.webkit.WebView': 2},
+      );
+
+      expect(
+        await JavaObject.getInstanceCounts(),
+        <String, int>{'android.webkit.WebView': 2},
+      );
+
+      TestInstanceManagerHostApi.setup(null);
+    });
   });
 }
 
@@ -334,6 +334,20 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
     _i1.throwOnMissingStub(this);
   }
 
+  @override
+  void Function(
+    int,
+    int,
+    int,
+    int,
+  )? get onScrollChanged => (super.noSuchMethod(
+        Invocation.getter(#onScrollChanged),
+      ) as void Function(
+        int,
+        int,
+        int,
+        int,
+      )?);
   @override
   _i2.WebSettings get settings => (super.noSuchMethod(
         Invocation.getter(#settings),
@@ -486,6 +500,17 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
         returnValue: _i5.Future<String?>.value(),
       ) as _i5.Future<String?>);
   @override
+  _i5.Future<List<Map<String, Object?>>> evaluateJavascriptBatch(
+          List<String>? scripts) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #evaluateJavascriptBatch,
+          [scripts],
+        ),
+        returnValue: _i5.Future<List<Map<String, Object?>>>.value(
+            <Map<String, Object?>>[]),
+      ) as _i5.Future<List<Map<String, Object?>>>);
+  @override
   _i5.Future<String?> getTitle() => (super.noSuchMethod(
         Invocation.method(
           #getTitle,
@@ -617,6 +642,24 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
         returnValueForMissingStub: _i5.Future<void>.value(),
       ) as _i5.Future<void>);
   @override
+  _i5.Future<void> setScrollChangedEvents(
+    bool? enabled, {
+    Duration? minInterval = Duration.zero,
+    int? minDelta = 0,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setScrollChangedEvents,
+          [enabled],
+          {
+            #minInterval: minInterval,
+            #minDelta: minDelta,
+          },
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+  @override
   _i2.WebView copy() => (super.noSuchMethod(
         Invocation.method(
           #copy,
@@ -778,6 +821,23 @@ class MockWebChromeClient extends _i1.Mock implements _i2.WebChromeClient {
         returnValueForMissingStub: _i5.Future<void>.value(),
       ) as _i5.Future<void>);
   @override
+  _i5.Future<void> setProgressThrottle({
+    Duration? minInterval = Duration.zero,
+    int? minDelta = 0,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setProgressThrottle,
+          [],
+          {
+            #minInterval: minInterval,
+            #minDelta: minDelta,
+          },
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+  @override
   _i2.WebChromeClient copy() => (super.noSuchMethod(
         Invocation.method(
           #copy,
@@ -24,6 +24,11 @@ abstract class TestInstanceManagerHostApi {
   /// This is typically only used after a hot restart.
   void clear();
 
+  /// Returns the number of live native instances, grouped by class name.
+  ///
+  /// This is intended for debugging leaks and memory growth.
+  Map<String?, int?> getInstanceCounts();
+
   static void setup(TestInstanceManagerHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -43,6 +48,23 @@ abstract class TestInstanceManagerHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.InstanceManagerHostApi.getInstanceCounts', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          // ignore message
+          final Map<String?, int?> output = api.getInstanceCounts();
+          return <Object?>[output];
+        });
+      }
+    }
   }
 }
 
@@ -108,6 +130,16 @@ abstract class TestCookieManagerHostApi {
   void setAcceptThirdPartyCookies(
       int identifier, int webViewIdentifier, bool accept);
 
+  /// Handles Dart method `CookieManager.setCookies`.
+  void setCookies(int identifier, Map<String?, List<String?>?> cookies);
+
+  /// Handles Dart method `CookieManager.setCookiesAndFlush`.
+  Future<bool> setCookiesAndFlush(
+      int identifier, Map<String?, List<String?>?> cookies);
+
+  /// Handles Dart method `CookieManager.getCookies`.
+  List<String?> getCookies(int identifier, String url);
+
   static void setup(TestCookieManagerHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -212,6 +244,87 @@ abstract class TestCookieManagerHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.CookieManagerHostApi.setCookies', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.CookieManagerHostApi.setCookies was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.CookieManagerHostApi.setCookies was null, expected non-null int.');
+          final Map<String?, List<String?>?>? arg_cookies =
+              (args[1] as Map<Object?, Object?>?)
+                  ?.cast<String?, List<String?>?>();
+          assert(arg_cookies != null,
+              'Argument for dev.flutter.pigeon.CookieManagerHostApi.setCookies was null, expected non-null Map<String?, List<String?>?>.');
+          api.setCookies(arg_identifier!, arg_cookies!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.CookieManagerHostApi.setCookiesAndFlush', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.CookieManagerHostApi.setCookiesAndFlush was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.CookieManagerHostApi.setCookiesAndFlush was null, expected non-null int.');
+          final Map<String?, List<String?>?>? arg_cookies =
+              (args[1] as Map<Object?, Object?>?)
+                  ?.cast<String?, List<String?>?>();
+          assert(arg_cookies != null,
+              'Argument for dev.flutter.pigeon.CookieManagerHostApi.setCookiesAndFlush was null, expected non-null Map<String?, List<String?>?>.');
+          final bool output = await api.setCookiesAndFlush(
+              arg_identifier!, arg_cookies!);
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.CookieManagerHostApi.getCookies', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.CookieManagerHostApi.getCookies was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.CookieManagerHostApi.getCookies was null, expected non-null int.');
+          final String? arg_url = (args[1] as String?);
+          assert(arg_url != null,
+              'Argument for dev.flutter.pigeon.CookieManagerHostApi.getCookies was null, expected non-null String.');
+          final List<String?> output = api.getCookies(
+              arg_identifier!, arg_url!);
+          return <Object?>[output];
+        });
+      }
+    }
   }
 }
 
@@ -298,6 +411,16 @@ abstract class TestWebViewHostApi {
 
   void setBackgroundColor(int instanceId, int color);
 
+  void prewarm(int poolSize);
+
+  Map<String?, int?> getCreationMetrics();
+
+  void setScrollChangedEvents(
+      int instanceId, bool enabled, int minIntervalMilliseconds, int minDelta);
+
+  Future<List<Map<String?, Object?>?>> evaluateJavascriptBatch(
+      int instanceId, List<String?> scripts);
+
   static void setup(TestWebViewHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -934,6 +1057,107 @@ abstract class TestWebViewHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.prewarm', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.prewarm was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_poolSize = (args[0] as int?);
+          assert(arg_poolSize != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.prewarm was null, expected non-null int.');
+          api.prewarm(arg_poolSize!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.getCreationMetrics', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          // ignore message
+          final Map<String?, int?> output = api.getCreationMetrics();
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.setScrollChangedEvents', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.setScrollChangedEvents was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.setScrollChangedEvents was null, expected non-null int.');
+          final bool? arg_enabled = (args[1] as bool?);
+          assert(arg_enabled != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.setScrollChangedEvents was null, expected non-null bool.');
+          final int? arg_minIntervalMilliseconds = (args[2] as int?);
+          assert(arg_minIntervalMilliseconds != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.setScrollChangedEvents was null, expected non-null int.');
+          final int? arg_minDelta = (args[3] as int?);
+          assert(arg_minDelta != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.setScrollChangedEvents was null, expected non-null int.');
+          api.setScrollChangedEvents(
+              arg_instanceId!,
+              arg_enabled!,
+              arg_minIntervalMilliseconds!,
+              arg_minDelta!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptBatch', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptBatch was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptBatch was null, expected non-null int.');
+          final List<String?>? arg_scripts =
+              (args[1] as List<Object?>?)?.cast<String?>();
+          assert(arg_scripts != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptBatch was null, expected non-null List<String?>.');
+          final List<Map<String?, Object?>?> output = await api.evaluateJavascriptBatch(
+              arg_instanceId!, arg_scripts!);
+          return <Object?>[output];
+        });
+      }
+    }
   }
 }
 
@@ -1336,6 +1560,14 @@ abstract class TestJavaScriptChannelHostApi {
 
   void create(int instanceId, String channelName);
 
+  void setBatching(
+      int instanceId,
+      bool enabled,
+      int maxBatchSize,
+      int flushIntervalMilliseconds);
+
+  Map<String?, int?> getQueueMetrics(int instanceId);
+
   static void setup(TestJavaScriptChannelHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -1363,6 +1595,64 @@ abstract class TestJavaScriptChannelHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.JavaScriptChannelHostApi.setBatching', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.setBatching was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.setBatching was null, expected non-null int.');
+          final bool? arg_enabled = (args[1] as bool?);
+          assert(arg_enabled != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.setBatching was null, expected non-null bool.');
+          final int? arg_maxBatchSize = (args[2] as int?);
+          assert(arg_maxBatchSize != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.setBatching was null, expected non-null int.');
+          final int? arg_flushIntervalMilliseconds = (args[3] as int?);
+          assert(arg_flushIntervalMilliseconds != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.setBatching was null, expected non-null int.');
+          api.setBatching(
+              arg_instanceId!,
+              arg_enabled!,
+              arg_maxBatchSize!,
+              arg_flushIntervalMilliseconds!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.JavaScriptChannelHostApi.getQueueMetrics', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.getQueueMetrics was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.getQueueMetrics was null, expected non-null int.');
+          final Map<String?, int?> output = api.getQueueMetrics(
+              arg_instanceId!);
+          return <Object?>[output];
+        });
+      }
+    }
   }
 }
 
@@ -1376,6 +1666,21 @@ abstract class TestWebViewClientHostApi {
   void setSynchronousReturnValueForShouldOverrideUrlLoading(
       int instanceId, bool value);
 
+  void setResourceInterception(
+      int instanceId,
+      List<String?> urlPatterns,
+      String? assetUrlPrefix,
+      int maxMemoryCacheBytes,
+      int maxDiskCacheBytes);
+
+  Map<String?, int?> getResourceInterceptionMetrics(
+      int instanceId, int webViewInstanceId);
+
+  void setNavigationPolicy(
+      int instanceId,
+      List<Map<String?, Object?>?> rules,
+      String? defaultAction);
+
   static void setup(TestWebViewClientHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -1427,6 +1732,100 @@ abstract class TestWebViewClientHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewClientHostApi.setResourceInterception',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setResourceInterception was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setResourceInterception was null, expected non-null int.');
+          final List<String?>? arg_urlPatterns =
+              (args[1] as List<Object?>?)?.cast<String?>();
+          assert(arg_urlPatterns != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setResourceInterception was null, expected non-null List<String?>.');
+          final String? arg_assetUrlPrefix = (args[2] as String?);
+          final int? arg_maxMemoryCacheBytes = (args[3] as int?);
+          assert(arg_maxMemoryCacheBytes != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setResourceInterception was null, expected non-null int.');
+          final int? arg_maxDiskCacheBytes = (args[4] as int?);
+          assert(arg_maxDiskCacheBytes != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setResourceInterception was null, expected non-null int.');
+          api.setResourceInterception(
+              arg_instanceId!,
+              arg_urlPatterns!,
+              arg_assetUrlPrefix,
+              arg_maxMemoryCacheBytes!,
+              arg_maxDiskCacheBytes!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewClientHostApi.getResourceInterceptionMetrics',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.getResourceInterceptionMetrics was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.getResourceInterceptionMetrics was null, expected non-null int.');
+          final int? arg_webViewInstanceId = (args[1] as int?);
+          assert(arg_webViewInstanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.getResourceInterceptionMetrics was null, expected non-null int.');
+          final Map<String?, int?> output = api.getResourceInterceptionMetrics(
+              arg_instanceId!, arg_webViewInstanceId!);
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewClientHostApi.setNavigationPolicy', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setNavigationPolicy was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setNavigationPolicy was null, expected non-null int.');
+          final List<Map<String?, Object?>?>? arg_rules =
+              (args[1] as List<Object?>?)?.cast<Map<String?, Object?>?>();
+          assert(arg_rules != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setNavigationPolicy was null, expected non-null List<Map<String?, Object?>?>.');
+          final String? arg_defaultAction = (args[2] as String?);
+          api.setNavigationPolicy(
+              arg_instanceId!, arg_rules!, arg_defaultAction);
+          return <Object?>[];
+        });
+      }
+    }
   }
 }
 
@@ -1474,6 +1873,9 @@ abstract class TestWebChromeClientHostApi {
   void setSynchronousReturnValueForOnShowFileChooser(
       int instanceId, bool value);
 
+  void setProgressThrottle(
+      int instanceId, int minIntervalMilliseconds, int minDelta);
+
   static void setup(TestWebChromeClientHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -1525,6 +1927,36 @@ abstract class TestWebChromeClientHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebChromeClientHostApi.setProgressThrottle',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebChromeClientHostApi.setProgressThrottle was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebChromeClientHostApi.setProgressThrottle was null, expected non-null int.');
+          final int? arg_minIntervalMilliseconds = (args[1] as int?);
+          assert(arg_minIntervalMilliseconds != null,
+              'Argument for dev.flutter.pigeon.WebChromeClientHostApi.setProgressThrottle was null, expected non-null int.');
+          final int? arg_minDelta = (args[2] as int?);
+          assert(arg_minDelta != null,
+              'Argument for dev.flutter.pigeon.WebChromeClientHostApi.setProgressThrottle was null, expected non-null int.');
+          api.setProgressThrottle(
+              arg_instanceId!, arg_minIntervalMilliseconds!, arg_minDelta!);
+          return <Object?>[];
+        });
+      }
+    }
   }
 }
 